@@ -0,0 +1,91 @@
+package com.example.projectmanagement.analytics;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing map from non-negative long keys to counts, so a scan can group by a
+ * packed key without boxing a value per row.
+ */
+final class LongCounts {
+
+    private static final long EMPTY = -1L;
+
+    private long[] keys;
+    private long[] counts;
+    private int size;
+
+    LongCounts() {
+        this(64);
+    }
+
+    private LongCounts(int capacity) {
+        keys = new long[capacity];
+        counts = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+    }
+
+    interface Entry {
+        void accept(long key, long count);
+    }
+
+    void add(long key, long delta) {
+        int slot = slot(key, keys);
+        if (keys[slot] == EMPTY) {
+            keys[slot] = key;
+            if (++size * 2 > keys.length) {
+                resize();
+                slot = slot(key, keys);
+            }
+        }
+        counts[slot] += delta;
+    }
+
+    LongCounts merge(LongCounts other) {
+        LongCounts larger = size >= other.size ? this : other;
+        LongCounts smaller = larger == this ? other : this;
+        smaller.forEach(larger::add);
+        return larger;
+    }
+
+    void forEach(Entry entry) {
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != EMPTY) {
+                entry.accept(keys[slot], counts[slot]);
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        long[] oldCounts = counts;
+        keys = new long[oldKeys.length * 2];
+        counts = new long[oldKeys.length * 2];
+        Arrays.fill(keys, EMPTY);
+        for (int slot = 0; slot < oldKeys.length; slot++) {
+            if (oldKeys[slot] != EMPTY) {
+                int target = slot(oldKeys[slot], keys);
+                keys[target] = oldKeys[slot];
+                counts[target] = oldCounts[slot];
+            }
+        }
+    }
+
+    // Linear probing from a mixed hash; capacity is always a power of two
+    private static int slot(long key, long[] keys) {
+        int mask = keys.length - 1;
+        int slot = (int) (mix(key) & mask);
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static long mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return h ^ (h >>> 32);
+    }
+}
@@ -0,0 +1,230 @@
+package com.example.projectmanagement.analytics;
+
+import com.example.projectmanagement.config.AnalyticsConfig;
+import com.example.projectmanagement.model.enums.PriorityLevel;
+import com.example.projectmanagement.model.enums.ProjectStatus;
+import com.example.projectmanagement.repository.OverdueCount;
+import com.example.projectmanagement.repository.ProjectColumnRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Answers report questions from an in-memory {@link ProjectColumns} snapshot, scanned in
+ * parallel on a dedicated fork-join pool, instead of loading entities or grouping in SQL.
+ *
+ * <p>Writes refresh their projects after commit by re-reading the rows, under a
+ * per-project lock, the same way {@code ProjectVisibilityIndex} is kept current; the
+ * snapshot is also rebuilt periodically for writes made on other nodes. Until the first
+ * build, and when disabled, queries return null and callers use SQL.</p>
+ */
+@Slf4j
+@Component
+public class ProjectAnalytics implements DisposableBean {
+
+    private static final int LOCK_STRIPES = 64;
+    private static final PriorityLevel[] PRIORITIES = PriorityLevel.values();
+
+    private final ProjectColumnRepository columnRepository;
+    private final AnalyticsConfig config;
+    private final ForkJoinPool pool;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object[] locks = createLocks();
+    private final Set<Long> touchedDuringBuild = ConcurrentHashMap.newKeySet();
+    private volatile ProjectColumns columns;
+    private volatile boolean building;
+
+    public ProjectAnalytics(ProjectColumnRepository columnRepository, AnalyticsConfig config) {
+        this.columnRepository = columnRepository;
+        this.config = config;
+        int parallelism = config.getParallelism() > 0 ? config.getParallelism() : Runtime.getRuntime().availableProcessors();
+        // Kept off the common pool so report scans never queue behind parallel streams elsewhere
+        this.pool = new ForkJoinPool(parallelism, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("analytics-scan-" + thread.getPoolIndex());
+            thread.setDaemon(true);
+            return thread;
+        }, null, false);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${analytics.rebuild-interval-ms:600000}",
+            initialDelayString = "${analytics.rebuild-interval-ms:600000}")
+    public synchronized void rebuild() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        long startedAt = System.nanoTime();
+        ProjectColumns previous = columns;
+        ProjectColumns built = new ProjectColumns(previous != null ? previous.size() : 0);
+        building = true;
+        try {
+            columnRepository.forEachRow((id, startDay, endDay, status, priority, assigneeId) ->
+                    built.put(toInt(id), toInt(startDay), toInt(endDay), status.ordinal(), priority.ordinal(),
+                            toInt(assigneeId)));
+            lock.writeLock().lock();
+            try {
+                columns = built;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            building = false;
+        }
+        // Refreshes that ran while the rows were read may have gone to the old snapshot
+        List<Long> touched = List.copyOf(touchedDuringBuild);
+        touchedDuringBuild.removeAll(touched);
+        refresh(touched);
+        log.debug("Rebuilt the project analytics snapshot with {} rows in {} ms", built.size(),
+                (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    public void refreshAfterCommit(Long projectId) {
+        refreshAfterCommit(List.of(projectId));
+    }
+
+    public void refreshAfterCommit(Collection<Long> projectIds) {
+        List<Long> ids = List.copyOf(projectIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    refresh(ids);
+                }
+            });
+        } else {
+            refresh(ids);
+        }
+    }
+
+    /**
+     * Projects past their end date on {@code asOf} and not completed, with an end date in
+     * the range, counted per assignee, month of the end date and priority. Null while the
+     * snapshot is not built.
+     */
+    public List<OverdueCount> countOverdue(LocalDate asOf, LocalDate from, LocalDate to, Long assigneeId) {
+        int fromDay = toInt(from.toEpochDay());
+        int lastDay = toInt(Math.min(to.toEpochDay(), asOf.toEpochDay() - 1));
+        // Month of each day in the range, so rows are grouped without building dates
+        int[] monthOfDay = new int[Math.max(0, lastDay - fromDay + 1)];
+        LocalDate day = from;
+        for (int i = 0; i < monthOfDay.length; i++, day = day.plusDays(1)) {
+            monthOfDay[i] = day.getYear() * 12 + day.getMonthValue() - 1;
+        }
+        boolean anyAssignee = assigneeId == null;
+        int assignee = anyAssignee ? ProjectColumns.NO_ASSIGNEE : toInt(assigneeId);
+        byte completed = (byte) ProjectStatus.COMPLETED.ordinal();
+
+        LongCounts counts;
+        lock.readLock().lock();
+        try {
+            ProjectColumns snapshot = columns;
+            if (snapshot == null) {
+                return null;
+            }
+            int[] endDays = snapshot.endDays;
+            byte[] statuses = snapshot.statuses;
+            byte[] priorities = snapshot.priorities;
+            int[] assignees = snapshot.assignees;
+            counts = snapshot.scan(pool, config.getLeafRows(), LongCounts::new, (partial, row) -> {
+                int endDay = endDays[row];
+                if (endDay < fromDay || endDay > lastDay || statuses[row] == completed
+                        || (!anyAssignee && assignees[row] != assignee)) {
+                    return;
+                }
+                partial.add(((long) assignees[row] << 32) | ((long) monthOfDay[endDay - fromDay] << 3) | priorities[row], 1);
+            }, LongCounts::merge);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<OverdueCount> result = new ArrayList<>(counts.size());
+        counts.forEach((key, count) -> {
+            int rowAssignee = (int) (key >>> 32);
+            int month = (int) ((key & 0xFFFF_FFFFL) >>> 3);
+            result.add(new OverdueCount(rowAssignee == ProjectColumns.NO_ASSIGNEE ? null : (long) rowAssignee,
+                    month / 12, month % 12 + 1, PRIORITIES[(int) (key & 7)], count));
+        });
+        result.sort(OverdueCount.ORDER);
+        return result;
+    }
+
+    void refresh(List<Long> projectIds) {
+        if (projectIds.isEmpty()) {
+            return;
+        }
+        if (building) {
+            touchedDuringBuild.addAll(projectIds);
+        }
+        if (columns == null) {
+            return;
+        }
+        Map<Integer, List<Long>> byStripe = new HashMap<>();
+        for (Long id : projectIds) {
+            byStripe.computeIfAbsent(Math.floorMod(id.hashCode(), LOCK_STRIPES), stripe -> new ArrayList<>()).add(id);
+        }
+        // Reading and applying under the project's lock keeps a slower refresh from
+        // overwriting a newer one
+        byStripe.forEach((stripe, ids) -> {
+            synchronized (locks[stripe]) {
+                Set<Long> missing = new HashSet<>(ids);
+                List<long[]> rows = new ArrayList<>(ids.size());
+                columnRepository.findRows(ids, (id, startDay, endDay, status, priority, assigneeId) -> {
+                    missing.remove(id);
+                    rows.add(new long[] {id, startDay, endDay, status.ordinal(), priority.ordinal(), assigneeId});
+                });
+                lock.writeLock().lock();
+                try {
+                    ProjectColumns snapshot = columns;
+                    for (long[] row : rows) {
+                        snapshot.put(toInt(row[0]), toInt(row[1]), toInt(row[2]), (int) row[3], (int) row[4],
+                                toInt(row[5]));
+                    }
+                    missing.forEach(id -> snapshot.remove(toInt(id)));
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        });
+    }
+
+    public boolean isReady() {
+        return columns != null;
+    }
+
+    private static int toInt(long value) {
+        return Math.toIntExact(value);
+    }
+
+    private static Object[] createLocks() {
+        Object[] locks = new Object[LOCK_STRIPES];
+        Arrays.setAll(locks, i -> new Object());
+        return locks;
+    }
+
+    @Override
+    public void destroy() {
+        pool.shutdownNow();
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.projectmanagement.analytics;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Projects held column by column in primitive arrays: dates as epoch days, status and
+ * priority as enum ordinals, the assignee as its id. A row costs 18 bytes plus 4 for the
+ * id lookup, against well over a kilobyte for a loaded entity, and a scan reads only the
+ * columns it filters on.
+ *
+ * <p>Rows stay dense: removing one moves the last row into its slot. Not thread safe;
+ * {@link ProjectAnalytics} guards it with a read-write lock.</p>
+ */
+final class ProjectColumns {
+
+    static final int NO_ASSIGNEE = 0;
+    private static final int ABSENT = -1;
+
+    int size;
+    int[] ids;
+    int[] startDays;
+    int[] endDays;
+    byte[] statuses;
+    byte[] priorities;
+    int[] assignees;
+    // Row of each project id, indexed by id; ids are dense enough for this to beat a hash map
+    private int[] rowById = new int[0];
+
+    ProjectColumns(int capacity) {
+        int initial = Math.max(16, capacity);
+        ids = new int[initial];
+        startDays = new int[initial];
+        endDays = new int[initial];
+        statuses = new byte[initial];
+        priorities = new byte[initial];
+        assignees = new int[initial];
+    }
+
+    void put(int id, int startDay, int endDay, int status, int priority, int assignee) {
+        int row = rowOf(id);
+        if (row == ABSENT) {
+            if (size == ids.length) {
+                grow();
+            }
+            row = size++;
+            if (id >= rowById.length) {
+                int length = Math.max(id + 1, rowById.length + (rowById.length >> 1));
+                int from = rowById.length;
+                rowById = Arrays.copyOf(rowById, length);
+                Arrays.fill(rowById, from, length, ABSENT);
+            }
+            rowById[id] = row;
+            ids[row] = id;
+        }
+        startDays[row] = startDay;
+        endDays[row] = endDay;
+        statuses[row] = (byte) status;
+        priorities[row] = (byte) priority;
+        assignees[row] = assignee;
+    }
+
+    void remove(int id) {
+        int row = rowOf(id);
+        if (row == ABSENT) {
+            return;
+        }
+        int last = --size;
+        if (row != last) {
+            ids[row] = ids[last];
+            startDays[row] = startDays[last];
+            endDays[row] = endDays[last];
+            statuses[row] = statuses[last];
+            priorities[row] = priorities[last];
+            assignees[row] = assignees[last];
+            rowById[ids[row]] = row;
+        }
+        rowById[id] = ABSENT;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Splits the rows into ranges of at most {@code leafRows}, accumulates each range into
+     * its own partial result on the pool, and combines the partials pairwise.
+     */
+    <R> R scan(ForkJoinPool pool, int leafRows, Supplier<R> partial, ObjIntConsumer<R> accumulator,
+               BinaryOperator<R> combiner) {
+        return pool.invoke(new ScanTask<>(0, size, Math.max(1, leafRows), partial, accumulator, combiner));
+    }
+
+    private int rowOf(int id) {
+        return id < rowById.length ? rowById[id] : ABSENT;
+    }
+
+    private void grow() {
+        int capacity = ids.length + (ids.length >> 1);
+        ids = Arrays.copyOf(ids, capacity);
+        startDays = Arrays.copyOf(startDays, capacity);
+        endDays = Arrays.copyOf(endDays, capacity);
+        statuses = Arrays.copyOf(statuses, capacity);
+        priorities = Arrays.copyOf(priorities, capacity);
+        assignees = Arrays.copyOf(assignees, capacity);
+    }
+
+    private static final class ScanTask<R> extends RecursiveTask<R> {
+        private final int from;
+        private final int to;
+        private final int leafRows;
+        private final Supplier<R> partial;
+        private final ObjIntConsumer<R> accumulator;
+        private final BinaryOperator<R> combiner;
+
+        private ScanTask(int from, int to, int leafRows, Supplier<R> partial, ObjIntConsumer<R> accumulator,
+                         BinaryOperator<R> combiner) {
+            this.from = from;
+            this.to = to;
+            this.leafRows = leafRows;
+            this.partial = partial;
+            this.accumulator = accumulator;
+            this.combiner = combiner;
+        }
+
+        @Override
+        protected R compute() {
+            if (to - from <= leafRows) {
+                R result = partial.get();
+                for (int row = from; row < to; row++) {
+                    accumulator.accept(result, row);
+                }
+                return result;
+            }
+            int middle = (from + to) >>> 1;
+            ScanTask<R> left = new ScanTask<>(from, middle, leafRows, partial, accumulator, combiner);
+            left.fork();
+            R right = new ScanTask<>(middle, to, leafRows, partial, accumulator, combiner).compute();
+            return combiner.apply(left.join(), right);
+        }
+    }
+}
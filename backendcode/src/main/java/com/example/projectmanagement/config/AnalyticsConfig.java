@@ -0,0 +1,21 @@
+package com.example.projectmanagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "analytics")
+@Getter
+@Setter
+public class AnalyticsConfig {
+    // When off, reports run their SQL aggregates instead of scanning the snapshot
+    private boolean enabled = true;
+    // Picks up project writes made on other nodes
+    private long rebuildIntervalMs = 600_000;
+    // Scan threads; 0 uses one per core
+    private int parallelism = 0;
+    // Rows a scan task handles itself instead of splitting further
+    private int leafRows = 16_384;
+}
@@ -0,0 +1,22 @@
+package com.example.projectmanagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "attachments")
+@Getter
+@Setter
+public class AttachmentConfig {
+    // Content store root; files are kept under objects/<first two hex digits>/<sha256>
+    private String directory = "data/attachments";
+    private long maxFileSizeBytes = 100L * 1024 * 1024;
+    // Files no attachment references are deleted by this job once untouched for the grace period
+    private String sweepCron = "0 30 4 * * *";
+    // Covers uploads that have stored their file but not yet committed the attachment row
+    private long orphanGraceMinutes = 60;
+    // Longest a streamed download may take where Tomcat sendfile is unavailable
+    private long downloadTimeoutMs = 60 * 60 * 1000;
+}
@@ -0,0 +1,17 @@
+package com.example.projectmanagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "coalescing")
+@Getter
+@Setter
+public class CoalescingConfig {
+    // Share one in-flight query between identical concurrent project list requests
+    private boolean enabled = true;
+    // How long a finished page keeps being served to new callers; 0 shares in-flight loads only
+    private long projectListFreshnessMs = 0;
+}
@@ -0,0 +1,28 @@
+package com.example.projectmanagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "concurrency-limit")
+@Getter
+@Setter
+public class ConcurrencyLimitConfig {
+    private boolean enabled = true;
+    private int initialLimit = 20;
+    private int minLimit = 4;
+    // Keep at or below server.tomcat.threads.max so shedding happens before the pool queues
+    private int maxLimit = 200;
+    // Latency allowed above the measured no-load latency before the limit shrinks
+    private double latencyBuffer = 0.5;
+    private double smoothing = 0.2;
+    private int windowSamples = 50;
+    private int minRttSampleSize = 50;
+    private long remeasureEverySamples = 20_000;
+    // Fraction of the limit each priority may fill; health checks are never limited
+    private double highPriorityShare = 1.0;
+    private double normalPriorityShare = 0.9;
+    private double lowPriorityShare = 0.7;
+}
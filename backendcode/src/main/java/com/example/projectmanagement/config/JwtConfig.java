@@ -10,8 +10,33 @@ import org.springframework.context.annotation.Configuration;
 @Getter
 @Setter
 public class JwtConfig {
-    private String secret;
+    // Access token lifetime in milliseconds
     private long expiration;
+    private long refreshExpiration;
     private String header;
     private String prefix;
-} 
\ No newline at end of file
+    private long allowedClockSkewSeconds = 30;
+    private Keys keys = new Keys();
+    private Denylist denylist = new Denylist();
+
+    @Getter
+    @Setter
+    public static class Keys {
+        // Directory holding <kid>.pub.pem files and, on signing nodes, <kid>.key.pem files
+        private String directory = "keys";
+        // Key used for new tokens; defaults to the newest private key in the directory
+        private String activeKid;
+        // Signing nodes create a key pair on first start; verifier nodes should disable this
+        private boolean generateIfMissing = true;
+    }
+
+    @Getter
+    @Setter
+    public static class Denylist {
+        // Sizing for the in-memory Bloom filter in front of the exact revocation set
+        private int expectedInsertions = 100_000;
+        private double falsePositiveRate = 0.001;
+        // How often TokenDenylist syncs revocations from other nodes and prunes expired ones
+        private long refreshIntervalMs = 60_000;
+    }
+}
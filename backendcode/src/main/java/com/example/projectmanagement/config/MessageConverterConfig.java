@@ -0,0 +1,50 @@
+package com.example.projectmanagement.config;
+
+import com.example.projectmanagement.observability.TracingJackson2HttpMessageConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+@Configuration
+public class MessageConverterConfig {
+
+    // Replaces Boot's default JSON converter, keeping its ObjectMapper settings
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper,
+                                                                                   TracingConfig tracingConfig) {
+        return new TracingJackson2HttpMessageConverter(objectMapper, tracingConfig.isServerTimingHeader());
+    }
+
+    // The binary converters replace Spring MVC's defaults in place, after JSON, so they are
+    // only chosen when the client asks for them in Accept. Built from Boot's mapper builder
+    // so they share the JSON settings and the lean page envelope.
+
+    @Configuration
+    @ConditionalOnClass(SmileFactory.class)
+    static class SmileConverterConfig {
+
+        @Bean
+        public MappingJackson2SmileHttpMessageConverter mappingJackson2SmileHttpMessageConverter(
+                Jackson2ObjectMapperBuilder builder) {
+            return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+        }
+    }
+
+    @Configuration
+    @ConditionalOnClass(CBORFactory.class)
+    static class CborConverterConfig {
+
+        @Bean
+        public MappingJackson2CborHttpMessageConverter mappingJackson2CborHttpMessageConverter(
+                Jackson2ObjectMapperBuilder builder) {
+            return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+        }
+    }
+}
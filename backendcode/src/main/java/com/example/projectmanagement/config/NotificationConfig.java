@@ -0,0 +1,29 @@
+package com.example.projectmanagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "notifications")
+@Getter
+@Setter
+public class NotificationConfig {
+    private boolean enabled = true;
+    // "file" writes digests as JSON lines; other senders register their own NotificationSender
+    private String sender = "file";
+    private String file = "logs/notifications.jsonl";
+    // A recipient's notifications are held this long from the first one, then sent as one digest
+    private long digestWindowMs = 60_000;
+    // A digest this large is sent without waiting for the window
+    private int maxPerDigest = 50;
+    private long flushIntervalMs = 5_000;
+    // Across all recipients; further notifications are dropped and counted
+    private int maxPending = 10_000;
+    private int maxAttempts = 5;
+    private long initialBackoffMs = 1_000;
+    private long maxBackoffMs = 60_000;
+    private int dueSoonDays = 3;
+    private String dueSoonCron = "0 0 7 * * *";
+}
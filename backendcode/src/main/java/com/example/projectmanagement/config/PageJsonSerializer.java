@@ -0,0 +1,37 @@
+package com.example.projectmanagement.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import org.springframework.boot.jackson.JsonComponent;
+import org.springframework.data.domain.Page;
+
+import java.io.IOException;
+
+/**
+ * Writes pages as a lean envelope: the content plus the four numbers clients page with.
+ * Spring Data's default shape repeats the request's pageable and sort and several derived
+ * flags on every page. Registered with Boot's ObjectMapper, so it applies to JSON, Smile
+ * and CBOR alike.
+ */
+@JsonComponent
+public class PageJsonSerializer extends JsonSerializer<Page<?>> {
+
+    @Override
+    public void serialize(Page<?> page, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        gen.writeStartObject();
+        serializers.defaultSerializeField("content", page.getContent(), gen);
+        gen.writeNumberField("number", page.getNumber());
+        gen.writeNumberField("size", page.getSize());
+        gen.writeNumberField("totalElements", page.getTotalElements());
+        gen.writeNumberField("totalPages", page.getTotalPages());
+        gen.writeEndObject();
+    }
+
+    @Override
+    public Class<Page<?>> handledType() {
+        @SuppressWarnings("unchecked")
+        Class<Page<?>> type = (Class<Page<?>>) (Class<?>) Page.class;
+        return type;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.projectmanagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "profiling")
+@Getter
+@Setter
+public class ProfilingConfig {
+    // Keeps a "default" settings recording running from startup, dumped on demand
+    private boolean continuousEnabled = false;
+    private String continuousSettings = "default";
+    private long continuousMaxAgeMinutes = 60;
+    private long continuousMaxSizeMb = 250;
+    private String dumpDirectory = "logs/jfr";
+    private long maxOnDemandDurationSeconds = 600;
+}
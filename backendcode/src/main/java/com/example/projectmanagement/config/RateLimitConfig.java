@@ -0,0 +1,44 @@
+package com.example.projectmanagement.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Configuration
+@ConfigurationProperties(prefix = "rate-limit")
+@Getter
+@Setter
+public class RateLimitConfig {
+    private boolean enabled = true;
+    // Upper bound on tracked keys per group; beyond it keys share hashed overflow buckets
+    private int maxKeysPerGroup = 200_000;
+    private int overflowBuckets = 4096;
+    private long sweepIntervalMs = 30_000;
+    // Group name -> limit. Groups without an entry are not limited.
+    private Map<String, Limit> groups = defaultGroups();
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Limit {
+        // Requests allowed back to back after the key has been idle
+        private int burst;
+        private double refillPerSecond;
+    }
+
+    private static Map<String, Limit> defaultGroups() {
+        Map<String, Limit> groups = new LinkedHashMap<>();
+        groups.put("login", new Limit(5, 0.2));
+        groups.put("auth", new Limit(20, 2));
+        groups.put("projects", new Limit(40, 20));
+        groups.put("users", new Limit(20, 10));
+        return groups;
+    }
+}
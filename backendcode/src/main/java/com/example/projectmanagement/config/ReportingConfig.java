@@ -0,0 +1,23 @@
+package com.example.projectmanagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Configuration
+@ConfigurationProperties(prefix = "reporting")
+@Getter
+@Setter
+public class ReportingConfig {
+    private boolean rollupEnabled = true;
+    // How often today's rollup rows are refreshed from new transitions
+    private long rollupIntervalMs = 300_000;
+    // The nightly pass re-rolls this many closed days to pick up transactions that committed late
+    private String nightlyCron = "0 15 2 * * *";
+    private int nightlyLookbackDays = 2;
+    private int maxRangeDays = 3_660;
+    private List<Integer> cycleTimePercentiles = List.of(50, 75, 85, 95);
+}
@@ -0,0 +1,21 @@
+package com.example.projectmanagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "sync")
+@Getter
+@Setter
+public class SyncConfig {
+    private int defaultLimit = 500;
+    private int maxLimit = 2_000;
+    // Changes younger than this are returned but not passed by the token, since a
+    // transaction holding a lower sequence number may still be about to commit
+    private long settleMs = 2_000;
+    // Change log entries older than this are compacted; older tokens must resync from scratch
+    private int retentionDays = 30;
+    private String compactionCron = "0 45 3 * * *";
+}
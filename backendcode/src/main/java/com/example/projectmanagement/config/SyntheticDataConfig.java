@@ -0,0 +1,33 @@
+package com.example.projectmanagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.LocalDate;
+
+@Configuration
+@ConfigurationProperties(prefix = "synthetic-data")
+@Getter
+@Setter
+public class SyntheticDataConfig {
+    private int users = 10_000;
+    private long projects = 1_000_000;
+    // Same seed, same rows, whatever the parallelism
+    private long seed = 42;
+    private int batchSize = 5_000;
+    // 0 uses every available core
+    private int parallelism = 0;
+    private double managerRatio = 0.02;
+    // Zipf exponent for projects per assignee; higher means a few people own most projects
+    private double assigneeSkew = 1.1;
+    private double unassignedRatio = 0.05;
+    private int historyYears = 5;
+    // "Today" for the generated dates and statuses, fixed so a seed always gives the same rows
+    private LocalDate anchorDate = LocalDate.of(2025, 1, 1);
+    // Every synthetic user shares this password so only one BCrypt hash is computed
+    private String password = "password123";
+    // Stop the application once loading is done, for use as a one-off command
+    private boolean exitWhenDone = false;
+}
@@ -0,0 +1,240 @@
+package com.example.projectmanagement.config;
+
+import com.example.projectmanagement.model.entity.Project;
+import com.example.projectmanagement.model.entity.User;
+import com.example.projectmanagement.model.enums.PriorityLevel;
+import com.example.projectmanagement.model.enums.ProjectStatus;
+import com.example.projectmanagement.model.enums.RoleType;
+import com.example.projectmanagement.repository.ProjectBatchRepository;
+import com.example.projectmanagement.repository.UserBatchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+
+/**
+ * Loads production-sized synthetic data: run with the {@code synthetic-data} profile, for
+ * example {@code --spring.profiles.active=synthetic-data --synthetic-data.projects=10000000
+ * --synthetic-data.exit-when-done=true}.
+ *
+ * <p>Each row is generated from its own random stream derived from the seed and the row
+ * number, so the data set is identical however the work is split across threads. Rows are
+ * written with JDBC batch inserts.</p>
+ */
+@Component
+@Profile("synthetic-data")
+@RequiredArgsConstructor
+@Slf4j
+public class SyntheticDataGenerator implements CommandLineRunner {
+
+    private static final String USERNAME_PREFIX = "synthetic.";
+    private static final String CREATED_BY = "synthetic-data";
+
+    private static final String[] FIRST_NAMES = {"Ava", "Ben", "Chloe", "Daniel", "Elena", "Farah", "George", "Hana",
+            "Ivan", "Julia", "Kofi", "Lena", "Mateo", "Nina", "Omar", "Priya", "Quinn", "Rosa", "Sam", "Tariq"};
+    private static final String[] LAST_NAMES = {"Anders", "Brown", "Chen", "Diaz", "Evans", "Fischer", "Garcia",
+            "Haddad", "Ito", "Jensen", "Kowalski", "Lopez", "Murphy", "Nguyen", "Okafor", "Patel", "Rossi", "Smith"};
+    private static final String[] ADJECTIVES = {"Apollo", "Blue", "Core", "Delta", "Edge", "Falcon", "Green", "Horizon",
+            "Iron", "Jade", "Kite", "Lunar", "Nova", "Orbit", "Polar", "Quantum", "Rapid", "Silver", "Titan", "Unity"};
+    private static final String[] NOUNS = {"Migration", "Platform", "Portal", "Rollout", "Audit", "Redesign",
+            "Integration", "Pipeline", "Upgrade", "Onboarding", "Analytics", "Gateway", "Refactor", "Launch"};
+    private static final PriorityLevel[] PRIORITIES = PriorityLevel.values();
+    // LOW, MEDIUM, HIGH, URGENT
+    private static final double[] PRIORITY_WEIGHTS = {0.30, 0.45, 0.20, 0.05};
+
+    private final SyntheticDataConfig config;
+    private final UserBatchRepository userBatchRepository;
+    private final ProjectBatchRepository projectBatchRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final ApplicationContext applicationContext;
+
+    @Override
+    public void run(String... args) throws Exception {
+        if (userBatchRepository.countByUsernamePrefix(USERNAME_PREFIX) > 0) {
+            log.info("Synthetic data already present, skipping generation");
+        } else {
+            generate();
+        }
+        if (config.isExitWhenDone()) {
+            System.exit(SpringApplication.exit(applicationContext, () -> 0));
+        }
+    }
+
+    private void generate() throws Exception {
+        int parallelism = config.getParallelism() > 0 ? config.getParallelism() : Runtime.getRuntime().availableProcessors();
+        ExecutorService pool = Executors.newFixedThreadPool(parallelism);
+        LocalDate anchor = config.getAnchorDate();
+        try {
+            long startedAt = System.nanoTime();
+            String passwordHash = passwordEncoder.encode(config.getPassword());
+            insertInParallel(pool, "users", config.getUsers(),
+                    from -> insertUsers(from, Math.min(from + config.getBatchSize(), config.getUsers()), passwordHash));
+
+            List<Long> userIds = userBatchRepository.findIdsByUsernamePrefix(USERNAME_PREFIX);
+            AssigneeSampler assignees = new AssigneeSampler(userIds, config.getAssigneeSkew(), config.getSeed());
+            insertInParallel(pool, "projects", config.getProjects(),
+                    from -> insertProjects(from, Math.min(from + config.getBatchSize(), config.getProjects()),
+                            assignees, anchor));
+
+            log.info("Generated {} users and {} projects in {} s with {} threads", config.getUsers(),
+                    config.getProjects(), (System.nanoTime() - startedAt) / 1_000_000_000, parallelism);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private void insertInParallel(ExecutorService pool, String what, long total, LongFunction<Integer> batch)
+            throws Exception {
+        AtomicLong done = new AtomicLong();
+        long logEvery = Math.max(total / 20, 1);
+        List<Future<?>> batches = new ArrayList<>();
+        for (long from = 0; from < total; from += config.getBatchSize()) {
+            long batchStart = from;
+            batches.add(pool.submit(() -> {
+                int inserted = batch.apply(batchStart);
+                long before = done.getAndAdd(inserted);
+                if ((before + inserted) / logEvery > before / logEvery) {
+                    log.info("Inserted {} / {} {}", before + inserted, total, what);
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : batches) {
+            future.get();
+        }
+    }
+
+    private int insertUsers(long from, long to, String passwordHash) {
+        List<User> users = new ArrayList<>((int) (to - from));
+        for (long index = from; index < to; index++) {
+            SplittableRandom random = rowRandom(0, index);
+            User user = new User();
+            String username = String.format("%suser%07d", USERNAME_PREFIX, index);
+            user.setUsername(username);
+            user.setEmail(username + "@example.com");
+            user.setPassword(passwordHash);
+            user.setFirstName(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)]);
+            user.setLastName(LAST_NAMES[random.nextInt(LAST_NAMES.length)]);
+            user.setRole(random.nextDouble() < config.getManagerRatio() ? RoleType.MANAGER : RoleType.EMPLOYEE);
+            users.add(user);
+        }
+        userBatchRepository.insertAll(users, LocalDateTime.now(), CREATED_BY);
+        return users.size();
+    }
+
+    private int insertProjects(long from, long to, AssigneeSampler assignees, LocalDate anchor) {
+        List<Project> projects = new ArrayList<>((int) (to - from));
+        for (long index = from; index < to; index++) {
+            projects.add(project(index, rowRandom(1, index), assignees, anchor));
+        }
+        projectBatchRepository.insertAll(projects);
+        return projects.size();
+    }
+
+    private Project project(long index, SplittableRandom random, AssigneeSampler assignees, LocalDate anchor) {
+        Project project = new Project();
+        project.setName(ADJECTIVES[random.nextInt(ADJECTIVES.length)] + " "
+                + NOUNS[random.nextInt(NOUNS.length)] + " #" + index);
+        project.setDescription("Synthetic project " + index);
+
+        // Starts spread over the history window plus six months ahead; durations are
+        // log-normal around two months with a long tail
+        long windowDays = config.getHistoryYears() * 365L + 180;
+        LocalDate start = anchor.minusDays(config.getHistoryYears() * 365L).plusDays(random.nextLong(windowDays));
+        long durationDays = Math.max(1, Math.min(730, Math.round(Math.exp(Math.log(60) + 0.8 * random.nextGaussian()))));
+        LocalDate end = start.plusDays(durationDays);
+        project.setStartDate(start);
+        project.setEndDate(end);
+        project.setStatus(status(random, start, end, anchor));
+        project.setPriority(PRIORITIES[weighted(random, PRIORITY_WEIGHTS)]);
+        if (random.nextDouble() >= config.getUnassignedRatio()) {
+            project.setAssignedTo(assignees.sample(random));
+        }
+        project.setCreatedAt(start.minusDays(random.nextInt(30)).atTime(9, 0).plusMinutes(random.nextInt(8 * 60)));
+        project.setCreatedBy(CREATED_BY);
+        return project;
+    }
+
+    private static ProjectStatus status(SplittableRandom random, LocalDate start, LocalDate end, LocalDate anchor) {
+        double roll = random.nextDouble();
+        if (start.isAfter(anchor)) {
+            return roll < 0.95 ? ProjectStatus.NOT_STARTED : ProjectStatus.IN_PROGRESS;
+        }
+        if (end.isBefore(anchor)) {
+            // Some overdue projects are never closed
+            return roll < 0.85 ? ProjectStatus.COMPLETED : ProjectStatus.IN_PROGRESS;
+        }
+        return roll < 0.80 ? ProjectStatus.IN_PROGRESS : roll < 0.95 ? ProjectStatus.NOT_STARTED : ProjectStatus.COMPLETED;
+    }
+
+    private static int weighted(SplittableRandom random, double[] weights) {
+        double roll = random.nextDouble();
+        for (int i = 0; i < weights.length - 1; i++) {
+            roll -= weights[i];
+            if (roll < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    private SplittableRandom rowRandom(long stream, long index) {
+        long mixed = config.getSeed() * 0x9E3779B97F4A7C15L + stream * 0xC2B2AE3D27D4EB4FL + index;
+        mixed = (mixed ^ (mixed >>> 33)) * 0xFF51AFD7ED558CCDL;
+        mixed = (mixed ^ (mixed >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return new SplittableRandom(mixed ^ (mixed >>> 33));
+    }
+
+    /**
+     * Zipf-distributed choice of assignee. Ranks are shuffled with the seed so the busiest
+     * people are not simply the first users created.
+     */
+    private static final class AssigneeSampler {
+        private final User[] byRank;
+        private final double[] cumulative;
+
+        private AssigneeSampler(List<Long> userIds, double skew, long seed) {
+            List<Long> shuffled = new ArrayList<>(userIds);
+            Collections.shuffle(shuffled, new Random(seed));
+            byRank = new User[shuffled.size()];
+            cumulative = new double[shuffled.size()];
+            double sum = 0;
+            for (int rank = 0; rank < shuffled.size(); rank++) {
+                User reference = new User();
+                reference.setId(shuffled.get(rank));
+                byRank[rank] = reference;
+                sum += 1.0 / Math.pow(rank + 1, skew);
+                cumulative[rank] = sum;
+            }
+            for (int rank = 0; rank < cumulative.length; rank++) {
+                cumulative[rank] /= sum;
+            }
+        }
+
+        private User sample(SplittableRandom random) {
+            if (byRank.length == 0) {
+                return null;
+            }
+            int rank = Arrays.binarySearch(cumulative, random.nextDouble());
+            return byRank[Math.min(rank >= 0 ? rank : -rank - 1, byRank.length - 1)];
+        }
+    }
+}
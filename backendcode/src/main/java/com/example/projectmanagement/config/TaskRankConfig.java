@@ -0,0 +1,21 @@
+package com.example.projectmanagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "tasks.ranking")
+@Getter
+@Setter
+public class TaskRankConfig {
+    // Keys longer than this queue their project for a background rebalance
+    private int rebalancePrecision = 24;
+    // Moves that would need a longer key are refused until the rebalance has run
+    private int maxPrecision = 60;
+    private long rebalanceIntervalMs = 5_000;
+    // Catches projects queued on a node that stopped before rebalancing them
+    private long scanIntervalMs = 3_600_000;
+    private int batchSize = 1_000;
+}
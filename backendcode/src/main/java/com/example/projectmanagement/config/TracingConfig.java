@@ -0,0 +1,26 @@
+package com.example.projectmanagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "tracing")
+@Getter
+@Setter
+public class TracingConfig {
+    private boolean enabled = true;
+    private boolean serverTimingHeader = true;
+    private String serviceName = "project-management";
+    // OTLP/JSON lines, readable by the OpenTelemetry collector's otlpjsonfile receiver
+    private boolean exportEnabled = true;
+    private String exportFile = "logs/spans.jsonl";
+    private int exportQueueCapacity = 10_000;
+    private long slowRequestThresholdMs = 500;
+    // Fraction of slow requests whose spans and SQL are written to the log
+    private double slowRequestSampleRate = 1.0;
+    private int maxRecordedStatements = 100;
+    // Per-endpoint allocated bytes from the thread allocation counter
+    private boolean allocationTrackingEnabled = true;
+}
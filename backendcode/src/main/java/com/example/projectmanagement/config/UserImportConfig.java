@@ -0,0 +1,18 @@
+package com.example.projectmanagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "user-import")
+@Getter
+@Setter
+public class UserImportConfig {
+    private int maxRows = 10_000;
+    // Rows per JDBC batch and per transaction
+    private int batchSize = 500;
+    // Threads hashing passwords; 0 uses every available core
+    private int hashingParallelism = 0;
+}
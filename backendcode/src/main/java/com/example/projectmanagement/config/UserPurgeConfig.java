@@ -0,0 +1,18 @@
+package com.example.projectmanagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "user-purge")
+@Getter
+@Setter
+public class UserPurgeConfig {
+    // Projects unassigned per transaction; keeps row locks short
+    private int chunkSize = 500;
+    // Gives other writers a window between chunks
+    private long pauseBetweenChunksMs = 20;
+    private long pollIntervalMs = 5_000;
+}
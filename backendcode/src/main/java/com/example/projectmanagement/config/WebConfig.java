@@ -12,8 +12,8 @@ public class WebConfig implements WebMvcConfigurer {
         registry.addMapping("/**")
                 .allowedOrigins("http://localhost:3000")
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS", "PATCH")
-                .allowedHeaders("Authorization", "Content-Type", "X-Requested-With")
-                .exposedHeaders("Authorization")
+                .allowedHeaders("Authorization", "Content-Type", "X-Requested-With", "If-Match")
+                .exposedHeaders("Authorization", "ETag", "Server-Timing")
                 .allowCredentials(true)
                 .maxAge(3600);
     }
@@ -0,0 +1,34 @@
+package com.example.projectmanagement.config;
+
+import com.example.projectmanagement.model.enums.PriorityLevel;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+@Configuration
+@ConfigurationProperties(prefix = "workload")
+@Getter
+@Setter
+public class WorkloadConfig {
+    // Load one open project of each priority adds to every day it spans
+    private Map<PriorityLevel, Double> priorityWeights = defaultWeights();
+    // Days with a weighted load above this count as overloaded
+    private double capacity = 3.0;
+    private int maxRangeDays = 731;
+    // Upper bound on how stale a cached assignee is when another node changed their projects
+    private long cacheTtlMs = 60_000;
+    private int maxCachedUsers = 20_000;
+
+    private static Map<PriorityLevel, Double> defaultWeights() {
+        Map<PriorityLevel, Double> weights = new EnumMap<>(PriorityLevel.class);
+        weights.put(PriorityLevel.LOW, 0.5);
+        weights.put(PriorityLevel.MEDIUM, 1.0);
+        weights.put(PriorityLevel.HIGH, 1.5);
+        weights.put(PriorityLevel.URGENT, 2.0);
+        return weights;
+    }
+}
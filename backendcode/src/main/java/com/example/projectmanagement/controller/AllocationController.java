@@ -0,0 +1,31 @@
+package com.example.projectmanagement.controller;
+
+import com.example.projectmanagement.model.dto.AllocationStatsDto;
+import com.example.projectmanagement.model.dto.response.ApiResponse;
+import com.example.projectmanagement.observability.AllocationTracker;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/allocations")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('MANAGER')")
+public class AllocationController {
+
+    private final AllocationTracker allocationTracker;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<AllocationStatsDto>>> getAllocationStats() {
+        return ResponseEntity.ok(ApiResponse.success(allocationTracker.snapshot()));
+    }
+
+    @DeleteMapping
+    public ResponseEntity<ApiResponse<Void>> resetAllocationStats() {
+        allocationTracker.reset();
+        return ResponseEntity.ok(ApiResponse.success("Allocation statistics reset"));
+    }
+}
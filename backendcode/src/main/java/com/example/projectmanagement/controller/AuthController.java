@@ -1,29 +1,49 @@
 package com.example.projectmanagement.controller;
 
 import com.example.projectmanagement.model.dto.request.LoginRequest;
+import com.example.projectmanagement.model.dto.request.RefreshTokenRequest;
 import com.example.projectmanagement.model.dto.response.ApiResponse;
 import com.example.projectmanagement.model.dto.response.JwtResponse;
+import com.example.projectmanagement.security.JwtKeySet;
+import com.example.projectmanagement.security.JwtTokenProvider;
 import com.example.projectmanagement.service.AuthService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Map;
+
 @RestController
 @RequestMapping("/api/auth")
 @RequiredArgsConstructor
 public class AuthController {
 
     private final AuthService authService;
+    private final JwtTokenProvider tokenProvider;
+    private final JwtKeySet keySet;
 
     @PostMapping("/login")
     public ResponseEntity<ApiResponse<JwtResponse>> login(@Valid @RequestBody LoginRequest request) {
         return ResponseEntity.ok(ApiResponse.success(authService.login(request)));
     }
 
+    @PostMapping("/refresh")
+    public ResponseEntity<ApiResponse<JwtResponse>> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        return ResponseEntity.ok(ApiResponse.success(authService.refresh(request)));
+    }
+
     @PostMapping("/logout")
-    public ResponseEntity<ApiResponse<Void>> logout() {
-        authService.logout();
+    public ResponseEntity<ApiResponse<Void>> logout(HttpServletRequest httpRequest,
+                                                    @RequestBody(required = false) RefreshTokenRequest request) {
+        authService.logout(tokenProvider.resolveToken(httpRequest), request != null ? request.getRefreshToken() : null);
         return ResponseEntity.ok(ApiResponse.success("Logged out successfully"));
     }
-} 
\ No newline at end of file
+
+    // Standard JWK Set document, deliberately not wrapped in ApiResponse
+    @GetMapping("/keys")
+    public ResponseEntity<Map<String, Object>> keys() {
+        return ResponseEntity.ok(keySet.toJwks());
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.projectmanagement.controller;
+
+import com.example.projectmanagement.model.dto.RecordingDto;
+import com.example.projectmanagement.model.dto.response.ApiResponse;
+import com.example.projectmanagement.observability.FlightRecorderService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.file.Path;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/profiling")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('MANAGER')")
+public class ProfilingController {
+
+    private final FlightRecorderService flightRecorderService;
+
+    @PostMapping("/recordings")
+    public ResponseEntity<ApiResponse<RecordingDto>> startRecording(
+            @RequestParam(defaultValue = "profile") String settings,
+            @RequestParam(defaultValue = "60") long durationSeconds) {
+        return ResponseEntity.ok(ApiResponse.success(flightRecorderService.start(settings, durationSeconds)));
+    }
+
+    @GetMapping("/recordings")
+    public ResponseEntity<ApiResponse<List<RecordingDto>>> getRecordings() {
+        return ResponseEntity.ok(ApiResponse.success(flightRecorderService.list()));
+    }
+
+    @PostMapping("/recordings/{id}/stop")
+    public ResponseEntity<ApiResponse<RecordingDto>> stopRecording(@PathVariable long id) {
+        return ResponseEntity.ok(ApiResponse.success(flightRecorderService.stop(id)));
+    }
+
+    @GetMapping("/recordings/{id}/dump")
+    public ResponseEntity<Resource> dumpRecording(@PathVariable long id) {
+        Path file = flightRecorderService.dump(id);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + file.getFileName() + "\"")
+                .body(new FileSystemResource(file));
+    }
+}
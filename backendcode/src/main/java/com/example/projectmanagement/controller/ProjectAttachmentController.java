@@ -0,0 +1,172 @@
+package com.example.projectmanagement.controller;
+
+import com.example.projectmanagement.config.AttachmentConfig;
+import com.example.projectmanagement.exception.InvalidRequestException;
+import com.example.projectmanagement.model.dto.ProjectAttachmentDto;
+import com.example.projectmanagement.model.dto.response.ApiResponse;
+import com.example.projectmanagement.service.ProjectAttachmentService;
+import com.example.projectmanagement.service.support.AttachmentContent;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Uploads take the file as the raw request body, which is streamed to the content store.
+ * Downloads support ETag revalidation and single byte ranges. They write status and
+ * headers to the response directly and return a task only when the body has to be
+ * streamed, so that one path gets its own async timeout.
+ */
+@RestController
+@RequestMapping("/api/projects/{projectId}/attachments")
+@RequiredArgsConstructor
+public class ProjectAttachmentController {
+
+    // Request attributes Tomcat reads to send the response body with sendfile
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final ProjectAttachmentService attachmentService;
+    private final AttachmentConfig attachmentConfig;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<ProjectAttachmentDto>>> getAttachments(@PathVariable Long projectId) {
+        return ResponseEntity.ok(ApiResponse.success(attachmentService.getAttachments(projectId)));
+    }
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<ProjectAttachmentDto>> upload(
+            @PathVariable Long projectId,
+            @RequestParam String fileName,
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+            InputStream body) {
+        // Form and multipart bodies are parsed by the container before they get here
+        if (contentType != null && (contentType.startsWith(MediaType.MULTIPART_FORM_DATA_VALUE)
+                || contentType.startsWith(MediaType.APPLICATION_FORM_URLENCODED_VALUE))) {
+            throw new InvalidRequestException("Send the file as the raw request body with its own Content-Type");
+        }
+        return ResponseEntity.ok(ApiResponse.success(attachmentService.upload(projectId, fileName, contentType, body)));
+    }
+
+    // Null once the response is complete without a body to stream
+    @GetMapping("/{attachmentId}")
+    public WebAsyncTask<Void> download(
+            @PathVariable Long projectId,
+            @PathVariable Long attachmentId,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+            @RequestHeader(value = HttpHeaders.IF_RANGE, required = false) String ifRange,
+            ServletWebRequest webRequest,
+            HttpServletRequest request,
+            HttpServletResponse response) {
+        AttachmentContent content = attachmentService.getContent(projectId, attachmentId);
+        // The content hash never changes for an attachment, so it is a strong validator
+        String etag = "\"" + content.sha256() + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        long size = content.size();
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(etag);
+        headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+        headers.setCacheControl(CacheControl.noCache().cachePrivate());
+        headers.setContentType(MediaType.parseMediaType(content.contentType()));
+        headers.setContentDisposition(ContentDisposition.attachment()
+                .filename(content.fileName(), StandardCharsets.UTF_8)
+                .build());
+
+        HttpStatus status = HttpStatus.OK;
+        long start = 0;
+        long end = size - 1;
+        // A Range for another version of the file, per If-Range, gets the whole file
+        List<HttpRange> ranges = range != null && (ifRange == null || ifRange.equals(etag)) ? parseRanges(range) : List.of();
+        // Several ranges are answered with the whole file, which HTTP allows
+        if (ranges.size() == 1) {
+            try {
+                start = ranges.get(0).getRangeStart(size);
+                end = ranges.get(0).getRangeEnd(size);
+            } catch (IllegalArgumentException e) {
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                return null;
+            }
+            status = HttpStatus.PARTIAL_CONTENT;
+            headers.set(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+        }
+        long length = end - start + 1;
+        headers.setContentLength(length);
+        response.setStatus(status.value());
+        headers.forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+
+        if (length == 0) {
+            return null;
+        }
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            // Tomcat sends the file from the kernel after this returns; no thread waits on the client
+            request.setAttribute(SENDFILE_FILENAME, content.path().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return null;
+        }
+        long position = start;
+        return new WebAsyncTask<>(attachmentConfig.getDownloadTimeoutMs(), () -> {
+            transfer(content.path(), position, length, response.getOutputStream());
+            return null;
+        });
+    }
+
+    @DeleteMapping("/{attachmentId}")
+    public ResponseEntity<ApiResponse<Void>> deleteAttachment(@PathVariable Long projectId,
+                                                              @PathVariable Long attachmentId) {
+        attachmentService.deleteAttachment(projectId, attachmentId);
+        return ResponseEntity.ok(ApiResponse.success("Attachment deleted successfully"));
+    }
+
+    // An unparseable Range header is ignored, as HTTP requires
+    private static List<HttpRange> parseRanges(String range) {
+        try {
+            return HttpRange.parseRanges(range);
+        } catch (IllegalArgumentException e) {
+            return List.of();
+        }
+    }
+
+    // Fallback without sendfile, run on the MVC async executor so the request thread is
+    // released. The stream is not a file or socket channel, so transferTo copies through a
+    // JDK buffer: this saves only the read loop, not the copy
+    private static void transfer(Path path, long position, long length, OutputStream out) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(out);
+            long sent = 0;
+            while (sent < length) {
+                long written = channel.transferTo(position + sent, length - sent, target);
+                if (written <= 0) {
+                    throw new IOException("Attachment file ended early: " + path.getFileName());
+                }
+                sent += written;
+            }
+        }
+    }
+}
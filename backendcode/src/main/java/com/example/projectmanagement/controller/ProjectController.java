@@ -1,18 +1,28 @@
 package com.example.projectmanagement.controller;
 
+import com.example.projectmanagement.controller.support.VersionETags;
 import com.example.projectmanagement.model.dto.ProjectDto;
+import com.example.projectmanagement.model.dto.request.ProjectMoveRequest;
 import com.example.projectmanagement.model.dto.request.ProjectRequest;
 import com.example.projectmanagement.model.dto.request.ProjectStatusRequest;
 import com.example.projectmanagement.model.dto.response.ApiResponse;
+import com.example.projectmanagement.model.dto.response.BatchResponse;
+import com.example.projectmanagement.model.dto.response.TimelineResponse;
+import com.example.projectmanagement.model.enums.TimelineGranularity;
 import com.example.projectmanagement.service.ProjectService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/projects")
 @RequiredArgsConstructor
@@ -30,8 +40,10 @@ public class ProjectController {
     @PreAuthorize("hasRole('MANAGER')")
     public ResponseEntity<ApiResponse<ProjectDto>> updateProject(
             @PathVariable Long id,
-            @Valid @RequestBody ProjectRequest request) {
-        return ResponseEntity.ok(ApiResponse.success(projectService.updateProject(id, request)));
+            @Valid @RequestBody ProjectRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        ProjectDto project = projectService.updateProject(id, request, VersionETags.parseIfMatch(ifMatch));
+        return withETag(project);
     }
 
     @DeleteMapping("/{id}")
@@ -41,9 +53,23 @@ public class ProjectController {
         return ResponseEntity.ok(ApiResponse.success("Project deleted successfully"));
     }
 
+    @GetMapping("/batch")
+    public ResponseEntity<ApiResponse<BatchResponse<ProjectDto>>> getProjectsByIds(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(ApiResponse.success(projectService.getProjectsByIds(ids)));
+    }
+
+    @GetMapping("/timeline")
+    public ResponseEntity<ApiResponse<TimelineResponse>> getTimeline(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "MONTH") TimelineGranularity granularity,
+            @RequestParam(defaultValue = "500") int limit) {
+        return ResponseEntity.ok(ApiResponse.success(projectService.getTimeline(from, to, granularity, limit)));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<ProjectDto>> getProjectById(@PathVariable Long id) {
-        return ResponseEntity.ok(ApiResponse.success(projectService.getProjectById(id)));
+        return withETag(projectService.getProjectById(id));
     }
 
     @GetMapping
@@ -54,12 +80,30 @@ public class ProjectController {
     @PatchMapping("/{id}/status")
     public ResponseEntity<ApiResponse<ProjectDto>> updateProjectStatus(
             @PathVariable Long id,
-            @Valid @RequestBody ProjectStatusRequest request) {
-        return ResponseEntity.ok(ApiResponse.success(projectService.updateProjectStatus(id, request)));
+            @Valid @RequestBody ProjectStatusRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        ProjectDto project = projectService.updateProjectStatus(id, request, VersionETags.parseIfMatch(ifMatch));
+        return withETag(project);
+    }
+
+    @PutMapping("/{id}/parent")
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<ApiResponse<ProjectDto>> moveProject(
+            @PathVariable Long id,
+            @RequestBody ProjectMoveRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        ProjectDto project = projectService.moveProject(id, request, VersionETags.parseIfMatch(ifMatch));
+        return withETag(project);
     }
 
     @GetMapping("/my")
     public ResponseEntity<ApiResponse<Page<ProjectDto>>> getUserProjects(Pageable pageable) {
         return ResponseEntity.ok(ApiResponse.success(projectService.getUserProjects(pageable)));
     }
-} 
\ No newline at end of file
+
+    private ResponseEntity<ApiResponse<ProjectDto>> withETag(ProjectDto project) {
+        return ResponseEntity.ok()
+                .eTag(VersionETags.toETag(project.getVersion()))
+                .body(ApiResponse.success(project));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.example.projectmanagement.controller;
+
+import com.example.projectmanagement.model.dto.ProjectRollupDto;
+import com.example.projectmanagement.model.dto.ProjectTreeNodeDto;
+import com.example.projectmanagement.model.dto.response.ApiResponse;
+import com.example.projectmanagement.service.ProjectHierarchyService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/projects/{id}")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('MANAGER')")
+public class ProjectHierarchyController {
+
+    private final ProjectHierarchyService projectHierarchyService;
+
+    @GetMapping("/rollup")
+    public ResponseEntity<ApiResponse<ProjectRollupDto>> getRollup(@PathVariable Long id) {
+        return ResponseEntity.ok(ApiResponse.success(projectHierarchyService.getRollup(id)));
+    }
+
+    // Descendants nearest first, each with its own rollup
+    @GetMapping("/subtree")
+    public ResponseEntity<ApiResponse<Page<ProjectTreeNodeDto>>> getSubtree(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "1") int maxDepth,
+            Pageable pageable) {
+        return ResponseEntity.ok(ApiResponse.success(projectHierarchyService.getSubtree(id, maxDepth, pageable)));
+    }
+}
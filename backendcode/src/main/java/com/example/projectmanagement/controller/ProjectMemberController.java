@@ -0,0 +1,43 @@
+package com.example.projectmanagement.controller;
+
+import com.example.projectmanagement.model.dto.ProjectMemberDto;
+import com.example.projectmanagement.model.dto.request.ProjectMemberRequest;
+import com.example.projectmanagement.model.dto.response.ApiResponse;
+import com.example.projectmanagement.service.ProjectMemberService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/projects/{projectId}/members")
+@RequiredArgsConstructor
+public class ProjectMemberController {
+
+    private final ProjectMemberService projectMemberService;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<ProjectMemberDto>>> getMembers(@PathVariable Long projectId) {
+        return ResponseEntity.ok(ApiResponse.success(projectMemberService.getMembers(projectId)));
+    }
+
+    // Adds the user, or changes the role of an existing member
+    @PutMapping("/{userId}")
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<ApiResponse<ProjectMemberDto>> setMember(
+            @PathVariable Long projectId,
+            @PathVariable Long userId,
+            @Valid @RequestBody ProjectMemberRequest request) {
+        return ResponseEntity.ok(ApiResponse.success(projectMemberService.setMember(projectId, userId, request)));
+    }
+
+    @DeleteMapping("/{userId}")
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<ApiResponse<Void>> removeMember(@PathVariable Long projectId, @PathVariable Long userId) {
+        projectMemberService.removeMember(projectId, userId);
+        return ResponseEntity.ok(ApiResponse.success("Project member removed successfully"));
+    }
+}
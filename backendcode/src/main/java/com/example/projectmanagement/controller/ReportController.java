@@ -0,0 +1,48 @@
+package com.example.projectmanagement.controller;
+
+import com.example.projectmanagement.model.dto.response.ApiResponse;
+import com.example.projectmanagement.model.dto.response.CumulativeFlowResponse;
+import com.example.projectmanagement.model.dto.response.CycleTimeResponse;
+import com.example.projectmanagement.model.dto.response.OverdueResponse;
+import com.example.projectmanagement.service.ReportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/reports")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('MANAGER')")
+public class ReportController {
+
+    private final ReportService reportService;
+
+    @GetMapping("/cumulative-flow")
+    public ResponseEntity<ApiResponse<CumulativeFlowResponse>> getCumulativeFlow(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Long assigneeId) {
+        return ResponseEntity.ok(ApiResponse.success(reportService.getCumulativeFlow(from, to, assigneeId)));
+    }
+
+    @GetMapping("/cycle-time")
+    public ResponseEntity<ApiResponse<CycleTimeResponse>> getCycleTime(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Long assigneeId) {
+        return ResponseEntity.ok(ApiResponse.success(reportService.getCycleTime(from, to, assigneeId)));
+    }
+
+    // Open projects whose end date in the range has passed, by assignee, month due and priority
+    @GetMapping("/overdue")
+    public ResponseEntity<ApiResponse<OverdueResponse>> getOverdue(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Long assigneeId) {
+        return ResponseEntity.ok(ApiResponse.success(reportService.getOverdue(from, to, assigneeId)));
+    }
+}
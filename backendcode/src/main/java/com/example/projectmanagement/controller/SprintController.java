@@ -0,0 +1,59 @@
+package com.example.projectmanagement.controller;
+
+import com.example.projectmanagement.controller.support.VersionETags;
+import com.example.projectmanagement.model.dto.SprintDto;
+import com.example.projectmanagement.model.dto.request.SprintRequest;
+import com.example.projectmanagement.model.dto.response.ApiResponse;
+import com.example.projectmanagement.service.SprintService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/projects/{projectId}/sprints")
+@RequiredArgsConstructor
+public class SprintController {
+
+    private final SprintService sprintService;
+
+    @PostMapping
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<ApiResponse<SprintDto>> createSprint(
+            @PathVariable Long projectId,
+            @Valid @RequestBody SprintRequest request) {
+        return withETag(sprintService.createSprint(projectId, request));
+    }
+
+    @PutMapping("/{sprintId}")
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<ApiResponse<SprintDto>> updateSprint(
+            @PathVariable Long projectId,
+            @PathVariable Long sprintId,
+            @Valid @RequestBody SprintRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return withETag(sprintService.updateSprint(projectId, sprintId, request, VersionETags.parseIfMatch(ifMatch)));
+    }
+
+    @DeleteMapping("/{sprintId}")
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<ApiResponse<Void>> deleteSprint(@PathVariable Long projectId, @PathVariable Long sprintId) {
+        sprintService.deleteSprint(projectId, sprintId);
+        return ResponseEntity.ok(ApiResponse.success("Sprint deleted successfully"));
+    }
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<SprintDto>>> getSprints(@PathVariable Long projectId) {
+        return ResponseEntity.ok(ApiResponse.success(sprintService.getSprints(projectId)));
+    }
+
+    private ResponseEntity<ApiResponse<SprintDto>> withETag(SprintDto sprint) {
+        return ResponseEntity.ok()
+                .eTag(VersionETags.toETag(sprint.getVersion()))
+                .body(ApiResponse.success(sprint));
+    }
+}
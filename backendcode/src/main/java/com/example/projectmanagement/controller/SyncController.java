@@ -0,0 +1,24 @@
+package com.example.projectmanagement.controller;
+
+import com.example.projectmanagement.model.dto.response.ApiResponse;
+import com.example.projectmanagement.model.dto.response.ProjectSyncResponse;
+import com.example.projectmanagement.service.SyncService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/sync")
+@RequiredArgsConstructor
+public class SyncController {
+
+    private final SyncService syncService;
+
+    // Without since, returns every visible project as upserts and a token to continue from
+    @GetMapping("/projects")
+    public ResponseEntity<ApiResponse<ProjectSyncResponse>> syncProjects(
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(ApiResponse.success(syncService.syncProjects(since, limit)));
+    }
+}
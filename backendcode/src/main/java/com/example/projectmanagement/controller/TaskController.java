@@ -0,0 +1,82 @@
+package com.example.projectmanagement.controller;
+
+import com.example.projectmanagement.controller.support.VersionETags;
+import com.example.projectmanagement.model.dto.TaskDto;
+import com.example.projectmanagement.model.dto.request.TaskMoveRequest;
+import com.example.projectmanagement.model.dto.request.TaskRequest;
+import com.example.projectmanagement.model.dto.response.ApiResponse;
+import com.example.projectmanagement.model.enums.TaskStatus;
+import com.example.projectmanagement.service.TaskService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/projects/{projectId}/tasks")
+@RequiredArgsConstructor
+public class TaskController {
+
+    private final TaskService taskService;
+
+    @PostMapping
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<ApiResponse<TaskDto>> createTask(
+            @PathVariable Long projectId,
+            @Valid @RequestBody TaskRequest request) {
+        return withETag(taskService.createTask(projectId, request));
+    }
+
+    @PutMapping("/{taskId}")
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<ApiResponse<TaskDto>> updateTask(
+            @PathVariable Long projectId,
+            @PathVariable Long taskId,
+            @Valid @RequestBody TaskRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return withETag(taskService.updateTask(projectId, taskId, request, VersionETags.parseIfMatch(ifMatch)));
+    }
+
+    @PatchMapping("/{taskId}/position")
+    public ResponseEntity<ApiResponse<TaskDto>> moveTask(
+            @PathVariable Long projectId,
+            @PathVariable Long taskId,
+            @RequestBody TaskMoveRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return withETag(taskService.moveTask(projectId, taskId, request, VersionETags.parseIfMatch(ifMatch)));
+    }
+
+    @DeleteMapping("/{taskId}")
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<ApiResponse<Void>> deleteTask(@PathVariable Long projectId, @PathVariable Long taskId) {
+        taskService.deleteTask(projectId, taskId);
+        return ResponseEntity.ok(ApiResponse.success("Task deleted successfully"));
+    }
+
+    @GetMapping("/{taskId}")
+    public ResponseEntity<ApiResponse<TaskDto>> getTask(@PathVariable Long projectId, @PathVariable Long taskId) {
+        return withETag(taskService.getTask(projectId, taskId));
+    }
+
+    // sprintId selects a sprint board, backlog=true the backlog, neither the whole project
+    @GetMapping
+    public ResponseEntity<ApiResponse<Page<TaskDto>>> getTasks(
+            @PathVariable Long projectId,
+            @RequestParam(required = false) Long sprintId,
+            @RequestParam(defaultValue = "false") boolean backlog,
+            @RequestParam(required = false) TaskStatus status,
+            Pageable pageable) {
+        return ResponseEntity.ok(ApiResponse.success(
+                taskService.getTasks(projectId, sprintId, backlog, status, pageable)));
+    }
+
+    private ResponseEntity<ApiResponse<TaskDto>> withETag(TaskDto task) {
+        return ResponseEntity.ok()
+                .eTag(VersionETags.toETag(task.getVersion()))
+                .body(ApiResponse.success(task));
+    }
+}
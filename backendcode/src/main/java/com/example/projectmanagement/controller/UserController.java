@@ -1,23 +1,35 @@
 package com.example.projectmanagement.controller;
 
 import com.example.projectmanagement.model.dto.UserDto;
+import com.example.projectmanagement.model.dto.UserPurgeJobDto;
+import com.example.projectmanagement.model.dto.request.BulkUserRequest;
 import com.example.projectmanagement.model.dto.request.UserRequest;
 import com.example.projectmanagement.model.dto.response.ApiResponse;
+import com.example.projectmanagement.model.dto.response.BatchResponse;
+import com.example.projectmanagement.model.dto.response.BulkImportResponse;
+import com.example.projectmanagement.model.dto.response.TeamWorkloadResponse;
+import com.example.projectmanagement.model.dto.response.UserWorkload;
 import com.example.projectmanagement.service.UserService;
+import com.example.projectmanagement.service.WorkloadService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/users")
 @RequiredArgsConstructor
 public class UserController {
 
     private final UserService userService;
+    private final WorkloadService workloadService;
 
     @PostMapping
     @PreAuthorize("hasRole('MANAGER')")
@@ -25,6 +37,12 @@ public class UserController {
         return ResponseEntity.ok(ApiResponse.success(userService.createUser(request)));
     }
 
+    @PostMapping("/bulk")
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<ApiResponse<BulkImportResponse>> importUsers(@Valid @RequestBody BulkUserRequest request) {
+        return ResponseEntity.ok(ApiResponse.success(userService.importUsers(request)));
+    }
+
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('MANAGER') or @securityUtils.getCurrentUsername() == #request.username")
     public ResponseEntity<ApiResponse<UserDto>> updateUser(
@@ -35,9 +53,37 @@ public class UserController {
 
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('MANAGER')")
-    public ResponseEntity<ApiResponse<Void>> deleteUser(@PathVariable Long id) {
-        userService.deleteUser(id);
-        return ResponseEntity.ok(ApiResponse.success("User deleted successfully"));
+    public ResponseEntity<ApiResponse<UserPurgeJobDto>> deleteUser(@PathVariable Long id) {
+        return ResponseEntity.ok(ApiResponse.success("User deleted successfully", userService.deleteUser(id)));
+    }
+
+    @GetMapping("/purge-jobs/{jobId}")
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<ApiResponse<UserPurgeJobDto>> getPurgeJob(@PathVariable Long jobId) {
+        return ResponseEntity.ok(ApiResponse.success(userService.getPurgeJob(jobId)));
+    }
+
+    @GetMapping("/batch")
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<ApiResponse<BatchResponse<UserDto>>> getUsersByIds(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(ApiResponse.success(userService.getUsersByIds(ids)));
+    }
+
+    @GetMapping("/workload")
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<ApiResponse<TeamWorkloadResponse>> getTeamWorkload(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            Pageable pageable) {
+        return ResponseEntity.ok(ApiResponse.success(workloadService.getTeamWorkload(from, to, pageable)));
+    }
+
+    @GetMapping("/{id}/workload")
+    public ResponseEntity<ApiResponse<UserWorkload>> getUserWorkload(
+            @PathVariable Long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(ApiResponse.success(workloadService.getUserWorkload(id, from, to)));
     }
 
     @GetMapping("/{id}")
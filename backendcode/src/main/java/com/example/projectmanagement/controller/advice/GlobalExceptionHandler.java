@@ -1,13 +1,21 @@
 package com.example.projectmanagement.controller.advice;
 
+import com.example.projectmanagement.controller.support.VersionETags;
 import com.example.projectmanagement.exception.ConflictException;
 import com.example.projectmanagement.exception.InvalidRequestException;
+import com.example.projectmanagement.exception.InvalidTokenException;
+import com.example.projectmanagement.exception.PayloadTooLargeException;
 import com.example.projectmanagement.exception.ResourceNotFoundException;
+import com.example.projectmanagement.exception.SyncTokenExpiredException;
 import com.example.projectmanagement.exception.UnauthorizedAccessException;
+import com.example.projectmanagement.exception.VersionConflictException;
 import com.example.projectmanagement.model.dto.response.ApiResponse;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.DisabledException;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -43,8 +51,46 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(ex.getMessage()));
     }
 
-    @ExceptionHandler(BadCredentialsException.class)
-    public ResponseEntity<ApiResponse<Void>> handleBadCredentialsException(BadCredentialsException ex) {
+    @ExceptionHandler(PayloadTooLargeException.class)
+    public ResponseEntity<ApiResponse<Void>> handlePayloadTooLargeException(PayloadTooLargeException ex) {
+        return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE)
+                .body(ApiResponse.error(ex.getMessage()));
+    }
+
+    @ExceptionHandler(SyncTokenExpiredException.class)
+    public ResponseEntity<ApiResponse<Void>> handleSyncTokenExpiredException(SyncTokenExpiredException ex) {
+        return ResponseEntity.status(HttpStatus.GONE)
+                .body(ApiResponse.error(ex.getMessage()));
+    }
+
+    @ExceptionHandler(VersionConflictException.class)
+    public ResponseEntity<ApiResponse<Map<String, Long>>> handleVersionConflictException(VersionConflictException ex) {
+        HttpStatus status = ex.isPreconditionFailed() ? HttpStatus.PRECONDITION_FAILED : HttpStatus.CONFLICT;
+        Map<String, Long> details = new HashMap<>();
+        details.put("currentVersion", ex.getCurrentVersion());
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(status);
+        if (ex.getCurrentVersion() != null) {
+            builder.eTag(VersionETags.toETag(ex.getCurrentVersion()));
+        }
+        return builder.body(ApiResponse.error(ex.getMessage(), details));
+    }
+
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponse<Void>> handleOptimisticLockingFailureException(ObjectOptimisticLockingFailureException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(ApiResponse.error("The resource was modified concurrently, reload it and retry"));
+    }
+
+    @ExceptionHandler(InvalidTokenException.class)
+    public ResponseEntity<ApiResponse<Void>> handleInvalidTokenException(InvalidTokenException ex) {
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(ApiResponse.error(ex.getMessage()));
+    }
+
+    // Disabled and deleted accounts get the same answer as a wrong password
+    @ExceptionHandler({BadCredentialsException.class, DisabledException.class})
+    public ResponseEntity<ApiResponse<Void>> handleBadCredentialsException(AuthenticationException ex) {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                 .body(ApiResponse.error("Invalid username or password"));
     }
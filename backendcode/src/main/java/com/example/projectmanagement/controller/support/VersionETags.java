@@ -0,0 +1,42 @@
+package com.example.projectmanagement.controller.support;
+
+import com.example.projectmanagement.exception.InvalidRequestException;
+import org.springframework.util.StringUtils;
+
+/**
+ * Maps entity versions to strong ETags ("3") and back, so clients can send the
+ * version they last saw in an If-Match header.
+ */
+public final class VersionETags {
+
+    private VersionETags() {
+    }
+
+    public static String toETag(Long version) {
+        return version == null ? null : "\"" + version + "\"";
+    }
+
+    // Returns null when there is no precondition to check (header absent or "*")
+    public static Long parseIfMatch(String ifMatch) {
+        if (!StringUtils.hasText(ifMatch)) {
+            return null;
+        }
+
+        String value = ifMatch.trim();
+        if ("*".equals(value)) {
+            return null;
+        }
+        if (value.startsWith("W/")) {
+            value = value.substring(2);
+        }
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            value = value.substring(1, value.length() - 1);
+        }
+
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException ex) {
+            throw new InvalidRequestException("If-Match must contain a single version ETag");
+        }
+    }
+}
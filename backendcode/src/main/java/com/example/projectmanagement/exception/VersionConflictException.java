@@ -0,0 +1,21 @@
+package com.example.projectmanagement.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@Getter
+@ResponseStatus(HttpStatus.CONFLICT)
+public class VersionConflictException extends RuntimeException {
+
+    private final Long currentVersion;
+
+    // True when the caller sent an If-Match precondition, which is answered with 412 instead of 409
+    private final boolean preconditionFailed;
+
+    public VersionConflictException(String message, Long currentVersion, boolean preconditionFailed) {
+        super(message);
+        this.currentVersion = currentVersion;
+        this.preconditionFailed = preconditionFailed;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.projectmanagement.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AllocationStatsDto {
+    private String endpoint;
+    private long count;
+    private long totalBytes;
+    private long meanBytes;
+    private long p50Bytes;
+    private long p95Bytes;
+    private long maxBytes;
+}
@@ -0,0 +1,23 @@
+package com.example.projectmanagement.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectAttachmentDto {
+    private Long id;
+    private Long projectId;
+    private String fileName;
+    private String contentType;
+    private long size;
+    private String sha256;
+    private LocalDateTime uploadedAt;
+    private String uploadedBy;
+}
@@ -21,6 +21,8 @@ public class ProjectDto {
     private LocalDate endDate;
     private Long assignedToId;
     private String assignedToName;
+    private Long parentId;
     private PriorityLevel priority;
     private ProjectStatus status;
+    private Long version;
 } 
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.example.projectmanagement.model.dto;
+
+import com.example.projectmanagement.model.enums.ProjectMemberRole;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectMemberDto {
+    private Long projectId;
+    private Long userId;
+    private String username;
+    private String fullName;
+    private ProjectMemberRole role;
+    private LocalDateTime addedAt;
+}
@@ -0,0 +1,25 @@
+package com.example.projectmanagement.model.dto;
+
+import com.example.projectmanagement.model.enums.ProjectStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectRollupDto {
+    private Long projectId;
+    // Everything below the project, at any depth
+    private int descendantCount;
+    private Map<ProjectStatus, Integer> statusCounts;
+    // Share of descendants completed, null without descendants
+    private Double progress;
+    private LocalDate earliestStart;
+    private LocalDate latestEnd;
+}
@@ -0,0 +1,17 @@
+package com.example.projectmanagement.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectTreeNodeDto {
+    private ProjectDto project;
+    // 1 for direct children
+    private int depth;
+    private ProjectRollupDto rollup;
+}
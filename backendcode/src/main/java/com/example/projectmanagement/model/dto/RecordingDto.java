@@ -0,0 +1,22 @@
+package com.example.projectmanagement.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecordingDto {
+    private long id;
+    private String name;
+    private String state;
+    private Instant startTime;
+    private Long durationSeconds;
+    private Long sizeBytes;
+    private boolean continuous;
+}
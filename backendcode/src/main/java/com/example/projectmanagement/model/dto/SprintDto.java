@@ -0,0 +1,24 @@
+package com.example.projectmanagement.model.dto;
+
+import com.example.projectmanagement.model.enums.SprintStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SprintDto {
+    private Long id;
+    private Long projectId;
+    private String name;
+    private String goal;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private SprintStatus status;
+    private Long version;
+}
@@ -0,0 +1,28 @@
+package com.example.projectmanagement.model.dto;
+
+import com.example.projectmanagement.model.enums.PriorityLevel;
+import com.example.projectmanagement.model.enums.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskDto {
+    private Long id;
+    private Long projectId;
+    private Long sprintId;
+    private String title;
+    private String description;
+    private TaskStatus status;
+    private PriorityLevel priority;
+    private Long assigneeId;
+    private String assigneeName;
+    private Integer storyPoints;
+    // Opaque; sorting tasks by it gives board and backlog order
+    private String rank;
+    private Long version;
+}
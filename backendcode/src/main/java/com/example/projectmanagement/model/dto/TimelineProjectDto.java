@@ -0,0 +1,28 @@
+package com.example.projectmanagement.model.dto;
+
+import com.example.projectmanagement.model.enums.PriorityLevel;
+import com.example.projectmanagement.model.enums.ProjectStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimelineProjectDto {
+    private Long id;
+    private String name;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private ProjectStatus status;
+    private PriorityLevel priority;
+    private Long assignedToId;
+    private String assignedToName;
+    // Indexes into TimelineResponse.buckets covered by the project, clipped to the range
+    private int firstBucket;
+    private int lastBucket;
+}
@@ -0,0 +1,26 @@
+package com.example.projectmanagement.model.dto;
+
+import com.example.projectmanagement.model.enums.PurgeJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserPurgeJobDto {
+    private Long id;
+    private Long userId;
+    private PurgeJobStatus status;
+    private long totalProjects;
+    private long processedProjects;
+    private int percentComplete;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String error;
+}
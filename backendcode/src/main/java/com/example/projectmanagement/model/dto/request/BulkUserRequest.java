@@ -0,0 +1,19 @@
+package com.example.projectmanagement.model.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkUserRequest {
+    // Rows are validated one by one so a bad row is reported instead of failing the import
+    @NotEmpty(message = "At least one user is required")
+    private List<UserRequest> users;
+}
@@ -0,0 +1,17 @@
+package com.example.projectmanagement.model.dto.request;
+
+import com.example.projectmanagement.model.enums.ProjectMemberRole;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectMemberRequest {
+    @NotNull(message = "Role is required")
+    private ProjectMemberRole role;
+}
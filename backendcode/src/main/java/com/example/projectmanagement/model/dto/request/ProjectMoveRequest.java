@@ -0,0 +1,15 @@
+package com.example.projectmanagement.model.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectMoveRequest {
+    // Null makes the project a root
+    private Long parentId;
+}
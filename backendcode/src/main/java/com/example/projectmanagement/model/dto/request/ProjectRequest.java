@@ -30,6 +30,9 @@ public class ProjectRequest {
 
     private Long assignedToId;
 
+    // Only read on create; PUT /api/projects/{id}/parent moves an existing project
+    private Long parentId;
+
     @NotNull(message = "Priority is required")
     private PriorityLevel priority;
 } 
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.example.projectmanagement.model.dto.request;
+
+import com.example.projectmanagement.model.enums.SprintStatus;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SprintRequest {
+    @NotBlank(message = "Sprint name is required")
+    @Size(max = 100, message = "Sprint name must be at most 100 characters")
+    private String name;
+
+    @Size(max = 500, message = "Sprint goal must be at most 500 characters")
+    private String goal;
+
+    private LocalDate startDate;
+
+    private LocalDate endDate;
+
+    // Null keeps the current status; closing a sprint returns its unfinished tasks to the backlog
+    private SprintStatus status;
+}
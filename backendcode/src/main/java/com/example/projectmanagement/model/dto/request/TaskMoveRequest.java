@@ -0,0 +1,28 @@
+package com.example.projectmanagement.model.dto.request;
+
+import com.example.projectmanagement.model.enums.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Drops a task onto a board column or backlog position. The task lands directly after
+ * previousTaskId, or directly before nextTaskId when only that is given; with neither
+ * its position is kept, or it goes to the end if it changes sprint.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskMoveRequest {
+    // Null keeps the current status
+    private TaskStatus status;
+
+    // Null keeps the current sprint unless toBacklog is set
+    private Long sprintId;
+    private boolean toBacklog;
+
+    private Long previousTaskId;
+    private Long nextTaskId;
+}
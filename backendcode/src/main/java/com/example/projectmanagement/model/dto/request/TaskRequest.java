@@ -0,0 +1,34 @@
+package com.example.projectmanagement.model.dto.request;
+
+import com.example.projectmanagement.model.enums.PriorityLevel;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskRequest {
+    @NotBlank(message = "Task title is required")
+    @Size(max = 200, message = "Task title must be at most 200 characters")
+    private String title;
+
+    private String description;
+
+    @NotNull(message = "Priority is required")
+    private PriorityLevel priority;
+
+    // Null creates the task in the backlog; on update use the move endpoint to change it
+    private Long sprintId;
+
+    private Long assigneeId;
+
+    @PositiveOrZero(message = "Story points must not be negative")
+    private Integer storyPoints;
+}
@@ -0,0 +1,26 @@
+package com.example.projectmanagement.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchResponse<T> {
+    @Builder.Default
+    private List<T> items = new ArrayList<>();
+
+    // Requested ids that do not exist
+    @Builder.Default
+    private List<Long> missingIds = new ArrayList<>();
+
+    // Requested ids that exist but are not visible to the caller
+    @Builder.Default
+    private List<Long> forbiddenIds = new ArrayList<>();
+}
@@ -0,0 +1,22 @@
+package com.example.projectmanagement.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkImportResponse {
+    private int created;
+    private int failed;
+    private long elapsedMs;
+
+    @Builder.Default
+    private List<ImportRowResult> rows = new ArrayList<>();
+}
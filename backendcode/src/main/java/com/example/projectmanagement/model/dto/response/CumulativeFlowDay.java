@@ -0,0 +1,24 @@
+package com.example.projectmanagement.model.dto.response;
+
+import com.example.projectmanagement.model.enums.ProjectStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CumulativeFlowDay {
+    private LocalDate day;
+    // Projects in each status at the end of the day
+    @Builder.Default
+    private Map<ProjectStatus, Long> counts = new EnumMap<>(ProjectStatus.class);
+    // Projects that moved into COMPLETED that day
+    private long completed;
+}
@@ -0,0 +1,34 @@
+package com.example.projectmanagement.model.dto.response;
+
+import com.example.projectmanagement.model.enums.ProjectStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CumulativeFlowResponse {
+    private LocalDate from;
+    private LocalDate to;
+    // Null for the whole team
+    private Long assigneeId;
+    // Last day covered by the rollups; days stops there
+    private LocalDate rolledUpThrough;
+    private long throughput;
+
+    // Project-days spent in each status divided by the projects that left it within the range
+    @Builder.Default
+    private Map<ProjectStatus, Double> averageDaysInStatus = new EnumMap<>(ProjectStatus.class);
+
+    @Builder.Default
+    private List<CumulativeFlowDay> days = new ArrayList<>();
+}
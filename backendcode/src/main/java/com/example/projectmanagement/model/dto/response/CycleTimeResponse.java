@@ -0,0 +1,26 @@
+package com.example.projectmanagement.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CycleTimeResponse {
+    private LocalDate from;
+    private LocalDate to;
+    private Long assigneeId;
+    private long completedCount;
+    private double meanDays;
+
+    // Percentile -> cycle time in days
+    @Builder.Default
+    private Map<Integer, Integer> percentiles = new TreeMap<>();
+}
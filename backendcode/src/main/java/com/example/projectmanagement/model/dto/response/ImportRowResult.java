@@ -0,0 +1,20 @@
+package com.example.projectmanagement.model.dto.response;
+
+import com.example.projectmanagement.model.enums.ImportRowStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportRowResult {
+    // Position of the row in the request
+    private int index;
+    private String username;
+    private ImportRowStatus status;
+    private Long id;
+    private String message;
+}
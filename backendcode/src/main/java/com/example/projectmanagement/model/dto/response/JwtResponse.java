@@ -12,6 +12,9 @@ import lombok.NoArgsConstructor;
 public class JwtResponse {
     private String token;
     private String type = "Bearer";
+    // Access token lifetime in seconds
+    private long expiresIn;
+    private String refreshToken;
     private Long id;
     private String username;
     private String email;
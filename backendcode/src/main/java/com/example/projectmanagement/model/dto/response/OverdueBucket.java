@@ -0,0 +1,22 @@
+package com.example.projectmanagement.model.dto.response;
+
+import com.example.projectmanagement.model.enums.PriorityLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.YearMonth;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OverdueBucket {
+    // Null for unassigned projects
+    private Long assigneeId;
+    // Month the projects were due in
+    private YearMonth month;
+    private PriorityLevel priority;
+    private long count;
+}
@@ -0,0 +1,26 @@
+package com.example.projectmanagement.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OverdueResponse {
+    // Projects not completed by this day are overdue
+    private LocalDate asOf;
+    private LocalDate from;
+    private LocalDate to;
+    private Long assigneeId;
+    private long overdueCount;
+
+    @Builder.Default
+    private List<OverdueBucket> buckets = new ArrayList<>();
+}
@@ -0,0 +1,29 @@
+package com.example.projectmanagement.model.dto.response;
+
+import com.example.projectmanagement.model.dto.ProjectDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectSyncResponse {
+    // Pass back as ?since= on the next sync
+    private String token;
+    // More changes are ready right away; sync again before waiting
+    private boolean hasMore;
+
+    // Current state of projects created or changed since the token
+    @Builder.Default
+    private List<ProjectDto> upserts = new ArrayList<>();
+
+    // Tombstones: ids deleted, or no longer visible to the caller, since the token
+    @Builder.Default
+    private List<Long> deleted = new ArrayList<>();
+}
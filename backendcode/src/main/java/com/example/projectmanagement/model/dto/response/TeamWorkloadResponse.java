@@ -0,0 +1,26 @@
+package com.example.projectmanagement.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TeamWorkloadResponse {
+    private LocalDate from;
+    private LocalDate to;
+    private int page;
+    private int size;
+    private long totalUsers;
+    private long overloadedUsers;
+
+    @Builder.Default
+    private List<UserWorkload> users = new ArrayList<>();
+}
@@ -0,0 +1,28 @@
+package com.example.projectmanagement.model.dto.response;
+
+import com.example.projectmanagement.model.enums.ProjectStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimelineBucket {
+    private LocalDate start;
+    // Inclusive
+    private LocalDate end;
+    // Projects whose date range overlaps the bucket
+    private long activeCount;
+    private long startedCount;
+    private long endedCount;
+
+    @Builder.Default
+    private Map<ProjectStatus, Long> activeByStatus = new EnumMap<>(ProjectStatus.class);
+}
@@ -0,0 +1,30 @@
+package com.example.projectmanagement.model.dto.response;
+
+import com.example.projectmanagement.model.dto.TimelineProjectDto;
+import com.example.projectmanagement.model.enums.TimelineGranularity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimelineResponse {
+    private LocalDate from;
+    private LocalDate to;
+    private TimelineGranularity granularity;
+
+    @Builder.Default
+    private List<TimelineBucket> buckets = new ArrayList<>();
+
+    // Ordered by start date; bucket counts always cover every project, this list may not
+    @Builder.Default
+    private List<TimelineProjectDto> projects = new ArrayList<>();
+    private boolean truncated;
+}
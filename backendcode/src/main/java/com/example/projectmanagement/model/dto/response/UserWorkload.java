@@ -0,0 +1,28 @@
+package com.example.projectmanagement.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserWorkload {
+    private Long userId;
+    private String username;
+    private String name;
+    private double capacity;
+    private double peakLoad;
+    private int peakProjectCount;
+    private LocalDate peakDate;
+    private long overloadedDays;
+
+    @Builder.Default
+    private List<WorkloadSegment> segments = new ArrayList<>();
+}
@@ -0,0 +1,20 @@
+package com.example.projectmanagement.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkloadSegment {
+    private LocalDate from;
+    // Inclusive; every day in the segment has the same load
+    private LocalDate to;
+    private int projectCount;
+    private double load;
+}
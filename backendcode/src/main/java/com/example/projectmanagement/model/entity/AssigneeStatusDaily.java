@@ -0,0 +1,46 @@
+package com.example.projectmanagement.model.entity;
+
+import com.example.projectmanagement.model.enums.ProjectStatus;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * Per-assignee project count per status, written only on days the count changed. The
+ * count on any other day is the one from the latest earlier row.
+ */
+@Entity
+@Table(name = "assignee_status_daily", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_assignee_status_daily", columnNames = {"assignee_id", "status", "snapshot_day"})
+}, indexes = {
+        @Index(name = "idx_assignee_status_daily_day", columnList = "snapshot_day")
+})
+@Getter
+@Setter
+public class AssigneeStatusDaily {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "snapshot_day", nullable = false)
+    private LocalDate day;
+
+    @Column(name = "assignee_id", nullable = false)
+    private Long assigneeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ProjectStatus status;
+
+    @Column(name = "project_count", nullable = false)
+    private long projectCount;
+
+    @Column(nullable = false)
+    private long entered;
+
+    @Column(nullable = false)
+    private long exited;
+}
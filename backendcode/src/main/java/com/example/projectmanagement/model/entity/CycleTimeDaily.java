@@ -0,0 +1,37 @@
+package com.example.projectmanagement.model.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * Histogram of cycle times, in days from first IN_PROGRESS to COMPLETED, for the projects
+ * completed on each day.
+ */
+@Entity
+@Table(name = "cycle_time_daily", indexes = {
+        @Index(name = "idx_cycle_time_daily_day", columnList = "completed_day"),
+        @Index(name = "idx_cycle_time_daily_assignee", columnList = "assignee_id, completed_day")
+})
+@Getter
+@Setter
+public class CycleTimeDaily {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "completed_day", nullable = false)
+    private LocalDate day;
+
+    @Column(name = "assignee_id")
+    private Long assigneeId;
+
+    @Column(name = "cycle_days", nullable = false)
+    private int cycleDays;
+
+    @Column(name = "project_count", nullable = false)
+    private long projectCount;
+}
@@ -10,7 +10,14 @@ import lombok.Setter;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "projects")
+@Table(name = "projects", indexes = {
+        @Index(name = "idx_projects_assigned_to", columnList = "assigned_to_id"),
+        // Interval lookups: range on start_date, end_date and status read from the index
+        @Index(name = "idx_projects_timeline", columnList = "start_date, end_date, status"),
+        @Index(name = "idx_projects_assignee_timeline", columnList = "assigned_to_id, start_date, end_date, status"),
+        @Index(name = "idx_projects_end_date", columnList = "end_date"),
+        @Index(name = "idx_projects_parent", columnList = "parent_id")
+})
 @Getter
 @Setter
 public class Project extends Auditable {
@@ -35,6 +42,11 @@ public class Project extends Auditable {
     @JoinColumn(name = "assigned_to_id")
     private User assignedTo;
 
+    // Programs and portfolios are projects too; see ProjectClosure for the full hierarchy
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "parent_id")
+    private Project parent;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private PriorityLevel priority;
@@ -0,0 +1,40 @@
+package com.example.projectmanagement.model.entity;
+
+import com.example.projectmanagement.model.entity.audit.Auditable;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * A file attached to a project. The bytes live in the content store under their SHA-256,
+ * so attachments with the same content share one file.
+ */
+@Entity
+@Table(name = "project_attachments", indexes = {
+        @Index(name = "idx_project_attachments_project", columnList = "project_id"),
+        @Index(name = "idx_project_attachments_sha256", columnList = "sha256")
+})
+@Getter
+@Setter
+public class ProjectAttachment extends Auditable {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "project_id", nullable = false)
+    private Project project;
+
+    @Column(name = "file_name", nullable = false)
+    private String fileName;
+
+    @Column(name = "content_type", nullable = false, length = 100)
+    private String contentType;
+
+    @Column(nullable = false)
+    private long size;
+
+    @Column(nullable = false, length = 64)
+    private String sha256;
+}
@@ -0,0 +1,50 @@
+package com.example.projectmanagement.model.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Append-only log of project writes, read by delta sync. The id doubles as the change
+ * sequence that sync tokens point into.
+ */
+@Entity
+@Table(name = "project_changes", indexes = {
+        @Index(name = "idx_project_changes_assignee", columnList = "assignee_id, id"),
+        @Index(name = "idx_project_changes_previous_assignee", columnList = "previous_assignee_id, id"),
+        @Index(name = "idx_project_changes_member", columnList = "member_id, id"),
+        @Index(name = "idx_project_changes_project", columnList = "project_id, id"),
+        @Index(name = "idx_project_changes_time", columnList = "changed_at")
+})
+@Getter
+@Setter
+public class ProjectChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Not a foreign key: tombstones outlive the project
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    // Assignee after the change
+    @Column(name = "assignee_id")
+    private Long assigneeId;
+
+    // Set only when the change took the project away from this assignee
+    @Column(name = "previous_assignee_id")
+    private Long previousAssigneeId;
+
+    // Set when the change added, changed or removed this user's membership
+    @Column(name = "member_id")
+    private Long memberId;
+
+    @Column(nullable = false)
+    private boolean deleted;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+}
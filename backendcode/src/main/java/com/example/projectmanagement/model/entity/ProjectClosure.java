@@ -0,0 +1,43 @@
+package com.example.projectmanagement.model.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Closure table of the project hierarchy: one row for every ancestor and descendant pair,
+ * including each project paired with itself at depth 0. Subtrees and ancestor chains at
+ * any depth are then a single indexed range read.
+ */
+@Entity
+@Table(name = "project_closure", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_project_closure_pair", columnNames = {"ancestor_id", "descendant_id"})
+}, indexes = {
+        @Index(name = "idx_project_closure_subtree", columnList = "ancestor_id, depth, descendant_id"),
+        @Index(name = "idx_project_closure_ancestors", columnList = "descendant_id, depth")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class ProjectClosure {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "ancestor_id", nullable = false)
+    private Long ancestorId;
+
+    @Column(name = "descendant_id", nullable = false)
+    private Long descendantId;
+
+    @Column(nullable = false)
+    private int depth;
+
+    public ProjectClosure(Long ancestorId, Long descendantId, int depth) {
+        this.ancestorId = ancestorId;
+        this.descendantId = descendantId;
+        this.depth = depth;
+    }
+}
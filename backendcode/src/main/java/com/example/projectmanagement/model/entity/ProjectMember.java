@@ -0,0 +1,37 @@
+package com.example.projectmanagement.model.entity;
+
+import com.example.projectmanagement.model.entity.audit.Auditable;
+import com.example.projectmanagement.model.enums.ProjectMemberRole;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * A user who shares a project with its assignee. The assignee is not stored as a member.
+ */
+@Entity
+@Table(name = "project_members", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_project_members_project_user", columnNames = {"project_id", "user_id"})
+}, indexes = {
+        @Index(name = "idx_project_members_user", columnList = "user_id, project_id")
+})
+@Getter
+@Setter
+public class ProjectMember extends Auditable {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "project_id", nullable = false)
+    private Project project;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ProjectMemberRole role;
+}
@@ -0,0 +1,74 @@
+package com.example.projectmanagement.model.entity;
+
+import com.example.projectmanagement.model.enums.ProjectStatus;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * Aggregates over a project's descendants, not counting the project itself. Kept up to
+ * date on every write below it, so a portfolio dashboard reads one row per node.
+ */
+@Entity
+@Table(name = "project_rollups")
+@Getter
+@Setter
+@NoArgsConstructor
+public class ProjectRollup {
+
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Column(name = "not_started_count", nullable = false)
+    private int notStartedCount;
+
+    @Column(name = "in_progress_count", nullable = false)
+    private int inProgressCount;
+
+    @Column(name = "completed_count", nullable = false)
+    private int completedCount;
+
+    // Null while the project has no descendants
+    @Column(name = "earliest_start")
+    private LocalDate earliestStart;
+
+    @Column(name = "latest_end")
+    private LocalDate latestEnd;
+
+    public ProjectRollup(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    public int getDescendantCount() {
+        return notStartedCount + inProgressCount + completedCount;
+    }
+
+    public int getCount(ProjectStatus status) {
+        return switch (status) {
+            case NOT_STARTED -> notStartedCount;
+            case IN_PROGRESS -> inProgressCount;
+            case COMPLETED -> completedCount;
+        };
+    }
+
+    public void add(ProjectStatus status, int delta) {
+        switch (status) {
+            case NOT_STARTED -> notStartedCount += delta;
+            case IN_PROGRESS -> inProgressCount += delta;
+            case COMPLETED -> completedCount += delta;
+        }
+    }
+
+    public void extend(LocalDate start, LocalDate end) {
+        if (start != null && (earliestStart == null || start.isBefore(earliestStart))) {
+            earliestStart = start;
+        }
+        if (end != null && (latestEnd == null || end.isAfter(latestEnd))) {
+            latestEnd = end;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.projectmanagement.model.entity;
+
+import com.example.projectmanagement.model.enums.ProjectStatus;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * One change to a project's status or assignee. A null fromStatus marks creation, a null
+ * toStatus marks deletion.
+ */
+@Entity
+@Table(name = "project_status_transitions", indexes = {
+        @Index(name = "idx_status_transitions_time", columnList = "transitioned_at"),
+        @Index(name = "idx_status_transitions_project", columnList = "project_id, transitioned_at")
+})
+@Getter
+@Setter
+public class ProjectStatusTransition {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Not foreign keys: history outlives deleted projects and users
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "from_status", length = 20)
+    private ProjectStatus fromStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "to_status", length = 20)
+    private ProjectStatus toStatus;
+
+    @Column(name = "from_assignee_id")
+    private Long fromAssigneeId;
+
+    @Column(name = "to_assignee_id")
+    private Long toAssigneeId;
+
+    @Column(name = "transitioned_at", nullable = false)
+    private LocalDateTime transitionedAt;
+
+    @Column(name = "transitioned_by", length = 50)
+    private String transitionedBy;
+}
@@ -0,0 +1,42 @@
+package com.example.projectmanagement.model.entity;
+
+import com.example.projectmanagement.model.entity.audit.Auditable;
+import com.example.projectmanagement.model.enums.SprintStatus;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "sprints", indexes = {
+        @Index(name = "idx_sprints_project", columnList = "project_id, status")
+})
+@Getter
+@Setter
+public class Sprint extends Auditable {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "project_id", nullable = false)
+    private Project project;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    @Column(length = 500)
+    private String goal;
+
+    @Column(name = "start_date")
+    private LocalDate startDate;
+
+    @Column(name = "end_date")
+    private LocalDate endDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private SprintStatus status = SprintStatus.PLANNED;
+}
@@ -0,0 +1,41 @@
+package com.example.projectmanagement.model.entity;
+
+import com.example.projectmanagement.model.enums.ProjectStatus;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * Team-wide project count per status at the end of each day, one row per status for
+ * every rolled-up day.
+ */
+@Entity
+@Table(name = "status_daily_snapshots", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_status_daily_snapshots", columnNames = {"snapshot_day", "status"})
+})
+@Getter
+@Setter
+public class StatusDailySnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "snapshot_day", nullable = false)
+    private LocalDate day;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ProjectStatus status;
+
+    @Column(name = "project_count", nullable = false)
+    private long projectCount;
+
+    @Column(nullable = false)
+    private long entered;
+
+    @Column(nullable = false)
+    private long exited;
+}
@@ -0,0 +1,59 @@
+package com.example.projectmanagement.model.entity;
+
+import com.example.projectmanagement.model.entity.audit.Auditable;
+import com.example.projectmanagement.model.enums.PriorityLevel;
+import com.example.projectmanagement.model.enums.TaskStatus;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+@Entity
+@Table(name = "tasks", uniqueConstraints = {
+        // One order across the whole project; boards and the backlog are filtered views of it
+        @UniqueConstraint(name = "uk_tasks_project_rank", columnNames = {"project_id", "board_rank"})
+}, indexes = {
+        @Index(name = "idx_tasks_sprint_rank", columnList = "project_id, sprint_id, board_rank"),
+        @Index(name = "idx_tasks_assignee", columnList = "assignee_id")
+})
+@Getter
+@Setter
+public class Task extends Auditable {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "project_id", nullable = false)
+    private Project project;
+
+    // Null while the task is in the backlog
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "sprint_id")
+    private Sprint sprint;
+
+    @Column(nullable = false, length = 200)
+    private String title;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TaskStatus status = TaskStatus.TODO;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PriorityLevel priority;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "assignee_id")
+    private User assignee;
+
+    @Column(name = "story_points")
+    private Integer storyPoints;
+
+    // See RankKeys; digits and lowercase letters only, so any collation orders them like Java does
+    @Column(name = "board_rank", nullable = false, length = 64)
+    private String boardRank;
+}
@@ -6,6 +6,7 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -41,7 +42,12 @@ public class User extends Auditable {
     @Column(nullable = false)
     private boolean enabled = true;
 
-    @OneToMany(mappedBy = "assignedTo", cascade = CascadeType.ALL)
+    // Set on deletion; the purge job unassigns the user's projects and then removes the row
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
+    // No cascade: deleting a user must never delete projects one entity at a time
+    @OneToMany(mappedBy = "assignedTo")
     private List<Project> assignedProjects = new ArrayList<>();
 
     @PrePersist
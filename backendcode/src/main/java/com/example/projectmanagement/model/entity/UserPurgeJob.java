@@ -0,0 +1,47 @@
+package com.example.projectmanagement.model.entity;
+
+import com.example.projectmanagement.model.enums.PurgeJobStatus;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "user_purge_jobs", indexes = {
+        @Index(name = "idx_user_purge_jobs_status", columnList = "status")
+})
+@Getter
+@Setter
+public class UserPurgeJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Not a foreign key: the job outlives the user row it purges
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private PurgeJobStatus status = PurgeJobStatus.PENDING;
+
+    @Column(name = "total_projects", nullable = false)
+    private long totalProjects;
+
+    @Column(name = "processed_projects", nullable = false)
+    private long processedProjects;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(length = 500)
+    private String error;
+}
@@ -0,0 +1,8 @@
+package com.example.projectmanagement.model.enums;
+
+public enum ImportRowStatus {
+    CREATED,
+    INVALID,
+    DUPLICATE,
+    FAILED
+}
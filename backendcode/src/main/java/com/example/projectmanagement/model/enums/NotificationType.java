@@ -0,0 +1,7 @@
+package com.example.projectmanagement.model.enums;
+
+public enum NotificationType {
+    ASSIGNED,
+    STATUS_CHANGED,
+    DUE_SOON
+}
@@ -0,0 +1,8 @@
+package com.example.projectmanagement.model.enums;
+
+public enum ProjectMemberRole {
+    // Sees the project, its sprints and tasks
+    VIEWER,
+    // Also updates the project status and moves tasks, like the assignee
+    CONTRIBUTOR
+}
@@ -0,0 +1,8 @@
+package com.example.projectmanagement.model.enums;
+
+public enum PurgeJobStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,7 @@
+package com.example.projectmanagement.model.enums;
+
+public enum SprintStatus {
+    PLANNED,
+    ACTIVE,
+    CLOSED
+}
@@ -0,0 +1,8 @@
+package com.example.projectmanagement.model.enums;
+
+public enum TaskStatus {
+    TODO,
+    IN_PROGRESS,
+    IN_REVIEW,
+    DONE
+}
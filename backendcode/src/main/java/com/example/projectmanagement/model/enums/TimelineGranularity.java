@@ -0,0 +1,6 @@
+package com.example.projectmanagement.model.enums;
+
+public enum TimelineGranularity {
+    WEEK,
+    MONTH
+}
@@ -0,0 +1,42 @@
+package com.example.projectmanagement.notification;
+
+import com.example.projectmanagement.config.NotificationConfig;
+import com.example.projectmanagement.model.enums.NotificationType;
+import com.example.projectmanagement.model.enums.ProjectStatus;
+import com.example.projectmanagement.repository.DueProject;
+import com.example.projectmanagement.repository.ProjectRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Reminds assignees of open projects ending in notifications.due-soon-days. Each run looks
+ * at a single end date, so a project is reminded once as long as the job runs once a day.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class DueSoonNotifier {
+
+    private final ProjectRepository projectRepository;
+    private final NotificationDispatcher notificationDispatcher;
+    private final NotificationConfig notificationConfig;
+
+    @Scheduled(cron = "${notifications.due-soon-cron:0 0 7 * * *}")
+    public void remindDueSoon() {
+        if (!notificationConfig.isEnabled()) {
+            return;
+        }
+        LocalDate endDate = LocalDate.now().plusDays(notificationConfig.getDueSoonDays());
+        List<DueProject> due = projectRepository.findDueOn(endDate, ProjectStatus.COMPLETED);
+        for (DueProject project : due) {
+            notificationDispatcher.enqueueAfterCommit(Notification.of(project.assigneeId(), NotificationType.DUE_SOON,
+                    project.id(), project.name(), "Ends on " + project.endDate()));
+        }
+        log.info("Queued {} due soon reminders for projects ending {}", due.size(), endDate);
+    }
+}
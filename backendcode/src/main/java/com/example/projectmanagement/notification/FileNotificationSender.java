@@ -0,0 +1,64 @@
+package com.example.projectmanagement.notification;
+
+import com.example.projectmanagement.config.NotificationConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Stand-in for a mail server in development and tests: appends each digest to a file as
+ * one JSON line.
+ */
+@Component
+@ConditionalOnProperty(prefix = "notifications", name = "sender", havingValue = "file", matchIfMissing = true)
+public class FileNotificationSender implements NotificationSender, DisposableBean {
+
+    private final Path file;
+    private final ObjectMapper objectMapper;
+
+    private BufferedWriter writer;
+
+    public FileNotificationSender(NotificationConfig notificationConfig, ObjectMapper objectMapper) {
+        this.file = Paths.get(notificationConfig.getFile());
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public synchronized void send(NotificationDigest digest) throws IOException {
+        if (writer == null) {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        }
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("sentAt", LocalDateTime.now());
+        line.put("to", digest.email());
+        line.put("recipientId", digest.recipientId());
+        line.put("recipientName", digest.recipientName());
+        line.put("notifications", digest.notifications());
+        writer.write(objectMapper.writeValueAsString(line));
+        writer.newLine();
+        writer.flush();
+    }
+
+    @Override
+    public synchronized void destroy() throws IOException {
+        if (writer != null) {
+            writer.close();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.projectmanagement.notification;
+
+import com.example.projectmanagement.model.enums.NotificationType;
+
+import java.time.LocalDateTime;
+
+public record Notification(Long recipientId, NotificationType type, Long projectId, String projectName,
+                           String detail, LocalDateTime occurredAt) {
+
+    public static Notification of(Long recipientId, NotificationType type, Long projectId, String projectName,
+                                  String detail) {
+        return new Notification(recipientId, type, projectId, projectName, detail, LocalDateTime.now());
+    }
+}
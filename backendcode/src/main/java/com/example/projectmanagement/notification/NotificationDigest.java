@@ -0,0 +1,7 @@
+package com.example.projectmanagement.notification;
+
+import java.util.List;
+
+public record NotificationDigest(Long recipientId, String email, String recipientName,
+                                 List<Notification> notifications) {
+}
@@ -0,0 +1,201 @@
+package com.example.projectmanagement.notification;
+
+import com.example.projectmanagement.config.NotificationConfig;
+import com.example.projectmanagement.model.entity.User;
+import com.example.projectmanagement.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Collects notifications per recipient and sends each recipient one digest per window.
+ * Requests only add to an in-memory map after their transaction commits; looking up
+ * recipients and sending happen on the scheduler and sender threads, with retries and
+ * exponential backoff. Pending notifications are lost on a crash, which is acceptable for
+ * reminders that never gate a write.
+ */
+@Slf4j
+@Component
+public class NotificationDispatcher implements DisposableBean {
+
+    private final NotificationSender sender;
+    private final UserRepository userRepository;
+    private final NotificationConfig config;
+
+    private final Map<Long, PendingDigest> pending = new ConcurrentHashMap<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final ScheduledThreadPoolExecutor executor;
+
+    public NotificationDispatcher(NotificationSender sender, UserRepository userRepository,
+                                  NotificationConfig config) {
+        this.sender = sender;
+        this.userRepository = userRepository;
+        this.config = config;
+        this.executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "notification-sender");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Retries still waiting at shutdown are abandoned rather than holding it up
+        this.executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+    }
+
+    // Only notifications for committed changes are queued; rolled back writes tell nobody
+    public void enqueueAfterCommit(Notification notification) {
+        if (!config.isEnabled() || notification.recipientId() == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(notification);
+                }
+            });
+        } else {
+            enqueue(notification);
+        }
+    }
+
+    void enqueue(Notification notification) {
+        if (pendingCount.incrementAndGet() > config.getMaxPending()) {
+            pendingCount.decrementAndGet();
+            dropped.increment();
+            return;
+        }
+        pending.compute(notification.recipientId(), (id, digest) -> {
+            PendingDigest target = digest != null ? digest : new PendingDigest(System.currentTimeMillis());
+            target.notifications.add(notification);
+            return target;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${notifications.flush-interval-ms:5000}",
+            initialDelayString = "${notifications.flush-interval-ms:5000}")
+    public void flush() {
+        flush(false);
+    }
+
+    void flush(boolean all) {
+        long now = System.currentTimeMillis();
+        Map<Long, List<Notification>> ready = new LinkedHashMap<>();
+        for (Long recipientId : pending.keySet()) {
+            pending.computeIfPresent(recipientId, (id, digest) -> {
+                if (!all && !isReady(digest, now)) {
+                    return digest;
+                }
+                ready.put(id, digest.notifications);
+                return null;
+            });
+        }
+        if (ready.isEmpty()) {
+            return;
+        }
+        ready.values().forEach(notifications -> pendingCount.addAndGet(-notifications.size()));
+
+        Map<Long, User> recipients = userRepository.findAllById(ready.keySet()).stream()
+                .filter(user -> user.getDeletedAt() == null)
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        ready.forEach((recipientId, notifications) -> {
+            User recipient = recipients.get(recipientId);
+            if (recipient == null) {
+                dropped.add(notifications.size());
+                return;
+            }
+            NotificationDigest digest = new NotificationDigest(recipientId, recipient.getEmail(),
+                    displayName(recipient), coalesce(notifications));
+            executor.execute(() -> deliver(digest, 1));
+        });
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public long getDeliveredCount() {
+        return delivered.sum();
+    }
+
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    private boolean isReady(PendingDigest digest, long now) {
+        return now - digest.firstQueuedAt >= config.getDigestWindowMs()
+                || digest.notifications.size() >= config.getMaxPerDigest();
+    }
+
+    private void deliver(NotificationDigest digest, int attempt) {
+        try {
+            sender.send(digest);
+            delivered.increment();
+        } catch (Exception e) {
+            if (attempt >= config.getMaxAttempts()) {
+                failed.increment();
+                log.error("Giving up on notification digest for user {} after {} attempts",
+                        digest.recipientId(), attempt, e);
+                return;
+            }
+            long backoff = Math.min(config.getMaxBackoffMs(), config.getInitialBackoffMs() << Math.min(attempt - 1, 20));
+            // Jitter keeps the retries of digests that failed together from arriving together
+            long delay = ThreadLocalRandom.current().nextLong(backoff / 2, backoff + 1);
+            log.warn("Notification digest for user {} failed on attempt {}, retrying in {} ms: {}",
+                    digest.recipientId(), attempt, delay, e.toString());
+            executor.schedule(() -> deliver(digest, attempt + 1), delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // Repeated notifications of one kind about one project collapse to the latest
+    private static List<Notification> coalesce(List<Notification> notifications) {
+        Map<String, Notification> latest = new LinkedHashMap<>();
+        for (Notification notification : notifications) {
+            String key = notification.type() + ":" + notification.projectId();
+            latest.remove(key);
+            latest.put(key, notification);
+        }
+        return new ArrayList<>(latest.values());
+    }
+
+    private static String displayName(User user) {
+        if (user.getFirstName() == null && user.getLastName() == null) {
+            return user.getUsername();
+        }
+        return ((user.getFirstName() != null ? user.getFirstName() : "") + " "
+                + (user.getLastName() != null ? user.getLastName() : "")).trim();
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        flush(true);
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private static final class PendingDigest {
+        private final long firstQueuedAt;
+        private final List<Notification> notifications = new ArrayList<>();
+
+        private PendingDigest(long firstQueuedAt) {
+            this.firstQueuedAt = firstQueuedAt;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.projectmanagement.notification;
+
+/**
+ * Delivers one digest. Called from the dispatcher's sender thread, never from a request;
+ * an exception makes the dispatcher retry the same digest with backoff.
+ */
+public interface NotificationSender {
+
+    void send(NotificationDigest digest) throws Exception;
+}
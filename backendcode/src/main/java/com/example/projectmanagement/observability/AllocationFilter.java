@@ -0,0 +1,52 @@
+package com.example.projectmanagement.observability;
+
+import com.example.projectmanagement.config.TracingConfig;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Measures bytes allocated by the request thread from just inside the tracing filter
+ * to the end of the response, covering security, MVC, Hibernate, mapping and Jackson.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@RequiredArgsConstructor
+public class AllocationFilter extends OncePerRequestFilter {
+
+    private final TracingConfig tracingConfig;
+    private final AllocationTracker allocationTracker;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !tracingConfig.isAllocationTrackingEnabled() || !AllocationMeter.isSupported();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long before = AllocationMeter.currentThreadAllocatedBytes();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long allocated = AllocationMeter.currentThreadAllocatedBytes() - before;
+            Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            allocationTracker.record(request.getMethod() + " " + (route != null ? route : AllocationTracker.UNMATCHED_ROUTE),
+                    allocated);
+
+            RequestTrace trace = RequestTrace.current();
+            if (trace != null) {
+                trace.getRoot().attribute("alloc.bytes", allocated);
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.projectmanagement.observability;
+
+import com.example.projectmanagement.model.dto.AllocationStatsDto;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-endpoint allocation statistics, keyed by method and route pattern so the key
+ * space stays as small as the set of mappings.
+ */
+@Component
+public class AllocationTracker {
+
+    static final String UNMATCHED_ROUTE = "UNMATCHED";
+
+    private final Map<String, EndpointAllocationStats> stats = new ConcurrentHashMap<>();
+
+    public void record(String endpoint, long bytes) {
+        stats.computeIfAbsent(endpoint, key -> new EndpointAllocationStats()).record(bytes);
+    }
+
+    public EndpointAllocationStats get(String endpoint) {
+        return stats.get(endpoint);
+    }
+
+    public List<AllocationStatsDto> snapshot() {
+        return stats.entrySet().stream()
+                .map(entry -> toDto(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingLong(AllocationStatsDto::getTotalBytes).reversed())
+                .toList();
+    }
+
+    public void reset() {
+        stats.clear();
+    }
+
+    private static AllocationStatsDto toDto(String endpoint, EndpointAllocationStats value) {
+        return AllocationStatsDto.builder()
+                .endpoint(endpoint)
+                .count(value.getCount())
+                .totalBytes(value.getTotalBytes())
+                .meanBytes(value.getMeanBytes())
+                .p50Bytes(value.percentileBytes(0.50))
+                .p95Bytes(value.percentileBytes(0.95))
+                .maxBytes(value.getMaxBytes())
+                .build();
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.projectmanagement.observability;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Allocation totals for one route. Percentiles come from a power-of-two histogram, so
+ * they are upper bounds within a factor of two, which is enough to spot regressions.
+ */
+public class EndpointAllocationStats {
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalBytes = new LongAdder();
+    private final AtomicLong maxBytes = new AtomicLong();
+    private final AtomicLongArray histogram = new AtomicLongArray(Long.SIZE);
+
+    void record(long bytes) {
+        count.increment();
+        totalBytes.add(bytes);
+        maxBytes.accumulateAndGet(bytes, Math::max);
+        histogram.incrementAndGet(Long.SIZE - Long.numberOfLeadingZeros(bytes));
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getTotalBytes() {
+        return totalBytes.sum();
+    }
+
+    public long getMeanBytes() {
+        long n = count.sum();
+        return n == 0 ? 0 : totalBytes.sum() / n;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes.get();
+    }
+
+    public long percentileBytes(double percentile) {
+        long n = count.sum();
+        if (n == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(percentile * n);
+        long seen = 0;
+        for (int bucket = 0; bucket < Long.SIZE; bucket++) {
+            seen += histogram.get(bucket);
+            if (seen >= rank) {
+                return bucket == 0 ? 0 : Math.min((1L << bucket) - 1, maxBytes.get());
+            }
+        }
+        return maxBytes.get();
+    }
+}
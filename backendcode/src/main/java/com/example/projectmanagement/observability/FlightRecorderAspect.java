@@ -0,0 +1,81 @@
+package com.example.projectmanagement.observability;
+
+import com.example.projectmanagement.observability.jfr.DomainOperationEvent;
+import com.example.projectmanagement.observability.jfr.RepositoryOperationEvent;
+import com.example.projectmanagement.observability.jfr.ServiceOperationEvent;
+import com.example.projectmanagement.security.SecurityUtils;
+import com.example.projectmanagement.security.UserPrincipal;
+import jakarta.servlet.http.HttpServletRequest;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Emits JFR events around domain services and repositories. Event fields are only
+ * computed when a recording actually wants the event.
+ */
+@Aspect
+@Component
+public class FlightRecorderAspect {
+
+    @Around("execution(* com.example.projectmanagement.service.impl.ProjectServiceImpl.*(..)) " +
+            "|| execution(* com.example.projectmanagement.service.impl.UserServiceImpl.*(..)) " +
+            "|| execution(* com.example.projectmanagement.service.impl.AuthServiceImpl.*(..))")
+    public Object recordService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(joinPoint, new ServiceOperationEvent());
+    }
+
+    @Around("target(org.springframework.data.repository.Repository) " +
+            "|| @target(org.springframework.stereotype.Repository)")
+    public Object recordRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(joinPoint, new RepositoryOperationEvent());
+    }
+
+    private Object record(ProceedingJoinPoint joinPoint, DomainOperationEvent event) throws Throwable {
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+
+        int statementsBefore = StatementCounter.current();
+        event.begin();
+        boolean succeeded = false;
+        Object result = null;
+        try {
+            result = joinPoint.proceed();
+            succeeded = true;
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.setOperation(TracingAspect.spanName(joinPoint));
+                event.setEndpoint(currentEndpoint());
+                event.setUserRole(currentRole());
+                Integer rows = TracingAspect.rowCount(result);
+                event.setRowsReturned(rows != null ? rows : -1);
+                event.setStatementCount(StatementCounter.current() - statementsBefore);
+                event.setSucceeded(succeeded);
+                event.commit();
+            }
+        }
+    }
+
+    private static String currentEndpoint() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            HttpServletRequest request = servletAttributes.getRequest();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            return request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+        }
+        return "background";
+    }
+
+    private static String currentRole() {
+        UserPrincipal principal = SecurityUtils.getCurrentPrincipal();
+        return principal != null ? principal.getRole().name() : "ANONYMOUS";
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.projectmanagement.observability;
+
+import com.example.projectmanagement.config.ProfilingConfig;
+import com.example.projectmanagement.exception.InvalidRequestException;
+import com.example.projectmanagement.exception.ResourceNotFoundException;
+import com.example.projectmanagement.model.dto.RecordingDto;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Starts, lists and dumps JFR recordings of this JVM. The custom events in
+ * {@code observability.jfr} are enabled by default, so any recording picks them up.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FlightRecorderService {
+
+    private static final String CONTINUOUS_NAME = "continuous";
+    private static final DateTimeFormatter FILE_TIMESTAMP =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneOffset.UTC);
+
+    private final ProfilingConfig profilingConfig;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startContinuousRecording() {
+        if (!profilingConfig.isContinuousEnabled() || !FlightRecorder.isAvailable()) {
+            return;
+        }
+        Recording recording = new Recording(loadSettings(profilingConfig.getContinuousSettings()));
+        recording.setName(CONTINUOUS_NAME);
+        recording.setToDisk(true);
+        recording.setMaxAge(Duration.ofMinutes(profilingConfig.getContinuousMaxAgeMinutes()));
+        recording.setMaxSize(profilingConfig.getContinuousMaxSizeMb() * 1024 * 1024);
+        recording.start();
+        log.info("Started continuous flight recording {} with '{}' settings",
+                recording.getId(), profilingConfig.getContinuousSettings());
+    }
+
+    public RecordingDto start(String settings, long durationSeconds) {
+        if (!FlightRecorder.isAvailable()) {
+            throw new InvalidRequestException("Flight recorder is not available in this JVM");
+        }
+        if (durationSeconds <= 0 || durationSeconds > profilingConfig.getMaxOnDemandDurationSeconds()) {
+            throw new InvalidRequestException("Duration must be between 1 and "
+                    + profilingConfig.getMaxOnDemandDurationSeconds() + " seconds");
+        }
+        Recording recording = new Recording(loadSettings(settings));
+        recording.setName("on-demand-" + FILE_TIMESTAMP.format(Instant.now()));
+        recording.setToDisk(true);
+        recording.setDuration(Duration.ofSeconds(durationSeconds));
+        recording.start();
+        return toDto(recording);
+    }
+
+    public List<RecordingDto> list() {
+        return FlightRecorder.isAvailable()
+                ? FlightRecorder.getFlightRecorder().getRecordings().stream().map(this::toDto).toList()
+                : List.of();
+    }
+
+    /**
+     * Writes the data recorded so far to the dump directory. A running recording keeps
+     * running; a stopped one is closed afterwards.
+     */
+    public Path dump(long id) {
+        Recording recording = find(id);
+        Path target = Paths.get(profilingConfig.getDumpDirectory())
+                .resolve(recording.getName() + "-" + FILE_TIMESTAMP.format(Instant.now()) + ".jfr");
+        try {
+            Files.createDirectories(target.getParent());
+            recording.dump(target);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not dump recording " + id, e);
+        }
+        if (recording.getState() == RecordingState.STOPPED) {
+            recording.close();
+        }
+        return target;
+    }
+
+    public RecordingDto stop(long id) {
+        Recording recording = find(id);
+        if (recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+        }
+        return toDto(recording);
+    }
+
+    @PreDestroy
+    public void dumpContinuousOnShutdown() {
+        if (!FlightRecorder.isAvailable()) {
+            return;
+        }
+        FlightRecorder.getFlightRecorder().getRecordings().stream()
+                .filter(recording -> CONTINUOUS_NAME.equals(recording.getName()))
+                .forEach(recording -> {
+                    try {
+                        dump(recording.getId());
+                    } catch (RuntimeException e) {
+                        log.warn("Could not dump continuous recording on shutdown", e);
+                    }
+                });
+    }
+
+    private Recording find(long id) {
+        if (!FlightRecorder.isAvailable()) {
+            throw new ResourceNotFoundException("Recording not found with id: " + id);
+        }
+        return FlightRecorder.getFlightRecorder().getRecordings().stream()
+                .filter(recording -> recording.getId() == id)
+                .findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException("Recording not found with id: " + id));
+    }
+
+    private static Configuration loadSettings(String name) {
+        try {
+            return Configuration.getConfiguration(name);
+        } catch (IOException | ParseException e) {
+            throw new InvalidRequestException("Unknown recording settings: " + name);
+        }
+    }
+
+    private RecordingDto toDto(Recording recording) {
+        Duration duration = recording.getDuration();
+        return RecordingDto.builder()
+                .id(recording.getId())
+                .name(recording.getName())
+                .state(recording.getState().name())
+                .startTime(recording.getStartTime())
+                .durationSeconds(duration != null ? duration.getSeconds() : null)
+                .sizeBytes(recording.getSize())
+                .continuous(CONTINUOUS_NAME.equals(recording.getName()))
+                .build();
+    }
+}
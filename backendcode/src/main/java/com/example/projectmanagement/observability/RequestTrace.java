@@ -0,0 +1,152 @@
+package com.example.projectmanagement.observability;
+
+import lombok.Getter;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Spans and SQL recorded for the request running on the current thread. Time is
+ * accounted per phase as self time, so a service span does not double count the
+ * repository calls it makes and the phases add up to the request total.
+ */
+@Getter
+public class RequestTrace {
+
+    private static final ThreadLocal<RequestTrace> CURRENT = new ThreadLocal<>();
+
+    private final String traceId;
+    private final String remoteParentSpanId;
+    private final long startEpochNanos;
+    private final long startNanos;
+    private final int maxRecordedStatements;
+    private final TraceSpan root;
+    private final List<TraceSpan> finishedSpans = new ArrayList<>();
+    private final List<String> statements = new ArrayList<>();
+    private final Map<TracePhase, Long> phaseNanos = new EnumMap<>(TracePhase.class);
+    private final Deque<TraceSpan> openSpans = new ArrayDeque<>();
+
+    private int statementCount;
+
+    private RequestTrace(String traceId, String remoteParentSpanId, String rootName, int maxRecordedStatements) {
+        this.traceId = traceId != null ? traceId : randomHex(16);
+        this.remoteParentSpanId = remoteParentSpanId;
+        this.startEpochNanos = System.currentTimeMillis() * 1_000_000L;
+        this.startNanos = System.nanoTime();
+        this.maxRecordedStatements = maxRecordedStatements;
+        this.root = new TraceSpan(this, randomHex(8), remoteParentSpanId, rootName, TracePhase.REQUEST, startNanos);
+        openSpans.push(root);
+    }
+
+    public static RequestTrace current() {
+        return CURRENT.get();
+    }
+
+    static RequestTrace begin(String traceId, String remoteParentSpanId, String rootName, int maxRecordedStatements) {
+        RequestTrace trace = new RequestTrace(traceId, remoteParentSpanId, rootName, maxRecordedStatements);
+        CURRENT.set(trace);
+        return trace;
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    public static TraceSpan startSpan(String name, TracePhase phase) {
+        RequestTrace trace = CURRENT.get();
+        return trace != null ? trace.openSpan(name, phase) : TraceSpan.NOOP;
+    }
+
+    public static void recordStatement(String sql) {
+        RequestTrace trace = CURRENT.get();
+        if (trace != null) {
+            trace.addStatement(sql);
+        }
+    }
+
+    public TraceSpan openSpan(String name, TracePhase phase) {
+        TraceSpan parent = openSpans.peek();
+        TraceSpan span = new TraceSpan(this, randomHex(8), parent != null ? parent.getSpanId() : null,
+                name, phase, System.nanoTime());
+        openSpans.push(span);
+        return span;
+    }
+
+    void endSpan(TraceSpan span) {
+        if (span.getDurationNanos() > 0 || !openSpans.contains(span)) {
+            return;
+        }
+        // Close any children left open by an exception before closing this span
+        while (!openSpans.isEmpty() && openSpans.peek() != span) {
+            endSpan(openSpans.peek());
+        }
+        openSpans.pop();
+
+        span.finish(System.nanoTime());
+        TraceSpan parent = openSpans.peek();
+        if (parent != null) {
+            parent.addChildNanos(span.getDurationNanos());
+        }
+        phaseNanos.merge(span.getPhase(), span.getSelfNanos(), Long::sum);
+        finishedSpans.add(span);
+    }
+
+    void addStatement(String sql) {
+        statementCount++;
+        TraceSpan span = openSpans.peek();
+        if (span != null) {
+            span.incrementStatementCount();
+        }
+        if (statements.size() < maxRecordedStatements) {
+            statements.add(sql);
+        }
+    }
+
+    public long getElapsedNanos() {
+        return root.getDurationNanos() > 0 ? root.getDurationNanos() : System.nanoTime() - startNanos;
+    }
+
+    public List<TraceSpan> getFinishedSpans() {
+        return Collections.unmodifiableList(finishedSpans);
+    }
+
+    // Phases that have finished so far plus the request total, e.g. "db;dur=3.1;desc="4 queries", total;dur=9.8"
+    public String serverTimingHeader() {
+        StringBuilder header = new StringBuilder();
+        for (Map.Entry<TracePhase, Long> entry : phaseNanos.entrySet()) {
+            if (entry.getKey() == TracePhase.REQUEST) {
+                continue;
+            }
+            appendMetric(header, entry.getKey().getMetricName(), entry.getValue());
+            if (entry.getKey() == TracePhase.REPOSITORY) {
+                header.append(";desc=\"").append(statementCount).append(" queries\"");
+            }
+        }
+        appendMetric(header, "total", getElapsedNanos());
+        return header.toString();
+    }
+
+    private static void appendMetric(StringBuilder header, String name, long nanos) {
+        if (header.length() > 0) {
+            header.append(", ");
+        }
+        header.append(name).append(";dur=").append(String.format(Locale.ROOT, "%.2f", nanos / 1_000_000.0));
+    }
+
+    static String randomHex(int bytes) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        StringBuilder hex = new StringBuilder(bytes * 2);
+        for (int i = 0; i < bytes; i++) {
+            hex.append(Character.forDigit(random.nextInt(16), 16))
+               .append(Character.forDigit(random.nextInt(16), 16));
+        }
+        return hex.toString();
+    }
+}
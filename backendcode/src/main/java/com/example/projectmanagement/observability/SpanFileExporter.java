@@ -0,0 +1,153 @@
+package com.example.projectmanagement.observability;
+
+import com.example.projectmanagement.config.TracingConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Writes finished traces as OTLP/JSON lines on a background thread. The queue is bounded
+ * and traces are dropped rather than slowing requests down when the disk falls behind.
+ */
+@Component
+@Slf4j
+public class SpanFileExporter implements DisposableBean {
+
+    private static final int SPAN_KIND_INTERNAL = 1;
+    private static final int SPAN_KIND_SERVER = 2;
+    private static final int STATUS_CODE_ERROR = 2;
+
+    private final TracingConfig tracingConfig;
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolExecutor executor;
+    private final LongAdder dropped = new LongAdder();
+
+    private BufferedWriter writer;
+
+    public SpanFileExporter(TracingConfig tracingConfig, ObjectMapper objectMapper) {
+        this.tracingConfig = tracingConfig;
+        this.objectMapper = objectMapper;
+        this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(tracingConfig.getExportQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "span-file-exporter");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    public void export(RequestTrace trace) {
+        if (!tracingConfig.isExportEnabled()) {
+            return;
+        }
+        try {
+            executor.execute(() -> write(trace));
+        } catch (RejectedExecutionException ex) {
+            dropped.increment();
+        }
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    private void write(RequestTrace trace) {
+        try {
+            if (writer == null) {
+                Path file = Paths.get(tracingConfig.getExportFile());
+                if (file.getParent() != null) {
+                    Files.createDirectories(file.getParent());
+                }
+                writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+            writer.write(objectMapper.writeValueAsString(toOtlp(trace)));
+            writer.newLine();
+            if (executor.getQueue().isEmpty()) {
+                writer.flush();
+            }
+        } catch (IOException ex) {
+            dropped.increment();
+            log.debug("Could not export trace {}", trace.getTraceId(), ex);
+        }
+    }
+
+    private Map<String, Object> toOtlp(RequestTrace trace) {
+        List<Map<String, Object>> spans = new ArrayList<>();
+        for (TraceSpan span : trace.getFinishedSpans()) {
+            Map<String, Object> otlpSpan = new LinkedHashMap<>();
+            otlpSpan.put("traceId", trace.getTraceId());
+            otlpSpan.put("spanId", span.getSpanId());
+            if (span.getParentSpanId() != null) {
+                otlpSpan.put("parentSpanId", span.getParentSpanId());
+            }
+            otlpSpan.put("name", span.getName());
+            otlpSpan.put("kind", span == trace.getRoot() ? SPAN_KIND_SERVER : SPAN_KIND_INTERNAL);
+
+            long start = trace.getStartEpochNanos() + (span.getStartNanos() - trace.getStartNanos());
+            otlpSpan.put("startTimeUnixNano", String.valueOf(start));
+            otlpSpan.put("endTimeUnixNano", String.valueOf(start + span.getDurationNanos()));
+
+            List<Map<String, Object>> attributes = new ArrayList<>();
+            attributes.add(attribute("app.phase", span.getPhase().getMetricName()));
+            attributes.add(attribute("db.statement_count", span.getStatementCount()));
+            span.getAttributes().forEach((key, value) -> attributes.add(attribute(key, value)));
+            otlpSpan.put("attributes", attributes);
+
+            Object statusCode = span.getAttributes().get("http.status_code");
+            if (statusCode instanceof Integer code && code >= 500) {
+                otlpSpan.put("status", Map.of("code", STATUS_CODE_ERROR));
+            }
+            spans.add(otlpSpan);
+        }
+
+        Map<String, Object> resource = Map.of("attributes",
+                List.of(attribute("service.name", tracingConfig.getServiceName())));
+        Map<String, Object> scopeSpans = Map.of(
+                "scope", Map.of("name", "com.example.projectmanagement.observability"),
+                "spans", spans);
+        return Map.of("resourceSpans", List.of(Map.of("resource", resource, "scopeSpans", List.of(scopeSpans))));
+    }
+
+    private static Map<String, Object> attribute(String key, Object value) {
+        Map<String, Object> typed;
+        if (value instanceof Integer || value instanceof Long) {
+            // OTLP/JSON encodes 64-bit integers as strings
+            typed = Map.of("intValue", String.valueOf(value));
+        } else if (value instanceof Number number) {
+            typed = Map.of("doubleValue", number.doubleValue());
+        } else if (value instanceof Boolean bool) {
+            typed = Map.of("boolValue", bool);
+        } else {
+            typed = Map.of("stringValue", String.valueOf(value));
+        }
+        return Map.of("key", key, "value", typed);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+        if (writer != null) {
+            writer.close();
+        }
+    }
+}
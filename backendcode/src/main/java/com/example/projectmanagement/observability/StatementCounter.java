@@ -0,0 +1,21 @@
+package com.example.projectmanagement.observability;
+
+/**
+ * Per-thread count of SQL statements prepared by Hibernate, independent of whether the
+ * request is traced. Callers read it before and after an operation and take the delta.
+ */
+public final class StatementCounter {
+
+    private static final ThreadLocal<int[]> COUNT = ThreadLocal.withInitial(() -> new int[1]);
+
+    private StatementCounter() {
+    }
+
+    public static int current() {
+        return COUNT.get()[0];
+    }
+
+    static void increment() {
+        COUNT.get()[0]++;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.projectmanagement.observability;
+
+import lombok.Getter;
+
+@Getter
+public enum TracePhase {
+    REQUEST("request"),
+    FILTER("filter"),
+    SERVICE("service"),
+    REPOSITORY("db"),
+    MAPPING("mapping"),
+    SERIALIZATION("serialization");
+
+    // Metric name used in the Server-Timing header
+    private final String metricName;
+
+    TracePhase(String metricName) {
+        this.metricName = metricName;
+    }
+}
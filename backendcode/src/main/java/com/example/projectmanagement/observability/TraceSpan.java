@@ -0,0 +1,71 @@
+package com.example.projectmanagement.observability;
+
+import lombok.Getter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * One timed operation inside a request trace. Closing the span ends it, so callers can
+ * use try-with-resources; the shared NOOP instance is returned when nothing is traced.
+ */
+@Getter
+public class TraceSpan implements AutoCloseable {
+
+    static final TraceSpan NOOP = new TraceSpan(null, null, null, null, null, 0);
+
+    private final RequestTrace trace;
+    private final String spanId;
+    private final String parentSpanId;
+    private String name;
+    private final TracePhase phase;
+    private final long startNanos;
+    private final Map<String, Object> attributes = new LinkedHashMap<>();
+
+    private long durationNanos;
+    private long childNanos;
+    private int statementCount;
+
+    TraceSpan(RequestTrace trace, String spanId, String parentSpanId, String name, TracePhase phase, long startNanos) {
+        this.trace = trace;
+        this.spanId = spanId;
+        this.parentSpanId = parentSpanId;
+        this.name = name;
+        this.phase = phase;
+        this.startNanos = startNanos;
+    }
+
+    public TraceSpan attribute(String key, Object value) {
+        if (trace != null && value != null) {
+            attributes.put(key, value);
+        }
+        return this;
+    }
+
+    public long getSelfNanos() {
+        return Math.max(0, durationNanos - childNanos);
+    }
+
+    void rename(String name) {
+        this.name = name;
+    }
+
+    void finish(long endNanos) {
+        durationNanos = endNanos - startNanos;
+    }
+
+    void addChildNanos(long nanos) {
+        childNanos += nanos;
+    }
+
+    void incrementStatementCount() {
+        statementCount++;
+    }
+
+    @Override
+    public void close() {
+        if (trace != null) {
+            trace.endSpan(this);
+        }
+    }
+}
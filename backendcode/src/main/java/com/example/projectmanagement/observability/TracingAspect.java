@@ -0,0 +1,68 @@
+package com.example.projectmanagement.observability;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+@Aspect
+@Component
+public class TracingAspect {
+
+    @Around("execution(* com.example.projectmanagement.service.impl..*(..))")
+    public Object traceService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(joinPoint, TracePhase.SERVICE);
+    }
+
+    @Around("target(org.springframework.data.repository.Repository) " +
+            "|| @target(org.springframework.stereotype.Repository)")
+    public Object traceRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(joinPoint, TracePhase.REPOSITORY);
+    }
+
+    @Around("execution(* com.example.projectmanagement.service.mapper..*(..))")
+    public Object traceMapping(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(joinPoint, TracePhase.MAPPING);
+    }
+
+    private Object trace(ProceedingJoinPoint joinPoint, TracePhase phase) throws Throwable {
+        if (RequestTrace.current() == null) {
+            return joinPoint.proceed();
+        }
+
+        try (TraceSpan span = RequestTrace.startSpan(spanName(joinPoint), phase)) {
+            Object result = joinPoint.proceed();
+            span.attribute("rows", rowCount(result));
+            return result;
+        }
+    }
+
+    static String spanName(ProceedingJoinPoint joinPoint) {
+        Object proxy = joinPoint.getThis();
+        String type;
+        if (proxy instanceof Repository<?, ?>) {
+            // Spring Data proxies all share SimpleJpaRepository as target, the interface is more useful
+            Class<?>[] interfaces = AopProxyUtils.proxiedUserInterfaces(proxy);
+            type = interfaces.length > 0 ? interfaces[0].getSimpleName() : "Repository";
+        } else {
+            type = AopUtils.getTargetClass(joinPoint.getTarget()).getSimpleName();
+        }
+        return type + "." + joinPoint.getSignature().getName();
+    }
+
+    static Integer rowCount(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        return null;
+    }
+}
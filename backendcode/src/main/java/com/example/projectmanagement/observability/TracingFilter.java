@@ -0,0 +1,112 @@
+package com.example.projectmanagement.observability;
+
+import com.example.projectmanagement.config.TracingConfig;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Outermost filter: opens the request trace, publishes the phase breakdown as a
+ * Server-Timing header, exports the spans and logs a sample of slow requests together
+ * with the SQL they issued.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+@Slf4j
+public class TracingFilter extends OncePerRequestFilter {
+
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    private static final Pattern TRACEPARENT = Pattern.compile("^[0-9a-f]{2}-([0-9a-f]{32})-([0-9a-f]{16})-[0-9a-f]{2}$");
+
+    private final TracingConfig tracingConfig;
+    private final SpanFileExporter spanFileExporter;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !tracingConfig.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String traceId = null;
+        String parentSpanId = null;
+        String traceparent = request.getHeader("traceparent");
+        if (traceparent != null) {
+            Matcher matcher = TRACEPARENT.matcher(traceparent.trim());
+            if (matcher.matches()) {
+                traceId = matcher.group(1);
+                parentSpanId = matcher.group(2);
+            }
+        }
+
+        RequestTrace trace = RequestTrace.begin(traceId, parentSpanId, request.getMethod() + " " + request.getRequestURI(),
+                tracingConfig.getMaxRecordedStatements());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            // JSON bodies get the header from the message converter; this covers everything else
+            if (tracingConfig.isServerTimingHeader() && !response.isCommitted()) {
+                response.setHeader(SERVER_TIMING_HEADER, trace.serverTimingHeader());
+            }
+            finish(trace, request, response);
+        }
+    }
+
+    private void finish(RequestTrace trace, HttpServletRequest request, HttpServletResponse response) {
+        TraceSpan root = trace.getRoot();
+        Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (route != null) {
+            root.rename(request.getMethod() + " " + route);
+            root.attribute("http.route", route);
+        }
+        root.attribute("http.method", request.getMethod())
+            .attribute("http.target", request.getRequestURI())
+            .attribute("http.status_code", response.getStatus());
+        trace.endSpan(root);
+        RequestTrace.clear();
+
+        spanFileExporter.export(trace);
+        logIfSlow(trace, request, response);
+    }
+
+    private void logIfSlow(RequestTrace trace, HttpServletRequest request, HttpServletResponse response) {
+        long elapsedMillis = trace.getElapsedNanos() / 1_000_000;
+        if (elapsedMillis < tracingConfig.getSlowRequestThresholdMs()
+                || ThreadLocalRandom.current().nextDouble() >= tracingConfig.getSlowRequestSampleRate()) {
+            return;
+        }
+
+        StringBuilder details = new StringBuilder();
+        for (TraceSpan span : trace.getFinishedSpans()) {
+            details.append("\n  span ").append(span.getName())
+                   .append(" [").append(span.getPhase().getMetricName()).append("] ")
+                   .append(String.format("%.2f ms", span.getDurationNanos() / 1_000_000.0));
+        }
+        for (String statement : trace.getStatements()) {
+            details.append("\n  sql ").append(statement.replaceAll("\\s+", " "));
+        }
+        if (trace.getStatementCount() > trace.getStatements().size()) {
+            details.append("\n  ... ").append(trace.getStatementCount() - trace.getStatements().size())
+                   .append(" more statements");
+        }
+
+        log.warn("Slow request {} {} -> {} took {} ms, trace {} [{}]{}", request.getMethod(), request.getRequestURI(),
+                response.getStatus(), elapsedMillis, trace.getTraceId(), trace.serverTimingHeader(), details);
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.projectmanagement.observability;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.lang.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+
+/**
+ * Times Jackson serialization as its own span. The body is rendered into a buffer first
+ * so the Server-Timing header, written before the body, can include the serialization cost.
+ */
+public class TracingJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    private final boolean serverTimingHeader;
+
+    public TracingJackson2HttpMessageConverter(ObjectMapper objectMapper, boolean serverTimingHeader) {
+        super(objectMapper);
+        this.serverTimingHeader = serverTimingHeader;
+    }
+
+    @Override
+    protected void writeInternal(Object object, @Nullable Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        RequestTrace trace = RequestTrace.current();
+        if (trace == null) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(4096);
+        try (TraceSpan span = trace.openSpan("jackson.serialize", TracePhase.SERIALIZATION)) {
+            super.writeInternal(object, type, new HttpOutputMessage() {
+                @Override
+                public OutputStream getBody() {
+                    return buffer;
+                }
+
+                @Override
+                public HttpHeaders getHeaders() {
+                    return outputMessage.getHeaders();
+                }
+            });
+            span.attribute("bytes", buffer.size());
+        }
+
+        if (serverTimingHeader) {
+            outputMessage.getHeaders().set(TracingFilter.SERVER_TIMING_HEADER, trace.serverTimingHeader());
+        }
+        // Lets the server's compression threshold see the size of the buffered body
+        outputMessage.getHeaders().setContentLength(buffer.size());
+        buffer.writeTo(outputMessage.getBody());
+    }
+}
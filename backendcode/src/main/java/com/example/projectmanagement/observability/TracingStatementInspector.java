@@ -0,0 +1,17 @@
+package com.example.projectmanagement.observability;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate hook that attributes every prepared SQL statement to the current request
+ * trace. Registered through hibernate.session_factory.statement_inspector.
+ */
+public class TracingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        StatementCounter.increment();
+        RequestTrace.recordStatement(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.projectmanagement.observability.jfr;
+
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+
+/**
+ * Fields shared by service and repository events. Values are only filled in after
+ * shouldCommit(), so a disabled event costs little more than the begin/end calls.
+ */
+public abstract class DomainOperationEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Endpoint")
+    String endpoint;
+
+    @Label("User Role")
+    String userRole;
+
+    @Label("Rows Returned")
+    int rowsReturned = -1;
+
+    @Label("Statement Count")
+    int statementCount;
+
+    @Label("Succeeded")
+    boolean succeeded;
+
+    public void setOperation(String operation) {
+        this.operation = operation;
+    }
+
+    public void setEndpoint(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public void setUserRole(String userRole) {
+        this.userRole = userRole;
+    }
+
+    public void setRowsReturned(int rowsReturned) {
+        this.rowsReturned = rowsReturned;
+    }
+
+    public void setStatementCount(int statementCount) {
+        this.statementCount = statementCount;
+    }
+
+    public void setSucceeded(boolean succeeded) {
+        this.succeeded = succeeded;
+    }
+}
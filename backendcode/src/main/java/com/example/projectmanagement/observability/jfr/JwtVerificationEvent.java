@@ -0,0 +1,28 @@
+package com.example.projectmanagement.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.example.projectmanagement.JwtVerification")
+@Label("JWT Verification")
+@Category({"Project Management", "Security"})
+@StackTrace(false)
+public class JwtVerificationEvent extends Event {
+
+    @Label("Key Id")
+    String keyId;
+
+    @Label("Valid")
+    boolean valid;
+
+    public void setKeyId(String keyId) {
+        this.keyId = keyId;
+    }
+
+    public void setValid(boolean valid) {
+        this.valid = valid;
+    }
+}
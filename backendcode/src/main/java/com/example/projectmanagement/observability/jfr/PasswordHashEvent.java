@@ -0,0 +1,29 @@
+package com.example.projectmanagement.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.example.projectmanagement.PasswordHash")
+@Label("Password Hash")
+@Category({"Project Management", "Security"})
+@StackTrace(false)
+public class PasswordHashEvent extends Event {
+
+    // "encode" or "matches"
+    @Label("Operation")
+    String operation;
+
+    @Label("Matched")
+    boolean matched;
+
+    public void setOperation(String operation) {
+        this.operation = operation;
+    }
+
+    public void setMatched(boolean matched) {
+        this.matched = matched;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.projectmanagement.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+@Name("com.example.projectmanagement.RepositoryOperation")
+@Label("Repository Operation")
+@Description("A call into a Spring Data or JDBC repository")
+@Category({"Project Management", "Repository"})
+@Threshold("1 ms")
+@StackTrace(false)
+public class RepositoryOperationEvent extends DomainOperationEvent {
+}
@@ -0,0 +1,15 @@
+package com.example.projectmanagement.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.example.projectmanagement.ServiceOperation")
+@Label("Service Operation")
+@Description("A call into ProjectServiceImpl, UserServiceImpl or AuthServiceImpl")
+@Category({"Project Management", "Service"})
+@StackTrace(false)
+public class ServiceOperationEvent extends DomainOperationEvent {
+}
@@ -0,0 +1,84 @@
+package com.example.projectmanagement.overload;
+
+import com.example.projectmanagement.config.ConcurrencyLimitConfig;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.regex.Pattern;
+
+/**
+ * Sheds load with 503 once the adaptive limit is reached, before authentication or any
+ * database work, so requests that are admitted keep their normal latency.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final Pattern SINGLE_ENTITY_READ = Pattern.compile("^/api/(projects|users)/\\d+$");
+
+    private final ConcurrencyLimitConfig config;
+    private final GradientConcurrencyLimiter limiter;
+
+    public ConcurrencyLimitFilter(ConcurrencyLimitConfig config) {
+        this.config = config;
+        this.limiter = new GradientConcurrencyLimiter(config.getInitialLimit(), config.getMinLimit(),
+                config.getMaxLimit(), config.getLatencyBuffer(), config.getSmoothing(), config.getWindowSamples(),
+                config.getMinRttSampleSize(), config.getRemeasureEverySamples(), config.getHighPriorityShare(),
+                config.getNormalPriorityShare(), config.getLowPriorityShare());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !config.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!limiter.tryAcquire(classify(request))) {
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.setContentType("application/json");
+            response.getWriter().write("{\"success\":false,\"message\":\"Server is busy, please retry\"}");
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, response);
+            completed = true;
+        } finally {
+            // Server errors often fail fast and would make the service look faster than it is
+            limiter.release(System.nanoTime() - start, completed && response.getStatus() < 500);
+        }
+    }
+
+    static RequestPriority classify(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        String method = request.getMethod();
+        if (path.startsWith("/actuator/health")) {
+            return RequestPriority.CRITICAL;
+        }
+        if (HttpMethod.OPTIONS.matches(method)) {
+            return RequestPriority.HIGH;
+        }
+        if (HttpMethod.GET.matches(method)) {
+            if (SINGLE_ENTITY_READ.matcher(path).matches() || path.equals("/api/users/me")
+                    || path.equals("/api/auth/keys")) {
+                return RequestPriority.HIGH;
+            }
+            return RequestPriority.LOW;
+        }
+        return path.startsWith("/api/admin/") || path.endsWith("/bulk") ? RequestPriority.LOW : RequestPriority.NORMAL;
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.projectmanagement.overload;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Latency-driven concurrency limit using the gradient scheme of Envoy's adaptive
+ * concurrency filter. Every so often the limit is lowered for a handful of requests to
+ * measure the no-load latency (minRTT). In between, the mean latency of each window of
+ * samples is compared with minRTT plus a buffer: the ratio scales the limit down when
+ * requests are queueing and lets it grow by roughly its square root when they are not.
+ *
+ * <p>Envoy pins the limit to its minimum while it measures, which sheds most traffic for
+ * as long as that takes. Here the probe only halves the limit: the limit settles where
+ * latency is about {@code 1 + latencyBuffer} times minRTT, so half of it no longer
+ * queues, while every priority keeps most of its admissions. A probe that has not
+ * collected its samples after four times as many releases keeps the previous minRTT
+ * rather than holding the limit down.</p>
+ *
+ * <p>Admission is a CAS on the in-flight counter. Only the bookkeeping after a sample
+ * takes a lock, and that is a few arithmetic operations.</p>
+ */
+public class GradientConcurrencyLimiter {
+
+    private static final double PROBE_FRACTION = 0.5;
+    private static final int MAX_PROBE_SAMPLES_FACTOR = 4;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double latencyBuffer;
+    private final double smoothing;
+    private final int windowSamples;
+    private final long remeasureEverySamples;
+    private final double[] priorityShares;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile int limit;
+
+    // Guarded by this
+    private double estimatedLimit;
+    private double minRttNanos;
+    private boolean measuringMinRtt = true;
+    private final long[] minRttSamples;
+    private int minRttSampleCount;
+    private int probeLimit;
+    private long probeSamples;
+    private long windowLatencySum;
+    private int windowSampleCount;
+    private long samplesSinceMeasurement;
+
+    public GradientConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double latencyBuffer,
+                                      double smoothing, int windowSamples, int minRttSampleSize,
+                                      long remeasureEverySamples, double highShare, double normalShare,
+                                      double lowShare) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyBuffer = latencyBuffer;
+        this.smoothing = smoothing;
+        this.windowSamples = windowSamples;
+        this.remeasureEverySamples = remeasureEverySamples;
+        this.priorityShares = new double[] {Double.POSITIVE_INFINITY, highShare, normalShare, lowShare};
+        this.minRttSamples = new long[minRttSampleSize];
+        this.estimatedLimit = initialLimit;
+        startProbe();
+    }
+
+    /**
+     * Admits the request if the in-flight count is below this priority's share of the
+     * limit. An admitted request must be followed by exactly one call to {@link #release}.
+     */
+    public boolean tryAcquire(RequestPriority priority) {
+        double share = priorityShares[priority.ordinal()];
+        int allowed = share == Double.POSITIVE_INFINITY ? Integer.MAX_VALUE : Math.max(1, (int) (limit * share));
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * @param latencyNanos time the request spent inside the limiter
+     * @param sample       false for requests whose latency says nothing about load, such as errors that fail fast
+     */
+    public void release(long latencyNanos, boolean sample) {
+        inFlight.decrementAndGet();
+        if (sample) {
+            update(latencyNanos);
+        }
+    }
+
+    private synchronized void update(long latencyNanos) {
+        if (measuringMinRtt) {
+            probeSamples++;
+            // Requests admitted before the limit was lowered still carry queueing delay
+            if (inFlight.get() < probeLimit) {
+                minRttSamples[minRttSampleCount++] = latencyNanos;
+            }
+            if (minRttSampleCount == minRttSamples.length) {
+                // Median rather than minimum, so one lucky cache hit does not set the baseline
+                Arrays.sort(minRttSamples);
+                minRttNanos = minRttSamples[minRttSamples.length / 2];
+                endProbe();
+            } else if (minRttNanos > 0 && probeSamples >= (long) MAX_PROBE_SAMPLES_FACTOR * minRttSamples.length) {
+                endProbe();
+            }
+            return;
+        }
+
+        windowLatencySum += latencyNanos;
+        windowSampleCount++;
+        samplesSinceMeasurement++;
+        if (windowSampleCount < windowSamples) {
+            return;
+        }
+
+        double sampleRttNanos = (double) windowLatencySum / windowSampleCount;
+        windowLatencySum = 0;
+        windowSampleCount = 0;
+
+        double gradient = Math.max(0.5, Math.min(2.0, minRttNanos * (1 + latencyBuffer) / sampleRttNanos));
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        newLimit = estimatedLimit * (1 - smoothing) + newLimit * smoothing;
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+
+        if (samplesSinceMeasurement >= remeasureEverySamples) {
+            startProbe();
+        } else {
+            limit = (int) estimatedLimit;
+        }
+    }
+
+    private void startProbe() {
+        measuringMinRtt = true;
+        probeSamples = 0;
+        minRttSampleCount = 0;
+        probeLimit = Math.max(minLimit, (int) (estimatedLimit * PROBE_FRACTION));
+        limit = probeLimit;
+    }
+
+    private void endProbe() {
+        measuringMinRtt = false;
+        samplesSinceMeasurement = 0;
+        windowLatencySum = 0;
+        windowSampleCount = 0;
+        limit = (int) estimatedLimit;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
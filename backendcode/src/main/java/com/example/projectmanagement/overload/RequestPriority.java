@@ -0,0 +1,16 @@
+package com.example.projectmanagement.overload;
+
+/**
+ * Admission classes, highest first. Each class may only use its share of the current
+ * concurrency limit, so when the limit tightens expensive work is shed before cheap work.
+ */
+public enum RequestPriority {
+    // Health checks: always admitted so the node is not taken out of rotation while busy
+    CRITICAL,
+    // Single-entity reads
+    HIGH,
+    // Writes and authentication
+    NORMAL,
+    // Listings, batches, exports and admin dumps
+    LOW
+}
@@ -0,0 +1,8 @@
+package com.example.projectmanagement.repository;
+
+import com.example.projectmanagement.model.enums.PriorityLevel;
+
+import java.time.LocalDate;
+
+public record AssigneeInterval(Long assigneeId, LocalDate startDate, LocalDate endDate, PriorityLevel priority) {
+}
@@ -0,0 +1,29 @@
+package com.example.projectmanagement.repository;
+
+import com.example.projectmanagement.model.entity.AssigneeStatusDaily;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface AssigneeStatusDailyRepository extends JpaRepository<AssigneeStatusDaily, Long> {
+
+    // The row carrying each (assignee, status) count into the given day
+    @Query("select a from AssigneeStatusDaily a where a.assigneeId in :assigneeIds and a.day = " +
+            "(select max(b.day) from AssigneeStatusDaily b where b.assigneeId = a.assigneeId " +
+            "and b.status = a.status and b.day < :day)")
+    List<AssigneeStatusDaily> findLatestBefore(@Param("assigneeIds") Collection<Long> assigneeIds,
+                                               @Param("day") LocalDate day);
+
+    List<AssigneeStatusDaily> findByAssigneeIdAndDayBetweenOrderByDayAsc(Long assigneeId, LocalDate from, LocalDate to);
+
+    @Modifying
+    @Query("delete from AssigneeStatusDaily a where a.day = :day")
+    int deleteByDay(@Param("day") LocalDate day);
+}
@@ -0,0 +1,9 @@
+package com.example.projectmanagement.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * When a project first entered IN_PROGRESS, if ever, and when it was first recorded at all.
+ */
+public record CycleStart(Long projectId, LocalDateTime firstInProgressAt, LocalDateTime firstRecordedAt) {
+}
@@ -0,0 +1,4 @@
+package com.example.projectmanagement.repository;
+
+public record CycleTimeCount(int cycleDays, long count) {
+}
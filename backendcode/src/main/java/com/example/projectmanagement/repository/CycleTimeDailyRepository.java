@@ -0,0 +1,30 @@
+package com.example.projectmanagement.repository;
+
+import com.example.projectmanagement.model.entity.CycleTimeDaily;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface CycleTimeDailyRepository extends JpaRepository<CycleTimeDaily, Long> {
+
+    @Query("select new com.example.projectmanagement.repository.CycleTimeCount(c.cycleDays, sum(c.projectCount)) " +
+            "from CycleTimeDaily c where c.day between :from and :to group by c.cycleDays order by c.cycleDays")
+    List<CycleTimeCount> sumBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("select new com.example.projectmanagement.repository.CycleTimeCount(c.cycleDays, sum(c.projectCount)) " +
+            "from CycleTimeDaily c where c.assigneeId = :assigneeId and c.day between :from and :to " +
+            "group by c.cycleDays order by c.cycleDays")
+    List<CycleTimeCount> sumBetweenForAssignee(@Param("assigneeId") Long assigneeId,
+                                               @Param("from") LocalDate from,
+                                               @Param("to") LocalDate to);
+
+    @Modifying
+    @Query("delete from CycleTimeDaily c where c.day = :day")
+    int deleteByDay(@Param("day") LocalDate day);
+}
@@ -0,0 +1,8 @@
+package com.example.projectmanagement.repository;
+
+import com.example.projectmanagement.model.enums.ProjectStatus;
+
+import java.time.LocalDate;
+
+public record DailyStatusCount(LocalDate day, ProjectStatus status, long count) {
+}
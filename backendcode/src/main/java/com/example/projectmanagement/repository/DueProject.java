@@ -0,0 +1,6 @@
+package com.example.projectmanagement.repository;
+
+import java.time.LocalDate;
+
+public record DueProject(Long id, String name, LocalDate endDate, Long assigneeId) {
+}
@@ -0,0 +1,15 @@
+package com.example.projectmanagement.repository;
+
+import com.example.projectmanagement.model.enums.PriorityLevel;
+
+import java.util.Comparator;
+
+// Overdue projects due in one month, for one assignee (null when unassigned) and priority
+public record OverdueCount(Long assigneeId, Integer year, Integer month, PriorityLevel priority, Long count) {
+
+    public static final Comparator<OverdueCount> ORDER = Comparator
+            .comparing(OverdueCount::assigneeId, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(OverdueCount::year)
+            .thenComparing(OverdueCount::month)
+            .thenComparing(OverdueCount::priority);
+}
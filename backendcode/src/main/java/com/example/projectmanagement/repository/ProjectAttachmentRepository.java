@@ -0,0 +1,31 @@
+package com.example.projectmanagement.repository;
+
+import com.example.projectmanagement.model.entity.ProjectAttachment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+@Repository
+public interface ProjectAttachmentRepository extends JpaRepository<ProjectAttachment, Long> {
+
+    @Query("select a from ProjectAttachment a where a.project.id = :projectId order by a.id")
+    List<ProjectAttachment> findByProjectId(@Param("projectId") Long projectId);
+
+    @Query("select a from ProjectAttachment a where a.id = :id and a.project.id = :projectId")
+    Optional<ProjectAttachment> findByIdAndProjectId(@Param("id") Long id, @Param("projectId") Long projectId);
+
+    // Of the given hashes, those still referenced by an attachment
+    @Query("select distinct a.sha256 from ProjectAttachment a where a.sha256 in :hashes")
+    Set<String> findReferencedHashes(@Param("hashes") Collection<String> hashes);
+
+    @Modifying
+    @Query("delete from ProjectAttachment a where a.project.id = :projectId")
+    int deleteByProjectId(@Param("projectId") Long projectId);
+}
@@ -0,0 +1,46 @@
+package com.example.projectmanagement.repository;
+
+import com.example.projectmanagement.model.entity.Project;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * Plain JDBC batch inserts for projects, used where thousands of rows are written at
+ * once and Hibernate's IDENTITY inserts would go one statement at a time.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProjectBatchRepository {
+
+    private static final String INSERT_SQL = """
+            insert into projects (name, description, start_date, end_date, assigned_to_id, priority, status,
+                                  created_at, created_by, version)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, 0)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<Project> projects) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, projects, projects.size(), (ps, project) -> {
+            ps.setString(1, project.getName());
+            ps.setString(2, project.getDescription());
+            ps.setDate(3, Date.valueOf(project.getStartDate()));
+            ps.setDate(4, Date.valueOf(project.getEndDate()));
+            if (project.getAssignedTo() != null) {
+                ps.setLong(5, project.getAssignedTo().getId());
+            } else {
+                ps.setNull(5, Types.BIGINT);
+            }
+            ps.setString(6, project.getPriority().name());
+            ps.setString(7, project.getStatus().name());
+            ps.setTimestamp(8, Timestamp.valueOf(project.getCreatedAt()));
+            ps.setString(9, project.getCreatedBy());
+        });
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.projectmanagement.repository;
+
+import com.example.projectmanagement.model.entity.ProjectChange;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ProjectChangeRepository extends JpaRepository<ProjectChange, Long> {
+
+    List<ProjectChange> findByIdGreaterThanOrderByIdAsc(Long since, Pageable pageable);
+
+    // Changes to projects the user can see now, and those that took a project out of their view.
+    // Membership is the same project_members check ProjectRepository.findVisibleToUser uses
+    @Query("select c from ProjectChange c where c.id > :since " +
+            "and (c.assigneeId = :userId or c.previousAssigneeId = :userId or c.memberId = :userId " +
+            "or exists (select 1 from ProjectMember m where m.project.id = c.projectId and m.user.id = :userId)) " +
+            "order by c.id")
+    List<ProjectChange> findVisibleToUser(@Param("since") Long since,
+                                          @Param("userId") Long userId,
+                                          Pageable pageable);
+
+    // Written before the bulk unassign, while the current assignee is still on the row
+    @Modifying
+    @Query("insert into ProjectChange (projectId, assigneeId, previousAssigneeId, deleted, changedAt) " +
+            "select p.id, null, a.id, false, :now from Project p left join p.assignedTo a where p.id in :ids")
+    int recordUnassignments(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    // Written before the project's members are removed with it, so they receive its tombstone
+    @Modifying
+    @Query("insert into ProjectChange (projectId, assigneeId, previousAssigneeId, memberId, deleted, changedAt) " +
+            "select m.project.id, null, null, m.user.id, true, :now from ProjectMember m " +
+            "where m.project.id = :projectId")
+    int recordMemberRemovals(@Param("projectId") Long projectId, @Param("now") LocalDateTime now);
+
+    // Gives projects written outside the services (bulk loads, pre-existing rows) a first entry
+    @Modifying
+    @Query("insert into ProjectChange (projectId, assigneeId, previousAssigneeId, deleted, changedAt) " +
+            "select p.id, a.id, null, false, :now from Project p left join p.assignedTo a " +
+            "where not exists (select 1 from ProjectChange c where c.projectId = p.id)")
+    int backfillUnrecordedProjects(@Param("now") LocalDateTime now);
+
+    // Old tombstones, and old entries a later entry for the same project supersedes
+    @Modifying
+    @Query("delete from ProjectChange c where c.changedAt < :cutoff and (c.deleted = true or exists " +
+            "(select 1 from ProjectChange later where later.projectId = c.projectId and later.id > c.id))")
+    int compact(@Param("cutoff") LocalDateTime cutoff);
+}
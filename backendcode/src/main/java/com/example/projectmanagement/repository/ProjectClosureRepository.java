@@ -0,0 +1,75 @@
+package com.example.projectmanagement.repository;
+
+import com.example.projectmanagement.model.entity.ProjectClosure;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface ProjectClosureRepository extends JpaRepository<ProjectClosure, Long> {
+
+    // Nearest first
+    @Query("select c.ancestorId from ProjectClosure c where c.descendantId = :id and c.depth > 0 order by c.depth")
+    List<Long> findAncestorIds(@Param("id") Long id);
+
+    boolean existsByAncestorIdAndDescendantId(Long ancestorId, Long descendantId);
+
+    boolean existsByAncestorIdAndDepth(Long ancestorId, int depth);
+
+    // Links a new leaf under every ancestor-or-self of its parent
+    @Modifying
+    @Query("insert into ProjectClosure (ancestorId, descendantId, depth) " +
+            "select c.ancestorId, :id, c.depth + 1 from ProjectClosure c where c.descendantId = :parentId")
+    int linkToAncestors(@Param("id") Long id, @Param("parentId") Long parentId);
+
+    // Cuts every link from a strict ancestor of the project into its subtree
+    @Modifying
+    @Query("delete from ProjectClosure c " +
+            "where c.descendantId in (select s.descendantId from ProjectClosure s where s.ancestorId = :id) " +
+            "and c.ancestorId in (select a.ancestorId from ProjectClosure a where a.descendantId = :id and a.depth > 0)")
+    int detachSubtree(@Param("id") Long id);
+
+    // Links every ancestor-or-self of the new parent to every node of the subtree
+    @Modifying
+    @Query("insert into ProjectClosure (ancestorId, descendantId, depth) " +
+            "select a.ancestorId, s.descendantId, a.depth + s.depth + 1 " +
+            "from ProjectClosure a, ProjectClosure s where a.descendantId = :parentId and s.ancestorId = :id")
+    int attachSubtree(@Param("id") Long id, @Param("parentId") Long parentId);
+
+    @Modifying
+    @Query("delete from ProjectClosure c where c.descendantId = :id")
+    int deleteByDescendantId(@Param("id") Long id);
+
+    @Query("select min(p.startDate) from ProjectClosure c join Project p on p.id = c.descendantId " +
+            "where c.ancestorId = :id and c.depth > 0")
+    LocalDate findEarliestDescendantStart(@Param("id") Long id);
+
+    @Query("select max(p.endDate) from ProjectClosure c join Project p on p.id = c.descendantId " +
+            "where c.ancestorId = :id and c.depth > 0")
+    LocalDate findLatestDescendantEnd(@Param("id") Long id);
+
+    @Query(value = "select new com.example.projectmanagement.repository.ProjectTreeNode(p, a, c.depth, r) " +
+            "from ProjectClosure c join Project p on p.id = c.descendantId left join p.assignedTo a " +
+            "join ProjectRollup r on r.projectId = p.id " +
+            "where c.ancestorId = :id and c.depth between 1 and :maxDepth order by c.depth, p.id",
+            countQuery = "select count(c) from ProjectClosure c where c.ancestorId = :id and c.depth between 1 and :maxDepth")
+    Page<ProjectTreeNode> findSubtree(@Param("id") Long id, @Param("maxDepth") int maxDepth, Pageable pageable);
+
+    // Projects created outside the services, and those that predate the hierarchy, are roots
+    @Modifying
+    @Query("insert into ProjectClosure (ancestorId, descendantId, depth) select p.id, p.id, 0 from Project p " +
+            "where not exists (select 1 from ProjectClosure c where c.ancestorId = p.id and c.descendantId = p.id)")
+    int backfillRoots();
+
+    @Modifying
+    @Query("insert into ProjectRollup (projectId, notStartedCount, inProgressCount, completedCount) " +
+            "select p.id, 0, 0, 0 from Project p where not exists (select 1 from ProjectRollup r where r.projectId = p.id)")
+    int backfillRollups();
+}
@@ -0,0 +1,61 @@
+package com.example.projectmanagement.repository;
+
+import com.example.projectmanagement.model.enums.PriorityLevel;
+import com.example.projectmanagement.model.enums.ProjectStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Reads the project columns analytics needs, without loading entities. Backs the in-memory
+ * project snapshot.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProjectColumnRepository {
+
+    private static final String COLUMNS = "select id, start_date, end_date, status, priority, assigned_to_id from projects";
+    private static final int FETCH_SIZE = 10_000;
+    private static final int MAX_IDS_PER_QUERY = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public interface RowConsumer {
+        // assigneeId is 0 for unassigned projects
+        void accept(long id, long startDay, long endDay, ProjectStatus status, PriorityLevel priority, long assigneeId);
+    }
+
+    public void forEachRow(RowConsumer consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(COLUMNS);
+            statement.setFetchSize(FETCH_SIZE);
+            return statement;
+        }, (RowCallbackHandler) resultSet -> accept(resultSet, consumer));
+    }
+
+    // Ids without a row are skipped
+    public void findRows(List<Long> ids, RowConsumer consumer) {
+        for (int from = 0; from < ids.size(); from += MAX_IDS_PER_QUERY) {
+            List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + MAX_IDS_PER_QUERY));
+            String sql = COLUMNS + " where id in (" + String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")";
+            jdbcTemplate.query(sql, (RowCallbackHandler) resultSet -> accept(resultSet, consumer), chunk.toArray());
+        }
+    }
+
+    private static void accept(ResultSet resultSet, RowConsumer consumer) throws SQLException {
+        consumer.accept(
+                resultSet.getLong(1),
+                resultSet.getDate(2).toLocalDate().toEpochDay(),
+                resultSet.getDate(3).toLocalDate().toEpochDay(),
+                ProjectStatus.valueOf(resultSet.getString(4)),
+                PriorityLevel.valueOf(resultSet.getString(5)),
+                resultSet.getLong(6));
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.projectmanagement.repository;
+
+import com.example.projectmanagement.model.entity.ProjectMember;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ProjectMemberRepository extends JpaRepository<ProjectMember, Long> {
+
+    @Query("select m from ProjectMember m join fetch m.user where m.project.id = :projectId order by m.id")
+    List<ProjectMember> findWithUserByProjectId(@Param("projectId") Long projectId);
+
+    Optional<ProjectMember> findByProjectIdAndUserId(Long projectId, Long userId);
+
+    boolean existsByProjectIdAndUserId(Long projectId, Long userId);
+
+    @Query("select m.project.id from ProjectMember m where m.user.id = :userId and m.project.id in :projectIds")
+    List<Long> findProjectIdsByUserIdAndProjectIdIn(@Param("userId") Long userId,
+                                                   @Param("projectIds") Collection<Long> projectIds);
+
+    @Modifying
+    @Query("delete from ProjectMember m where m.project.id = :projectId")
+    int deleteByProjectId(@Param("projectId") Long projectId);
+
+    @Modifying
+    @Query("delete from ProjectMember m where m.user.id = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+}
@@ -1,15 +1,203 @@
 package com.example.projectmanagement.repository;
 
 import com.example.projectmanagement.model.entity.Project;
+import com.example.projectmanagement.model.enums.ProjectMemberRole;
+import com.example.projectmanagement.model.enums.ProjectStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
     List<Project> findByAssignedToId(Long userId);
-    Page<Project> findByAssignedToId(Long userId, Pageable pageable);
-} 
\ No newline at end of file
+
+    // Assigned to the user or shared with them; the fallback for ProjectVisibilityIndex
+    @EntityGraph(attributePaths = "assignedTo")
+    @Query(value = "select p from Project p where p.assignedTo.id = :userId or exists " +
+            "(select 1 from ProjectMember m where m.project = p and m.user.id = :userId)",
+            countQuery = "select count(p) from Project p where p.assignedTo.id = :userId or exists " +
+                    "(select 1 from ProjectMember m where m.project = p and m.user.id = :userId)")
+    Page<Project> findVisibleToUser(@Param("userId") Long userId, Pageable pageable);
+
+    @Override
+    @EntityGraph(attributePaths = "assignedTo")
+    Page<Project> findAll(Pageable pageable);
+
+    @EntityGraph(attributePaths = "assignedTo")
+    Optional<Project> findWithAssigneeById(Long id);
+
+    // The assignee, or a member holding one of the roles
+    @EntityGraph(attributePaths = "assignedTo")
+    @Query("select p from Project p where p.id = :id and (p.assignedTo.id = :userId or exists " +
+            "(select 1 from ProjectMember m where m.project = p and m.user.id = :userId and m.role in :roles))")
+    Optional<Project> findWithAssigneeByIdForUser(@Param("id") Long id,
+                                                  @Param("userId") Long userId,
+                                                  @Param("roles") Collection<ProjectMemberRole> roles);
+
+    @Query("select p from Project p left join fetch p.assignedTo where p.id in :ids")
+    List<Project> findAllWithAssigneeByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Re-checks candidates from ProjectVisibilityIndex, which may lag writes made on other nodes
+    @Query("select p from Project p left join fetch p.assignedTo where p.id in :ids and " +
+            "(p.assignedTo.id = :userId or exists " +
+            "(select 1 from ProjectMember m where m.project = p and m.user.id = :userId))")
+    List<Project> findAllWithAssigneeByIdInVisibleToUser(@Param("ids") Collection<Long> ids,
+                                                         @Param("userId") Long userId);
+
+    long countByAssignedToId(Long userId);
+
+    @Query("select p.id from Project p where p.assignedTo.id = :userId order by p.id")
+    List<Long> findIdsByAssignedToId(@Param("userId") Long userId, Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Project p set p.assignedTo = null, p.version = p.version + 1, " +
+            "p.updatedAt = :updatedAt, p.updatedBy = :updatedBy where p.id in :ids")
+    int unassignAll(@Param("ids") Collection<Long> ids,
+                    @Param("updatedAt") LocalDateTime updatedAt,
+                    @Param("updatedBy") String updatedBy);
+
+    @Query("select max((p.endDate - p.startDate) by day) from Project p")
+    Long findMaxDurationDays();
+
+    // Timeline queries bound startDate from below by the longest project duration, so both ends of the
+    // (start_date, end_date, status) index range are known and old history is never scanned
+    @Query("select new com.example.projectmanagement.repository.ProjectTimelineRow(p.id, p.name, p.startDate, " +
+            "p.endDate, p.status, p.priority, a.id, a.firstName, a.lastName) " +
+            "from Project p left join p.assignedTo a " +
+            "where p.startDate between :earliestStart and :to and p.endDate >= :from " +
+            "order by p.startDate, p.id")
+    List<ProjectTimelineRow> findTimeline(@Param("from") LocalDate from,
+                                          @Param("to") LocalDate to,
+                                          @Param("earliestStart") LocalDate earliestStart,
+                                          Pageable pageable);
+
+    @Query("select new com.example.projectmanagement.repository.ProjectTimelineRow(p.id, p.name, p.startDate, " +
+            "p.endDate, p.status, p.priority, a.id, a.firstName, a.lastName) " +
+            "from Project p left join p.assignedTo a " +
+            "where (a.id = :userId or exists " +
+            "(select 1 from ProjectMember m where m.project = p and m.user.id = :userId)) " +
+            "and p.startDate between :earliestStart and :to and p.endDate >= :from " +
+            "order by p.startDate, p.id")
+    List<ProjectTimelineRow> findTimelineVisibleToUser(@Param("userId") Long userId,
+                                                       @Param("from") LocalDate from,
+                                                       @Param("to") LocalDate to,
+                                                       @Param("earliestStart") LocalDate earliestStart,
+                                                       Pageable pageable);
+
+    @Query("select new com.example.projectmanagement.repository.DailyStatusCount(p.startDate, p.status, count(p)) " +
+            "from Project p where p.startDate between :earliestStart and :to and p.endDate >= :from " +
+            "group by p.startDate, p.status")
+    List<DailyStatusCount> countTimelineStarts(@Param("from") LocalDate from,
+                                               @Param("to") LocalDate to,
+                                               @Param("earliestStart") LocalDate earliestStart);
+
+    @Query("select new com.example.projectmanagement.repository.DailyStatusCount(p.endDate, p.status, count(p)) " +
+            "from Project p where p.startDate between :earliestStart and :to and p.endDate >= :from " +
+            "group by p.endDate, p.status")
+    List<DailyStatusCount> countTimelineEnds(@Param("from") LocalDate from,
+                                             @Param("to") LocalDate to,
+                                             @Param("earliestStart") LocalDate earliestStart);
+
+    @Query("select new com.example.projectmanagement.repository.DailyStatusCount(p.startDate, p.status, count(p)) " +
+            "from Project p where (p.assignedTo.id = :userId or exists " +
+            "(select 1 from ProjectMember m where m.project = p and m.user.id = :userId)) " +
+            "and p.startDate between :earliestStart and :to and p.endDate >= :from " +
+            "group by p.startDate, p.status")
+    List<DailyStatusCount> countTimelineStartsVisibleToUser(@Param("userId") Long userId,
+                                                            @Param("from") LocalDate from,
+                                                            @Param("to") LocalDate to,
+                                                            @Param("earliestStart") LocalDate earliestStart);
+
+    @Query("select new com.example.projectmanagement.repository.DailyStatusCount(p.endDate, p.status, count(p)) " +
+            "from Project p where (p.assignedTo.id = :userId or exists " +
+            "(select 1 from ProjectMember m where m.project = p and m.user.id = :userId)) " +
+            "and p.startDate between :earliestStart and :to and p.endDate >= :from " +
+            "group by p.endDate, p.status")
+    List<DailyStatusCount> countTimelineEndsVisibleToUser(@Param("userId") Long userId,
+                                                          @Param("from") LocalDate from,
+                                                          @Param("to") LocalDate to,
+                                                          @Param("earliestStart") LocalDate earliestStart);
+
+    @Query("select new com.example.projectmanagement.repository.AssigneeInterval(p.assignedTo.id, p.startDate, " +
+            "p.endDate, p.priority) from Project p where p.assignedTo.id in :assigneeIds and p.status <> :excluded")
+    List<AssigneeInterval> findIntervalsByAssigneeIdIn(@Param("assigneeIds") Collection<Long> assigneeIds,
+                                                       @Param("excluded") ProjectStatus excluded);
+
+    // Task rank writes share this lock and rebalancing takes it exclusively. It is only shared where
+    // the dialect has a shared row lock (FOR SHARE on PostgreSQL and MySQL); H2, Oracle and SQL
+    // Server take FOR UPDATE instead, so there rank writes to one project run one at a time
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("select p from Project p where p.id = :id")
+    Optional<Project> lockForRankWrite(@Param("id") Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from Project p where p.id = :id")
+    Optional<Project> lockForRankRebalance(@Param("id") Long id);
+
+    // Moves and deletes take the project row before any rollup row, as versioned updates do
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from Project p where p.id = :id")
+    Optional<Project> lockForHierarchyWrite(@Param("id") Long id);
+
+    @Query("select new com.example.projectmanagement.repository.DueProject(p.id, p.name, p.endDate, p.assignedTo.id) " +
+            "from Project p where p.endDate = :endDate and p.status <> :excludedStatus and p.assignedTo is not null")
+    List<DueProject> findDueOn(@Param("endDate") LocalDate endDate, @Param("excludedStatus") ProjectStatus excludedStatus);
+
+    // The SQL twin of ProjectAnalytics.countOverdue, used until the snapshot is built
+    @Query("select new com.example.projectmanagement.repository.OverdueCount(p.assignedTo.id, " +
+            "extract(year from p.endDate), extract(month from p.endDate), p.priority, count(p)) " +
+            "from Project p where p.endDate between :from and :lastDay and p.status <> :excludedStatus " +
+            "and (:assigneeId is null or p.assignedTo.id = :assigneeId) " +
+            "group by p.assignedTo.id, extract(year from p.endDate), extract(month from p.endDate), p.priority")
+    List<OverdueCount> countOverdue(@Param("from") LocalDate from,
+                                    @Param("lastDay") LocalDate lastDay,
+                                    @Param("excludedStatus") ProjectStatus excludedStatus,
+                                    @Param("assigneeId") Long assigneeId);
+
+    @Query("select p.version from Project p where p.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Project p set p.status = :status, p.version = p.version + 1, " +
+            "p.updatedAt = :updatedAt, p.updatedBy = :updatedBy " +
+            "where p.id = :id and p.version = :version")
+    int updateStatusIfVersion(@Param("id") Long id,
+                              @Param("version") Long version,
+                              @Param("status") ProjectStatus status,
+                              @Param("updatedAt") LocalDateTime updatedAt,
+                              @Param("updatedBy") String updatedBy);
+
+    // Null arguments keep the current column value, matching ProjectMapper.updateEntity
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "update projects set name = coalesce(:name, name), " +
+            "description = coalesce(:description, description), " +
+            "start_date = coalesce(:startDate, start_date), " +
+            "end_date = coalesce(:endDate, end_date), " +
+            "priority = coalesce(:priority, priority), " +
+            "assigned_to_id = coalesce(:assignedToId, assigned_to_id), " +
+            "version = version + 1, updated_at = :updatedAt, updated_by = :updatedBy " +
+            "where id = :id and version = :version", nativeQuery = true)
+    int updateIfVersion(@Param("id") Long id,
+                        @Param("version") Long version,
+                        @Param("name") String name,
+                        @Param("description") String description,
+                        @Param("startDate") LocalDate startDate,
+                        @Param("endDate") LocalDate endDate,
+                        @Param("priority") String priority,
+                        @Param("assignedToId") Long assignedToId,
+                        @Param("updatedAt") LocalDateTime updatedAt,
+                        @Param("updatedBy") String updatedBy);
+}
\ No newline at end of file
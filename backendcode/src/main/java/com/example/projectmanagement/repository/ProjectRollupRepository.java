@@ -0,0 +1,26 @@
+package com.example.projectmanagement.repository;
+
+import com.example.projectmanagement.model.entity.ProjectRollup;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ProjectRollupRepository extends JpaRepository<ProjectRollup, Long> {
+
+    // Writers below a project serialize on its rollup row
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from ProjectRollup r where r.projectId in :ids order by r.projectId")
+    List<ProjectRollup> lockAll(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("delete from ProjectRollup r where r.projectId = :id")
+    int deleteByProjectId(@Param("id") Long id);
+}
@@ -0,0 +1,66 @@
+package com.example.projectmanagement.repository;
+
+import com.example.projectmanagement.model.entity.ProjectStatusTransition;
+import com.example.projectmanagement.model.enums.ProjectStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ProjectStatusTransitionRepository extends JpaRepository<ProjectStatusTransition, Long> {
+
+    // Written before the bulk unassign, while the current assignee is still on the row
+    @Modifying
+    @Query("insert into ProjectStatusTransition (projectId, fromStatus, toStatus, fromAssigneeId, toAssigneeId, " +
+            "transitionedAt, transitionedBy) " +
+            "select p.id, p.status, p.status, a.id, null, :now, :by from Project p left join p.assignedTo a " +
+            "where p.id in :ids")
+    int recordUnassignments(@Param("ids") Collection<Long> ids,
+                            @Param("now") LocalDateTime now,
+                            @Param("by") String by);
+
+    // Gives projects created before history was recorded a creation entry in their current state;
+    // afterId limits the anti-join to ids not yet checked
+    @Modifying
+    @Query("insert into ProjectStatusTransition (projectId, fromStatus, toStatus, fromAssigneeId, toAssigneeId, " +
+            "transitionedAt, transitionedBy) " +
+            "select p.id, null, p.status, null, a.id, p.createdAt, :by from Project p left join p.assignedTo a " +
+            "where p.id > :afterId " +
+            "and not exists (select 1 from ProjectStatusTransition t where t.projectId = p.id)")
+    int backfillUnrecordedProjects(@Param("by") String by, @Param("afterId") long afterId);
+
+    // Where the entries backfillUnrecordedProjects is about to write start
+    @Query("select min(p.createdAt) from Project p where p.id > :afterId " +
+            "and not exists (select 1 from ProjectStatusTransition t where t.projectId = p.id)")
+    LocalDateTime findFirstUnrecordedCreation(@Param("afterId") long afterId);
+
+    @Query("select coalesce(max(p.id), 0) from Project p")
+    long findMaxProjectId();
+
+    @Query("select min(t.transitionedAt) from ProjectStatusTransition t")
+    LocalDateTime findFirstTransitionTime();
+
+    @Query("select new com.example.projectmanagement.repository.TransitionCount(t.fromStatus, t.toStatus, " +
+            "t.fromAssigneeId, t.toAssigneeId, count(t)) from ProjectStatusTransition t " +
+            "where t.transitionedAt >= :start and t.transitionedAt < :end " +
+            "group by t.fromStatus, t.toStatus, t.fromAssigneeId, t.toAssigneeId")
+    List<TransitionCount> countBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    @Query("select t from ProjectStatusTransition t where t.toStatus = :completed and t.fromStatus <> :completed " +
+            "and t.transitionedAt >= :start and t.transitionedAt < :end")
+    List<ProjectStatusTransition> findCompletionsBetween(@Param("completed") ProjectStatus completed,
+                                                         @Param("start") LocalDateTime start,
+                                                         @Param("end") LocalDateTime end);
+
+    @Query("select new com.example.projectmanagement.repository.CycleStart(t.projectId, " +
+            "min(case when t.toStatus = :inProgress then t.transitionedAt end), min(t.transitionedAt)) " +
+            "from ProjectStatusTransition t where t.projectId in :projectIds group by t.projectId")
+    List<CycleStart> findCycleStarts(@Param("projectIds") Collection<Long> projectIds,
+                                     @Param("inProgress") ProjectStatus inProgress);
+}
@@ -0,0 +1,14 @@
+package com.example.projectmanagement.repository;
+
+import com.example.projectmanagement.model.enums.PriorityLevel;
+import com.example.projectmanagement.model.enums.ProjectStatus;
+
+import java.time.LocalDate;
+
+/**
+ * Columns a timeline needs, selected without loading Project entities.
+ */
+public record ProjectTimelineRow(Long id, String name, LocalDate startDate, LocalDate endDate,
+                                 ProjectStatus status, PriorityLevel priority, Long assignedToId,
+                                 String assignedToFirstName, String assignedToLastName) {
+}
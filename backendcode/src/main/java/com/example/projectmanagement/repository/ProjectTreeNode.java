@@ -0,0 +1,9 @@
+package com.example.projectmanagement.repository;
+
+import com.example.projectmanagement.model.entity.Project;
+import com.example.projectmanagement.model.entity.ProjectRollup;
+import com.example.projectmanagement.model.entity.User;
+
+// The assignee is selected so mapping the project does not load it again
+public record ProjectTreeNode(Project project, User assignee, Integer depth, ProjectRollup rollup) {
+}
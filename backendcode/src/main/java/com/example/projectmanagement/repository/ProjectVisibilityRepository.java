@@ -0,0 +1,51 @@
+package com.example.projectmanagement.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.util.List;
+
+/**
+ * Reads who can see which project, assignees and members alike, without loading entities.
+ * Backs the in-memory visibility index.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProjectVisibilityRepository {
+
+    private static final String ALL_SQL = """
+            select assigned_to_id, id from projects where assigned_to_id is not null
+            union all
+            select user_id, project_id from project_members
+            """;
+
+    private static final String PROJECT_SQL = """
+            select assigned_to_id from projects where id = ? and assigned_to_id is not null
+            union
+            select user_id from project_members where project_id = ?
+            """;
+
+    private static final int FETCH_SIZE = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public interface PairConsumer {
+        void accept(long userId, long projectId);
+    }
+
+    // Streams every (user, project) pair; a user may appear twice for one project
+    public void forEachPair(PairConsumer consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(ALL_SQL);
+            statement.setFetchSize(FETCH_SIZE);
+            return statement;
+        }, (RowCallbackHandler) resultSet -> consumer.accept(resultSet.getLong(1), resultSet.getLong(2)));
+    }
+
+    public List<Long> findUserIds(Long projectId) {
+        return jdbcTemplate.queryForList(PROJECT_SQL, Long.class, projectId, projectId);
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.projectmanagement.repository;
+
+import com.example.projectmanagement.model.entity.Sprint;
+import com.example.projectmanagement.model.enums.SprintStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface SprintRepository extends JpaRepository<Sprint, Long> {
+    List<Sprint> findByProjectIdOrderByStartDateAscIdAsc(Long projectId);
+
+    Optional<Sprint> findByIdAndProjectId(Long id, Long projectId);
+
+    boolean existsByProjectIdAndStatusAndIdNot(Long projectId, SprintStatus status, Long id);
+
+    boolean existsByProjectIdAndStatus(Long projectId, SprintStatus status);
+
+    @Modifying
+    @Query("delete from Sprint s where s.project.id = :projectId")
+    int deleteByProjectId(@Param("projectId") Long projectId);
+}
@@ -0,0 +1,25 @@
+package com.example.projectmanagement.repository;
+
+import com.example.projectmanagement.model.entity.StatusDailySnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface StatusDailySnapshotRepository extends JpaRepository<StatusDailySnapshot, Long> {
+    List<StatusDailySnapshot> findByDay(LocalDate day);
+
+    List<StatusDailySnapshot> findByDayBetweenOrderByDayAsc(LocalDate from, LocalDate to);
+
+    @Query("select max(s.day) from StatusDailySnapshot s")
+    LocalDate findLastDay();
+
+    @Modifying
+    @Query("delete from StatusDailySnapshot s where s.day = :day")
+    int deleteByDay(@Param("day") LocalDate day);
+}
@@ -0,0 +1,34 @@
+package com.example.projectmanagement.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Batched rank rewrites for rebalancing, which touches every task of a project at once.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskRankBatchRepository {
+
+    private static final String UPDATE_SQL = """
+            update tasks set board_rank = ?, version = version + 1, updated_at = ?, updated_by = ?
+            where id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void updateRanks(List<TaskRank> ranks, int batchSize, LocalDateTime updatedAt, String updatedBy) {
+        Timestamp timestamp = Timestamp.valueOf(updatedAt);
+        jdbcTemplate.batchUpdate(UPDATE_SQL, ranks, batchSize, (ps, rank) -> {
+            ps.setString(1, rank.rank());
+            ps.setTimestamp(2, timestamp);
+            ps.setString(3, updatedBy);
+            ps.setLong(4, rank.id());
+        });
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.projectmanagement.repository;
+
+import com.example.projectmanagement.model.entity.Task;
+import com.example.projectmanagement.model.enums.TaskStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TaskRepository extends JpaRepository<Task, Long> {
+
+    @EntityGraph(attributePaths = "assignee")
+    Optional<Task> findWithAssigneeByIdAndProjectId(Long id, Long projectId);
+
+    @EntityGraph(attributePaths = "assignee")
+    Page<Task> findByProjectId(Long projectId, Pageable pageable);
+
+    @EntityGraph(attributePaths = "assignee")
+    Page<Task> findByProjectIdAndStatus(Long projectId, TaskStatus status, Pageable pageable);
+
+    @EntityGraph(attributePaths = "assignee")
+    Page<Task> findByProjectIdAndSprintId(Long projectId, Long sprintId, Pageable pageable);
+
+    @EntityGraph(attributePaths = "assignee")
+    Page<Task> findByProjectIdAndSprintIdAndStatus(Long projectId, Long sprintId, TaskStatus status, Pageable pageable);
+
+    @EntityGraph(attributePaths = "assignee")
+    Page<Task> findByProjectIdAndSprintIsNull(Long projectId, Pageable pageable);
+
+    @EntityGraph(attributePaths = "assignee")
+    Page<Task> findByProjectIdAndSprintIsNullAndStatus(Long projectId, TaskStatus status, Pageable pageable);
+
+    // Neighbour lookups for placing a task; each is one probe of the (project_id, board_rank) key
+    @Query("select t.boardRank from Task t where t.id = :id and t.project.id = :projectId")
+    Optional<String> findRank(@Param("id") Long id, @Param("projectId") Long projectId);
+
+    @Query("select min(t.boardRank) from Task t where t.project.id = :projectId and t.boardRank > :rank")
+    String findNextRank(@Param("projectId") Long projectId, @Param("rank") String rank);
+
+    @Query("select max(t.boardRank) from Task t where t.project.id = :projectId and t.boardRank < :rank")
+    String findPreviousRank(@Param("projectId") Long projectId, @Param("rank") String rank);
+
+    @Query("select max(t.boardRank) from Task t where t.project.id = :projectId")
+    String findLastRank(@Param("projectId") Long projectId);
+
+    @Query("select new com.example.projectmanagement.repository.TaskRank(t.id, t.boardRank) from Task t " +
+            "where t.project.id = :projectId order by t.boardRank")
+    List<TaskRank> findRanksByProjectId(@Param("projectId") Long projectId);
+
+    @Query("select distinct t.project.id from Task t where length(t.boardRank) > :length")
+    List<Long> findProjectIdsWithRankLongerThan(@Param("length") int length);
+
+    @Modifying
+    @Query("update Task t set t.sprint = null, t.version = t.version + 1, t.updatedAt = :updatedAt, " +
+            "t.updatedBy = :updatedBy where t.sprint.id = :sprintId")
+    int moveToBacklog(@Param("sprintId") Long sprintId,
+                      @Param("updatedAt") LocalDateTime updatedAt,
+                      @Param("updatedBy") String updatedBy);
+
+    @Modifying
+    @Query("update Task t set t.sprint = null, t.version = t.version + 1, t.updatedAt = :updatedAt, " +
+            "t.updatedBy = :updatedBy where t.sprint.id = :sprintId and t.status <> :done")
+    int moveUnfinishedToBacklog(@Param("sprintId") Long sprintId,
+                                @Param("done") TaskStatus done,
+                                @Param("updatedAt") LocalDateTime updatedAt,
+                                @Param("updatedBy") String updatedBy);
+
+    @Modifying
+    @Query("update Task t set t.assignee = null, t.version = t.version + 1, t.updatedAt = :updatedAt, " +
+            "t.updatedBy = :updatedBy where t.assignee.id = :userId")
+    int unassignAll(@Param("userId") Long userId,
+                    @Param("updatedAt") LocalDateTime updatedAt,
+                    @Param("updatedBy") String updatedBy);
+
+    @Modifying
+    @Query("delete from Task t where t.project.id = :projectId")
+    int deleteByProjectId(@Param("projectId") Long projectId);
+}
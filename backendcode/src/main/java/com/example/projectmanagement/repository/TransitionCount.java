@@ -0,0 +1,7 @@
+package com.example.projectmanagement.repository;
+
+import com.example.projectmanagement.model.enums.ProjectStatus;
+
+public record TransitionCount(ProjectStatus fromStatus, ProjectStatus toStatus, Long fromAssigneeId,
+                              Long toAssigneeId, long count) {
+}
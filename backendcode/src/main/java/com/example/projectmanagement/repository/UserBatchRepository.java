@@ -0,0 +1,94 @@
+package com.example.projectmanagement.repository;
+
+import com.example.projectmanagement.model.entity.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Plain JDBC access for bulk user writes. IDENTITY ids keep Hibernate from batching
+ * inserts, so these go through JdbcTemplate batches instead.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserBatchRepository {
+
+    // Sets the modification columns too, as JPA auditing does when it creates a user
+    private static final String INSERT_SQL = """
+            insert into users (username, password, email, first_name, last_name, role, enabled,
+                               created_at, created_by, updated_at, updated_by, version)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * Usernames and emails among the given ones that are already taken, in one query.
+     */
+    public TakenIdentities findTakenIdentities(Collection<String> usernames, Collection<String> emails) {
+        TakenIdentities taken = new TakenIdentities(new HashSet<>(), new HashSet<>());
+        namedParameterJdbcTemplate.query(
+                "select username, email from users where username in (:usernames) or email in (:emails)",
+                new MapSqlParameterSource()
+                        .addValue("usernames", usernames)
+                        .addValue("emails", emails),
+                rs -> {
+                    taken.usernames().add(rs.getString("username"));
+                    taken.emails().add(rs.getString("email"));
+                });
+        return taken;
+    }
+
+    public void insertAll(List<User> users, LocalDateTime createdAt, String createdBy) {
+        Timestamp timestamp = Timestamp.valueOf(createdAt);
+        jdbcTemplate.batchUpdate(INSERT_SQL, users, users.size(), (ps, user) -> {
+            ps.setString(1, user.getUsername());
+            ps.setString(2, user.getPassword());
+            ps.setString(3, user.getEmail());
+            ps.setString(4, user.getFirstName());
+            ps.setString(5, user.getLastName());
+            ps.setString(6, user.getRole().name());
+            ps.setBoolean(7, user.isEnabled());
+            ps.setTimestamp(8, timestamp);
+            ps.setString(9, createdBy);
+            ps.setTimestamp(10, timestamp);
+            ps.setString(11, createdBy);
+        });
+    }
+
+    public Map<String, Long> findIdsByUsername(Collection<String> usernames) {
+        Map<String, Long> ids = new HashMap<>();
+        namedParameterJdbcTemplate.query("select id, username from users where username in (:usernames)",
+                new MapSqlParameterSource("usernames", usernames),
+                rs -> {
+                    ids.put(rs.getString("username"), rs.getLong("id"));
+                });
+        return ids;
+    }
+
+    public long countByUsernamePrefix(String prefix) {
+        Long count = jdbcTemplate.queryForObject("select count(*) from users where username like ?", Long.class,
+                prefix + "%");
+        return count != null ? count : 0;
+    }
+
+    public List<Long> findIdsByUsernamePrefix(String prefix) {
+        return jdbcTemplate.queryForList("select id from users where username like ? order by username", Long.class,
+                prefix + "%");
+    }
+
+    public record TakenIdentities(Set<String> usernames, Set<String> emails) {
+    }
+}
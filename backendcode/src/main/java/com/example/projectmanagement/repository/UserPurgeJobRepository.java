@@ -0,0 +1,45 @@
+package com.example.projectmanagement.repository;
+
+import com.example.projectmanagement.model.entity.UserPurgeJob;
+import com.example.projectmanagement.model.enums.PurgeJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface UserPurgeJobRepository extends JpaRepository<UserPurgeJob, Long> {
+    Optional<UserPurgeJob> findFirstByStatusOrderByIdAsc(PurgeJobStatus status);
+
+    // Compare-and-set on the status so only one runner claims a job
+    @Modifying
+    @Transactional
+    @Query("update UserPurgeJob j set j.status = :to, j.startedAt = :now " +
+            "where j.id = :id and j.status = :from")
+    int transition(@Param("id") Long id,
+                   @Param("from") PurgeJobStatus from,
+                   @Param("to") PurgeJobStatus to,
+                   @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("update UserPurgeJob j set j.status = :to where j.status = :from")
+    int transitionAll(@Param("from") PurgeJobStatus from, @Param("to") PurgeJobStatus to);
+
+    @Modifying
+    @Query("update UserPurgeJob j set j.processedProjects = j.processedProjects + :count where j.id = :id")
+    int addProgress(@Param("id") Long id, @Param("count") long count);
+
+    @Modifying
+    @Transactional
+    @Query("update UserPurgeJob j set j.status = :status, j.finishedAt = :now, j.error = :error where j.id = :id")
+    int finish(@Param("id") Long id,
+               @Param("status") PurgeJobStatus status,
+               @Param("now") LocalDateTime now,
+               @Param("error") String error);
+}
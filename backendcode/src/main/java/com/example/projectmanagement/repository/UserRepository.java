@@ -1,9 +1,17 @@
 package com.example.projectmanagement.repository;
 
 import com.example.projectmanagement.model.entity.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,4 +20,19 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
+
+    Optional<User> findByIdAndDeletedAtIsNull(Long id);
+    boolean existsByIdAndDeletedAtIsNull(Long id);
+    Page<User> findByDeletedAtIsNull(Pageable pageable);
+    List<User> findByIdInAndDeletedAtIsNull(Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update User u set u.deletedAt = :now, u.enabled = false, u.version = u.version + 1, " +
+            "u.updatedAt = :now, u.updatedBy = :updatedBy " +
+            "where u.id = :id and u.deletedAt is null")
+    int softDelete(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("updatedBy") String updatedBy);
+
+    @Modifying
+    @Query("delete from User u where u.id = :id and u.deletedAt is not null")
+    int purgeDeleted(@Param("id") Long id);
 } 
\ No newline at end of file
@@ -0,0 +1,49 @@
+package com.example.projectmanagement.security;
+
+import com.example.projectmanagement.observability.jfr.PasswordHashEvent;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Delegating encoder that reports every hash and check as a JFR event, since BCrypt
+ * work dominates login and user provisioning CPU time.
+ */
+public class InstrumentedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+
+    public InstrumentedPasswordEncoder(PasswordEncoder delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        PasswordHashEvent event = new PasswordHashEvent();
+        event.begin();
+        String encoded = delegate.encode(rawPassword);
+        event.end();
+        if (event.shouldCommit()) {
+            event.setOperation("encode");
+            event.commit();
+        }
+        return encoded;
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        PasswordHashEvent event = new PasswordHashEvent();
+        event.begin();
+        boolean matched = delegate.matches(rawPassword, encodedPassword);
+        event.end();
+        if (event.shouldCommit()) {
+            event.setOperation("matches");
+            event.setMatched(matched);
+            event.commit();
+        }
+        return matched;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
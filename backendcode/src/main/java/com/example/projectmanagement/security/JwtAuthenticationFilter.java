@@ -1,14 +1,16 @@
 package com.example.projectmanagement.security;
 
+import com.example.projectmanagement.observability.RequestTrace;
+import com.example.projectmanagement.observability.TracePhase;
+import com.example.projectmanagement.observability.TraceSpan;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -16,33 +18,29 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 
+/**
+ * Authenticates requests from the signed claims of the access token, without reading the
+ * user. A user deleted or given another role since the token was issued is revoked in
+ * {@link TokenDenylist}, which is checked here in memory.
+ */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
-    private final UserDetailsService userDetailsService;
+    private final TokenDenylist tokenDenylist;
 
-    public JwtAuthenticationFilter(JwtTokenProvider tokenProvider, UserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtTokenProvider tokenProvider, TokenDenylist tokenDenylist) {
         this.tokenProvider = tokenProvider;
-        this.userDetailsService = userDetailsService;
+        this.tokenDenylist = tokenDenylist;
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
-        try {
-            String jwt = getJwtFromRequest(request);
-
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                String username = tokenProvider.getUsernameFromToken(jwt);
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-                
-                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                        userDetails, null, userDetails.getAuthorities());
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-            }
+        try (TraceSpan ignored = RequestTrace.startSpan("JwtAuthenticationFilter", TracePhase.FILTER)) {
+            authenticate(request);
+        } catch (JwtException | IllegalArgumentException ex) {
+            logger.debug("Rejected invalid JWT: " + ex.getMessage());
         } catch (Exception ex) {
             logger.error("Could not set user authentication in security context", ex);
         }
@@ -50,11 +48,31 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
-    private String getJwtFromRequest(HttpServletRequest request) {
-        String bearerToken = request.getHeader("Authorization");
-        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
-            return bearerToken.substring(7);
+    private void authenticate(HttpServletRequest request) {
+        String jwt = tokenProvider.resolveToken(request);
+        if (!StringUtils.hasText(jwt)) {
+            return;
         }
-        return null;
+
+        Claims claims = tokenProvider.parseClaims(jwt);
+        if (tokenDenylist.isRevoked(claims.getId())) {
+            return;
+        }
+
+        UserPrincipal principal = tokenProvider.getPrincipal(claims);
+        if (principal == null) {
+            // Issued before tokens carried the id and role; the client refreshes
+            return;
+        }
+        if (tokenDenylist.isUserRevoked(principal.getId(),
+                claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null)) {
+            return;
+        }
+
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                principal, null, principal.getAuthorities());
+        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+
+        SecurityContextHolder.getContext().setAuthentication(authentication);
     }
-} 
\ No newline at end of file
+}
\ No newline at end of file
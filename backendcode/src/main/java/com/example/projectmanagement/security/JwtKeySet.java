@@ -0,0 +1,234 @@
+package com.example.projectmanagement.security;
+
+import com.example.projectmanagement.config.JwtConfig;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * RSA keys for signing and verifying JWTs, identified by kid. Keys are read from a local
+ * directory once and kept parsed in memory. Verifier nodes only need the public key files;
+ * rotating a key means dropping a new pair into the directory and pointing active-kid at it,
+ * while tokens signed by the previous key keep verifying until its public key is removed.
+ */
+@Component
+@Slf4j
+public class JwtKeySet {
+
+    private static final String PUBLIC_SUFFIX = ".pub.pem";
+    private static final String PRIVATE_SUFFIX = ".key.pem";
+    private static final long RELOAD_INTERVAL_MILLIS = 60_000;
+
+    private final JwtConfig jwtConfig;
+    private final Map<String, RSAPublicKey> publicKeys = new ConcurrentHashMap<>();
+
+    @Getter
+    private volatile String activeKid;
+    private volatile PrivateKey signingKey;
+    private volatile long lastReload;
+
+    public JwtKeySet(JwtConfig jwtConfig) {
+        this.jwtConfig = jwtConfig;
+    }
+
+    @PostConstruct
+    public void init() {
+        Path directory = directory();
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot create JWT key directory " + directory, ex);
+        }
+
+        reload();
+        if (signingKey == null && jwtConfig.getKeys().isGenerateIfMissing()) {
+            generateKeyPair(directory);
+            reload();
+        }
+
+        if (publicKeys.isEmpty()) {
+            throw new IllegalStateException("No JWT public keys found in " + directory.toAbsolutePath());
+        }
+        log.info("Loaded {} JWT verification keys, signing with {}", publicKeys.size(),
+                signingKey != null ? activeKid : "none (verify-only node)");
+    }
+
+    public PrivateKey getSigningKey() {
+        if (signingKey == null) {
+            throw new IllegalStateException("This node has no JWT signing key and can only verify tokens");
+        }
+        return signingKey;
+    }
+
+    public Optional<PublicKey> findPublicKey(String kid) {
+        if (kid == null) {
+            return Optional.empty();
+        }
+
+        RSAPublicKey key = publicKeys.get(kid);
+        if (key == null && System.currentTimeMillis() - lastReload > RELOAD_INTERVAL_MILLIS) {
+            // An unknown kid may belong to a key rotated in on another node
+            reload();
+            key = publicKeys.get(kid);
+        }
+        return Optional.ofNullable(key);
+    }
+
+    public Map<String, RSAPublicKey> getPublicKeys() {
+        return Collections.unmodifiableMap(publicKeys);
+    }
+
+    // Public keys in JWK Set form so other services can verify tokens without shared secrets
+    public Map<String, Object> toJwks() {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        List<Map<String, String>> keys = new ArrayList<>();
+        publicKeys.forEach((kid, key) -> {
+            Map<String, String> jwk = new LinkedHashMap<>();
+            jwk.put("kty", "RSA");
+            jwk.put("use", "sig");
+            jwk.put("alg", "RS256");
+            jwk.put("kid", kid);
+            jwk.put("n", encoder.encodeToString(unsigned(key.getModulus().toByteArray())));
+            jwk.put("e", encoder.encodeToString(unsigned(key.getPublicExponent().toByteArray())));
+            keys.add(jwk);
+        });
+        return Map.of("keys", keys);
+    }
+
+    private synchronized void reload() {
+        Path directory = directory();
+        Map<String, Path> privateKeyFiles = new HashMap<>();
+        Set<String> publicKids = new HashSet<>();
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*.pem")) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(PUBLIC_SUFFIX)) {
+                    String kid = name.substring(0, name.length() - PUBLIC_SUFFIX.length());
+                    publicKids.add(kid);
+                    publicKeys.computeIfAbsent(kid, ignored -> readPublicKey(file));
+                } else if (name.endsWith(PRIVATE_SUFFIX)) {
+                    privateKeyFiles.put(name.substring(0, name.length() - PRIVATE_SUFFIX.length()), file);
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot read JWT keys from " + directory, ex);
+        }
+        // Removing a public key file retires that key for verification
+        publicKeys.keySet().retainAll(publicKids);
+
+        String kid = jwtConfig.getKeys().getActiveKid();
+        if (!StringUtils.hasText(kid)) {
+            // Generated kids start with a timestamp, so the lexically greatest is the newest
+            kid = privateKeyFiles.keySet().stream()
+                    .filter(publicKeys::containsKey)
+                    .max(Comparator.naturalOrder())
+                    .orElse(null);
+        }
+
+        if (kid != null && privateKeyFiles.containsKey(kid) && !kid.equals(activeKid)) {
+            signingKey = readPrivateKey(privateKeyFiles.get(kid));
+            activeKid = kid;
+        }
+        lastReload = System.currentTimeMillis();
+    }
+
+    private void generateKeyPair(Path directory) {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            KeyPair pair = generator.generateKeyPair();
+            String kid = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
+
+            Files.writeString(directory.resolve(kid + PRIVATE_SUFFIX),
+                    toPem("PRIVATE KEY", pair.getPrivate().getEncoded()), StandardCharsets.US_ASCII);
+            Files.writeString(directory.resolve(kid + PUBLIC_SUFFIX),
+                    toPem("PUBLIC KEY", pair.getPublic().getEncoded()), StandardCharsets.US_ASCII);
+            log.info("Generated JWT signing key {} in {}", kid, directory.toAbsolutePath());
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("Cannot generate JWT key pair", ex);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot write JWT key pair to " + directory, ex);
+        }
+    }
+
+    private RSAPublicKey readPublicKey(Path file) {
+        try {
+            byte[] der = fromPem(Files.readString(file, StandardCharsets.US_ASCII));
+            return (RSAPublicKey) KeyFactory.getInstance("RSA").generatePublic(new X509EncodedKeySpec(der));
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot read JWT public key " + file, ex);
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("Invalid JWT public key " + file, ex);
+        }
+    }
+
+    private PrivateKey readPrivateKey(Path file) {
+        try {
+            byte[] der = fromPem(Files.readString(file, StandardCharsets.US_ASCII));
+            return KeyFactory.getInstance("RSA").generatePrivate(new PKCS8EncodedKeySpec(der));
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot read JWT private key " + file, ex);
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("Invalid JWT private key " + file, ex);
+        }
+    }
+
+    private Path directory() {
+        return Paths.get(jwtConfig.getKeys().getDirectory());
+    }
+
+    private static byte[] unsigned(byte[] bytes) {
+        if (bytes.length > 1 && bytes[0] == 0) {
+            return Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return bytes;
+    }
+
+    private static String toPem(String type, byte[] der) {
+        String body = Base64.getMimeEncoder(64, "\n".getBytes(StandardCharsets.US_ASCII)).encodeToString(der);
+        return "-----BEGIN " + type + "-----\n" + body + "\n-----END " + type + "-----\n";
+    }
+
+    private static byte[] fromPem(String pem) {
+        String body = pem.lines()
+                .filter(line -> !line.startsWith("-----"))
+                .collect(Collectors.joining());
+        return Base64.getDecoder().decode(body);
+    }
+}
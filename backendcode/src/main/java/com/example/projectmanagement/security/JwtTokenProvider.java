@@ -1,61 +1,123 @@
 package com.example.projectmanagement.security;
 
 import com.example.projectmanagement.config.JwtConfig;
+import com.example.projectmanagement.model.enums.RoleType;
+import com.example.projectmanagement.observability.jfr.JwtVerificationEvent;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
-import javax.crypto.SecretKey;
-import java.nio.charset.StandardCharsets;
+import java.security.Key;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
-@RequiredArgsConstructor
 public class JwtTokenProvider {
 
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String ROLE_CLAIM = "role";
+
     private final JwtConfig jwtConfig;
+    private final JwtKeySet keySet;
+
+    // Parsers are immutable and thread-safe, so one instance serves every request
+    private final JwtParser parser;
+
+    public JwtTokenProvider(JwtConfig jwtConfig, JwtKeySet keySet) {
+        this.jwtConfig = jwtConfig;
+        this.keySet = keySet;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return keySet.findPublicKey(header.getKeyId())
+                                .orElseThrow(() -> new JwtException("Unknown signing key: " + header.getKeyId()));
+                    }
+                })
+                .setAllowedClockSkewSeconds(jwtConfig.getAllowedClockSkewSeconds())
+                .build();
+    }
 
     public String generateToken(Authentication authentication) {
-        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
+        return generateToken((UserDetails) authentication.getPrincipal());
+    }
+
+    public String generateToken(UserDetails userDetails) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtConfig.getExpiration());
 
-        SecretKey key = Keys.hmacShaKeyFor(jwtConfig.getSecret().getBytes(StandardCharsets.UTF_8));
-
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder();
+        if (userDetails instanceof UserPrincipal principal) {
+            builder.claim(USER_ID_CLAIM, principal.getId()).claim(ROLE_CLAIM, principal.getRole().name());
+        }
+        return builder
+                .setHeaderParam(JwsHeader.KEY_ID, keySet.getActiveKid())
+                .setId(UUID.randomUUID().toString())
                 .setSubject(userDetails.getUsername())
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(key)
+                .signWith(keySet.getSigningKey(), SignatureAlgorithm.RS256)
                 .compact();
     }
 
-    public String getUsernameFromToken(String token) {
-        SecretKey key = Keys.hmacShaKeyFor(jwtConfig.getSecret().getBytes(StandardCharsets.UTF_8));
-        
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    /**
+     * The principal a verified token was issued to, built from its claims alone; null for a
+     * token without them. Deleted users and role changes are caught by the denylist.
+     */
+    public UserPrincipal getPrincipal(Claims claims) {
+        Number userId = claims.get(USER_ID_CLAIM, Number.class);
+        String role = claims.get(ROLE_CLAIM, String.class);
+        if (userId == null || role == null) {
+            return null;
+        }
+        return new UserPrincipal(userId.longValue(), claims.getSubject(), null, null, RoleType.valueOf(role), true);
+    }
 
-        return claims.getSubject();
+    public long getExpirationSeconds() {
+        return jwtConfig.getExpiration() / 1000;
+    }
+
+    public String getUsernameFromToken(String token) {
+        return parseClaims(token).getSubject();
     }
 
     public boolean validateToken(String token) {
         try {
-            SecretKey key = Keys.hmacShaKeyFor(jwtConfig.getSecret().getBytes(StandardCharsets.UTF_8));
-            
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
+            parseClaims(token);
             return true;
         } catch (JwtException | IllegalArgumentException e) {
             return false;
         }
     }
-} 
\ No newline at end of file
+
+    // Verifies the signature and expiry, throwing JwtException when either check fails
+    public Claims parseClaims(String token) {
+        JwtVerificationEvent event = new JwtVerificationEvent();
+        event.begin();
+        boolean valid = false;
+        Jws<Claims> jws = null;
+        try {
+            jws = parser.parseClaimsJws(token);
+            valid = true;
+            return jws.getBody();
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.setValid(valid);
+                event.setKeyId(jws != null ? jws.getHeader().getKeyId() : null);
+                event.commit();
+            }
+        }
+    }
+
+    public String resolveToken(HttpServletRequest request) {
+        String bearerToken = request.getHeader(jwtConfig.getHeader());
+        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(jwtConfig.getPrefix())) {
+            return bearerToken.substring(jwtConfig.getPrefix().length());
+        }
+        return null;
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.projectmanagement.security;
+
+import com.example.projectmanagement.exception.ResourceNotFoundException;
+import com.example.projectmanagement.exception.UnauthorizedAccessException;
+import com.example.projectmanagement.model.entity.Project;
+import com.example.projectmanagement.model.enums.ProjectMemberRole;
+import com.example.projectmanagement.repository.ProjectMemberRepository;
+import com.example.projectmanagement.repository.ProjectRepository;
+import com.example.projectmanagement.service.support.IdBitmap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Central place for project visibility rules. Managers see every project, employees the
+ * projects assigned to them or shared with them as members. Single lookups are queries
+ * scoped to the caller, so an employee request costs one indexed query and never loads the
+ * assignee separately. Listings take the page of ids from {@link ProjectVisibilityIndex}
+ * and load only those rows, still filtered by the same access predicate in SQL.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProjectAccessPolicy {
+
+    private static final Set<ProjectMemberRole> ANY_ROLE = EnumSet.allOf(ProjectMemberRole.class);
+    private static final Set<ProjectMemberRole> EDIT_ROLES = EnumSet.of(ProjectMemberRole.CONTRIBUTOR);
+
+    private final ProjectRepository projectRepository;
+    private final ProjectMemberRepository projectMemberRepository;
+    private final ProjectVisibilityIndex visibilityIndex;
+
+    public Project findVisibleProject(Long id, String deniedMessage) {
+        return findProject(id, ANY_ROLE, deniedMessage);
+    }
+
+    // For status changes and task moves, which viewers may not make
+    public Project findEditableProject(Long id, String deniedMessage) {
+        return findProject(id, EDIT_ROLES, deniedMessage);
+    }
+
+    private Project findProject(Long id, Set<ProjectMemberRole> roles, String deniedMessage) {
+        UserPrincipal principal = requirePrincipal();
+
+        Optional<Project> project = principal.isManager()
+                ? projectRepository.findWithAssigneeById(id)
+                : projectRepository.findWithAssigneeByIdForUser(id, principal.getId(), roles);
+
+        return project.orElseThrow(() -> {
+            // Only the failure path pays for a second lookup to tell 404 from 403
+            if (projectRepository.existsById(id)) {
+                return new UnauthorizedAccessException(deniedMessage);
+            }
+            return new ResourceNotFoundException("Project", "id", id);
+        });
+    }
+
+    public Page<Project> findVisibleProjects(Pageable pageable) {
+        UserPrincipal principal = requirePrincipal();
+        if (principal.isManager()) {
+            return projectRepository.findAll(pageable);
+        }
+        return findProjectsVisibleTo(principal.getId(), pageable);
+    }
+
+    /**
+     * Identifies the set of projects {@link #findVisibleProjects} returns for the caller;
+     * two callers with the same scope see the same rows.
+     */
+    public String visibilityScope() {
+        UserPrincipal principal = requirePrincipal();
+        return principal.isManager() ? "all" : "user:" + principal.getId();
+    }
+
+    /**
+     * The user whose assigned and shared projects the caller's view is restricted to, or
+     * null when the caller sees every project.
+     */
+    public Long visibleUserId() {
+        UserPrincipal principal = requirePrincipal();
+        return principal.isManager() ? null : principal.getId();
+    }
+
+    // Projects assigned to or shared with the caller, whatever their role
+    public Page<Project> findAssignedProjects(Pageable pageable) {
+        return findProjectsVisibleTo(requirePrincipal().getId(), pageable);
+    }
+
+    /**
+     * Ids of the given projects the caller may view, checked against the database with one
+     * membership query for the projects not assigned to the caller.
+     */
+    public Set<Long> findViewableIds(Collection<Project> projects) {
+        UserPrincipal principal = requirePrincipal();
+        Set<Long> viewable = new HashSet<>();
+        List<Long> others = new ArrayList<>();
+        for (Project project : projects) {
+            // Reading the id of a lazy proxy does not initialize it
+            if (principal.isManager() || (project.getAssignedTo() != null
+                    && principal.getId().equals(project.getAssignedTo().getId()))) {
+                viewable.add(project.getId());
+            } else {
+                others.add(project.getId());
+            }
+        }
+        if (!others.isEmpty()) {
+            viewable.addAll(projectMemberRepository.findProjectIdsByUserIdAndProjectIdIn(principal.getId(), others));
+        }
+        return viewable;
+    }
+
+    private Page<Project> findProjectsVisibleTo(Long userId, Pageable pageable) {
+        IdBitmap visible = visibilityIndex.visibleProjects(userId);
+        if (visible == null || pageable.isUnpaged() || !isIdOrder(pageable.getSort())) {
+            return projectRepository.findVisibleToUser(userId, pageable);
+        }
+
+        // The index only picks the candidates; the query re-checks access, since the index
+        // lags writes made on other nodes until its next rebuild
+        List<Long> ids = Arrays.stream(visible.slice(pageable.getOffset(), pageable.getPageSize()))
+                .mapToObj(Long::valueOf)
+                .toList();
+        if (ids.isEmpty()) {
+            return projectRepository.findVisibleToUser(userId, pageable);
+        }
+        Map<Long, Project> found = projectRepository.findAllWithAssigneeByIdInVisibleToUser(ids, userId).stream()
+                .collect(Collectors.toMap(Project::getId, Function.identity()));
+        if (found.size() < ids.size()) {
+            // Deleted or no longer visible: correct the index and let SQL build the page,
+            // so the content and total match what the caller can see
+            ids.stream().filter(id -> !found.containsKey(id)).forEach(visibilityIndex::refresh);
+            return projectRepository.findVisibleToUser(userId, pageable);
+        }
+        List<Project> projects = ids.stream().map(found::get).toList();
+        return new PageImpl<>(projects, pageable, visible.cardinality());
+    }
+
+    // The index hands out ids in ascending order, which also serves unsorted requests
+    private static boolean isIdOrder(Sort sort) {
+        if (sort.isUnsorted()) {
+            return true;
+        }
+        List<Sort.Order> orders = sort.toList();
+        return orders.size() == 1 && orders.get(0).getProperty().equals("id") && orders.get(0).isAscending();
+    }
+
+    private UserPrincipal requirePrincipal() {
+        UserPrincipal principal = SecurityUtils.getCurrentPrincipal();
+        if (principal == null) {
+            throw new UnauthorizedAccessException("Authentication is required");
+        }
+        return principal;
+    }
+}
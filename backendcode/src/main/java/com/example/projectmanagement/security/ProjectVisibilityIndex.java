@@ -0,0 +1,184 @@
+package com.example.projectmanagement.security;
+
+import com.example.projectmanagement.repository.ProjectVisibilityRepository;
+import com.example.projectmanagement.service.support.IdBitmap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory map from user to the ids of the projects they can see as assignee or member,
+ * each held as an {@link IdBitmap}. Listing an employee's projects reads a page of ids
+ * from the bitmap and loads just those rows, instead of joining memberships in SQL.
+ *
+ * <p>A write refreshes its project after commit by re-reading who can see it, under a
+ * per-project lock, so the last refresh always applies the latest committed state whatever
+ * order commits finish in. The whole index is rebuilt periodically to pick up writes from
+ * other nodes. Until the first build finishes, {@link #visibleProjects} returns null and
+ * callers fall back to the database. The same goes for a user who can see a project whose
+ * id does not fit in an int, which the bitmap cannot hold.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectVisibilityIndex {
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final ProjectVisibilityRepository visibilityRepository;
+
+    private final Object[] locks = createLocks();
+    private final Set<Long> touchedDuringBuild = ConcurrentHashMap.newKeySet();
+    private volatile Map<Long, IdBitmap> byUser;
+    private volatile Set<Long> beyondRange = ConcurrentHashMap.newKeySet();
+    private volatile boolean building;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${projects.visibility.rebuild-interval-ms:600000}",
+            initialDelayString = "${projects.visibility.rebuild-interval-ms:600000}")
+    public synchronized void rebuild() {
+        long startedAt = System.nanoTime();
+        Map<Long, IntBuffer> collected = new HashMap<>();
+        Set<Long> unindexable = ConcurrentHashMap.newKeySet();
+        building = true;
+        try {
+            visibilityRepository.forEachPair((userId, projectId) -> {
+                if (fitsInBitmap(projectId)) {
+                    collected.computeIfAbsent(userId, id -> new IntBuffer()).add((int) projectId);
+                } else {
+                    unindexable.add(userId);
+                }
+            });
+            Map<Long, IdBitmap> built = new ConcurrentHashMap<>(collected.size() * 2);
+            collected.forEach((userId, projectIds) -> built.put(userId, IdBitmap.of(projectIds.toArray())));
+            beyondRange = unindexable;
+            byUser = built;
+        } finally {
+            building = false;
+        }
+        // Refreshes that ran while the snapshot was read may have gone to the old map
+        for (Long projectId : List.copyOf(touchedDuringBuild)) {
+            touchedDuringBuild.remove(projectId);
+            refresh(projectId);
+        }
+        log.debug("Rebuilt project visibility index for {} users in {} ms", collected.size(),
+                (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    /**
+     * Ids of the projects the user can see, or null when the index cannot answer: before
+     * the first build, or for a user who can see a project id beyond the int range.
+     */
+    public IdBitmap visibleProjects(Long userId) {
+        Map<Long, IdBitmap> index = byUser;
+        if (index == null || beyondRange.contains(userId)) {
+            return null;
+        }
+        return index.getOrDefault(userId, IdBitmap.empty());
+    }
+
+    public void refreshAfterCommit(Long projectId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    refresh(projectId);
+                }
+            });
+        } else {
+            refresh(projectId);
+        }
+    }
+
+    public void removeUserAfterCommit(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    removeUser(userId);
+                }
+            });
+        } else {
+            removeUser(userId);
+        }
+    }
+
+    void refresh(Long projectId) {
+        if (building) {
+            touchedDuringBuild.add(projectId);
+        }
+        Map<Long, IdBitmap> index = byUser;
+        if (index == null) {
+            return;
+        }
+        synchronized (locks[Math.floorMod(projectId.hashCode(), LOCK_STRIPES)]) {
+            Set<Long> visibleTo = new HashSet<>(visibilityRepository.findUserIds(projectId));
+            if (!fitsInBitmap(projectId)) {
+                // Nothing to remove: no bitmap ever held this id
+                beyondRange.addAll(visibleTo);
+                return;
+            }
+            int id = projectId.intValue();
+            for (Long userId : visibleTo) {
+                index.compute(userId, (key, projects) -> (projects != null ? projects : IdBitmap.empty()).with(id));
+            }
+            // Without a reverse map, finding who lost access means checking each user's bitmap;
+            // a contains check is a few binary searches, so this stays well under a millisecond
+            // for thousands of users
+            for (Map.Entry<Long, IdBitmap> entry : index.entrySet()) {
+                if (!visibleTo.contains(entry.getKey()) && entry.getValue().contains(id)) {
+                    index.computeIfPresent(entry.getKey(), (key, projects) -> {
+                        IdBitmap remaining = projects.without(id);
+                        return remaining.isEmpty() ? null : remaining;
+                    });
+                }
+            }
+        }
+    }
+
+    private void removeUser(Long userId) {
+        Map<Long, IdBitmap> index = byUser;
+        if (index != null) {
+            index.remove(userId);
+        }
+    }
+
+    private static boolean fitsInBitmap(long projectId) {
+        return projectId >= 0 && projectId <= Integer.MAX_VALUE;
+    }
+
+    private static Object[] createLocks() {
+        Object[] locks = new Object[LOCK_STRIPES];
+        Arrays.setAll(locks, i -> new Object());
+        return locks;
+    }
+
+    private static final class IntBuffer {
+        private int[] values = new int[8];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
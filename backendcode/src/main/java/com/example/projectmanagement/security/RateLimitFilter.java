@@ -0,0 +1,106 @@
+package com.example.projectmanagement.security;
+
+import com.example.projectmanagement.config.RateLimitConfig;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-caller token buckets, applied after JWT authentication so authenticated calls are
+ * keyed by user id and everything else by client address. Rejected requests never reach
+ * the services, so a client stuck in a refetch loop only slows itself down.
+ */
+@Component
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String LOGIN_PATH = "/api/auth/login";
+
+    private final RateLimitConfig rateLimitConfig;
+    private final Map<String, TokenBucketRateLimiter> limiters = new HashMap<>();
+
+    public RateLimitFilter(RateLimitConfig rateLimitConfig) {
+        this.rateLimitConfig = rateLimitConfig;
+        rateLimitConfig.getGroups().forEach((group, limit) -> limiters.put(group, new TokenBucketRateLimiter(
+                limit.getBurst(), limit.getRefillPerSecond(),
+                rateLimitConfig.getMaxKeysPerGroup(), rateLimitConfig.getOverflowBuckets())));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !rateLimitConfig.isEnabled() || HttpMethod.OPTIONS.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String group = resolveGroup(request.getRequestURI());
+        TokenBucketRateLimiter limiter = group != null ? limiters.get(group) : null;
+        if (limiter == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long waitNanos = limiter.tryAcquire(resolveKey(group, request), System.nanoTime());
+        if (waitNanos == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long retryAfterSeconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        response.setStatus(429);
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType("application/json");
+        response.getWriter().write("{\"success\":false,\"message\":\"Too many requests\"}");
+    }
+
+    @Scheduled(fixedDelayString = "${rate-limit.sweep-interval-ms:30000}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        limiters.forEach((group, limiter) -> {
+            int evicted = limiter.evictIdle(now);
+            if (evicted > 0) {
+                log.debug("Evicted {} idle rate limit buckets from group {}, {} remain", evicted, group, limiter.size());
+            }
+        });
+    }
+
+    static String resolveGroup(String path) {
+        if (path.equals(LOGIN_PATH)) {
+            return "login";
+        }
+        if (path.startsWith("/api/auth/")) {
+            return "auth";
+        }
+        if (path.startsWith("/api/projects")) {
+            return "projects";
+        }
+        if (path.startsWith("/api/users")) {
+            return "users";
+        }
+        return null;
+    }
+
+    private static String resolveKey(String group, HttpServletRequest request) {
+        // Login is keyed by address even for an authenticated caller, so credential stuffing can't rotate identities
+        if (!"login".equals(group)) {
+            UserPrincipal principal = SecurityUtils.getCurrentPrincipal();
+            if (principal != null) {
+                return "user:" + principal.getId();
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
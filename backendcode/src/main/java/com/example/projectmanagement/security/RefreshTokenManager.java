@@ -0,0 +1,117 @@
+package com.example.projectmanagement.security;
+
+import com.example.projectmanagement.config.JwtConfig;
+import com.example.projectmanagement.exception.InvalidTokenException;
+import com.example.projectmanagement.model.entity.RefreshToken;
+import com.example.projectmanagement.model.entity.User;
+import com.example.projectmanagement.repository.RefreshTokenRepository;
+import com.example.projectmanagement.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Opaque, single-use refresh tokens. Each refresh revokes the presented token and issues
+ * its successor in the same family; presenting an already used token is treated as theft
+ * and revokes the whole family.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RefreshTokenManager {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final JwtConfig jwtConfig;
+
+    public record Rotation(User user, String token) {
+    }
+
+    @Transactional
+    public String issue(Long userId) {
+        return issue(userId, UUID.randomUUID().toString());
+    }
+
+    // Runs in its own transaction so a detected reuse stays revoked even though the caller fails
+    @Transactional(propagation = Propagation.REQUIRES_NEW, noRollbackFor = InvalidTokenException.class)
+    public Rotation rotate(String rawToken) {
+        Instant now = Instant.now();
+        RefreshToken current = refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .orElseThrow(() -> new InvalidTokenException("Invalid refresh token"));
+
+        if (!current.getExpiresAt().isAfter(now)) {
+            throw new InvalidTokenException("Refresh token has expired");
+        }
+        if (current.getRevokedAt() != null || refreshTokenRepository.revokeIfActive(current.getId(), now) == 0) {
+            refreshTokenRepository.revokeFamily(current.getFamilyId(), now);
+            log.warn("Refresh token reuse detected for user {}, revoked token family {}",
+                    current.getUser().getId(), current.getFamilyId());
+            throw new InvalidTokenException("Refresh token has already been used");
+        }
+
+        User user = current.getUser();
+        if (!user.isEnabled()) {
+            // Checked before the successor is committed, so a disabled user is left with no live token
+            refreshTokenRepository.revokeFamily(current.getFamilyId(), now);
+            throw new InvalidTokenException("User is no longer active");
+        }
+        return new Rotation(user, issue(user.getId(), current.getFamilyId()));
+    }
+
+    @Transactional
+    public void revokeFamily(String rawToken) {
+        if (!StringUtils.hasText(rawToken)) {
+            return;
+        }
+        refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .ifPresent(token -> refreshTokenRepository.revokeFamily(token.getFamilyId(), Instant.now()));
+    }
+
+    @Scheduled(cron = "${jwt.refresh-cleanup-cron:0 0 3 * * *}")
+    public void purgeExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(Instant.now());
+        if (deleted > 0) {
+            log.info("Purged {} expired refresh tokens", deleted);
+        }
+    }
+
+    private String issue(Long userId, String familyId) {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        Instant now = Instant.now();
+        RefreshToken token = new RefreshToken();
+        token.setTokenHash(hash(rawToken));
+        token.setUser(userRepository.getReferenceById(userId));
+        token.setFamilyId(familyId);
+        token.setCreatedAt(now);
+        token.setExpiresAt(now.plusMillis(jwtConfig.getRefreshExpiration()));
+        refreshTokenRepository.save(token);
+        return rawToken;
+    }
+
+    private static String hash(String rawToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(rawToken.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+}
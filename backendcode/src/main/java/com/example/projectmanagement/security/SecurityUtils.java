@@ -14,12 +14,21 @@ public class SecurityUtils {
         return null;
     }
 
-    public static boolean isManager() {
+    public static UserPrincipal getCurrentPrincipal() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.getPrincipal() instanceof UserDetails) {
-            return authentication.getAuthorities().stream()
-                    .anyMatch(authority -> authority.getAuthority().equals("ROLE_MANAGER"));
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal) {
+            return (UserPrincipal) authentication.getPrincipal();
         }
-        return false;
+        return null;
+    }
+
+    public static Long getCurrentUserId() {
+        UserPrincipal principal = getCurrentPrincipal();
+        return principal != null ? principal.getId() : null;
+    }
+
+    public static boolean isManager() {
+        UserPrincipal principal = getCurrentPrincipal();
+        return principal != null && principal.isManager();
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,91 @@
+package com.example.projectmanagement.security;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket expressed as the generic cell rate algorithm: each key holds a single
+ * "theoretical arrival time" that is advanced with a CAS, so acquiring never locks and
+ * an idle key can be dropped without losing anything.
+ *
+ * <p>The number of tracked keys is capped. When the cap is reached and sweeping idle
+ * keys does not make room, new keys share one of a fixed set of overflow buckets picked
+ * by hash. Those keys are limited more strictly, but memory stays bounded however many
+ * distinct callers show up.</p>
+ */
+public class TokenBucketRateLimiter {
+
+    private static final long INLINE_SWEEP_INTERVAL_NANOS = 1_000_000_000L;
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final int maxKeys;
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong[] overflow;
+    private final AtomicLong lastInlineSweepNanos = new AtomicLong(Long.MIN_VALUE / 2);
+
+    public TokenBucketRateLimiter(int burst, double refillPerSecond, int maxKeys, int overflowBuckets) {
+        if (burst < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("Burst must be at least 1 and refill rate positive");
+        }
+        this.emissionIntervalNanos = (long) (1_000_000_000L / refillPerSecond);
+        this.burstToleranceNanos = emissionIntervalNanos * burst;
+        this.maxKeys = maxKeys;
+        this.overflow = new AtomicLong[Math.max(1, overflowBuckets)];
+        for (int i = 0; i < overflow.length; i++) {
+            overflow[i] = new AtomicLong(Long.MIN_VALUE);
+        }
+    }
+
+    /**
+     * Takes one token for the key.
+     *
+     * @return 0 when the request may proceed, otherwise nanoseconds until a token frees up
+     */
+    public long tryAcquire(String key, long nowNanos) {
+        AtomicLong bucket = bucketFor(key, nowNanos);
+        while (true) {
+            long tat = bucket.get();
+            long newTat = Math.max(tat, nowNanos) + emissionIntervalNanos;
+            long excess = newTat - nowNanos - burstToleranceNanos;
+            if (excess > 0) {
+                return excess;
+            }
+            if (bucket.compareAndSet(tat, newTat)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Drops keys whose bucket has fully refilled; re-creating them later gives the same
+     * answer as keeping them.
+     */
+    public int evictIdle(long nowNanos) {
+        int before = buckets.size();
+        buckets.entrySet().removeIf(entry -> entry.getValue().get() <= nowNanos);
+        return before - buckets.size();
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    private AtomicLong bucketFor(String key, long nowNanos) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= maxKeys) {
+            // A full scan per new key would be quadratic under a flood, so only one caller sweeps per second
+            long lastSweep = lastInlineSweepNanos.get();
+            if (nowNanos - lastSweep >= INLINE_SWEEP_INTERVAL_NANOS && lastInlineSweepNanos.compareAndSet(lastSweep, nowNanos)) {
+                evictIdle(nowNanos);
+            }
+            if (buckets.size() >= maxKeys) {
+                return overflow[Math.floorMod(key.hashCode(), overflow.length)];
+            }
+        }
+        return buckets.computeIfAbsent(key, ignored -> new AtomicLong(nowNanos));
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.projectmanagement.security;
+
+import com.example.projectmanagement.config.JwtConfig;
+import com.example.projectmanagement.model.entity.RevokedToken;
+import com.example.projectmanagement.repository.RevokedTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Revoked token ids. The request path only touches memory: a Bloom filter answers the
+ * common "not revoked" case and the exact map confirms the rare positives. Revocations
+ * are persisted so they survive restarts and reach other nodes on the next sync, and
+ * entries are dropped once the token would have expired anyway.
+ *
+ * <p>A user can also be revoked as a whole, which rejects every access token issued to
+ * them up to that moment. Deleting a user or changing their role does this, since the
+ * request path trusts the id and role in the token instead of reading the user. These
+ * share the table with a {@code user:} prefix in place of a token id.</p>
+ */
+@Component
+@Slf4j
+public class TokenDenylist {
+
+    // Other nodes' revocations are picked up with this much overlap to tolerate clock skew
+    private static final Duration SYNC_OVERLAP = Duration.ofMinutes(1);
+    private static final String USER_PREFIX = "user:";
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final JwtConfig jwtConfig;
+    private final TransactionTemplate newTransaction;
+    private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+    // When each revoked user was revoked, until their last token from before then expires
+    private final Map<Long, RevokedToken> revokedUsers = new ConcurrentHashMap<>();
+    private final Object filterLock = new Object();
+
+    private volatile BloomFilter filter;
+    private volatile Instant lastSync = Instant.EPOCH;
+
+    public TokenDenylist(RevokedTokenRepository revokedTokenRepository, JwtConfig jwtConfig,
+                         PlatformTransactionManager transactionManager) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.jwtConfig = jwtConfig;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.filter = newFilter(0);
+    }
+
+    public boolean isRevoked(String jti) {
+        if (jti == null || !filter.mightContain(jti)) {
+            return false;
+        }
+        return revoked.containsKey(jti);
+    }
+
+    // iat has whole seconds, so tokens from the second of the revocation are rejected too
+    public boolean isUserRevoked(Long userId, Instant issuedAt) {
+        if (revokedUsers.isEmpty()) {
+            return false;
+        }
+        RevokedToken revocation = revokedUsers.get(userId);
+        return revocation != null && (issuedAt == null || !issuedAt.isAfter(revocation.getRevokedAt()));
+    }
+
+    public void revokeUser(Long userId) {
+        Instant now = Instant.now();
+        Instant expiresAt = now.plusMillis(jwtConfig.getExpiration()).plusSeconds(jwtConfig.getAllowedClockSkewSeconds());
+        RevokedToken revocation = revokedTokenRepository.save(new RevokedToken(USER_PREFIX + userId, expiresAt, now));
+        revokedUsers.put(userId, revocation);
+    }
+
+    /**
+     * Revokes the user once the current transaction has committed the change that calls
+     * for it, so a rolled-back role change or delete leaves their tokens working.
+     */
+    public void revokeUserAfterCommit(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    // The committed transaction is still bound here and would swallow the insert
+                    newTransaction.executeWithoutResult(status -> revokeUser(userId));
+                }
+            });
+        } else {
+            revokeUser(userId);
+        }
+    }
+
+    public void revoke(String jti, Instant expiresAt) {
+        if (jti == null || expiresAt == null || !expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+
+        revokedTokenRepository.save(new RevokedToken(jti, expiresAt, Instant.now()));
+        revoked.put(jti, expiresAt);
+        synchronized (filterLock) {
+            filter.put(jti);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        Instant now = Instant.now();
+        revokedTokenRepository.findByExpiresAtAfter(now).forEach(token -> {
+            if (!addUser(token)) {
+                revoked.put(token.getJti(), token.getExpiresAt());
+            }
+        });
+        lastSync = now;
+        rebuildFilter();
+        log.info("Loaded {} revoked tokens and {} revoked users into the denylist", revoked.size(), revokedUsers.size());
+    }
+
+    // Read from JwtConfig so the bound property and its default live in one place
+    @Scheduled(fixedDelayString = "#{@jwtConfig.denylist.refreshIntervalMs}",
+            initialDelayString = "#{@jwtConfig.denylist.refreshIntervalMs}")
+    public void refresh() {
+        Instant now = Instant.now();
+
+        revokedTokenRepository.findByRevokedAtAfterAndExpiresAtAfter(lastSync.minus(SYNC_OVERLAP), now)
+                .forEach(token -> {
+                    if (!addUser(token) && revoked.putIfAbsent(token.getJti(), token.getExpiresAt()) == null) {
+                        synchronized (filterLock) {
+                            filter.put(token.getJti());
+                        }
+                    }
+                });
+        lastSync = now;
+
+        boolean pruned = revoked.entrySet().removeIf(entry -> !entry.getValue().isAfter(now));
+        revokedUsers.values().removeIf(revocation -> !revocation.getExpiresAt().isAfter(now));
+        int deleted = revokedTokenRepository.deleteExpired(now);
+        if (pruned) {
+            // Bloom filters cannot forget, so start over from the surviving entries
+            rebuildFilter();
+        }
+        if (deleted > 0) {
+            log.debug("Pruned {} expired revoked tokens", deleted);
+        }
+    }
+
+    // Keeps the latest revocation per user; false when the row is an ordinary token id
+    private boolean addUser(RevokedToken token) {
+        if (!token.getJti().startsWith(USER_PREFIX)) {
+            return false;
+        }
+        Long userId = Long.valueOf(token.getJti().substring(USER_PREFIX.length()));
+        revokedUsers.merge(userId, token,
+                (current, candidate) -> candidate.getRevokedAt().isAfter(current.getRevokedAt()) ? candidate : current);
+        return true;
+    }
+
+    private void rebuildFilter() {
+        synchronized (filterLock) {
+            BloomFilter rebuilt = newFilter(revoked.size());
+            revoked.keySet().forEach(rebuilt::put);
+            filter = rebuilt;
+        }
+    }
+
+    private BloomFilter newFilter(int currentSize) {
+        JwtConfig.Denylist config = jwtConfig.getDenylist();
+        int capacity = Math.max(config.getExpectedInsertions(), currentSize * 2);
+        return new BloomFilter(capacity, config.getFalsePositiveRate());
+    }
+}
@@ -1,9 +1,11 @@
 package com.example.projectmanagement.service;
 
 import com.example.projectmanagement.model.dto.request.LoginRequest;
+import com.example.projectmanagement.model.dto.request.RefreshTokenRequest;
 import com.example.projectmanagement.model.dto.response.JwtResponse;
 
 public interface AuthService {
     JwtResponse login(LoginRequest request);
-    void logout();
+    JwtResponse refresh(RefreshTokenRequest request);
+    void logout(String token, String refreshToken);
 } 
\ No newline at end of file
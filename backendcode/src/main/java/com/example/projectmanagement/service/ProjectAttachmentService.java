@@ -0,0 +1,14 @@
+package com.example.projectmanagement.service;
+
+import com.example.projectmanagement.model.dto.ProjectAttachmentDto;
+import com.example.projectmanagement.service.support.AttachmentContent;
+
+import java.io.InputStream;
+import java.util.List;
+
+public interface ProjectAttachmentService {
+    List<ProjectAttachmentDto> getAttachments(Long projectId);
+    ProjectAttachmentDto upload(Long projectId, String fileName, String contentType, InputStream content);
+    AttachmentContent getContent(Long projectId, Long attachmentId);
+    void deleteAttachment(Long projectId, Long attachmentId);
+}
@@ -0,0 +1,11 @@
+package com.example.projectmanagement.service;
+
+import com.example.projectmanagement.model.dto.ProjectRollupDto;
+import com.example.projectmanagement.model.dto.ProjectTreeNodeDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface ProjectHierarchyService {
+    ProjectRollupDto getRollup(Long projectId);
+    Page<ProjectTreeNodeDto> getSubtree(Long projectId, int maxDepth, Pageable pageable);
+}
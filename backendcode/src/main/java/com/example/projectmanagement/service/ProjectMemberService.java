@@ -0,0 +1,12 @@
+package com.example.projectmanagement.service;
+
+import com.example.projectmanagement.model.dto.ProjectMemberDto;
+import com.example.projectmanagement.model.dto.request.ProjectMemberRequest;
+
+import java.util.List;
+
+public interface ProjectMemberService {
+    List<ProjectMemberDto> getMembers(Long projectId);
+    ProjectMemberDto setMember(Long projectId, Long userId, ProjectMemberRequest request);
+    void removeMember(Long projectId, Long userId);
+}
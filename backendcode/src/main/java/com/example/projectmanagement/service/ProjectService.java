@@ -1,17 +1,27 @@
 package com.example.projectmanagement.service;
 
 import com.example.projectmanagement.model.dto.ProjectDto;
+import com.example.projectmanagement.model.dto.request.ProjectMoveRequest;
 import com.example.projectmanagement.model.dto.request.ProjectRequest;
 import com.example.projectmanagement.model.dto.request.ProjectStatusRequest;
+import com.example.projectmanagement.model.dto.response.BatchResponse;
+import com.example.projectmanagement.model.dto.response.TimelineResponse;
+import com.example.projectmanagement.model.enums.TimelineGranularity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDate;
+import java.util.List;
+
 public interface ProjectService {
     ProjectDto createProject(ProjectRequest request);
-    ProjectDto updateProject(Long id, ProjectRequest request);
+    ProjectDto updateProject(Long id, ProjectRequest request, Long expectedVersion);
     void deleteProject(Long id);
     ProjectDto getProjectById(Long id);
     Page<ProjectDto> getAllProjects(Pageable pageable);
-    ProjectDto updateProjectStatus(Long id, ProjectStatusRequest request);
+    ProjectDto updateProjectStatus(Long id, ProjectStatusRequest request, Long expectedVersion);
+    ProjectDto moveProject(Long id, ProjectMoveRequest request, Long expectedVersion);
     Page<ProjectDto> getUserProjects(Pageable pageable);
+    BatchResponse<ProjectDto> getProjectsByIds(List<Long> ids);
+    TimelineResponse getTimeline(LocalDate from, LocalDate to, TimelineGranularity granularity, int limit);
 } 
\ No newline at end of file
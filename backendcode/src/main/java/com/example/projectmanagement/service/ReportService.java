@@ -0,0 +1,13 @@
+package com.example.projectmanagement.service;
+
+import com.example.projectmanagement.model.dto.response.CumulativeFlowResponse;
+import com.example.projectmanagement.model.dto.response.CycleTimeResponse;
+import com.example.projectmanagement.model.dto.response.OverdueResponse;
+
+import java.time.LocalDate;
+
+public interface ReportService {
+    CumulativeFlowResponse getCumulativeFlow(LocalDate from, LocalDate to, Long assigneeId);
+    CycleTimeResponse getCycleTime(LocalDate from, LocalDate to, Long assigneeId);
+    OverdueResponse getOverdue(LocalDate from, LocalDate to, Long assigneeId);
+}
@@ -0,0 +1,13 @@
+package com.example.projectmanagement.service;
+
+import com.example.projectmanagement.model.dto.SprintDto;
+import com.example.projectmanagement.model.dto.request.SprintRequest;
+
+import java.util.List;
+
+public interface SprintService {
+    SprintDto createSprint(Long projectId, SprintRequest request);
+    SprintDto updateSprint(Long projectId, Long sprintId, SprintRequest request, Long expectedVersion);
+    void deleteSprint(Long projectId, Long sprintId);
+    List<SprintDto> getSprints(Long projectId);
+}
@@ -0,0 +1,7 @@
+package com.example.projectmanagement.service;
+
+import com.example.projectmanagement.model.dto.response.ProjectSyncResponse;
+
+public interface SyncService {
+    ProjectSyncResponse syncProjects(String since, Integer limit);
+}
@@ -0,0 +1,17 @@
+package com.example.projectmanagement.service;
+
+import com.example.projectmanagement.model.dto.TaskDto;
+import com.example.projectmanagement.model.dto.request.TaskMoveRequest;
+import com.example.projectmanagement.model.dto.request.TaskRequest;
+import com.example.projectmanagement.model.enums.TaskStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface TaskService {
+    TaskDto createTask(Long projectId, TaskRequest request);
+    TaskDto updateTask(Long projectId, Long taskId, TaskRequest request, Long expectedVersion);
+    TaskDto moveTask(Long projectId, Long taskId, TaskMoveRequest request, Long expectedVersion);
+    void deleteTask(Long projectId, Long taskId);
+    TaskDto getTask(Long projectId, Long taskId);
+    Page<TaskDto> getTasks(Long projectId, Long sprintId, boolean backlog, TaskStatus status, Pageable pageable);
+}
@@ -1,15 +1,24 @@
 package com.example.projectmanagement.service;
 
 import com.example.projectmanagement.model.dto.UserDto;
+import com.example.projectmanagement.model.dto.UserPurgeJobDto;
+import com.example.projectmanagement.model.dto.request.BulkUserRequest;
 import com.example.projectmanagement.model.dto.request.UserRequest;
+import com.example.projectmanagement.model.dto.response.BatchResponse;
+import com.example.projectmanagement.model.dto.response.BulkImportResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 public interface UserService {
     UserDto createUser(UserRequest request);
     UserDto updateUser(Long id, UserRequest request);
-    void deleteUser(Long id);
+    UserPurgeJobDto deleteUser(Long id);
+    UserPurgeJobDto getPurgeJob(Long jobId);
     UserDto getUserById(Long id);
     Page<UserDto> getAllUsers(Pageable pageable);
     UserDto getCurrentUser();
+    BatchResponse<UserDto> getUsersByIds(List<Long> ids);
+    BulkImportResponse importUsers(BulkUserRequest request);
 } 
\ No newline at end of file
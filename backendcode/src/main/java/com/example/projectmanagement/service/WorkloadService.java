@@ -0,0 +1,12 @@
+package com.example.projectmanagement.service;
+
+import com.example.projectmanagement.model.dto.response.TeamWorkloadResponse;
+import com.example.projectmanagement.model.dto.response.UserWorkload;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+
+public interface WorkloadService {
+    UserWorkload getUserWorkload(Long userId, LocalDate from, LocalDate to);
+    TeamWorkloadResponse getTeamWorkload(LocalDate from, LocalDate to, Pageable pageable);
+}
@@ -0,0 +1,48 @@
+package com.example.projectmanagement.service.impl;
+
+import com.example.projectmanagement.config.AttachmentConfig;
+import com.example.projectmanagement.repository.ProjectAttachmentRepository;
+import com.example.projectmanagement.service.support.ContentStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Deletes stored files that no attachment references any more. Deletes leave files in
+ * place because other attachments may share them; this job removes them once idle.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class AttachmentSweeper {
+
+    private final ContentStore contentStore;
+    private final ProjectAttachmentRepository attachmentRepository;
+    private final AttachmentConfig attachmentConfig;
+
+    @Scheduled(cron = "${attachments.sweep-cron:0 30 4 * * *}")
+    public void sweep() {
+        Duration grace = Duration.ofMinutes(attachmentConfig.getOrphanGraceMinutes());
+        int deleted = 0;
+        try {
+            for (List<String> hashes : contentStore.listIdle(grace)) {
+                Set<String> referenced = attachmentRepository.findReferencedHashes(hashes);
+                for (String hash : hashes) {
+                    if (!referenced.contains(hash) && contentStore.deleteIfIdle(hash, grace)) {
+                        deleted++;
+                    }
+                }
+            }
+        } catch (IOException e) {
+            log.error("Attachment sweep stopped after deleting {} files", deleted, e);
+            return;
+        }
+        log.info("Attachment sweep deleted {} unreferenced files", deleted);
+    }
+}
@@ -1,17 +1,22 @@
 package com.example.projectmanagement.service.impl;
 
 import com.example.projectmanagement.model.dto.request.LoginRequest;
+import com.example.projectmanagement.model.dto.request.RefreshTokenRequest;
 import com.example.projectmanagement.model.dto.response.JwtResponse;
-import com.example.projectmanagement.model.entity.User;
-import com.example.projectmanagement.repository.UserRepository;
 import com.example.projectmanagement.security.JwtTokenProvider;
+import com.example.projectmanagement.security.RefreshTokenManager;
+import com.example.projectmanagement.security.TokenDenylist;
+import com.example.projectmanagement.security.UserPrincipal;
 import com.example.projectmanagement.service.AuthService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 
 @Service
 @RequiredArgsConstructor
@@ -19,7 +24,8 @@ public class AuthServiceImpl implements AuthService {
 
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider tokenProvider;
-    private final UserRepository userRepository;
+    private final TokenDenylist tokenDenylist;
+    private final RefreshTokenManager refreshTokenManager;
 
     @Override
     public JwtResponse login(LoginRequest request) {
@@ -28,22 +34,41 @@ public class AuthServiceImpl implements AuthService {
         );
 
         SecurityContextHolder.getContext().setAuthentication(authentication);
-        String jwt = tokenProvider.generateToken(authentication);
+        UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
 
-        User user = userRepository.findByUsername(request.getUsername())
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        return buildResponse(principal, refreshTokenManager.issue(principal.getId()));
+    }
 
-        return JwtResponse.builder()
-                .token(jwt)
-                .id(user.getId())
-                .username(user.getUsername())
-                .email(user.getEmail())
-                .role(user.getRole().name())
-                .build();
+    @Override
+    public JwtResponse refresh(RefreshTokenRequest request) {
+        RefreshTokenManager.Rotation rotation = refreshTokenManager.rotate(request.getRefreshToken());
+        return buildResponse(UserPrincipal.from(rotation.user()), rotation.token());
     }
 
     @Override
-    public void logout() {
+    public void logout(String token, String refreshToken) {
+        if (StringUtils.hasText(token)) {
+            try {
+                Claims claims = tokenProvider.parseClaims(token);
+                tokenDenylist.revoke(claims.getId(), claims.getExpiration().toInstant());
+            } catch (JwtException | IllegalArgumentException ex) {
+                // An invalid or expired token is already unusable, nothing to revoke
+            }
+        }
+        refreshTokenManager.revokeFamily(refreshToken);
         SecurityContextHolder.clearContext();
     }
-} 
\ No newline at end of file
+
+    private JwtResponse buildResponse(UserPrincipal principal, String refreshToken) {
+        return JwtResponse.builder()
+                .token(tokenProvider.generateToken(principal))
+                .type("Bearer")
+                .expiresIn(tokenProvider.getExpirationSeconds())
+                .refreshToken(refreshToken)
+                .id(principal.getId())
+                .username(principal.getUsername())
+                .email(principal.getEmail())
+                .role(principal.getRole().name())
+                .build();
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.projectmanagement.service.impl;
+
+import com.example.projectmanagement.exception.InvalidRequestException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+final class BatchIds {
+
+    static final int MAX_BATCH_SIZE = 100;
+
+    private BatchIds() {
+    }
+
+    // Removes nulls and duplicates while keeping the order the caller asked for
+    static List<Long> normalize(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new InvalidRequestException("At least one id is required");
+        }
+
+        Set<Long> unique = new LinkedHashSet<>();
+        ids.stream().filter(Objects::nonNull).forEach(unique::add);
+
+        if (unique.isEmpty()) {
+            throw new InvalidRequestException("At least one id is required");
+        }
+        if (unique.size() > MAX_BATCH_SIZE) {
+            throw new InvalidRequestException("A batch request can contain at most " + MAX_BATCH_SIZE + " ids");
+        }
+        return new ArrayList<>(unique);
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.projectmanagement.service.impl;
+
+import com.example.projectmanagement.config.AttachmentConfig;
+import com.example.projectmanagement.exception.InvalidRequestException;
+import com.example.projectmanagement.exception.ResourceNotFoundException;
+import com.example.projectmanagement.model.dto.ProjectAttachmentDto;
+import com.example.projectmanagement.model.entity.ProjectAttachment;
+import com.example.projectmanagement.repository.ProjectAttachmentRepository;
+import com.example.projectmanagement.repository.ProjectRepository;
+import com.example.projectmanagement.security.ProjectAccessPolicy;
+import com.example.projectmanagement.service.ProjectAttachmentService;
+import com.example.projectmanagement.service.mapper.ProjectAttachmentMapper;
+import com.example.projectmanagement.service.support.AttachmentContent;
+import com.example.projectmanagement.service.support.ContentStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProjectAttachmentServiceImpl implements ProjectAttachmentService {
+
+    private static final int MAX_FILE_NAME_LENGTH = 255;
+    private static final int MAX_CONTENT_TYPE_LENGTH = 100;
+
+    private final ProjectAttachmentRepository attachmentRepository;
+    private final ProjectRepository projectRepository;
+    private final ProjectAccessPolicy projectAccessPolicy;
+    private final ContentStore contentStore;
+    private final ProjectAttachmentMapper attachmentMapper;
+    private final AttachmentConfig attachmentConfig;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProjectAttachmentDto> getAttachments(Long projectId) {
+        projectAccessPolicy.findVisibleProject(projectId, "You can only view attachments of your projects");
+        return attachmentRepository.findByProjectId(projectId).stream()
+                .map(attachmentMapper::toDto)
+                .toList();
+    }
+
+    // Not transactional: the upload streams to disk first, and only the row insert needs a transaction
+    @Override
+    public ProjectAttachmentDto upload(Long projectId, String fileName, String contentType, InputStream content) {
+        String name = normalizeFileName(fileName);
+        String type = normalizeContentType(contentType);
+        projectAccessPolicy.findEditableProject(projectId,
+                "You can only attach files to projects you are assigned to or contribute to");
+
+        ContentStore.StoredContent stored;
+        try {
+            stored = contentStore.store(content, attachmentConfig.getMaxFileSizeBytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not store attachment for project " + projectId, e);
+        }
+
+        ProjectAttachment attachment = new ProjectAttachment();
+        attachment.setProject(projectRepository.getReferenceById(projectId));
+        attachment.setFileName(name);
+        attachment.setContentType(type);
+        attachment.setSize(stored.size());
+        attachment.setSha256(stored.sha256());
+        return attachmentMapper.toDto(attachmentRepository.save(attachment));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AttachmentContent getContent(Long projectId, Long attachmentId) {
+        projectAccessPolicy.findVisibleProject(projectId, "You can only download attachments of your projects");
+        ProjectAttachment attachment = findAttachment(projectId, attachmentId);
+        Path path = contentStore.resolve(attachment.getSha256());
+        if (!Files.isRegularFile(path)) {
+            log.error("Content {} of attachment {} is missing from the store", attachment.getSha256(), attachmentId);
+            throw new ResourceNotFoundException("Attachment content", "id", attachmentId);
+        }
+        return new AttachmentContent(attachment.getFileName(), attachment.getContentType(), attachment.getSize(),
+                attachment.getSha256(), path);
+    }
+
+    // The file stays until the orphan sweep, since other attachments may share it
+    @Override
+    @Transactional
+    public void deleteAttachment(Long projectId, Long attachmentId) {
+        projectAccessPolicy.findEditableProject(projectId,
+                "You can only remove attachments from projects you are assigned to or contribute to");
+        attachmentRepository.delete(findAttachment(projectId, attachmentId));
+    }
+
+    private ProjectAttachment findAttachment(Long projectId, Long attachmentId) {
+        return attachmentRepository.findByIdAndProjectId(attachmentId, projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Attachment", "id", attachmentId));
+    }
+
+    // Keeps only the last path segment, since some clients send the full local path
+    private static String normalizeFileName(String fileName) {
+        String name = fileName == null ? "" : fileName.substring(Math.max(fileName.lastIndexOf('/'), fileName.lastIndexOf('\\')) + 1).trim();
+        if (!StringUtils.hasText(name) || name.length() > MAX_FILE_NAME_LENGTH) {
+            throw new InvalidRequestException("fileName must be 1 to " + MAX_FILE_NAME_LENGTH + " characters");
+        }
+        return name;
+    }
+
+    private static String normalizeContentType(String contentType) {
+        if (!StringUtils.hasText(contentType)) {
+            return MediaType.APPLICATION_OCTET_STREAM_VALUE;
+        }
+        try {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            if (mediaType.isWildcardType() || mediaType.isWildcardSubtype()) {
+                return MediaType.APPLICATION_OCTET_STREAM_VALUE;
+            }
+            String type = mediaType.toString();
+            if (type.length() > MAX_CONTENT_TYPE_LENGTH) {
+                throw new InvalidRequestException("Content-Type must not exceed " + MAX_CONTENT_TYPE_LENGTH + " characters");
+            }
+            return type;
+        } catch (InvalidMediaTypeException e) {
+            throw new InvalidRequestException("Invalid Content-Type: " + contentType);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.projectmanagement.service.impl;
+
+import com.example.projectmanagement.config.SyncConfig;
+import com.example.projectmanagement.repository.ProjectChangeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+/**
+ * Seeds the project change log for projects that predate it, and compacts it so a sync
+ * from scratch reads about one entry per live project.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class ProjectChangeLogMaintenance {
+
+    private final ProjectChangeRepository changeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final SyncConfig syncConfig;
+
+    // Runs after the synthetic data generator, which bulk inserts projects without entries
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedUnrecordedProjects() {
+        Integer seeded = transactionTemplate.execute(status ->
+                changeRepository.backfillUnrecordedProjects(LocalDateTime.now()));
+        if (seeded != null && seeded > 0) {
+            log.info("Seeded the project change log with {} unrecorded projects", seeded);
+        }
+    }
+
+    @Scheduled(cron = "${sync.compaction-cron:0 45 3 * * *}")
+    public void compact() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(syncConfig.getRetentionDays());
+        Integer removed = transactionTemplate.execute(status -> changeRepository.compact(cutoff));
+        log.info("Compacted {} project change log entries older than {}", removed, cutoff);
+    }
+}
@@ -0,0 +1,203 @@
+package com.example.projectmanagement.service.impl;
+
+import com.example.projectmanagement.exception.ConflictException;
+import com.example.projectmanagement.exception.InvalidRequestException;
+import com.example.projectmanagement.model.entity.Project;
+import com.example.projectmanagement.model.entity.ProjectClosure;
+import com.example.projectmanagement.model.entity.ProjectRollup;
+import com.example.projectmanagement.model.enums.ProjectStatus;
+import com.example.projectmanagement.repository.ProjectClosureRepository;
+import com.example.projectmanagement.repository.ProjectRollupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the closure table and the rollups of every ancestor in step with project writes,
+ * in the writer's transaction. Counts are adjusted by delta; a date bound is only
+ * recomputed from the closure table when the change could have shrunk it.
+ *
+ * <p>Writers lock the rollup rows they touch, ancestors included. The ancestor list is
+ * read before the locks are taken, so it is read again afterwards and the locks retried
+ * if a concurrent move changed it in between. Callers must already hold the row lock of
+ * the project they write: updates and status changes get it from their versioned update,
+ * moves and deletes from {@code ProjectRepository.lockForHierarchyWrite}. Every writer
+ * holds one project row and then takes rollup rows in id order, so no two wait on each
+ * other in a cycle.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class ProjectHierarchy {
+
+    private static final int MAX_LOCK_ATTEMPTS = 3;
+
+    private final ProjectClosureRepository closureRepository;
+    private final ProjectRollupRepository rollupRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        Integer roots = transactionTemplate.execute(status -> {
+            int inserted = closureRepository.backfillRoots();
+            closureRepository.backfillRollups();
+            return inserted;
+        });
+        if (roots != null && roots > 0) {
+            log.info("Added {} projects to the hierarchy as roots", roots);
+        }
+    }
+
+    void onCreated(Project project, Long parentId) {
+        Long id = project.getId();
+        closureRepository.save(new ProjectClosure(id, id, 0));
+        rollupRepository.save(new ProjectRollup(id));
+        if (parentId == null) {
+            return;
+        }
+        Collection<ProjectRollup> ancestors = lockStable(() -> chain(parentId, true)).values();
+        closureRepository.linkToAncestors(id, parentId);
+        for (ProjectRollup rollup : ancestors) {
+            rollup.add(project.getStatus(), 1);
+            rollup.extend(project.getStartDate(), project.getEndDate());
+        }
+    }
+
+    void onStatusChanged(Long id, ProjectStatus from, ProjectStatus to) {
+        if (from == to) {
+            return;
+        }
+        for (ProjectRollup rollup : lockStable(() -> chain(id, false)).values()) {
+            rollup.add(from, -1);
+            rollup.add(to, 1);
+        }
+    }
+
+    // Expects the project row to hold the new dates already
+    void onDatesChanged(Long id, LocalDate oldStart, LocalDate oldEnd, LocalDate newStart, LocalDate newEnd) {
+        if (Objects.equals(oldStart, newStart) && Objects.equals(oldEnd, newEnd)) {
+            return;
+        }
+        boolean startMayShrink = oldStart != null && (newStart == null || newStart.isAfter(oldStart));
+        boolean endMayShrink = oldEnd != null && (newEnd == null || newEnd.isBefore(oldEnd));
+        for (ProjectRollup rollup : lockStable(() -> chain(id, false)).values()) {
+            rollup.extend(newStart, newEnd);
+            recomputeBounds(rollup, startMayShrink ? oldStart : null, endMayShrink ? oldEnd : null);
+        }
+    }
+
+    // Deleting a whole branch at once is not supported; children are moved or deleted first
+    void onDeleting(Project project) {
+        Long id = project.getId();
+        Map<Long, ProjectRollup> locked = lockStable(() -> chain(id, true));
+        if (closureRepository.existsByAncestorIdAndDepth(id, 1)) {
+            throw new ConflictException("Project has sub-projects; move or delete them first");
+        }
+        closureRepository.deleteByDescendantId(id);
+        rollupRepository.deleteByProjectId(id);
+        locked.remove(id);
+        for (ProjectRollup rollup : locked.values()) {
+            rollup.add(project.getStatus(), -1);
+            recomputeBounds(rollup, project.getStartDate(), project.getEndDate());
+        }
+    }
+
+    void move(Project project, Long newParentId) {
+        Long id = project.getId();
+        Map<Long, ProjectRollup> locked = lockStable(() -> {
+            Set<Long> ids = chain(id, true);
+            if (newParentId != null) {
+                ids.addAll(chain(newParentId, true));
+            }
+            return ids;
+        });
+        if (newParentId != null && closureRepository.existsByAncestorIdAndDescendantId(id, newParentId)) {
+            throw new InvalidRequestException("A project cannot be moved under itself or one of its sub-projects");
+        }
+
+        // The moved subtree is the project plus everything its rollup covers
+        ProjectRollup own = locked.get(id);
+        Map<ProjectStatus, Integer> counts = new EnumMap<>(ProjectStatus.class);
+        for (ProjectStatus status : ProjectStatus.values()) {
+            counts.put(status, (own != null ? own.getCount(status) : 0) + (project.getStatus() == status ? 1 : 0));
+        }
+        ProjectRollup subtree = new ProjectRollup(id);
+        subtree.extend(project.getStartDate(), project.getEndDate());
+        if (own != null) {
+            subtree.extend(own.getEarliestStart(), own.getLatestEnd());
+        }
+
+        List<Long> oldAncestors = closureRepository.findAncestorIds(id);
+        for (Long ancestorId : oldAncestors) {
+            ProjectRollup rollup = locked.get(ancestorId);
+            counts.forEach((status, count) -> rollup.add(status, -count));
+        }
+        closureRepository.detachSubtree(id);
+        if (newParentId != null) {
+            closureRepository.attachSubtree(id, newParentId);
+        }
+        for (Long ancestorId : oldAncestors) {
+            recomputeBounds(locked.get(ancestorId), subtree.getEarliestStart(), subtree.getLatestEnd());
+        }
+        if (newParentId != null) {
+            for (Long ancestorId : chain(newParentId, true)) {
+                ProjectRollup rollup = locked.get(ancestorId);
+                counts.forEach(rollup::add);
+                rollup.extend(subtree.getEarliestStart(), subtree.getLatestEnd());
+            }
+        }
+    }
+
+    // A bound that equals a removed or shrunk value may no longer be reached by anything below
+    private void recomputeBounds(ProjectRollup rollup, LocalDate removedStart, LocalDate removedEnd) {
+        if (removedStart != null && removedStart.equals(rollup.getEarliestStart())) {
+            rollup.setEarliestStart(closureRepository.findEarliestDescendantStart(rollup.getProjectId()));
+        }
+        if (removedEnd != null && removedEnd.equals(rollup.getLatestEnd())) {
+            rollup.setLatestEnd(closureRepository.findLatestDescendantEnd(rollup.getProjectId()));
+        }
+    }
+
+    private Set<Long> chain(Long id, boolean includeSelf) {
+        Set<Long> ids = new LinkedHashSet<>();
+        if (includeSelf) {
+            ids.add(id);
+        }
+        ids.addAll(closureRepository.findAncestorIds(id));
+        return ids;
+    }
+
+    // Rollup rows in id order, after the caller's project row; see the class comment
+    private Map<Long, ProjectRollup> lockStable(Supplier<Set<Long>> ids) {
+        for (int attempt = 1; ; attempt++) {
+            Set<Long> expected = ids.get();
+            List<ProjectRollup> rollups = expected.isEmpty() ? new ArrayList<>() : rollupRepository.lockAll(expected);
+            if (ids.get().equals(expected)) {
+                Map<Long, ProjectRollup> locked = new HashMap<>();
+                rollups.forEach(rollup -> locked.put(rollup.getProjectId(), rollup));
+                if (locked.size() != expected.size()) {
+                    throw new ConflictException("The project hierarchy is being changed, please retry");
+                }
+                return locked;
+            }
+            if (attempt == MAX_LOCK_ATTEMPTS) {
+                throw new ConflictException("The project hierarchy is being changed, please retry");
+            }
+        }
+    }
+}
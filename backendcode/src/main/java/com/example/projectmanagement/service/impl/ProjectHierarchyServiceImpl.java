@@ -0,0 +1,68 @@
+package com.example.projectmanagement.service.impl;
+
+import com.example.projectmanagement.exception.InvalidRequestException;
+import com.example.projectmanagement.exception.ResourceNotFoundException;
+import com.example.projectmanagement.exception.UnauthorizedAccessException;
+import com.example.projectmanagement.model.dto.ProjectRollupDto;
+import com.example.projectmanagement.model.dto.ProjectTreeNodeDto;
+import com.example.projectmanagement.repository.ProjectClosureRepository;
+import com.example.projectmanagement.repository.ProjectRepository;
+import com.example.projectmanagement.repository.ProjectRollupRepository;
+import com.example.projectmanagement.security.SecurityUtils;
+import com.example.projectmanagement.service.ProjectHierarchyService;
+import com.example.projectmanagement.service.mapper.ProjectMapper;
+import com.example.projectmanagement.service.mapper.ProjectRollupMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class ProjectHierarchyServiceImpl implements ProjectHierarchyService {
+
+    private static final int MAX_DEPTH = 50;
+
+    private final ProjectRepository projectRepository;
+    private final ProjectClosureRepository closureRepository;
+    private final ProjectRollupRepository rollupRepository;
+    private final ProjectMapper projectMapper;
+    private final ProjectRollupMapper rollupMapper;
+
+    @Override
+    @Transactional(readOnly = true)
+    public ProjectRollupDto getRollup(Long projectId) {
+        requireManager();
+        return rollupRepository.findById(projectId)
+                .map(rollupMapper::toDto)
+                .orElseThrow(() -> new ResourceNotFoundException("Project", "id", projectId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ProjectTreeNodeDto> getSubtree(Long projectId, int maxDepth, Pageable pageable) {
+        requireManager();
+        if (maxDepth < 1 || maxDepth > MAX_DEPTH) {
+            throw new InvalidRequestException("maxDepth must be between 1 and " + MAX_DEPTH);
+        }
+        if (!projectRepository.existsById(projectId)) {
+            throw new ResourceNotFoundException("Project", "id", projectId);
+        }
+        // The query orders by depth then id, so a client sort is not applied
+        Pageable unsorted = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        return closureRepository.findSubtree(projectId, maxDepth, unsorted)
+                .map(node -> ProjectTreeNodeDto.builder()
+                        .project(projectMapper.toDto(node.project()))
+                        .depth(node.depth())
+                        .rollup(rollupMapper.toDto(node.rollup()))
+                        .build());
+    }
+
+    private static void requireManager() {
+        if (!SecurityUtils.isManager()) {
+            throw new UnauthorizedAccessException("Only managers can view portfolio rollups");
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.projectmanagement.service.impl;
+
+import com.example.projectmanagement.config.CoalescingConfig;
+import com.example.projectmanagement.model.dto.ProjectDto;
+import com.example.projectmanagement.service.support.SingleFlight;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * Coalesces identical project page reads. The leader runs the query in its own read-only
+ * transaction, so followers wait without holding a connection.
+ */
+@Component
+class ProjectListCoalescer {
+
+    private final CoalescingConfig coalescingConfig;
+    private final TransactionTemplate readOnlyTransaction;
+    private final SingleFlight<PageKey, Page<ProjectDto>> pages;
+
+    ProjectListCoalescer(CoalescingConfig coalescingConfig, PlatformTransactionManager transactionManager) {
+        this.coalescingConfig = coalescingConfig;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.pages = new SingleFlight<>(coalescingConfig.getProjectListFreshnessMs());
+    }
+
+    Page<ProjectDto> load(String listing, String scope, Pageable pageable, Supplier<Page<ProjectDto>> loader) {
+        if (!coalescingConfig.isEnabled()) {
+            return readOnlyTransaction.execute(status -> loader.get());
+        }
+        PageKey key = new PageKey(listing, scope, pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort());
+        return pages.load(key, () -> readOnlyTransaction.execute(status -> loader.get()));
+    }
+
+    /**
+     * Drops shared pages once the current transaction commits, so no caller arriving
+     * after a write joins a read that started before it.
+     */
+    void invalidateAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    pages.invalidateAll();
+                }
+            });
+        } else {
+            pages.invalidateAll();
+        }
+    }
+
+    private record PageKey(String listing, String scope, int page, int size, Sort sort) {
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.projectmanagement.service.impl;
+
+import com.example.projectmanagement.exception.InvalidRequestException;
+import com.example.projectmanagement.exception.ResourceNotFoundException;
+import com.example.projectmanagement.exception.UnauthorizedAccessException;
+import com.example.projectmanagement.model.dto.ProjectMemberDto;
+import com.example.projectmanagement.model.dto.request.ProjectMemberRequest;
+import com.example.projectmanagement.model.entity.Project;
+import com.example.projectmanagement.model.entity.ProjectChange;
+import com.example.projectmanagement.model.entity.ProjectMember;
+import com.example.projectmanagement.model.entity.User;
+import com.example.projectmanagement.repository.ProjectChangeRepository;
+import com.example.projectmanagement.repository.ProjectMemberRepository;
+import com.example.projectmanagement.repository.ProjectRepository;
+import com.example.projectmanagement.repository.UserRepository;
+import com.example.projectmanagement.security.ProjectAccessPolicy;
+import com.example.projectmanagement.security.ProjectVisibilityIndex;
+import com.example.projectmanagement.security.SecurityUtils;
+import com.example.projectmanagement.service.ProjectMemberService;
+import com.example.projectmanagement.service.mapper.ProjectMemberMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class ProjectMemberServiceImpl implements ProjectMemberService {
+
+    private final ProjectMemberRepository projectMemberRepository;
+    private final ProjectRepository projectRepository;
+    private final ProjectChangeRepository changeRepository;
+    private final UserRepository userRepository;
+    private final ProjectAccessPolicy projectAccessPolicy;
+    private final ProjectVisibilityIndex visibilityIndex;
+    private final ProjectListCoalescer projectListCoalescer;
+    private final ProjectMemberMapper projectMemberMapper;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProjectMemberDto> getMembers(Long projectId) {
+        projectAccessPolicy.findVisibleProject(projectId, "You can only view members of your projects");
+        return projectMemberRepository.findWithUserByProjectId(projectId).stream()
+                .map(projectMemberMapper::toDto)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public ProjectMemberDto setMember(Long projectId, Long userId, ProjectMemberRequest request) {
+        if (!SecurityUtils.isManager()) {
+            throw new UnauthorizedAccessException("Only managers can change project members");
+        }
+        Project project = projectRepository.findWithAssigneeById(projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Project", "id", projectId));
+        User user = userRepository.findByIdAndDeletedAtIsNull(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
+        if (project.getAssignedTo() != null && userId.equals(project.getAssignedTo().getId())) {
+            throw new InvalidRequestException("The assignee already has full access to the project");
+        }
+
+        ProjectMember member = projectMemberRepository.findByProjectIdAndUserId(projectId, userId)
+                .orElseGet(() -> {
+                    ProjectMember created = new ProjectMember();
+                    created.setProject(project);
+                    created.setUser(user);
+                    return created;
+                });
+        member.setRole(request.getRole());
+        ProjectMember saved = projectMemberRepository.save(member);
+        recordChange(project, userId);
+        visibilityIndex.refreshAfterCommit(projectId);
+        projectListCoalescer.invalidateAfterCommit();
+        return projectMemberMapper.toDto(saved);
+    }
+
+    @Override
+    @Transactional
+    public void removeMember(Long projectId, Long userId) {
+        if (!SecurityUtils.isManager()) {
+            throw new UnauthorizedAccessException("Only managers can change project members");
+        }
+        ProjectMember member = projectMemberRepository.findByProjectIdAndUserId(projectId, userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Project member", "userId", userId));
+        projectMemberRepository.delete(member);
+        recordChange(member.getProject(), userId);
+        visibilityIndex.refreshAfterCommit(projectId);
+        projectListCoalescer.invalidateAfterCommit();
+    }
+
+    // Sync sends the project to the member and the assignee, or a tombstone once the member lost access
+    private void recordChange(Project project, Long memberId) {
+        ProjectChange change = new ProjectChange();
+        change.setProjectId(project.getId());
+        change.setAssigneeId(project.getAssignedTo() != null ? project.getAssignedTo().getId() : null);
+        change.setMemberId(memberId);
+        change.setChangedAt(LocalDateTime.now());
+        changeRepository.save(change);
+    }
+}
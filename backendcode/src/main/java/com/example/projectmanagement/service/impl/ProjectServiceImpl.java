@@ -1,25 +1,50 @@
 package com.example.projectmanagement.service.impl;
 
+import com.example.projectmanagement.analytics.ProjectAnalytics;
 import com.example.projectmanagement.exception.ResourceNotFoundException;
 import com.example.projectmanagement.exception.UnauthorizedAccessException;
+import com.example.projectmanagement.exception.VersionConflictException;
 import com.example.projectmanagement.model.dto.ProjectDto;
+import com.example.projectmanagement.model.dto.request.ProjectMoveRequest;
 import com.example.projectmanagement.model.dto.request.ProjectRequest;
 import com.example.projectmanagement.model.dto.request.ProjectStatusRequest;
+import com.example.projectmanagement.model.dto.response.BatchResponse;
+import com.example.projectmanagement.model.dto.response.TimelineResponse;
 import com.example.projectmanagement.model.entity.Project;
+import com.example.projectmanagement.model.entity.ProjectChange;
+import com.example.projectmanagement.model.entity.ProjectStatusTransition;
 import com.example.projectmanagement.model.entity.User;
+import com.example.projectmanagement.model.enums.NotificationType;
+import com.example.projectmanagement.model.enums.ProjectStatus;
+import com.example.projectmanagement.model.enums.TimelineGranularity;
+import com.example.projectmanagement.notification.Notification;
+import com.example.projectmanagement.notification.NotificationDispatcher;
+import com.example.projectmanagement.repository.ProjectAttachmentRepository;
+import com.example.projectmanagement.repository.ProjectChangeRepository;
+import com.example.projectmanagement.repository.ProjectMemberRepository;
 import com.example.projectmanagement.repository.ProjectRepository;
+import com.example.projectmanagement.repository.ProjectStatusTransitionRepository;
+import com.example.projectmanagement.repository.SprintRepository;
+import com.example.projectmanagement.repository.TaskRepository;
 import com.example.projectmanagement.repository.UserRepository;
+import com.example.projectmanagement.security.ProjectAccessPolicy;
+import com.example.projectmanagement.security.ProjectVisibilityIndex;
 import com.example.projectmanagement.security.SecurityUtils;
 import com.example.projectmanagement.service.ProjectService;
 import com.example.projectmanagement.service.mapper.ProjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -29,6 +54,20 @@ public class ProjectServiceImpl implements ProjectService {
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
     private final ProjectMapper projectMapper;
+    private final ProjectAccessPolicy projectAccessPolicy;
+    private final ProjectListCoalescer projectListCoalescer;
+    private final ProjectTimelineQuery projectTimelineQuery;
+    private final WorkloadCache workloadCache;
+    private final ProjectStatusTransitionRepository transitionRepository;
+    private final TaskRepository taskRepository;
+    private final SprintRepository sprintRepository;
+    private final ProjectChangeRepository changeRepository;
+    private final NotificationDispatcher notificationDispatcher;
+    private final ProjectMemberRepository projectMemberRepository;
+    private final ProjectVisibilityIndex visibilityIndex;
+    private final ProjectHierarchy projectHierarchy;
+    private final ProjectAnalytics projectAnalytics;
+    private final ProjectAttachmentRepository attachmentRepository;
 
     @Override
     @Transactional
@@ -40,33 +79,83 @@ public class ProjectServiceImpl implements ProjectService {
         Project project = projectMapper.toEntity(request);
         
         if (request.getAssignedToId() != null) {
-            User assignedUser = userRepository.findById(request.getAssignedToId())
+            User assignedUser = userRepository.findByIdAndDeletedAtIsNull(request.getAssignedToId())
                     .orElseThrow(() -> new ResourceNotFoundException("User", "id", request.getAssignedToId()));
             project.setAssignedTo(assignedUser);
         }
+        if (request.getParentId() != null) {
+            if (!projectRepository.existsById(request.getParentId())) {
+                throw new ResourceNotFoundException("Project", "id", request.getParentId());
+            }
+            project.setParent(projectRepository.getReferenceById(request.getParentId()));
+        }
 
-        return projectMapper.toDto(projectRepository.save(project));
+        Project saved = projectRepository.save(project);
+        projectHierarchy.onCreated(saved, request.getParentId());
+        recordTransition(saved.getId(), null, saved.getStatus(), null, request.getAssignedToId());
+        recordChange(saved.getId(), request.getAssignedToId(), null, false);
+        projectListCoalescer.invalidateAfterCommit();
+        projectTimelineQuery.observe(saved.getStartDate(), saved.getEndDate());
+        workloadCache.invalidateAfterCommit(request.getAssignedToId());
+        visibilityIndex.refreshAfterCommit(saved.getId());
+        projectAnalytics.refreshAfterCommit(saved.getId());
+        notifyUser(request.getAssignedToId(), NotificationType.ASSIGNED, saved.getId(), saved.getName(),
+                "Assigned to you");
+        return projectMapper.toDto(saved);
     }
 
     @Override
     @Transactional
-    public ProjectDto updateProject(Long id, ProjectRequest request) {
+    public ProjectDto updateProject(Long id, ProjectRequest request, Long expectedVersion) {
         if (!SecurityUtils.isManager()) {
             throw new UnauthorizedAccessException("Only managers can update projects");
         }
 
-        Project project = projectRepository.findById(id)
+        Project project = projectRepository.findWithAssigneeById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Project", "id", id));
+        Long version = checkExpectedVersion(project, expectedVersion);
 
-        projectMapper.updateEntity(project, request);
+        if (request.getAssignedToId() != null && !userRepository.existsByIdAndDeletedAtIsNull(request.getAssignedToId())) {
+            throw new ResourceNotFoundException("User", "id", request.getAssignedToId());
+        }
 
-        if (request.getAssignedToId() != null) {
-            User assignedUser = userRepository.findById(request.getAssignedToId())
-                    .orElseThrow(() -> new ResourceNotFoundException("User", "id", request.getAssignedToId()));
-            project.setAssignedTo(assignedUser);
+        int updated = projectRepository.updateIfVersion(
+                id,
+                version,
+                request.getName(),
+                request.getDescription(),
+                request.getStartDate(),
+                request.getEndDate(),
+                request.getPriority() != null ? request.getPriority().name() : null,
+                request.getAssignedToId(),
+                LocalDateTime.now(),
+                currentAuditor()
+        );
+        if (updated == 0) {
+            throw versionConflict(id, expectedVersion != null);
         }
+        LocalDate startDate = request.getStartDate() != null ? request.getStartDate() : project.getStartDate();
+        LocalDate endDate = request.getEndDate() != null ? request.getEndDate() : project.getEndDate();
+        projectHierarchy.onDatesChanged(id, project.getStartDate(), project.getEndDate(), startDate, endDate);
+        Long previousAssigneeId = assigneeId(project);
+        if (request.getAssignedToId() != null && !request.getAssignedToId().equals(previousAssigneeId)) {
+            recordTransition(id, project.getStatus(), project.getStatus(), previousAssigneeId, request.getAssignedToId());
+            recordChange(id, request.getAssignedToId(), previousAssigneeId, false);
+            visibilityIndex.refreshAfterCommit(id);
+            notifyUser(request.getAssignedToId(), NotificationType.ASSIGNED, id,
+                    request.getName() != null ? request.getName() : project.getName(), "Assigned to you");
+        } else {
+            recordChange(id, previousAssigneeId, null, false);
+        }
+        projectListCoalescer.invalidateAfterCommit();
+        // Moving only one end can lengthen the project too
+        projectTimelineQuery.observe(startDate, endDate);
+        workloadCache.invalidateAfterCommit(previousAssigneeId, request.getAssignedToId());
+        projectAnalytics.refreshAfterCommit(id);
 
-        return projectMapper.toDto(projectRepository.save(project));
+        return projectRepository.findWithAssigneeById(id)
+                .map(projectMapper::toDto)
+                .orElseThrow(() -> new ResourceNotFoundException("Project", "id", id));
     }
 
     @Override
@@ -76,73 +165,185 @@ public class ProjectServiceImpl implements ProjectService {
             throw new UnauthorizedAccessException("Only managers can delete projects");
         }
 
-        if (!projectRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Project", "id", id);
-        }
-        projectRepository.deleteById(id);
+        Project project = projectRepository.lockForHierarchyWrite(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Project", "id", id));
+        projectHierarchy.onDeleting(project);
+        taskRepository.deleteByProjectId(id);
+        sprintRepository.deleteByProjectId(id);
+        changeRepository.recordMemberRemovals(id, LocalDateTime.now());
+        projectMemberRepository.deleteByProjectId(id);
+        attachmentRepository.deleteByProjectId(id);
+        projectRepository.delete(project);
+        recordTransition(id, project.getStatus(), null, assigneeId(project), null);
+        recordChange(id, assigneeId(project), null, true);
+        visibilityIndex.refreshAfterCommit(id);
+        projectAnalytics.refreshAfterCommit(id);
+        projectListCoalescer.invalidateAfterCommit();
+        workloadCache.invalidateAfterCommit(assigneeId(project));
     }
 
     @Override
     @Transactional(readOnly = true)
     public ProjectDto getProjectById(Long id) {
-        Project project = projectRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Project", "id", id));
-
-        if (!SecurityUtils.isManager() && !isUserAssignedToProject(project)) {
-            throw new UnauthorizedAccessException("You can only view your assigned projects");
-        }
-
+        Project project = projectAccessPolicy.findVisibleProject(id, "You can only view your assigned projects");
         return projectMapper.toDto(project);
     }
 
     @Override
-    @Transactional(readOnly = true)
     public Page<ProjectDto> getAllProjects(Pageable pageable) {
-        if (SecurityUtils.isManager()) {
-            return projectRepository.findAll(pageable).map(projectMapper::toDto);
-        }
-        return getUserProjects(pageable);
+        return projectListCoalescer.load("visible", projectAccessPolicy.visibilityScope(), pageable,
+                () -> projectAccessPolicy.findVisibleProjects(pageable).map(projectMapper::toDto));
     }
 
     @Override
     @Transactional
-    public ProjectDto updateProjectStatus(Long id, ProjectStatusRequest request) {
-        Project project = projectRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Project", "id", id));
+    public ProjectDto updateProjectStatus(Long id, ProjectStatusRequest request, Long expectedVersion) {
+        Project project = projectAccessPolicy.findEditableProject(id,
+                "You can only update status of projects you are assigned to or contribute to");
+        Long version = checkExpectedVersion(project, expectedVersion);
 
-        if (!SecurityUtils.isManager() && !isUserAssignedToProject(project)) {
-            throw new UnauthorizedAccessException("You can only update status of your assigned projects");
+        int updated = projectRepository.updateStatusIfVersion(
+                id, version, request.getStatus(), LocalDateTime.now(), currentAuditor());
+        if (updated == 0) {
+            throw versionConflict(id, expectedVersion != null);
+        }
+        if (request.getStatus() != project.getStatus()) {
+            projectHierarchy.onStatusChanged(id, project.getStatus(), request.getStatus());
+            recordTransition(id, project.getStatus(), request.getStatus(), assigneeId(project), assigneeId(project));
+            notifyUser(assigneeId(project), NotificationType.STATUS_CHANGED, id, project.getName(),
+                    project.getStatus() + " -> " + request.getStatus());
+        }
+        recordChange(id, assigneeId(project), null, false);
+        projectListCoalescer.invalidateAfterCommit();
+        if (request.getStatus() == ProjectStatus.COMPLETED || project.getStatus() == ProjectStatus.COMPLETED) {
+            workloadCache.invalidateAfterCommit(assigneeId(project));
         }
+        projectAnalytics.refreshAfterCommit(id);
 
+        // The update cleared the persistence context, so the loaded project is detached
+        // and can describe the new state without another query
         project.setStatus(request.getStatus());
-        return projectMapper.toDto(projectRepository.save(project));
+        project.setVersion(version + 1);
+        return projectMapper.toDto(project);
+    }
+
+    @Override
+    @Transactional
+    public ProjectDto moveProject(Long id, ProjectMoveRequest request, Long expectedVersion) {
+        if (!SecurityUtils.isManager()) {
+            throw new UnauthorizedAccessException("Only managers can move projects");
+        }
+
+        Project project = projectRepository.lockForHierarchyWrite(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Project", "id", id));
+        checkExpectedVersion(project, expectedVersion);
+        Long parentId = request.getParentId();
+        if (Objects.equals(parentId, project.getParent() != null ? project.getParent().getId() : null)) {
+            return projectMapper.toDto(project);
+        }
+        if (parentId != null && !projectRepository.existsById(parentId)) {
+            throw new ResourceNotFoundException("Project", "id", parentId);
+        }
+
+        projectHierarchy.move(project, parentId);
+        project.setParent(parentId != null ? projectRepository.getReferenceById(parentId) : null);
+        // The row is locked, so an edit waits for the move, then fails its version check
+        Project saved = projectRepository.saveAndFlush(project);
+        recordChange(id, assigneeId(saved), null, false);
+        projectListCoalescer.invalidateAfterCommit();
+        return projectMapper.toDto(saved);
     }
 
     @Override
-    @Transactional(readOnly = true)
     public Page<ProjectDto> getUserProjects(Pageable pageable) {
-        String username = SecurityUtils.getCurrentUsername();
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        String scope = "user:" + SecurityUtils.getCurrentUserId();
+        return projectListCoalescer.load("assigned", scope, pageable,
+                () -> projectAccessPolicy.findAssignedProjects(pageable).map(projectMapper::toDto));
+    }
 
-        List<Project> projects = projectRepository.findByAssignedToId(user.getId());
-        List<ProjectDto> projectDtos = projects.stream()
-                .map(projectMapper::toDto)
-                .collect(Collectors.toList());
-        
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), projectDtos.size());
-        
-        return new PageImpl<>(
-                projectDtos.subList(start, end), 
-                pageable, 
-                projectDtos.size()
-        );
+    @Override
+    @Transactional(readOnly = true)
+    public TimelineResponse getTimeline(LocalDate from, LocalDate to, TimelineGranularity granularity, int limit) {
+        return projectTimelineQuery.query(projectAccessPolicy.visibleUserId(), from, to, granularity, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BatchResponse<ProjectDto> getProjectsByIds(List<Long> ids) {
+        List<Long> requestedIds = BatchIds.normalize(ids);
+        Map<Long, Project> found = projectRepository.findAllWithAssigneeByIdIn(requestedIds).stream()
+                .collect(Collectors.toMap(Project::getId, Function.identity()));
+        Set<Long> viewable = projectAccessPolicy.findViewableIds(found.values());
+
+        BatchResponse<ProjectDto> response = new BatchResponse<>();
+        for (Long id : requestedIds) {
+            Project project = found.get(id);
+            if (project == null) {
+                response.getMissingIds().add(id);
+            } else if (!viewable.contains(id)) {
+                response.getForbiddenIds().add(id);
+            } else {
+                response.getItems().add(projectMapper.toDto(project));
+            }
+        }
+        return response;
+    }
+
+    private Long checkExpectedVersion(Project project, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(project.getVersion())) {
+            throw new VersionConflictException("Project has been modified since version " + expectedVersion,
+                    project.getVersion(), true);
+        }
+        return project.getVersion();
+    }
+
+    private VersionConflictException versionConflict(Long id, boolean preconditionFailed) {
+        Long currentVersion = projectRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Project", "id", id));
+        return new VersionConflictException("Project was modified by another request", currentVersion,
+                preconditionFailed);
+    }
+
+    // Written in the same transaction as the change, so the rollups never miss or double count one
+    private void recordTransition(Long projectId, ProjectStatus fromStatus, ProjectStatus toStatus,
+                                  Long fromAssigneeId, Long toAssigneeId) {
+        ProjectStatusTransition transition = new ProjectStatusTransition();
+        transition.setProjectId(projectId);
+        transition.setFromStatus(fromStatus);
+        transition.setToStatus(toStatus);
+        transition.setFromAssigneeId(fromAssigneeId);
+        transition.setToAssigneeId(toAssigneeId);
+        transition.setTransitionedAt(LocalDateTime.now());
+        transition.setTransitionedBy(currentAuditor());
+        transitionRepository.save(transition);
+    }
+
+    // The change id is taken at insert but only visible at commit; sync holds back recent
+    // entries so a slower transaction with a lower id is not skipped
+    private void recordChange(Long projectId, Long assigneeId, Long previousAssigneeId, boolean deleted) {
+        ProjectChange change = new ProjectChange();
+        change.setProjectId(projectId);
+        change.setAssigneeId(assigneeId);
+        change.setPreviousAssigneeId(previousAssigneeId);
+        change.setDeleted(deleted);
+        change.setChangedAt(LocalDateTime.now());
+        changeRepository.save(change);
+    }
+
+    // Nobody is told about their own changes
+    private void notifyUser(Long recipientId, NotificationType type, Long projectId, String projectName, String detail) {
+        if (recipientId != null && !recipientId.equals(SecurityUtils.getCurrentUserId())) {
+            notificationDispatcher.enqueueAfterCommit(Notification.of(recipientId, type, projectId, projectName, detail));
+        }
+    }
+
+    private static Long assigneeId(Project project) {
+        // Reads the id from the lazy proxy without loading the user
+        return project.getAssignedTo() != null ? project.getAssignedTo().getId() : null;
     }
 
-    private boolean isUserAssignedToProject(Project project) {
+    private String currentAuditor() {
         String username = SecurityUtils.getCurrentUsername();
-        return project.getAssignedTo() != null && 
-               project.getAssignedTo().getUsername().equals(username);
+        return username != null ? username : "SYSTEM";
     }
-} 
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,214 @@
+package com.example.projectmanagement.service.impl;
+
+import com.example.projectmanagement.exception.InvalidRequestException;
+import com.example.projectmanagement.model.dto.TimelineProjectDto;
+import com.example.projectmanagement.model.dto.response.TimelineBucket;
+import com.example.projectmanagement.model.dto.response.TimelineResponse;
+import com.example.projectmanagement.model.enums.ProjectStatus;
+import com.example.projectmanagement.model.enums.TimelineGranularity;
+import com.example.projectmanagement.repository.DailyStatusCount;
+import com.example.projectmanagement.repository.ProjectRepository;
+import com.example.projectmanagement.repository.ProjectTimelineRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Answers "projects active between A and B" (startDate <= B and endDate >= A) and buckets
+ * them by week or month.
+ *
+ * <p>An overlap predicate alone only bounds start_date from above, so the index scan would
+ * start at the oldest project. Knowing the longest project duration D gives the lower
+ * bound too: an active project must start on or after A - D. D is tracked here, raised on
+ * every write and periodically from the database to pick up writes from other nodes. It
+ * only ever grows: a recomputed value may miss a write still in flight, and a bound that
+ * is too large only widens the scan.</p>
+ *
+ * <p>Bucket counts come from two grouped queries, project starts per day and project ends
+ * per day. For a bucket [s, e], the active count is starts on or before e minus ends
+ * before s, so the rows themselves are never loaded to count them.</p>
+ */
+@Component
+@RequiredArgsConstructor
+class ProjectTimelineQuery {
+
+    static final int MAX_BUCKETS = 600;
+    static final int MAX_PROJECTS = 2_000;
+
+    private final ProjectRepository projectRepository;
+    private final AtomicLong maxDurationDays = new AtomicLong(-1);
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${projects.timeline.duration-refresh-ms:300000}",
+            initialDelayString = "${projects.timeline.duration-refresh-ms:300000}")
+    public void refreshMaxDuration() {
+        Long days = projectRepository.findMaxDurationDays();
+        maxDurationDays.accumulateAndGet(days != null ? Math.max(days, 0) : 0, Math::max);
+    }
+
+    void observe(LocalDate startDate, LocalDate endDate) {
+        if (startDate != null && endDate != null) {
+            long days = ChronoUnit.DAYS.between(startDate, endDate);
+            maxDurationDays.accumulateAndGet(days, Math::max);
+        }
+    }
+
+    // userId restricts the timeline to projects assigned to or shared with that user
+    TimelineResponse query(Long userId, LocalDate from, LocalDate to, TimelineGranularity granularity, int limit) {
+        if (from == null || to == null || to.isBefore(from)) {
+            throw new InvalidRequestException("'to' must be on or after 'from'");
+        }
+        if (limit < 0 || limit > MAX_PROJECTS) {
+            throw new InvalidRequestException("limit must be between 0 and " + MAX_PROJECTS);
+        }
+        List<TimelineBucket> buckets = buckets(from, to, granularity);
+
+        if (maxDurationDays.get() < 0) {
+            refreshMaxDuration();
+        }
+        LocalDate earliestStart = from.minusDays(maxDurationDays.get());
+
+        List<DailyStatusCount> starts;
+        List<DailyStatusCount> ends;
+        List<ProjectTimelineRow> rows = List.of();
+        PageRequest page = PageRequest.of(0, limit + 1);
+        if (userId == null) {
+            starts = projectRepository.countTimelineStarts(from, to, earliestStart);
+            ends = projectRepository.countTimelineEnds(from, to, earliestStart);
+            if (limit > 0) {
+                rows = projectRepository.findTimeline(from, to, earliestStart, page);
+            }
+        } else {
+            starts = projectRepository.countTimelineStartsVisibleToUser(userId, from, to, earliestStart);
+            ends = projectRepository.countTimelineEndsVisibleToUser(userId, from, to, earliestStart);
+            if (limit > 0) {
+                rows = projectRepository.findTimelineVisibleToUser(userId, from, to, earliestStart, page);
+            }
+        }
+        fillCounts(buckets, starts, ends);
+
+        List<TimelineProjectDto> projects = new ArrayList<>(Math.min(rows.size(), limit));
+        for (int i = 0; i < rows.size() && i < limit; i++) {
+            projects.add(toDto(rows.get(i), buckets));
+        }
+
+        return TimelineResponse.builder()
+                .from(from)
+                .to(to)
+                .granularity(granularity)
+                .buckets(buckets)
+                .projects(projects)
+                .truncated(rows.size() > limit)
+                .build();
+    }
+
+    private static List<TimelineBucket> buckets(LocalDate from, LocalDate to, TimelineGranularity granularity) {
+        LocalDate alignedStart = granularity == TimelineGranularity.WEEK
+                ? from.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+                : from.withDayOfMonth(1);
+        ChronoUnit unit = granularity == TimelineGranularity.WEEK ? ChronoUnit.WEEKS : ChronoUnit.MONTHS;
+        if (unit.between(alignedStart, to) >= MAX_BUCKETS) {
+            throw new InvalidRequestException("Range spans more than " + MAX_BUCKETS + " "
+                    + granularity.name().toLowerCase() + "s, use a coarser granularity");
+        }
+
+        List<TimelineBucket> buckets = new ArrayList<>();
+        for (LocalDate start = alignedStart; !start.isAfter(to); start = start.plus(1, unit)) {
+            LocalDate end = start.plus(1, unit).minusDays(1);
+            // The first and last buckets are clipped to the requested range
+            buckets.add(TimelineBucket.builder()
+                    .start(start.isBefore(from) ? from : start)
+                    .end(end.isAfter(to) ? to : end)
+                    .build());
+        }
+        return buckets;
+    }
+
+    private static void fillCounts(List<TimelineBucket> buckets, List<DailyStatusCount> starts,
+                                   List<DailyStatusCount> ends) {
+        starts = new ArrayList<>(starts);
+        ends = new ArrayList<>(ends);
+        starts.sort(Comparator.comparing(DailyStatusCount::day));
+        ends.sort(Comparator.comparing(DailyStatusCount::day));
+
+        ProjectStatus[] statuses = ProjectStatus.values();
+        long[] startedUpToEnd = new long[statuses.length];
+        long[] endedBeforeStart = new long[statuses.length];
+        int startIndex = 0;
+        int endIndex = 0;
+
+        for (TimelineBucket bucket : buckets) {
+            // Everything below runs in one forward pass over both day lists
+            long started = 0;
+            while (startIndex < starts.size() && !starts.get(startIndex).day().isAfter(bucket.getEnd())) {
+                DailyStatusCount count = starts.get(startIndex++);
+                startedUpToEnd[count.status().ordinal()] += count.count();
+                if (!count.day().isBefore(bucket.getStart())) {
+                    started += count.count();
+                }
+            }
+            while (endIndex < ends.size() && ends.get(endIndex).day().isBefore(bucket.getStart())) {
+                DailyStatusCount count = ends.get(endIndex++);
+                endedBeforeStart[count.status().ordinal()] += count.count();
+            }
+            long ended = 0;
+            for (int i = endIndex; i < ends.size() && !ends.get(i).day().isAfter(bucket.getEnd()); i++) {
+                ended += ends.get(i).count();
+            }
+
+            long active = 0;
+            for (ProjectStatus status : statuses) {
+                long value = startedUpToEnd[status.ordinal()] - endedBeforeStart[status.ordinal()];
+                if (value > 0) {
+                    bucket.getActiveByStatus().put(status, value);
+                    active += value;
+                }
+            }
+            bucket.setActiveCount(active);
+            bucket.setStartedCount(started);
+            bucket.setEndedCount(ended);
+        }
+    }
+
+    private static TimelineProjectDto toDto(ProjectTimelineRow row, List<TimelineBucket> buckets) {
+        return TimelineProjectDto.builder()
+                .id(row.id())
+                .name(row.name())
+                .startDate(row.startDate())
+                .endDate(row.endDate())
+                .status(row.status())
+                .priority(row.priority())
+                .assignedToId(row.assignedToId())
+                .assignedToName(row.assignedToId() != null
+                        ? row.assignedToFirstName() + " " + row.assignedToLastName() : null)
+                .firstBucket(bucketIndex(buckets, row.startDate()))
+                .lastBucket(bucketIndex(buckets, row.endDate()))
+                .build();
+    }
+
+    private static int bucketIndex(List<TimelineBucket> buckets, LocalDate day) {
+        int low = 0;
+        int high = buckets.size() - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (buckets.get(mid).getStart().isAfter(day)) {
+                high = mid - 1;
+            } else {
+                low = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,206 @@
+package com.example.projectmanagement.service.impl;
+
+import com.example.projectmanagement.analytics.ProjectAnalytics;
+import com.example.projectmanagement.config.ReportingConfig;
+import com.example.projectmanagement.exception.InvalidRequestException;
+import com.example.projectmanagement.model.dto.response.CumulativeFlowDay;
+import com.example.projectmanagement.model.dto.response.CumulativeFlowResponse;
+import com.example.projectmanagement.model.dto.response.CycleTimeResponse;
+import com.example.projectmanagement.model.dto.response.OverdueBucket;
+import com.example.projectmanagement.model.dto.response.OverdueResponse;
+import com.example.projectmanagement.model.entity.AssigneeStatusDaily;
+import com.example.projectmanagement.model.entity.StatusDailySnapshot;
+import com.example.projectmanagement.model.enums.ProjectStatus;
+import com.example.projectmanagement.repository.AssigneeStatusDailyRepository;
+import com.example.projectmanagement.repository.CycleTimeCount;
+import com.example.projectmanagement.repository.CycleTimeDailyRepository;
+import com.example.projectmanagement.repository.OverdueCount;
+import com.example.projectmanagement.repository.ProjectRepository;
+import com.example.projectmanagement.repository.StatusDailySnapshotRepository;
+import com.example.projectmanagement.service.ReportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads only the daily rollups maintained by StatusRollupJob, never the transition log,
+ * and the in-memory project snapshot for questions about current project state.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReportServiceImpl implements ReportService {
+
+    private final StatusDailySnapshotRepository snapshotRepository;
+    private final AssigneeStatusDailyRepository assigneeDailyRepository;
+    private final CycleTimeDailyRepository cycleTimeRepository;
+    private final ProjectRepository projectRepository;
+    private final ProjectAnalytics projectAnalytics;
+    private final ReportingConfig reportingConfig;
+
+    @Override
+    @Transactional(readOnly = true)
+    public CumulativeFlowResponse getCumulativeFlow(LocalDate from, LocalDate to, Long assigneeId) {
+        validateRange(from, to);
+        LocalDate rolledUpThrough = snapshotRepository.findLastDay();
+
+        List<DailyCount> baseline;
+        List<DailyCount> rows;
+        if (assigneeId == null) {
+            baseline = snapshotRepository.findByDay(from.minusDays(1)).stream().map(DailyCount::of).toList();
+            rows = snapshotRepository.findByDayBetweenOrderByDayAsc(from, to).stream().map(DailyCount::of).toList();
+        } else {
+            baseline = assigneeDailyRepository.findLatestBefore(List.of(assigneeId), from).stream()
+                    .map(DailyCount::of)
+                    .toList();
+            rows = assigneeDailyRepository.findByAssigneeIdAndDayBetweenOrderByDayAsc(assigneeId, from, to).stream()
+                    .map(DailyCount::of)
+                    .toList();
+        }
+
+        Map<ProjectStatus, Long> counts = new EnumMap<>(ProjectStatus.class);
+        for (ProjectStatus status : ProjectStatus.values()) {
+            counts.put(status, 0L);
+        }
+        baseline.forEach(row -> counts.put(row.status(), row.count()));
+
+        long[] projectDays = new long[ProjectStatus.values().length];
+        long[] exited = new long[ProjectStatus.values().length];
+        long throughput = 0;
+        List<CumulativeFlowDay> days = new ArrayList<>();
+        LocalDate last = rolledUpThrough == null || rolledUpThrough.isAfter(to) ? to : rolledUpThrough;
+        int next = 0;
+        for (LocalDate day = from; rolledUpThrough != null && !day.isAfter(last); day = day.plusDays(1)) {
+            long completed = 0;
+            // Rows are sparse for a single assignee: days without one keep the previous counts
+            while (next < rows.size() && rows.get(next).day().equals(day)) {
+                DailyCount row = rows.get(next++);
+                counts.put(row.status(), row.count());
+                exited[row.status().ordinal()] += row.exited();
+                if (row.status() == ProjectStatus.COMPLETED) {
+                    completed += row.entered();
+                }
+            }
+            counts.forEach((status, count) -> projectDays[status.ordinal()] += count);
+            throughput += completed;
+            days.add(CumulativeFlowDay.builder()
+                    .day(day)
+                    .counts(new EnumMap<>(counts))
+                    .completed(completed)
+                    .build());
+        }
+
+        Map<ProjectStatus, Double> averageDaysInStatus = new EnumMap<>(ProjectStatus.class);
+        for (ProjectStatus status : ProjectStatus.values()) {
+            if (exited[status.ordinal()] > 0) {
+                averageDaysInStatus.put(status, (double) projectDays[status.ordinal()] / exited[status.ordinal()]);
+            }
+        }
+
+        return CumulativeFlowResponse.builder()
+                .from(from)
+                .to(to)
+                .assigneeId(assigneeId)
+                .rolledUpThrough(rolledUpThrough)
+                .throughput(throughput)
+                .averageDaysInStatus(averageDaysInStatus)
+                .days(days)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CycleTimeResponse getCycleTime(LocalDate from, LocalDate to, Long assigneeId) {
+        validateRange(from, to);
+        List<CycleTimeCount> histogram = assigneeId == null
+                ? cycleTimeRepository.sumBetween(from, to)
+                : cycleTimeRepository.sumBetweenForAssignee(assigneeId, from, to);
+
+        long total = 0;
+        long totalDays = 0;
+        for (CycleTimeCount bucket : histogram) {
+            total += bucket.count();
+            totalDays += bucket.count() * bucket.cycleDays();
+        }
+
+        CycleTimeResponse response = CycleTimeResponse.builder()
+                .from(from)
+                .to(to)
+                .assigneeId(assigneeId)
+                .completedCount(total)
+                .meanDays(total > 0 ? (double) totalDays / total : 0)
+                .build();
+        if (total == 0) {
+            return response;
+        }
+        // Nearest-rank percentiles over the histogram, which is ordered by cycle time
+        for (Integer percentile : reportingConfig.getCycleTimePercentiles()) {
+            long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * total));
+            long seen = 0;
+            for (CycleTimeCount bucket : histogram) {
+                seen += bucket.count();
+                if (seen >= rank) {
+                    response.getPercentiles().put(percentile, bucket.cycleDays());
+                    break;
+                }
+            }
+        }
+        return response;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public OverdueResponse getOverdue(LocalDate from, LocalDate to, Long assigneeId) {
+        validateRange(from, to);
+        LocalDate asOf = LocalDate.now();
+        List<OverdueCount> counts = projectAnalytics.countOverdue(asOf, from, to, assigneeId);
+        if (counts == null) {
+            LocalDate lastDay = to.isBefore(asOf) ? to : asOf.minusDays(1);
+            counts = new ArrayList<>(projectRepository.countOverdue(from, lastDay, ProjectStatus.COMPLETED, assigneeId));
+            counts.sort(OverdueCount.ORDER);
+        }
+
+        OverdueResponse response = OverdueResponse.builder()
+                .asOf(asOf)
+                .from(from)
+                .to(to)
+                .assigneeId(assigneeId)
+                .build();
+        for (OverdueCount count : counts) {
+            response.setOverdueCount(response.getOverdueCount() + count.count());
+            response.getBuckets().add(OverdueBucket.builder()
+                    .assigneeId(count.assigneeId())
+                    .month(YearMonth.of(count.year(), count.month()))
+                    .priority(count.priority())
+                    .count(count.count())
+                    .build());
+        }
+        return response;
+    }
+
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null || to.isBefore(from)) {
+            throw new InvalidRequestException("'to' must be on or after 'from'");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= reportingConfig.getMaxRangeDays()) {
+            throw new InvalidRequestException("Range must not exceed " + reportingConfig.getMaxRangeDays() + " days");
+        }
+    }
+
+    private record DailyCount(LocalDate day, ProjectStatus status, long count, long entered, long exited) {
+        static DailyCount of(StatusDailySnapshot row) {
+            return new DailyCount(row.getDay(), row.getStatus(), row.getProjectCount(), row.getEntered(), row.getExited());
+        }
+
+        static DailyCount of(AssigneeStatusDaily row) {
+            return new DailyCount(row.getDay(), row.getStatus(), row.getProjectCount(), row.getEntered(), row.getExited());
+        }
+    }
+}
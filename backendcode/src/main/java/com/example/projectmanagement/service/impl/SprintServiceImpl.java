@@ -0,0 +1,125 @@
+package com.example.projectmanagement.service.impl;
+
+import com.example.projectmanagement.exception.ConflictException;
+import com.example.projectmanagement.exception.InvalidRequestException;
+import com.example.projectmanagement.exception.ResourceNotFoundException;
+import com.example.projectmanagement.exception.UnauthorizedAccessException;
+import com.example.projectmanagement.exception.VersionConflictException;
+import com.example.projectmanagement.model.dto.SprintDto;
+import com.example.projectmanagement.model.dto.request.SprintRequest;
+import com.example.projectmanagement.model.entity.Project;
+import com.example.projectmanagement.model.entity.Sprint;
+import com.example.projectmanagement.model.enums.SprintStatus;
+import com.example.projectmanagement.model.enums.TaskStatus;
+import com.example.projectmanagement.repository.ProjectRepository;
+import com.example.projectmanagement.repository.SprintRepository;
+import com.example.projectmanagement.repository.TaskRepository;
+import com.example.projectmanagement.security.ProjectAccessPolicy;
+import com.example.projectmanagement.security.SecurityUtils;
+import com.example.projectmanagement.service.SprintService;
+import com.example.projectmanagement.service.mapper.SprintMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class SprintServiceImpl implements SprintService {
+
+    private final SprintRepository sprintRepository;
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final ProjectAccessPolicy projectAccessPolicy;
+    private final SprintMapper sprintMapper;
+
+    @Override
+    @Transactional
+    public SprintDto createSprint(Long projectId, SprintRequest request) {
+        if (!SecurityUtils.isManager()) {
+            throw new UnauthorizedAccessException("Only managers can create sprints");
+        }
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Project", "id", projectId));
+        validateDates(request);
+
+        Sprint sprint = new Sprint();
+        sprint.setProject(project);
+        sprintMapper.updateEntity(sprint, request);
+        if (request.getStatus() == SprintStatus.ACTIVE
+                && sprintRepository.existsByProjectIdAndStatus(projectId, SprintStatus.ACTIVE)) {
+            throw new ConflictException("The project already has an active sprint");
+        }
+        if (request.getStatus() != null) {
+            sprint.setStatus(request.getStatus());
+        }
+        return sprintMapper.toDto(sprintRepository.saveAndFlush(sprint));
+    }
+
+    @Override
+    @Transactional
+    public SprintDto updateSprint(Long projectId, Long sprintId, SprintRequest request, Long expectedVersion) {
+        if (!SecurityUtils.isManager()) {
+            throw new UnauthorizedAccessException("Only managers can update sprints");
+        }
+        Sprint sprint = findSprint(projectId, sprintId);
+        if (expectedVersion != null && !expectedVersion.equals(sprint.getVersion())) {
+            throw new VersionConflictException("Sprint has been modified since version " + expectedVersion,
+                    sprint.getVersion(), true);
+        }
+        validateDates(request);
+        sprintMapper.updateEntity(sprint, request);
+
+        SprintStatus status = request.getStatus();
+        if (status != null && status != sprint.getStatus()) {
+            if (status == SprintStatus.ACTIVE
+                    && sprintRepository.existsByProjectIdAndStatusAndIdNot(projectId, SprintStatus.ACTIVE, sprintId)) {
+                throw new ConflictException("The project already has an active sprint");
+            }
+            if (status == SprintStatus.CLOSED) {
+                taskRepository.moveUnfinishedToBacklog(sprintId, TaskStatus.DONE, LocalDateTime.now(), currentAuditor());
+            }
+            sprint.setStatus(status);
+        }
+        return sprintMapper.toDto(sprintRepository.saveAndFlush(sprint));
+    }
+
+    @Override
+    @Transactional
+    public void deleteSprint(Long projectId, Long sprintId) {
+        if (!SecurityUtils.isManager()) {
+            throw new UnauthorizedAccessException("Only managers can delete sprints");
+        }
+        Sprint sprint = findSprint(projectId, sprintId);
+        taskRepository.moveToBacklog(sprintId, LocalDateTime.now(), currentAuditor());
+        sprintRepository.delete(sprint);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SprintDto> getSprints(Long projectId) {
+        projectAccessPolicy.findVisibleProject(projectId, "You can only view sprints of your assigned projects");
+        return sprintRepository.findByProjectIdOrderByStartDateAscIdAsc(projectId).stream()
+                .map(sprintMapper::toDto)
+                .toList();
+    }
+
+    private Sprint findSprint(Long projectId, Long sprintId) {
+        return sprintRepository.findByIdAndProjectId(sprintId, projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Sprint", "id", sprintId));
+    }
+
+    private void validateDates(SprintRequest request) {
+        if (request.getStartDate() != null && request.getEndDate() != null
+                && request.getEndDate().isBefore(request.getStartDate())) {
+            throw new InvalidRequestException("Sprint end date must not be before its start date");
+        }
+    }
+
+    private String currentAuditor() {
+        String username = SecurityUtils.getCurrentUsername();
+        return username != null ? username : "SYSTEM";
+    }
+}
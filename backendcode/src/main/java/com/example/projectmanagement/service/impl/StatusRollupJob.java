@@ -0,0 +1,271 @@
+package com.example.projectmanagement.service.impl;
+
+import com.example.projectmanagement.config.ReportingConfig;
+import com.example.projectmanagement.model.entity.AssigneeStatusDaily;
+import com.example.projectmanagement.model.entity.CycleTimeDaily;
+import com.example.projectmanagement.model.entity.ProjectStatusTransition;
+import com.example.projectmanagement.model.entity.StatusDailySnapshot;
+import com.example.projectmanagement.model.enums.ProjectStatus;
+import com.example.projectmanagement.repository.AssigneeStatusDailyRepository;
+import com.example.projectmanagement.repository.CycleStart;
+import com.example.projectmanagement.repository.CycleTimeDailyRepository;
+import com.example.projectmanagement.repository.ProjectStatusTransitionRepository;
+import com.example.projectmanagement.repository.StatusDailySnapshotRepository;
+import com.example.projectmanagement.repository.TransitionCount;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Folds project status transitions into daily rollups that reports read instead of the
+ * transition log.
+ *
+ * <p>Each day is rolled up independently and idempotently: its rows are deleted and
+ * rebuilt from that day's transitions plus the counts carried in from the day before.
+ * The incremental run rebuilds from the last rolled-up day through today, and the
+ * nightly run re-rolls a few closed days so transactions that committed after the day
+ * was last rolled are counted. Every run first gives projects written outside the
+ * services a creation entry and re-rolls from the earliest of those. Only the nightly
+ * run and a node's first runs check every project for a missing entry; the
+ * incremental runs check the ids written since the pass before last.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class StatusRollupJob {
+
+    private static final String SYSTEM_AUDITOR = "SYSTEM";
+
+    private final ProjectStatusTransitionRepository transitionRepository;
+    private final StatusDailySnapshotRepository snapshotRepository;
+    private final AssigneeStatusDailyRepository assigneeDailyRepository;
+    private final CycleTimeDailyRepository cycleTimeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ReportingConfig reportingConfig;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    // Only touched by the run holding running. Ids are taken before commit, so a slow
+    // bulk load can commit a lower id after a higher one; the backfill trusts an id only
+    // once a whole pass has gone by since it was the highest seen
+    private long checkedThroughId;
+    private long seenThroughId;
+
+    @Scheduled(fixedDelayString = "${reporting.rollup-interval-ms:300000}",
+            initialDelayString = "${reporting.rollup-interval-ms:300000}")
+    public void rollupIncrementally() {
+        if (reportingConfig.isRollupEnabled()) {
+            runExclusively(null);
+        }
+    }
+
+    @Scheduled(cron = "${reporting.nightly-cron:0 15 2 * * *}")
+    public void rollupNightly() {
+        if (reportingConfig.isRollupEnabled()) {
+            runExclusively(LocalDate.now().minusDays(reportingConfig.getNightlyLookbackDays()));
+        }
+    }
+
+    private void runExclusively(LocalDate rerollFrom) {
+        // Both schedules and every node may fire at once; on a single node only one runs
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            LocalDate from = startDay(rerollFrom != null);
+            if (from == null) {
+                return;
+            }
+            if (rerollFrom != null && rerollFrom.isBefore(from)) {
+                from = rerollFrom;
+            }
+            long startedAt = System.nanoTime();
+            LocalDate today = LocalDate.now();
+            for (LocalDate day = from; !day.isAfter(today); day = day.plusDays(1)) {
+                LocalDate current = day;
+                transactionTemplate.executeWithoutResult(status -> rollupDay(current));
+            }
+            log.debug("Rolled up project status history from {} in {} ms", from,
+                    (System.nanoTime() - startedAt) / 1_000_000);
+        } catch (RuntimeException e) {
+            // Another node rolling the same day trips the unique keys; the next run repeats it
+            log.warn("Project status rollup failed", e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private LocalDate startDay(boolean checkAllProjects) {
+        long afterId = checkAllProjects ? 0 : checkedThroughId;
+        long maxId = transitionRepository.findMaxProjectId();
+        // Bulk loads and pre-existing rows have no transitions; their entries are dated at creation
+        LocalDateTime backfilledFrom = transactionTemplate.execute(status -> {
+            LocalDateTime firstUnrecorded = transitionRepository.findFirstUnrecordedCreation(afterId);
+            int backfilled = transitionRepository.backfillUnrecordedProjects(SYSTEM_AUDITOR, afterId);
+            if (backfilled > 0) {
+                log.info("Recorded the current status of {} projects as their first transition", backfilled);
+                return firstUnrecorded;
+            }
+            return null;
+        });
+        checkedThroughId = seenThroughId;
+        seenThroughId = maxId;
+
+        LocalDate lastDay = snapshotRepository.findLastDay();
+        if (lastDay == null) {
+            // First run: roll up all history
+            LocalDateTime first = transitionRepository.findFirstTransitionTime();
+            return first != null ? first.toLocalDate() : null;
+        }
+        if (backfilledFrom != null && backfilledFrom.toLocalDate().isBefore(lastDay)) {
+            return backfilledFrom.toLocalDate();
+        }
+        return lastDay;
+    }
+
+    private void rollupDay(LocalDate day) {
+        LocalDateTime start = day.atStartOfDay();
+        LocalDateTime end = day.plusDays(1).atStartOfDay();
+        List<TransitionCount> transitions = transitionRepository.countBetween(start, end);
+
+        rollupTeam(day, transitions);
+        rollupAssignees(day, transitions);
+        rollupCycleTimes(day, start, end);
+    }
+
+    private void rollupTeam(LocalDate day, List<TransitionCount> transitions) {
+        Map<ProjectStatus, Long> counts = new EnumMap<>(ProjectStatus.class);
+        for (StatusDailySnapshot previous : snapshotRepository.findByDay(day.minusDays(1))) {
+            counts.put(previous.getStatus(), previous.getProjectCount());
+        }
+        Map<ProjectStatus, Long> entered = new EnumMap<>(ProjectStatus.class);
+        Map<ProjectStatus, Long> exited = new EnumMap<>(ProjectStatus.class);
+        for (TransitionCount transition : transitions) {
+            if (transition.fromStatus() == transition.toStatus()) {
+                // Reassignment only
+                continue;
+            }
+            if (transition.fromStatus() != null) {
+                exited.merge(transition.fromStatus(), transition.count(), Long::sum);
+            }
+            if (transition.toStatus() != null) {
+                entered.merge(transition.toStatus(), transition.count(), Long::sum);
+            }
+        }
+
+        snapshotRepository.deleteByDay(day);
+        List<StatusDailySnapshot> rows = new ArrayList<>();
+        for (ProjectStatus status : ProjectStatus.values()) {
+            long in = entered.getOrDefault(status, 0L);
+            long out = exited.getOrDefault(status, 0L);
+            StatusDailySnapshot row = new StatusDailySnapshot();
+            row.setDay(day);
+            row.setStatus(status);
+            row.setProjectCount(counts.getOrDefault(status, 0L) + in - out);
+            row.setEntered(in);
+            row.setExited(out);
+            rows.add(row);
+        }
+        snapshotRepository.saveAll(rows);
+    }
+
+    private void rollupAssignees(LocalDate day, List<TransitionCount> transitions) {
+        Map<AssigneeStatus, long[]> changes = new HashMap<>();
+        for (TransitionCount transition : transitions) {
+            AssigneeStatus from = AssigneeStatus.of(transition.fromAssigneeId(), transition.fromStatus());
+            AssigneeStatus to = AssigneeStatus.of(transition.toAssigneeId(), transition.toStatus());
+            if (Objects.equals(from, to)) {
+                continue;
+            }
+            // [0] entered, [1] exited
+            if (from != null) {
+                changes.computeIfAbsent(from, key -> new long[2])[1] += transition.count();
+            }
+            if (to != null) {
+                changes.computeIfAbsent(to, key -> new long[2])[0] += transition.count();
+            }
+        }
+
+        assigneeDailyRepository.deleteByDay(day);
+        if (changes.isEmpty()) {
+            return;
+        }
+        Map<AssigneeStatus, Long> previous = assigneeDailyRepository
+                .findLatestBefore(changes.keySet().stream().map(AssigneeStatus::assigneeId).distinct().toList(), day)
+                .stream()
+                .collect(Collectors.toMap(row -> new AssigneeStatus(row.getAssigneeId(), row.getStatus()),
+                        AssigneeStatusDaily::getProjectCount));
+
+        List<AssigneeStatusDaily> rows = new ArrayList<>(changes.size());
+        changes.forEach((key, change) -> {
+            AssigneeStatusDaily row = new AssigneeStatusDaily();
+            row.setDay(day);
+            row.setAssigneeId(key.assigneeId());
+            row.setStatus(key.status());
+            row.setProjectCount(previous.getOrDefault(key, 0L) + change[0] - change[1]);
+            row.setEntered(change[0]);
+            row.setExited(change[1]);
+            rows.add(row);
+        });
+        assigneeDailyRepository.saveAll(rows);
+    }
+
+    private void rollupCycleTimes(LocalDate day, LocalDateTime start, LocalDateTime end) {
+        cycleTimeRepository.deleteByDay(day);
+        List<ProjectStatusTransition> completions = transitionRepository
+                .findCompletionsBetween(ProjectStatus.COMPLETED, start, end);
+        if (completions.isEmpty()) {
+            return;
+        }
+        Map<Long, CycleStart> starts = transitionRepository.findCycleStarts(
+                        completions.stream().map(ProjectStatusTransition::getProjectId).distinct().toList(),
+                        ProjectStatus.IN_PROGRESS)
+                .stream()
+                .collect(Collectors.toMap(CycleStart::projectId, Function.identity()));
+
+        Map<CycleKey, Long> histogram = new HashMap<>();
+        for (ProjectStatusTransition completion : completions) {
+            CycleStart cycleStart = starts.get(completion.getProjectId());
+            // Projects that skipped IN_PROGRESS are measured from when they were first recorded
+            LocalDateTime startedAt = cycleStart.firstInProgressAt() != null
+                    ? cycleStart.firstInProgressAt() : cycleStart.firstRecordedAt();
+            int cycleDays = (int) Math.max(0, ChronoUnit.DAYS.between(startedAt.toLocalDate(), day));
+            histogram.merge(new CycleKey(completion.getToAssigneeId(), cycleDays), 1L, Long::sum);
+        }
+
+        List<CycleTimeDaily> rows = new ArrayList<>(histogram.size());
+        histogram.forEach((key, count) -> {
+            CycleTimeDaily row = new CycleTimeDaily();
+            row.setDay(day);
+            row.setAssigneeId(key.assigneeId());
+            row.setCycleDays(key.cycleDays());
+            row.setProjectCount(count);
+            rows.add(row);
+        });
+        cycleTimeRepository.saveAll(rows);
+    }
+
+    private record AssigneeStatus(Long assigneeId, ProjectStatus status) {
+        static AssigneeStatus of(Long assigneeId, ProjectStatus status) {
+            return assigneeId != null && status != null ? new AssigneeStatus(assigneeId, status) : null;
+        }
+    }
+
+    private record CycleKey(Long assigneeId, int cycleDays) {
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.projectmanagement.service.impl;
+
+import com.example.projectmanagement.config.SyncConfig;
+import com.example.projectmanagement.exception.InvalidRequestException;
+import com.example.projectmanagement.exception.SyncTokenExpiredException;
+import com.example.projectmanagement.model.dto.response.ProjectSyncResponse;
+import com.example.projectmanagement.model.entity.Project;
+import com.example.projectmanagement.model.entity.ProjectChange;
+import com.example.projectmanagement.repository.ProjectChangeRepository;
+import com.example.projectmanagement.repository.ProjectRepository;
+import com.example.projectmanagement.security.ProjectAccessPolicy;
+import com.example.projectmanagement.service.SyncService;
+import com.example.projectmanagement.service.mapper.ProjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Delta sync over the project change log. A token is the last change sequence the client
+ * has applied plus when it was issued; a sync returns the current state of every project
+ * touched after that sequence, or a tombstone when the caller can no longer see it.
+ */
+@Service
+@RequiredArgsConstructor
+public class SyncServiceImpl implements SyncService {
+
+    // Keeps tokens from outliving the change log entries they may still need
+    private static final Duration EXPIRY_MARGIN = Duration.ofHours(1);
+
+    private final ProjectChangeRepository changeRepository;
+    private final ProjectRepository projectRepository;
+    private final ProjectAccessPolicy projectAccessPolicy;
+    private final ProjectMapper projectMapper;
+    private final SyncConfig syncConfig;
+
+    @Override
+    @Transactional(readOnly = true)
+    public ProjectSyncResponse syncProjects(String since, Integer limit) {
+        int pageSize = limit != null ? limit : syncConfig.getDefaultLimit();
+        if (pageSize < 1 || pageSize > syncConfig.getMaxLimit()) {
+            throw new InvalidRequestException("limit must be between 1 and " + syncConfig.getMaxLimit());
+        }
+        long sinceSequence = since != null ? parseToken(since) : 0;
+
+        Long userId = projectAccessPolicy.visibleUserId();
+        PageRequest page = PageRequest.of(0, pageSize + 1);
+        List<ProjectChange> changes = userId == null
+                ? changeRepository.findByIdGreaterThanOrderByIdAsc(sinceSequence, page)
+                : changeRepository.findVisibleToUser(sinceSequence, userId, page);
+        boolean more = changes.size() > pageSize;
+        if (more) {
+            changes = changes.subList(0, pageSize);
+        }
+
+        // Everything found is returned, but the token only passes settled changes, so the
+        // next sync reads recent ones again rather than skipping a late commit below them
+        LocalDateTime settledBefore = LocalDateTime.now().minus(Duration.ofMillis(syncConfig.getSettleMs()));
+        long next = sinceSequence;
+        for (ProjectChange change : changes) {
+            if (!change.getChangedAt().isBefore(settledBefore)) {
+                break;
+            }
+            next = change.getId();
+        }
+        boolean heldBack = !changes.isEmpty() && next != changes.get(changes.size() - 1).getId();
+
+        Set<Long> projectIds = new LinkedHashSet<>();
+        changes.forEach(change -> projectIds.add(change.getProjectId()));
+        Map<Long, Project> current = projectIds.isEmpty() ? Map.of()
+                : projectRepository.findAllWithAssigneeByIdIn(projectIds).stream()
+                        .collect(Collectors.toMap(Project::getId, Function.identity()));
+        Set<Long> viewable = projectAccessPolicy.findViewableIds(current.values());
+
+        ProjectSyncResponse response = ProjectSyncResponse.builder()
+                .token(issueToken(next))
+                .hasMore(more && !heldBack)
+                .build();
+        for (Long projectId : projectIds) {
+            Project project = current.get(projectId);
+            if (project != null && viewable.contains(projectId)) {
+                response.getUpserts().add(projectMapper.toDto(project));
+            } else {
+                response.getDeleted().add(projectId);
+            }
+        }
+        return response;
+    }
+
+    private String issueToken(long sequence) {
+        String value = sequence + ":" + Instant.now().getEpochSecond();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private long parseToken(String token) {
+        long sequence;
+        long issuedAt;
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.US_ASCII);
+            int separator = value.indexOf(':');
+            sequence = Long.parseLong(value.substring(0, separator));
+            issuedAt = Long.parseLong(value.substring(separator + 1));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new InvalidRequestException("Malformed sync token");
+        }
+        Instant horizon = Instant.now().minus(Duration.ofDays(syncConfig.getRetentionDays())).plus(EXPIRY_MARGIN);
+        if (Instant.ofEpochSecond(issuedAt).isBefore(horizon)) {
+            throw new SyncTokenExpiredException("Sync token has expired, sync again without a token");
+        }
+        return sequence;
+    }
+}
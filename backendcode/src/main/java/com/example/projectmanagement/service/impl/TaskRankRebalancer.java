@@ -0,0 +1,87 @@
+package com.example.projectmanagement.service.impl;
+
+import com.example.projectmanagement.config.TaskRankConfig;
+import com.example.projectmanagement.repository.ProjectRepository;
+import com.example.projectmanagement.repository.TaskRank;
+import com.example.projectmanagement.repository.TaskRankBatchRepository;
+import com.example.projectmanagement.repository.TaskRepository;
+import com.example.projectmanagement.service.support.RankKeys;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Rewrites a project's task ranks as short, evenly spaced keys once repeated inserts at
+ * the same spot have made them long. The rewrite holds the project row exclusively, so
+ * no move computes a key from neighbours that are being replaced.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class TaskRankRebalancer {
+
+    private static final String SYSTEM_AUDITOR = "SYSTEM";
+
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final TaskRankBatchRepository taskRankBatchRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskRankConfig taskRankConfig;
+
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+    void request(Long projectId) {
+        pending.add(projectId);
+    }
+
+    @Scheduled(fixedDelayString = "${tasks.ranking.rebalance-interval-ms:5000}")
+    public void rebalancePending() {
+        Iterator<Long> iterator = pending.iterator();
+        while (iterator.hasNext()) {
+            Long projectId = iterator.next();
+            iterator.remove();
+            try {
+                transactionTemplate.executeWithoutResult(status -> rebalance(projectId));
+            } catch (RuntimeException e) {
+                log.warn("Rebalancing task ranks of project {} failed", projectId, e);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${tasks.ranking.scan-interval-ms:3600000}",
+            initialDelayString = "${tasks.ranking.scan-interval-ms:3600000}")
+    public void scanForLongRanks() {
+        // Stored keys carry a two-character bucket prefix
+        pending.addAll(taskRepository.findProjectIdsWithRankLongerThan(taskRankConfig.getRebalancePrecision() + 2));
+    }
+
+    private void rebalance(Long projectId) {
+        if (projectRepository.lockForRankRebalance(projectId).isEmpty()) {
+            return;
+        }
+        List<TaskRank> current = taskRepository.findRanksByProjectId(projectId);
+        if (current.isEmpty()) {
+            return;
+        }
+        long startedAt = System.nanoTime();
+        int bucket = (RankKeys.bucket(current.get(0).rank()) + 1) % RankKeys.BUCKETS;
+        List<String> keys = RankKeys.spread(bucket, current.size());
+        List<TaskRank> rebalanced = new ArrayList<>(current.size());
+        for (int i = 0; i < current.size(); i++) {
+            rebalanced.add(new TaskRank(current.get(i).id(), keys.get(i)));
+        }
+        taskRankBatchRepository.updateRanks(rebalanced, taskRankConfig.getBatchSize(), LocalDateTime.now(),
+                SYSTEM_AUDITOR);
+        log.info("Rebalanced {} task ranks of project {} in {} ms", current.size(), projectId,
+                (System.nanoTime() - startedAt) / 1_000_000);
+    }
+}
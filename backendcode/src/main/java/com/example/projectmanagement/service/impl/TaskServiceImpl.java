@@ -0,0 +1,238 @@
+package com.example.projectmanagement.service.impl;
+
+import com.example.projectmanagement.config.TaskRankConfig;
+import com.example.projectmanagement.exception.ConflictException;
+import com.example.projectmanagement.exception.InvalidRequestException;
+import com.example.projectmanagement.exception.ResourceNotFoundException;
+import com.example.projectmanagement.exception.UnauthorizedAccessException;
+import com.example.projectmanagement.exception.VersionConflictException;
+import com.example.projectmanagement.model.dto.TaskDto;
+import com.example.projectmanagement.model.dto.request.TaskMoveRequest;
+import com.example.projectmanagement.model.dto.request.TaskRequest;
+import com.example.projectmanagement.model.entity.Project;
+import com.example.projectmanagement.model.entity.Sprint;
+import com.example.projectmanagement.model.entity.Task;
+import com.example.projectmanagement.model.entity.User;
+import com.example.projectmanagement.model.enums.SprintStatus;
+import com.example.projectmanagement.model.enums.TaskStatus;
+import com.example.projectmanagement.repository.ProjectRepository;
+import com.example.projectmanagement.repository.SprintRepository;
+import com.example.projectmanagement.repository.TaskRepository;
+import com.example.projectmanagement.repository.UserRepository;
+import com.example.projectmanagement.security.ProjectAccessPolicy;
+import com.example.projectmanagement.security.SecurityUtils;
+import com.example.projectmanagement.service.TaskService;
+import com.example.projectmanagement.service.mapper.TaskMapper;
+import com.example.projectmanagement.service.support.RankKeys;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Objects;
+
+@Service
+@RequiredArgsConstructor
+public class TaskServiceImpl implements TaskService {
+
+    private static final Sort BOARD_ORDER = Sort.by("boardRank");
+
+    private final TaskRepository taskRepository;
+    private final SprintRepository sprintRepository;
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final ProjectAccessPolicy projectAccessPolicy;
+    private final TaskMapper taskMapper;
+    private final TaskRankRebalancer taskRankRebalancer;
+    private final TaskRankConfig taskRankConfig;
+
+    @Override
+    @Transactional
+    public TaskDto createTask(Long projectId, TaskRequest request) {
+        if (!SecurityUtils.isManager()) {
+            throw new UnauthorizedAccessException("Only managers can create tasks");
+        }
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Project", "id", projectId));
+
+        Task task = new Task();
+        task.setProject(project);
+        taskMapper.updateEntity(task, request);
+        task.setAssignee(findAssignee(request.getAssigneeId()));
+        if (request.getSprintId() != null) {
+            task.setSprint(findOpenSprint(projectId, request.getSprintId()));
+        }
+        task.setBoardRank(rankBetweenNeighbours(projectId, null, null));
+        return taskMapper.toDto(saveRanked(task));
+    }
+
+    @Override
+    @Transactional
+    public TaskDto updateTask(Long projectId, Long taskId, TaskRequest request, Long expectedVersion) {
+        if (!SecurityUtils.isManager()) {
+            throw new UnauthorizedAccessException("Only managers can update tasks");
+        }
+        Task task = findTask(projectId, taskId);
+        checkExpectedVersion(task, expectedVersion);
+
+        taskMapper.updateEntity(task, request);
+        task.setAssignee(findAssignee(request.getAssigneeId()));
+        return taskMapper.toDto(taskRepository.saveAndFlush(task));
+    }
+
+    @Override
+    @Transactional
+    public TaskDto moveTask(Long projectId, Long taskId, TaskMoveRequest request, Long expectedVersion) {
+        projectAccessPolicy.findEditableProject(projectId,
+                "You can only move tasks of projects you are assigned to or contribute to");
+        Task task = findTask(projectId, taskId);
+        checkExpectedVersion(task, expectedVersion);
+        if (taskId.equals(request.getPreviousTaskId()) || taskId.equals(request.getNextTaskId())) {
+            throw new InvalidRequestException("A task cannot be placed next to itself");
+        }
+
+        if (request.getStatus() != null) {
+            task.setStatus(request.getStatus());
+        }
+        boolean sprintChanged = false;
+        Long currentSprintId = task.getSprint() != null ? task.getSprint().getId() : null;
+        if (request.isToBacklog()) {
+            sprintChanged = currentSprintId != null;
+            task.setSprint(null);
+        } else if (request.getSprintId() != null && !request.getSprintId().equals(currentSprintId)) {
+            task.setSprint(findOpenSprint(projectId, request.getSprintId()));
+            sprintChanged = true;
+        }
+
+        // One new key for this task; no other row is touched however large the board is
+        if (request.getPreviousTaskId() != null || request.getNextTaskId() != null || sprintChanged) {
+            task.setBoardRank(rankBetweenNeighbours(projectId, request.getPreviousTaskId(), request.getNextTaskId()));
+        }
+        return taskMapper.toDto(saveRanked(task));
+    }
+
+    @Override
+    @Transactional
+    public void deleteTask(Long projectId, Long taskId) {
+        if (!SecurityUtils.isManager()) {
+            throw new UnauthorizedAccessException("Only managers can delete tasks");
+        }
+        taskRepository.delete(findTask(projectId, taskId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskDto getTask(Long projectId, Long taskId) {
+        projectAccessPolicy.findVisibleProject(projectId, "You can only view tasks of your assigned projects");
+        return taskMapper.toDto(findTask(projectId, taskId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<TaskDto> getTasks(Long projectId, Long sprintId, boolean backlog, TaskStatus status, Pageable pageable) {
+        projectAccessPolicy.findVisibleProject(projectId, "You can only view tasks of your assigned projects");
+        if (pageable.getSort().isUnsorted()) {
+            pageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), BOARD_ORDER);
+        }
+
+        Page<Task> tasks;
+        if (sprintId != null) {
+            tasks = status != null
+                    ? taskRepository.findByProjectIdAndSprintIdAndStatus(projectId, sprintId, status, pageable)
+                    : taskRepository.findByProjectIdAndSprintId(projectId, sprintId, pageable);
+        } else if (backlog) {
+            tasks = status != null
+                    ? taskRepository.findByProjectIdAndSprintIsNullAndStatus(projectId, status, pageable)
+                    : taskRepository.findByProjectIdAndSprintIsNull(projectId, pageable);
+        } else {
+            tasks = status != null
+                    ? taskRepository.findByProjectIdAndStatus(projectId, status, pageable)
+                    : taskRepository.findByProjectId(projectId, pageable);
+        }
+        return tasks.map(taskMapper::toDto);
+    }
+
+    /**
+     * A key between the task's new neighbours in project order. The bounds are always two
+     * adjacent keys, found with one index probe each, so the new key cannot collide with a
+     * task the client's filtered board view does not show.
+     */
+    private String rankBetweenNeighbours(Long projectId, Long previousTaskId, Long nextTaskId) {
+        // Excluded while the project's ranks are being rebalanced; see lockForRankWrite for
+        // the databases on which other rank writes wait for it too
+        projectRepository.lockForRankWrite(projectId);
+
+        String lower;
+        String upper;
+        if (previousTaskId != null) {
+            lower = findRank(projectId, previousTaskId);
+            upper = taskRepository.findNextRank(projectId, lower);
+            if (nextTaskId != null && findRank(projectId, nextTaskId).compareTo(lower) <= 0) {
+                throw new ConflictException("The board has changed since it was loaded, reload it and retry");
+            }
+        } else if (nextTaskId != null) {
+            upper = findRank(projectId, nextTaskId);
+            lower = taskRepository.findPreviousRank(projectId, upper);
+        } else {
+            lower = taskRepository.findLastRank(projectId);
+            upper = null;
+        }
+
+        String rank = RankKeys.between(lower, upper);
+        int precision = RankKeys.precision(rank);
+        if (precision > taskRankConfig.getRebalancePrecision()) {
+            taskRankRebalancer.request(projectId);
+        }
+        if (precision > taskRankConfig.getMaxPrecision()) {
+            throw new ConflictException("Task order is being compacted, retry shortly");
+        }
+        return rank;
+    }
+
+    private Task saveRanked(Task task) {
+        try {
+            return taskRepository.saveAndFlush(task);
+        } catch (DataIntegrityViolationException e) {
+            // Another request placed a task at the same spot first
+            throw new ConflictException("The board has changed since it was loaded, reload it and retry");
+        }
+    }
+
+    private String findRank(Long projectId, Long taskId) {
+        return taskRepository.findRank(taskId, projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Task", "id", taskId));
+    }
+
+    private Task findTask(Long projectId, Long taskId) {
+        return taskRepository.findWithAssigneeByIdAndProjectId(taskId, projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Task", "id", taskId));
+    }
+
+    private Sprint findOpenSprint(Long projectId, Long sprintId) {
+        Sprint sprint = sprintRepository.findByIdAndProjectId(sprintId, projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Sprint", "id", sprintId));
+        if (sprint.getStatus() == SprintStatus.CLOSED) {
+            throw new InvalidRequestException("Tasks cannot be added to a closed sprint");
+        }
+        return sprint;
+    }
+
+    private User findAssignee(Long assigneeId) {
+        if (assigneeId == null) {
+            return null;
+        }
+        return userRepository.findByIdAndDeletedAtIsNull(assigneeId)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "id", assigneeId));
+    }
+
+    private void checkExpectedVersion(Task task, Long expectedVersion) {
+        if (expectedVersion != null && !Objects.equals(expectedVersion, task.getVersion())) {
+            throw new VersionConflictException("Task has been modified since version " + expectedVersion,
+                    task.getVersion(), true);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.example.projectmanagement.service.impl;
+
+import com.example.projectmanagement.config.UserImportConfig;
+import com.example.projectmanagement.exception.InvalidRequestException;
+import com.example.projectmanagement.model.dto.request.UserRequest;
+import com.example.projectmanagement.model.dto.response.BulkImportResponse;
+import com.example.projectmanagement.model.dto.response.ImportRowResult;
+import com.example.projectmanagement.model.entity.User;
+import com.example.projectmanagement.model.enums.ImportRowStatus;
+import com.example.projectmanagement.model.enums.RoleType;
+import com.example.projectmanagement.repository.UserBatchRepository;
+import com.example.projectmanagement.security.SecurityUtils;
+import com.example.projectmanagement.service.mapper.UserMapper;
+import com.example.projectmanagement.service.support.ParallelPasswordHasher;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk user import: per-row validation, one duplicate query per chunk, passwords hashed
+ * on all cores, and JDBC batch inserts with one transaction per chunk. No transaction or
+ * connection is held while hashing.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class UserImporter {
+
+    private final UserBatchRepository userBatchRepository;
+    private final UserMapper userMapper;
+    private final ParallelPasswordHasher parallelPasswordHasher;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final UserImportConfig userImportConfig;
+
+    BulkImportResponse importUsers(List<UserRequest> rows) {
+        if (rows.size() > userImportConfig.getMaxRows()) {
+            throw new InvalidRequestException("At most " + userImportConfig.getMaxRows() + " users can be imported at once");
+        }
+        long startedAt = System.nanoTime();
+        ImportRowResult[] results = new ImportRowResult[rows.size()];
+
+        List<Integer> candidates = validate(rows, results);
+        candidates = excludeExisting(rows, candidates, results);
+
+        List<String> hashes = parallelPasswordHasher.encodeAll(
+                candidates.stream().map(index -> rows.get(index).getPassword()).toList());
+
+        LocalDateTime now = LocalDateTime.now();
+        String createdBy = currentAuditor();
+        int batchSize = userImportConfig.getBatchSize();
+        for (int from = 0; from < candidates.size(); from += batchSize) {
+            int to = Math.min(from + batchSize, candidates.size());
+            List<Integer> chunk = candidates.subList(from, to);
+            List<User> users = new ArrayList<>(chunk.size());
+            for (int i = from; i < to; i++) {
+                users.add(toUser(rows.get(candidates.get(i)), hashes.get(i)));
+            }
+            insertChunk(chunk, users, results, now, createdBy);
+        }
+
+        BulkImportResponse response = BulkImportResponse.builder()
+                .rows(Arrays.asList(results))
+                .elapsedMs((System.nanoTime() - startedAt) / 1_000_000)
+                .build();
+        for (ImportRowResult result : results) {
+            if (result.getStatus() == ImportRowStatus.CREATED) {
+                response.setCreated(response.getCreated() + 1);
+            } else {
+                response.setFailed(response.getFailed() + 1);
+            }
+        }
+        log.info("Imported {} of {} users in {} ms", response.getCreated(), rows.size(), response.getElapsedMs());
+        return response;
+    }
+
+    private List<Integer> validate(List<UserRequest> rows, ImportRowResult[] results) {
+        List<Integer> candidates = new ArrayList<>(rows.size());
+        Set<String> usernames = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        for (int i = 0; i < rows.size(); i++) {
+            UserRequest row = rows.get(i);
+            if (row == null) {
+                results[i] = result(i, null, ImportRowStatus.INVALID, "Row is empty");
+                continue;
+            }
+            Set<ConstraintViolation<UserRequest>> violations = validator.validate(row);
+            if (!violations.isEmpty()) {
+                results[i] = result(i, row.getUsername(), ImportRowStatus.INVALID, violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining("; ")));
+            } else if (!usernames.add(row.getUsername())) {
+                results[i] = result(i, row.getUsername(), ImportRowStatus.DUPLICATE, "Username repeated in import");
+            } else if (!emails.add(row.getEmail())) {
+                results[i] = result(i, row.getUsername(), ImportRowStatus.DUPLICATE, "Email repeated in import");
+            } else {
+                candidates.add(i);
+            }
+        }
+        return candidates;
+    }
+
+    private List<Integer> excludeExisting(List<UserRequest> rows, List<Integer> candidates, ImportRowResult[] results) {
+        List<Integer> remaining = new ArrayList<>(candidates.size());
+        int batchSize = userImportConfig.getBatchSize();
+        for (int from = 0; from < candidates.size(); from += batchSize) {
+            List<Integer> chunk = candidates.subList(from, Math.min(from + batchSize, candidates.size()));
+            UserBatchRepository.TakenIdentities taken = userBatchRepository.findTakenIdentities(
+                    chunk.stream().map(index -> rows.get(index).getUsername()).toList(),
+                    chunk.stream().map(index -> rows.get(index).getEmail()).toList());
+            for (Integer index : chunk) {
+                UserRequest row = rows.get(index);
+                if (taken.usernames().contains(row.getUsername())) {
+                    results[index] = result(index, row.getUsername(), ImportRowStatus.DUPLICATE, "Username already exists");
+                } else if (taken.emails().contains(row.getEmail())) {
+                    results[index] = result(index, row.getUsername(), ImportRowStatus.DUPLICATE, "Email already exists");
+                } else {
+                    remaining.add(index);
+                }
+            }
+        }
+        return remaining;
+    }
+
+    private void insertChunk(List<Integer> indexes, List<User> users, ImportRowResult[] results,
+                             LocalDateTime now, String createdBy) {
+        try {
+            Map<String, Long> ids = transactionTemplate.execute(status -> {
+                userBatchRepository.insertAll(users, now, createdBy);
+                return userBatchRepository.findIdsByUsername(users.stream().map(User::getUsername).toList());
+            });
+            for (int i = 0; i < users.size(); i++) {
+                String username = users.get(i).getUsername();
+                results[indexes.get(i)] = created(indexes.get(i), username, ids.get(username));
+            }
+        } catch (DataIntegrityViolationException e) {
+            // Someone created a clashing user since the duplicate check; find out which rows row by row
+            for (int i = 0; i < users.size(); i++) {
+                User user = users.get(i);
+                int index = indexes.get(i);
+                try {
+                    Map<String, Long> ids = transactionTemplate.execute(status -> {
+                        userBatchRepository.insertAll(List.of(user), now, createdBy);
+                        return userBatchRepository.findIdsByUsername(List.of(user.getUsername()));
+                    });
+                    results[index] = created(index, user.getUsername(), ids.get(user.getUsername()));
+                } catch (DataIntegrityViolationException rowFailure) {
+                    results[index] = result(index, user.getUsername(), ImportRowStatus.FAILED,
+                            "Username or email already exists");
+                }
+            }
+        }
+    }
+
+    private User toUser(UserRequest row, String passwordHash) {
+        User user = userMapper.toEntity(row);
+        user.setPassword(passwordHash);
+        if (user.getRole() == null) {
+            user.setRole(RoleType.EMPLOYEE);
+        }
+        return user;
+    }
+
+    private static ImportRowResult created(int index, String username, Long id) {
+        return ImportRowResult.builder()
+                .index(index)
+                .username(username)
+                .status(ImportRowStatus.CREATED)
+                .id(id)
+                .build();
+    }
+
+    private static ImportRowResult result(int index, String username, ImportRowStatus status, String message) {
+        return ImportRowResult.builder()
+                .index(index)
+                .username(username)
+                .status(status)
+                .message(message)
+                .build();
+    }
+
+    private static String currentAuditor() {
+        String username = SecurityUtils.getCurrentUsername();
+        return username != null ? username : "SYSTEM";
+    }
+}
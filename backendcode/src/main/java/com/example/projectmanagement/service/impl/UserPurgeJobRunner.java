@@ -0,0 +1,208 @@
+package com.example.projectmanagement.service.impl;
+
+import com.example.projectmanagement.analytics.ProjectAnalytics;
+import com.example.projectmanagement.config.UserPurgeConfig;
+import com.example.projectmanagement.model.entity.UserPurgeJob;
+import com.example.projectmanagement.model.enums.PurgeJobStatus;
+import com.example.projectmanagement.repository.ProjectChangeRepository;
+import com.example.projectmanagement.repository.ProjectMemberRepository;
+import com.example.projectmanagement.repository.ProjectRepository;
+import com.example.projectmanagement.repository.ProjectStatusTransitionRepository;
+import com.example.projectmanagement.repository.RefreshTokenRepository;
+import com.example.projectmanagement.repository.TaskRepository;
+import com.example.projectmanagement.repository.UserPurgeJobRepository;
+import com.example.projectmanagement.repository.UserRepository;
+import com.example.projectmanagement.security.ProjectVisibilityIndex;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Finishes user deletions in the background: unassigns the user's projects in small
+ * transactions, then removes the user's refresh tokens and row. Every step is idempotent,
+ * so a job interrupted by a restart is simply run again.
+ */
+@Slf4j
+@Component
+class UserPurgeJobRunner {
+
+    private static final String SYSTEM_AUDITOR = "SYSTEM";
+
+    private final UserPurgeJobRepository userPurgeJobRepository;
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final ProjectListCoalescer projectListCoalescer;
+    private final WorkloadCache workloadCache;
+    private final ProjectStatusTransitionRepository transitionRepository;
+    private final TaskRepository taskRepository;
+    private final ProjectChangeRepository changeRepository;
+    private final ProjectMemberRepository projectMemberRepository;
+    private final ProjectVisibilityIndex visibilityIndex;
+    private final ProjectAnalytics projectAnalytics;
+    private final TransactionTemplate transactionTemplate;
+    private final UserPurgeConfig userPurgeConfig;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "user-purge");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private volatile boolean stopping;
+
+    UserPurgeJobRunner(UserPurgeJobRepository userPurgeJobRepository, ProjectRepository projectRepository,
+                       UserRepository userRepository, RefreshTokenRepository refreshTokenRepository,
+                       ProjectListCoalescer projectListCoalescer, WorkloadCache workloadCache,
+                       ProjectStatusTransitionRepository transitionRepository, TaskRepository taskRepository,
+                       ProjectChangeRepository changeRepository, ProjectMemberRepository projectMemberRepository,
+                       ProjectVisibilityIndex visibilityIndex, ProjectAnalytics projectAnalytics,
+                       TransactionTemplate transactionTemplate, UserPurgeConfig userPurgeConfig) {
+        this.userPurgeJobRepository = userPurgeJobRepository;
+        this.projectRepository = projectRepository;
+        this.userRepository = userRepository;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.projectListCoalescer = projectListCoalescer;
+        this.workloadCache = workloadCache;
+        this.transitionRepository = transitionRepository;
+        this.taskRepository = taskRepository;
+        this.changeRepository = changeRepository;
+        this.projectMemberRepository = projectMemberRepository;
+        this.visibilityIndex = visibilityIndex;
+        this.projectAnalytics = projectAnalytics;
+        this.transactionTemplate = transactionTemplate;
+        this.userPurgeConfig = userPurgeConfig;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedJobs() {
+        int resumed = userPurgeJobRepository.transitionAll(PurgeJobStatus.RUNNING, PurgeJobStatus.PENDING);
+        if (resumed > 0) {
+            log.info("Resuming {} interrupted user purge jobs", resumed);
+        }
+        trigger();
+    }
+
+    /**
+     * Starts draining pending jobs once the current transaction has committed the job row.
+     */
+    void triggerAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    trigger();
+                }
+            });
+        } else {
+            trigger();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${user-purge.poll-interval-ms:5000}")
+    public void trigger() {
+        if (!stopping && draining.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        stopping = true;
+        executor.shutdownNow();
+    }
+
+    private void drain() {
+        try {
+            Optional<UserPurgeJob> next;
+            while (!stopping && (next = userPurgeJobRepository.findFirstByStatusOrderByIdAsc(PurgeJobStatus.PENDING)).isPresent()) {
+                UserPurgeJob job = next.get();
+                if (userPurgeJobRepository.transition(job.getId(), PurgeJobStatus.PENDING, PurgeJobStatus.RUNNING,
+                        LocalDateTime.now()) == 1) {
+                    run(job);
+                }
+            }
+        } finally {
+            draining.set(false);
+        }
+    }
+
+    private void run(UserPurgeJob job) {
+        Long jobId = job.getId();
+        Long userId = job.getUserId();
+        long startedAt = System.nanoTime();
+        try {
+            long unassigned = 0;
+            while (!stopping) {
+                Integer chunk = transactionTemplate.execute(status -> unassignNextChunk(jobId, userId));
+                if (chunk == null || chunk == 0) {
+                    break;
+                }
+                unassigned += chunk;
+                projectListCoalescer.invalidateAfterCommit();
+                workloadCache.invalidateAfterCommit(userId);
+                pause();
+            }
+            if (stopping) {
+                // Picked up again on the next start
+                return;
+            }
+
+            transactionTemplate.executeWithoutResult(status -> {
+                taskRepository.unassignAll(userId, LocalDateTime.now(), SYSTEM_AUDITOR);
+                projectMemberRepository.deleteByUserId(userId);
+                visibilityIndex.removeUserAfterCommit(userId);
+                refreshTokenRepository.deleteByUserId(userId);
+                userRepository.purgeDeleted(userId);
+            });
+            userPurgeJobRepository.finish(jobId, PurgeJobStatus.COMPLETED, LocalDateTime.now(), null);
+            log.info("Purged user {}: unassigned {} projects in {} ms", userId, unassigned,
+                    (System.nanoTime() - startedAt) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.error("User purge job {} for user {} failed", jobId, userId, e);
+            String message = e.getMessage() != null ? e.getMessage() : e.getClass().getName();
+            userPurgeJobRepository.finish(jobId, PurgeJobStatus.FAILED, LocalDateTime.now(),
+                    message.length() > 500 ? message.substring(0, 500) : message);
+        }
+    }
+
+    private int unassignNextChunk(Long jobId, Long userId) {
+        List<Long> ids = projectRepository.findIdsByAssignedToId(userId, PageRequest.of(0, userPurgeConfig.getChunkSize()));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        transitionRepository.recordUnassignments(ids, now, SYSTEM_AUDITOR);
+        changeRepository.recordUnassignments(ids, now);
+        projectRepository.unassignAll(ids, now, SYSTEM_AUDITOR);
+        projectAnalytics.refreshAfterCommit(ids);
+        userPurgeJobRepository.addProgress(jobId, ids.size());
+        return ids.size();
+    }
+
+    private void pause() {
+        if (userPurgeConfig.getPauseBetweenChunksMs() <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(userPurgeConfig.getPauseBetweenChunksMs());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stopping = true;
+        }
+    }
+}
@@ -4,10 +4,20 @@ import com.example.projectmanagement.exception.ConflictException;
 import com.example.projectmanagement.exception.ResourceNotFoundException;
 import com.example.projectmanagement.exception.UnauthorizedAccessException;
 import com.example.projectmanagement.model.dto.UserDto;
+import com.example.projectmanagement.model.dto.UserPurgeJobDto;
+import com.example.projectmanagement.model.dto.request.BulkUserRequest;
 import com.example.projectmanagement.model.dto.request.UserRequest;
+import com.example.projectmanagement.model.dto.response.BatchResponse;
+import com.example.projectmanagement.model.dto.response.BulkImportResponse;
 import com.example.projectmanagement.model.entity.User;
+import com.example.projectmanagement.model.entity.UserPurgeJob;
+import com.example.projectmanagement.model.enums.RoleType;
+import com.example.projectmanagement.repository.ProjectRepository;
+import com.example.projectmanagement.repository.RefreshTokenRepository;
+import com.example.projectmanagement.repository.UserPurgeJobRepository;
 import com.example.projectmanagement.repository.UserRepository;
 import com.example.projectmanagement.security.SecurityUtils;
+import com.example.projectmanagement.security.TokenDenylist;
 import com.example.projectmanagement.service.UserService;
 import com.example.projectmanagement.service.mapper.UserMapper;
 import lombok.RequiredArgsConstructor;
@@ -17,6 +27,13 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
@@ -24,6 +41,13 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
+    private final ProjectListCoalescer projectListCoalescer;
+    private final UserImporter userImporter;
+    private final ProjectRepository projectRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserPurgeJobRepository userPurgeJobRepository;
+    private final UserPurgeJobRunner userPurgeJobRunner;
+    private final TokenDenylist tokenDenylist;
 
     @Override
     @Transactional
@@ -43,10 +67,10 @@ public class UserServiceImpl implements UserService {
     @Override
     @Transactional
     public UserDto updateUser(Long id, UserRequest request) {
-        User user = userRepository.findById(id)
+        User user = userRepository.findByIdAndDeletedAtIsNull(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", id));
 
-        if (!SecurityUtils.isManager() && !user.getUsername().equals(SecurityUtils.getCurrentUsername())) {
+        if (!SecurityUtils.isManager() && !user.getId().equals(SecurityUtils.getCurrentUserId())) {
             throw new UnauthorizedAccessException("You can only update your own profile");
         }
 
@@ -54,27 +78,55 @@ public class UserServiceImpl implements UserService {
             throw new ConflictException("Email already exists");
         }
 
+        RoleType previousRole = user.getRole();
         userMapper.updateEntity(user, request);
+        if (user.getRole() != previousRole) {
+            // Access tokens carry the role, so the old ones stop working; a refresh picks up the new role
+            tokenDenylist.revokeUserAfterCommit(id);
+        }
         if (request.getPassword() != null) {
             user.setPassword(passwordEncoder.encode(request.getPassword()));
         }
 
-        return userMapper.toDto(userRepository.save(user));
+        User saved = userRepository.save(user);
+        // Project pages embed the assignee's name
+        projectListCoalescer.invalidateAfterCommit();
+        return userMapper.toDto(saved);
     }
 
     @Override
     @Transactional
-    public void deleteUser(Long id) {
-        if (!userRepository.existsById(id)) {
+    public UserPurgeJobDto deleteUser(Long id) {
+        // One-row update; the user's projects are unassigned later by the purge job
+        LocalDateTime now = LocalDateTime.now();
+        if (userRepository.softDelete(id, now, currentAuditor()) == 0) {
             throw new ResourceNotFoundException("User", "id", id);
         }
-        userRepository.deleteById(id);
+        refreshTokenRepository.revokeAllForUser(id, Instant.now());
+        tokenDenylist.revokeUserAfterCommit(id);
+
+        UserPurgeJob job = new UserPurgeJob();
+        job.setUserId(id);
+        job.setTotalProjects(projectRepository.countByAssignedToId(id));
+        job.setCreatedAt(now);
+        job = userPurgeJobRepository.save(job);
+
+        userPurgeJobRunner.triggerAfterCommit();
+        return userMapper.toDto(job);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public UserPurgeJobDto getPurgeJob(Long jobId) {
+        return userPurgeJobRepository.findById(jobId)
+                .map(userMapper::toDto)
+                .orElseThrow(() -> new ResourceNotFoundException("Purge job", "id", jobId));
     }
 
     @Override
     @Transactional(readOnly = true)
     public UserDto getUserById(Long id) {
-        return userRepository.findById(id)
+        return userRepository.findByIdAndDeletedAtIsNull(id)
                 .map(userMapper::toDto)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", id));
     }
@@ -82,14 +134,47 @@ public class UserServiceImpl implements UserService {
     @Override
     @Transactional(readOnly = true)
     public Page<UserDto> getAllUsers(Pageable pageable) {
-        return userRepository.findAll(pageable).map(userMapper::toDto);
+        return userRepository.findByDeletedAtIsNull(pageable).map(userMapper::toDto);
     }
 
     @Override
     @Transactional(readOnly = true)
     public UserDto getCurrentUser() {
-        return userRepository.findByUsername(SecurityUtils.getCurrentUsername())
+        Long currentUserId = SecurityUtils.getCurrentUserId();
+        if (currentUserId == null) {
+            throw new ResourceNotFoundException("User not found");
+        }
+        return userRepository.findByIdAndDeletedAtIsNull(currentUserId)
                 .map(userMapper::toDto)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
     }
-} 
\ No newline at end of file
+
+    @Override
+    @Transactional(readOnly = true)
+    public BatchResponse<UserDto> getUsersByIds(List<Long> ids) {
+        List<Long> requestedIds = BatchIds.normalize(ids);
+        Map<Long, User> found = userRepository.findByIdInAndDeletedAtIsNull(requestedIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        BatchResponse<UserDto> response = new BatchResponse<>();
+        for (Long id : requestedIds) {
+            User user = found.get(id);
+            if (user == null) {
+                response.getMissingIds().add(id);
+            } else {
+                response.getItems().add(userMapper.toDto(user));
+            }
+        }
+        return response;
+    }
+
+    @Override
+    public BulkImportResponse importUsers(BulkUserRequest request) {
+        return userImporter.importUsers(request.getUsers());
+    }
+
+    private String currentAuditor() {
+        String username = SecurityUtils.getCurrentUsername();
+        return username != null ? username : "SYSTEM";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,141 @@
+package com.example.projectmanagement.service.impl;
+
+import com.example.projectmanagement.config.WorkloadConfig;
+import com.example.projectmanagement.model.enums.PriorityLevel;
+import com.example.projectmanagement.model.enums.ProjectStatus;
+import com.example.projectmanagement.repository.AssigneeInterval;
+import com.example.projectmanagement.repository.ProjectRepository;
+import com.example.projectmanagement.service.support.WorkloadSweep;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Prebuilt workload sweeps per assignee, covering all of their open projects. Project
+ * writes drop only the assignees they touched, once the write commits.
+ */
+@Component
+@RequiredArgsConstructor
+class WorkloadCache {
+
+    // Keeps IN lists well below the bind parameter limits of common databases
+    private static final int LOAD_CHUNK = 500;
+
+    private final ProjectRepository projectRepository;
+    private final WorkloadConfig workloadConfig;
+
+    private final Map<Long, Entry> sweeps = new ConcurrentHashMap<>();
+    // Bumped by every invalidation. A load that overlapped one is returned but not cached,
+    // since it may have read the rows before the write committed.
+    private final AtomicLong epoch = new AtomicLong();
+
+    WorkloadSweep get(Long assigneeId) {
+        return getAll(List.of(assigneeId)).get(assigneeId);
+    }
+
+    Map<Long, WorkloadSweep> getAll(Collection<Long> assigneeIds) {
+        Map<Long, WorkloadSweep> result = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        long now = System.currentTimeMillis();
+        for (Long id : assigneeIds) {
+            Entry entry = sweeps.get(id);
+            if (entry != null && now - entry.loadedAt() < workloadConfig.getCacheTtlMs()) {
+                result.put(id, entry.sweep());
+            } else {
+                missing.add(id);
+            }
+        }
+
+        for (int from = 0; from < missing.size(); from += LOAD_CHUNK) {
+            List<Long> chunk = missing.subList(from, Math.min(from + LOAD_CHUNK, missing.size()));
+            long startEpoch = epoch.get();
+            Map<Long, WorkloadSweep> loaded = load(chunk);
+            result.putAll(loaded);
+            if (epoch.get() == startEpoch) {
+                if (sweeps.size() + loaded.size() > workloadConfig.getMaxCachedUsers()) {
+                    sweeps.clear();
+                }
+                loaded.forEach((id, sweep) -> sweeps.put(id, new Entry(sweep, now)));
+            }
+        }
+        return result;
+    }
+
+    void invalidateAfterCommit(Long... assigneeIds) {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (Long id : assigneeIds) {
+            if (id != null) {
+                ids.add(id);
+            }
+        }
+        if (ids.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(ids);
+                }
+            });
+        } else {
+            invalidate(ids);
+        }
+    }
+
+    private void invalidate(Set<Long> ids) {
+        epoch.incrementAndGet();
+        ids.forEach(sweeps::remove);
+    }
+
+    private Map<Long, WorkloadSweep> load(List<Long> assigneeIds) {
+        Map<Long, List<AssigneeInterval>> byAssignee = new HashMap<>();
+        for (AssigneeInterval interval : projectRepository.findIntervalsByAssigneeIdIn(assigneeIds, ProjectStatus.COMPLETED)) {
+            byAssignee.computeIfAbsent(interval.assigneeId(), id -> new ArrayList<>()).add(interval);
+        }
+
+        Map<Long, WorkloadSweep> loaded = new HashMap<>();
+        for (Long id : assigneeIds) {
+            List<AssigneeInterval> intervals = byAssignee.getOrDefault(id, List.of());
+            List<LocalDate> starts = new ArrayList<>(intervals.size());
+            List<LocalDate> ends = new ArrayList<>(intervals.size());
+            long[] weights = new long[intervals.size()];
+            for (int i = 0; i < intervals.size(); i++) {
+                AssigneeInterval interval = intervals.get(i);
+                starts.add(interval.startDate());
+                ends.add(interval.endDate());
+                weights[i] = weight(interval.priority());
+            }
+            loaded.put(id, WorkloadSweep.of(starts, ends, weights));
+        }
+        return loaded;
+    }
+
+    private long weight(PriorityLevel priority) {
+        Double weight = workloadConfig.getPriorityWeights().get(priority != null ? priority : PriorityLevel.MEDIUM);
+        return toFixedPoint(weight != null ? weight : 1.0);
+    }
+
+    static long toFixedPoint(double value) {
+        return Math.round(value * 1000);
+    }
+
+    static double fromFixedPoint(long value) {
+        return value / 1000.0;
+    }
+
+    private record Entry(WorkloadSweep sweep, long loadedAt) {
+    }
+}
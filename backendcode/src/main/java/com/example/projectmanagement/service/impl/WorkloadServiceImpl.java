@@ -0,0 +1,98 @@
+package com.example.projectmanagement.service.impl;
+
+import com.example.projectmanagement.config.WorkloadConfig;
+import com.example.projectmanagement.exception.InvalidRequestException;
+import com.example.projectmanagement.exception.ResourceNotFoundException;
+import com.example.projectmanagement.exception.UnauthorizedAccessException;
+import com.example.projectmanagement.model.dto.response.TeamWorkloadResponse;
+import com.example.projectmanagement.model.dto.response.UserWorkload;
+import com.example.projectmanagement.model.dto.response.WorkloadSegment;
+import com.example.projectmanagement.model.entity.User;
+import com.example.projectmanagement.repository.UserRepository;
+import com.example.projectmanagement.security.SecurityUtils;
+import com.example.projectmanagement.service.WorkloadService;
+import com.example.projectmanagement.service.support.WorkloadSweep;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+public class WorkloadServiceImpl implements WorkloadService {
+
+    private final UserRepository userRepository;
+    private final WorkloadCache workloadCache;
+    private final WorkloadConfig workloadConfig;
+
+    @Override
+    @Transactional(readOnly = true)
+    public UserWorkload getUserWorkload(Long userId, LocalDate from, LocalDate to) {
+        if (!SecurityUtils.isManager() && !userId.equals(SecurityUtils.getCurrentUserId())) {
+            throw new UnauthorizedAccessException("You can only view your own workload");
+        }
+        validateRange(from, to);
+        User user = userRepository.findByIdAndDeletedAtIsNull(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
+        return toWorkload(user, workloadCache.get(userId), from, to);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TeamWorkloadResponse getTeamWorkload(LocalDate from, LocalDate to, Pageable pageable) {
+        validateRange(from, to);
+        Page<User> users = userRepository.findByDeletedAtIsNull(pageable);
+        Map<Long, WorkloadSweep> sweeps = workloadCache.getAll(users.map(User::getId).getContent());
+
+        List<UserWorkload> workloads = users.stream()
+                .map(user -> toWorkload(user, sweeps.get(user.getId()), from, to))
+                .toList();
+        return TeamWorkloadResponse.builder()
+                .from(from)
+                .to(to)
+                .page(users.getNumber())
+                .size(users.getSize())
+                .totalUsers(users.getTotalElements())
+                .overloadedUsers(workloads.stream().filter(workload -> workload.getOverloadedDays() > 0).count())
+                .users(workloads)
+                .build();
+    }
+
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null || to.isBefore(from)) {
+            throw new InvalidRequestException("'to' must be on or after 'from'");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= workloadConfig.getMaxRangeDays()) {
+            throw new InvalidRequestException("Range must not exceed " + workloadConfig.getMaxRangeDays() + " days");
+        }
+    }
+
+    private UserWorkload toWorkload(User user, WorkloadSweep sweep, LocalDate from, LocalDate to) {
+        WorkloadSweep.Result result = (sweep != null ? sweep : WorkloadSweep.empty())
+                .sweep(from, to, WorkloadCache.toFixedPoint(workloadConfig.getCapacity()));
+        return UserWorkload.builder()
+                .userId(user.getId())
+                .username(user.getUsername())
+                .name(user.getFirstName() + " " + user.getLastName())
+                .capacity(workloadConfig.getCapacity())
+                .peakLoad(WorkloadCache.fromFixedPoint(result.peakLoad()))
+                .peakProjectCount(result.peakProjects())
+                .peakDate(result.peakDate())
+                .overloadedDays(result.overloadedDays())
+                .segments(result.segments().stream()
+                        .map(segment -> WorkloadSegment.builder()
+                                .from(segment.from())
+                                .to(segment.to())
+                                .projectCount(segment.projects())
+                                .load(WorkloadCache.fromFixedPoint(segment.load()))
+                                .build())
+                        .toList())
+                .build();
+    }
+}
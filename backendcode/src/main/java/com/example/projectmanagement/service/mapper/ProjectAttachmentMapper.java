@@ -0,0 +1,22 @@
+package com.example.projectmanagement.service.mapper;
+
+import com.example.projectmanagement.model.dto.ProjectAttachmentDto;
+import com.example.projectmanagement.model.entity.ProjectAttachment;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ProjectAttachmentMapper {
+
+    public ProjectAttachmentDto toDto(ProjectAttachment attachment) {
+        return ProjectAttachmentDto.builder()
+                .id(attachment.getId())
+                .projectId(attachment.getProject().getId())
+                .fileName(attachment.getFileName())
+                .contentType(attachment.getContentType())
+                .size(attachment.getSize())
+                .sha256(attachment.getSha256())
+                .uploadedAt(attachment.getCreatedAt())
+                .uploadedBy(attachment.getCreatedBy())
+                .build();
+    }
+}
@@ -19,8 +19,10 @@ public class ProjectMapper {
                 .assignedToId(project.getAssignedTo() != null ? project.getAssignedTo().getId() : null)
                 .assignedToName(project.getAssignedTo() != null ? 
                     project.getAssignedTo().getFirstName() + " " + project.getAssignedTo().getLastName() : null)
+                .parentId(project.getParent() != null ? project.getParent().getId() : null)
                 .priority(project.getPriority())
                 .status(project.getStatus())
+                .version(project.getVersion())
                 .build();
     }
 
@@ -0,0 +1,22 @@
+package com.example.projectmanagement.service.mapper;
+
+import com.example.projectmanagement.model.dto.ProjectMemberDto;
+import com.example.projectmanagement.model.entity.ProjectMember;
+import com.example.projectmanagement.model.entity.User;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ProjectMemberMapper {
+
+    public ProjectMemberDto toDto(ProjectMember member) {
+        User user = member.getUser();
+        return ProjectMemberDto.builder()
+                .projectId(member.getProject().getId())
+                .userId(user.getId())
+                .username(user.getUsername())
+                .fullName(user.getFirstName() + " " + user.getLastName())
+                .role(member.getRole())
+                .addedAt(member.getCreatedAt())
+                .build();
+    }
+}
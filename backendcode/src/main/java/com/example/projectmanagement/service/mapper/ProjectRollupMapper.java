@@ -0,0 +1,29 @@
+package com.example.projectmanagement.service.mapper;
+
+import com.example.projectmanagement.model.dto.ProjectRollupDto;
+import com.example.projectmanagement.model.entity.ProjectRollup;
+import com.example.projectmanagement.model.enums.ProjectStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+@Component
+public class ProjectRollupMapper {
+
+    public ProjectRollupDto toDto(ProjectRollup rollup) {
+        Map<ProjectStatus, Integer> statusCounts = new EnumMap<>(ProjectStatus.class);
+        for (ProjectStatus status : ProjectStatus.values()) {
+            statusCounts.put(status, rollup.getCount(status));
+        }
+        int descendants = rollup.getDescendantCount();
+        return ProjectRollupDto.builder()
+                .projectId(rollup.getProjectId())
+                .descendantCount(descendants)
+                .statusCounts(statusCounts)
+                .progress(descendants > 0 ? (double) rollup.getCompletedCount() / descendants : null)
+                .earliestStart(rollup.getEarliestStart())
+                .latestEnd(rollup.getLatestEnd())
+                .build();
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.projectmanagement.service.mapper;
+
+import com.example.projectmanagement.model.dto.SprintDto;
+import com.example.projectmanagement.model.dto.request.SprintRequest;
+import com.example.projectmanagement.model.entity.Sprint;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SprintMapper {
+
+    public SprintDto toDto(Sprint sprint) {
+        return SprintDto.builder()
+                .id(sprint.getId())
+                .projectId(sprint.getProject().getId())
+                .name(sprint.getName())
+                .goal(sprint.getGoal())
+                .startDate(sprint.getStartDate())
+                .endDate(sprint.getEndDate())
+                .status(sprint.getStatus())
+                .version(sprint.getVersion())
+                .build();
+    }
+
+    public void updateEntity(Sprint sprint, SprintRequest request) {
+        sprint.setName(request.getName());
+        sprint.setGoal(request.getGoal());
+        sprint.setStartDate(request.getStartDate());
+        sprint.setEndDate(request.getEndDate());
+    }
+}
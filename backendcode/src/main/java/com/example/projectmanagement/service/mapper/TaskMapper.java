@@ -0,0 +1,35 @@
+package com.example.projectmanagement.service.mapper;
+
+import com.example.projectmanagement.model.dto.TaskDto;
+import com.example.projectmanagement.model.dto.request.TaskRequest;
+import com.example.projectmanagement.model.entity.Task;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TaskMapper {
+
+    public TaskDto toDto(Task task) {
+        return TaskDto.builder()
+                .id(task.getId())
+                .projectId(task.getProject().getId())
+                .sprintId(task.getSprint() != null ? task.getSprint().getId() : null)
+                .title(task.getTitle())
+                .description(task.getDescription())
+                .status(task.getStatus())
+                .priority(task.getPriority())
+                .assigneeId(task.getAssignee() != null ? task.getAssignee().getId() : null)
+                .assigneeName(task.getAssignee() != null ?
+                    task.getAssignee().getFirstName() + " " + task.getAssignee().getLastName() : null)
+                .storyPoints(task.getStoryPoints())
+                .rank(task.getBoardRank())
+                .version(task.getVersion())
+                .build();
+    }
+
+    public void updateEntity(Task task, TaskRequest request) {
+        task.setTitle(request.getTitle());
+        task.setDescription(request.getDescription());
+        task.setPriority(request.getPriority());
+        task.setStoryPoints(request.getStoryPoints());
+    }
+}
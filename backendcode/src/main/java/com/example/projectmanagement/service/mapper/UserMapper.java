@@ -1,8 +1,11 @@
 package com.example.projectmanagement.service.mapper;
 
 import com.example.projectmanagement.model.dto.UserDto;
+import com.example.projectmanagement.model.dto.UserPurgeJobDto;
 import com.example.projectmanagement.model.dto.request.UserRequest;
 import com.example.projectmanagement.model.entity.User;
+import com.example.projectmanagement.model.entity.UserPurgeJob;
+import com.example.projectmanagement.model.enums.PurgeJobStatus;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -20,6 +23,31 @@ public class UserMapper {
                 .build();
     }
 
+    public UserPurgeJobDto toDto(UserPurgeJob job) {
+        long total = job.getTotalProjects();
+        int percent;
+        if (job.getStatus() == PurgeJobStatus.COMPLETED) {
+            percent = 100;
+        } else if (total == 0) {
+            percent = 0;
+        } else {
+            // Projects assigned after the count can push processed past total
+            percent = (int) Math.min(99, job.getProcessedProjects() * 100 / total);
+        }
+        return UserPurgeJobDto.builder()
+                .id(job.getId())
+                .userId(job.getUserId())
+                .status(job.getStatus())
+                .totalProjects(total)
+                .processedProjects(job.getProcessedProjects())
+                .percentComplete(percent)
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .error(job.getError())
+                .build();
+    }
+
     public User toEntity(UserRequest request) {
         User user = new User();
         user.setUsername(request.getUsername());
@@ -0,0 +1,7 @@
+package com.example.projectmanagement.service.support;
+
+import java.nio.file.Path;
+
+// Where an attachment's bytes are, with what a download needs to describe them
+public record AttachmentContent(String fileName, String contentType, long size, String sha256, Path path) {
+}
@@ -0,0 +1,145 @@
+package com.example.projectmanagement.service.support;
+
+import com.example.projectmanagement.config.AttachmentConfig;
+import com.example.projectmanagement.exception.PayloadTooLargeException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Content-addressed files on local disk: each file is stored once, named by the SHA-256 of
+ * its bytes. Uploads are copied through a fixed buffer into a temp file while hashing, then
+ * renamed into place, so neither a partial file nor the whole upload ever sits in memory.
+ *
+ * <p>Storing and deleting a hash take the same lock, and storing refreshes the file's
+ * timestamp, so an orphan sweep cannot remove a file that an upload has just reused.</p>
+ */
+@Component
+public class ContentStore {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int LOCK_STRIPES = 64;
+    private static final Pattern SHA256 = Pattern.compile("[0-9a-f]{64}");
+
+    private final Path objects;
+    private final Path incoming;
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    public ContentStore(AttachmentConfig config) throws IOException {
+        Path root = Paths.get(config.getDirectory()).toAbsolutePath().normalize();
+        this.objects = Files.createDirectories(root.resolve("objects"));
+        this.incoming = Files.createDirectories(root.resolve("incoming"));
+        Arrays.setAll(locks, i -> new Object());
+    }
+
+    public record StoredContent(String sha256, long size) {
+    }
+
+    public StoredContent store(InputStream content, long maxBytes) throws IOException {
+        Path temp = Files.createTempFile(incoming, "upload-", ".tmp");
+        try {
+            MessageDigest digest = sha256();
+            long size = 0;
+            byte[] buffer = new byte[BUFFER_SIZE];
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                int read;
+                while ((read = content.read(buffer)) != -1) {
+                    size += read;
+                    if (size > maxBytes) {
+                        throw new PayloadTooLargeException("Attachments are limited to " + maxBytes + " bytes");
+                    }
+                    digest.update(buffer, 0, read);
+                    out.write(buffer, 0, read);
+                }
+            }
+            String sha256 = HexFormat.of().formatHex(digest.digest());
+            Path target = resolve(sha256);
+            synchronized (lockFor(sha256)) {
+                if (Files.exists(target)) {
+                    Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+                } else {
+                    Files.createDirectories(target.getParent());
+                    Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+                }
+            }
+            return new StoredContent(sha256, size);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    public Path resolve(String sha256) {
+        if (!SHA256.matcher(sha256).matches()) {
+            throw new IllegalArgumentException("Not a SHA-256 hex digest: " + sha256);
+        }
+        return objects.resolve(sha256.substring(0, 2)).resolve(sha256);
+    }
+
+    // One list per two-digit prefix directory, of hashes untouched for at least minAge
+    public List<List<String>> listIdle(Duration minAge) throws IOException {
+        Instant cutoff = Instant.now().minus(minAge);
+        List<List<String>> groups = new ArrayList<>();
+        try (DirectoryStream<Path> prefixes = Files.newDirectoryStream(objects, Files::isDirectory)) {
+            for (Path prefix : prefixes) {
+                List<String> hashes = new ArrayList<>();
+                try (DirectoryStream<Path> files = Files.newDirectoryStream(prefix)) {
+                    for (Path file : files) {
+                        // Anything else in the tree was not written by the store and is left alone
+                        if (SHA256.matcher(file.getFileName().toString()).matches() && isIdle(file, cutoff)) {
+                            hashes.add(file.getFileName().toString());
+                        }
+                    }
+                }
+                if (!hashes.isEmpty()) {
+                    groups.add(hashes);
+                }
+            }
+        }
+        return groups;
+    }
+
+    // Checks the timestamp again under the lock, so a file reused since it was listed stays
+    public boolean deleteIfIdle(String sha256, Duration minAge) throws IOException {
+        Path file = resolve(sha256);
+        synchronized (lockFor(sha256)) {
+            return isIdle(file, Instant.now().minus(minAge)) && Files.deleteIfExists(file);
+        }
+    }
+
+    private Object lockFor(String sha256) {
+        return locks[Math.floorMod(sha256.hashCode(), LOCK_STRIPES)];
+    }
+
+    private static boolean isIdle(Path file, Instant cutoff) {
+        try {
+            return Files.getLastModifiedTime(file).toInstant().isBefore(cutoff);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
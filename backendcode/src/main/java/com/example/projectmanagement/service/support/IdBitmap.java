@@ -0,0 +1,293 @@
+package com.example.projectmanagement.service.support;
+
+import java.util.Arrays;
+
+/**
+ * Immutable compressed set of non-negative ints, laid out like a Roaring bitmap: values
+ * are grouped by their high 16 bits, and each group is stored as a sorted char array
+ * while small or as a 1024-word bitset once it passes {@link #ARRAY_MAX} values. A user
+ * in a few thousand projects costs a few kilobytes, membership is two binary searches,
+ * and a page of ids is read by skipping whole groups on their cardinality.
+ *
+ * <p>Updates return a new bitmap that shares every untouched group, so readers never
+ * need a lock.</p>
+ */
+public final class IdBitmap {
+
+    static final int ARRAY_MAX = 4096;
+    private static final int BITSET_WORDS = 1024;
+    private static final IdBitmap EMPTY = new IdBitmap(new char[0], new Object[0], new int[0], 0);
+
+    // High 16 bits of each group, ascending
+    private final char[] keys;
+    // char[] of sorted low 16 bits, or long[BITSET_WORDS]
+    private final Object[] containers;
+    private final int[] cardinalities;
+    private final int cardinality;
+
+    private IdBitmap(char[] keys, Object[] containers, int[] cardinalities, int cardinality) {
+        this.keys = keys;
+        this.containers = containers;
+        this.cardinalities = cardinalities;
+        this.cardinality = cardinality;
+    }
+
+    public static IdBitmap empty() {
+        return EMPTY;
+    }
+
+    public static IdBitmap of(int[] values) {
+        int[] sorted = values.clone();
+        Arrays.sort(sorted);
+        if (sorted.length > 0 && sorted[0] < 0) {
+            throw new IllegalArgumentException("Negative value: " + sorted[0]);
+        }
+
+        int groups = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || high(sorted[i]) != high(sorted[i - 1])) {
+                groups++;
+            }
+        }
+        char[] keys = new char[groups];
+        Object[] containers = new Object[groups];
+        int[] cardinalities = new int[groups];
+        int total = 0;
+
+        int group = 0;
+        int start = 0;
+        while (start < sorted.length) {
+            int end = start;
+            while (end < sorted.length && high(sorted[end]) == high(sorted[start])) {
+                end++;
+            }
+            char[] lows = new char[end - start];
+            int count = 0;
+            for (int i = start; i < end; i++) {
+                if (i == start || sorted[i] != sorted[i - 1]) {
+                    lows[count++] = low(sorted[i]);
+                }
+            }
+            keys[group] = high(sorted[start]);
+            containers[group] = count <= ARRAY_MAX ? Arrays.copyOf(lows, count) : toBitset(lows, count);
+            cardinalities[group] = count;
+            total += count;
+            group++;
+            start = end;
+        }
+        return new IdBitmap(keys, containers, cardinalities, total);
+    }
+
+    public int cardinality() {
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return cardinality == 0;
+    }
+
+    public boolean contains(int value) {
+        if (value < 0) {
+            return false;
+        }
+        int index = Arrays.binarySearch(keys, high(value));
+        return index >= 0 && containerContains(containers[index], low(value));
+    }
+
+    public IdBitmap with(int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Negative value: " + value);
+        }
+        char key = high(value);
+        char low = low(value);
+        int index = Arrays.binarySearch(keys, key);
+        if (index < 0) {
+            int insertAt = -index - 1;
+            return new IdBitmap(insert(keys, insertAt, key), insert(containers, insertAt, new char[] {low}),
+                    insert(cardinalities, insertAt, 1), cardinality + 1);
+        }
+
+        Object container = containers[index];
+        if (containerContains(container, low)) {
+            return this;
+        }
+        Object updated;
+        if (container instanceof char[] lows) {
+            if (lows.length < ARRAY_MAX) {
+                int position = -Arrays.binarySearch(lows, low) - 1;
+                updated = insert(lows, position, low);
+            } else {
+                long[] bits = toBitset(lows, lows.length);
+                bits[low >>> 6] |= 1L << low;
+                updated = bits;
+            }
+        } else {
+            long[] bits = ((long[]) container).clone();
+            bits[low >>> 6] |= 1L << low;
+            updated = bits;
+        }
+        return replace(index, updated, cardinalities[index] + 1, cardinality + 1);
+    }
+
+    public IdBitmap without(int value) {
+        if (!contains(value)) {
+            return this;
+        }
+        int index = Arrays.binarySearch(keys, high(value));
+        char low = low(value);
+        int remaining = cardinalities[index] - 1;
+        if (remaining == 0) {
+            return new IdBitmap(remove(keys, index), remove(containers, index), remove(cardinalities, index),
+                    cardinality - 1);
+        }
+
+        Object container = containers[index];
+        Object updated;
+        if (container instanceof char[] lows) {
+            updated = remove(lows, Arrays.binarySearch(lows, low));
+        } else {
+            long[] bits = ((long[]) container).clone();
+            bits[low >>> 6] &= ~(1L << low);
+            updated = remaining <= ARRAY_MAX ? toArray(bits, remaining) : bits;
+        }
+        return replace(index, updated, remaining, cardinality - 1);
+    }
+
+    /**
+     * Up to {@code limit} values in ascending order, skipping the first {@code offset}.
+     */
+    public int[] slice(long offset, int limit) {
+        if (offset >= cardinality || limit <= 0) {
+            return new int[0];
+        }
+        int[] result = new int[(int) Math.min(limit, cardinality - offset)];
+        int filled = 0;
+        long skip = offset;
+        for (int group = 0; group < keys.length && filled < result.length; group++) {
+            if (skip >= cardinalities[group]) {
+                skip -= cardinalities[group];
+                continue;
+            }
+            int base = keys[group] << 16;
+            if (containers[group] instanceof char[] lows) {
+                for (int i = (int) skip; i < lows.length && filled < result.length; i++) {
+                    result[filled++] = base | lows[i];
+                }
+            } else {
+                long[] bits = (long[]) containers[group];
+                for (int word = 0; word < BITSET_WORDS && filled < result.length; word++) {
+                    long remaining = bits[word];
+                    int count = Long.bitCount(remaining);
+                    if (skip >= count) {
+                        skip -= count;
+                        continue;
+                    }
+                    while (remaining != 0 && filled < result.length) {
+                        int bit = Long.numberOfTrailingZeros(remaining);
+                        remaining &= remaining - 1;
+                        if (skip > 0) {
+                            skip--;
+                        } else {
+                            result[filled++] = base | (word << 6) | bit;
+                        }
+                    }
+                }
+            }
+            skip = 0;
+        }
+        return result;
+    }
+
+    public int[] toArray() {
+        return slice(0, cardinality);
+    }
+
+    private IdBitmap replace(int index, Object container, int groupCardinality, int total) {
+        Object[] newContainers = containers.clone();
+        newContainers[index] = container;
+        int[] newCardinalities = cardinalities.clone();
+        newCardinalities[index] = groupCardinality;
+        return new IdBitmap(keys, newContainers, newCardinalities, total);
+    }
+
+    private static boolean containerContains(Object container, char low) {
+        if (container instanceof char[] lows) {
+            return Arrays.binarySearch(lows, low) >= 0;
+        }
+        return (((long[]) container)[low >>> 6] & (1L << low)) != 0;
+    }
+
+    private static long[] toBitset(char[] lows, int count) {
+        long[] bits = new long[BITSET_WORDS];
+        for (int i = 0; i < count; i++) {
+            bits[lows[i] >>> 6] |= 1L << lows[i];
+        }
+        return bits;
+    }
+
+    private static char[] toArray(long[] bits, int count) {
+        char[] lows = new char[count];
+        int filled = 0;
+        for (int word = 0; word < BITSET_WORDS; word++) {
+            long remaining = bits[word];
+            while (remaining != 0) {
+                lows[filled++] = (char) ((word << 6) | Long.numberOfTrailingZeros(remaining));
+                remaining &= remaining - 1;
+            }
+        }
+        return lows;
+    }
+
+    private static char high(int value) {
+        return (char) (value >>> 16);
+    }
+
+    private static char low(int value) {
+        return (char) value;
+    }
+
+    private static char[] insert(char[] array, int index, char value) {
+        char[] result = new char[array.length + 1];
+        System.arraycopy(array, 0, result, 0, index);
+        result[index] = value;
+        System.arraycopy(array, index, result, index + 1, array.length - index);
+        return result;
+    }
+
+    private static int[] insert(int[] array, int index, int value) {
+        int[] result = new int[array.length + 1];
+        System.arraycopy(array, 0, result, 0, index);
+        result[index] = value;
+        System.arraycopy(array, index, result, index + 1, array.length - index);
+        return result;
+    }
+
+    private static Object[] insert(Object[] array, int index, Object value) {
+        Object[] result = new Object[array.length + 1];
+        System.arraycopy(array, 0, result, 0, index);
+        result[index] = value;
+        System.arraycopy(array, index, result, index + 1, array.length - index);
+        return result;
+    }
+
+    private static char[] remove(char[] array, int index) {
+        char[] result = new char[array.length - 1];
+        System.arraycopy(array, 0, result, 0, index);
+        System.arraycopy(array, index + 1, result, index, array.length - index - 1);
+        return result;
+    }
+
+    private static int[] remove(int[] array, int index) {
+        int[] result = new int[array.length - 1];
+        System.arraycopy(array, 0, result, 0, index);
+        System.arraycopy(array, index + 1, result, index, array.length - index - 1);
+        return result;
+    }
+
+    private static Object[] remove(Object[] array, int index) {
+        Object[] result = new Object[array.length - 1];
+        System.arraycopy(array, 0, result, 0, index);
+        System.arraycopy(array, index + 1, result, index, array.length - index - 1);
+        return result;
+    }
+}
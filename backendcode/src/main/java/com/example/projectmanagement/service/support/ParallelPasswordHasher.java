@@ -0,0 +1,52 @@
+package com.example.projectmanagement.service.support;
+
+import com.example.projectmanagement.config.UserImportConfig;
+import jakarta.annotation.PreDestroy;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Hashes passwords on a dedicated fork-join pool. BCrypt is pure CPU, so the pool is
+ * sized to the cores and kept apart from the common pool and the request threads.
+ */
+@Component
+public class ParallelPasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ForkJoinPool pool;
+
+    public ParallelPasswordHasher(PasswordEncoder passwordEncoder, UserImportConfig userImportConfig) {
+        this.passwordEncoder = passwordEncoder;
+        int parallelism = userImportConfig.getHashingParallelism() > 0
+                ? userImportConfig.getHashingParallelism()
+                : Runtime.getRuntime().availableProcessors();
+        this.pool = new ForkJoinPool(parallelism);
+    }
+
+    /**
+     * @return encoded passwords in the order of the input
+     */
+    public List<String> encodeAll(List<String> rawPasswords) {
+        try {
+            // A parallel stream started from inside a pool runs on that pool
+            return pool.submit(() -> rawPasswords.parallelStream().map(passwordEncoder::encode).toList()).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing passwords", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+}
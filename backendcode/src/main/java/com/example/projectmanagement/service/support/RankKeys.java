@@ -0,0 +1,200 @@
+package com.example.projectmanagement.service.support;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lexicographic rank keys for manually ordered lists. A key can always be generated
+ * between any two others, so moving an item rewrites only that item's key.
+ *
+ * <p>Keys look like {@code 1|hzk}: a bucket digit, then a base-36 fraction that never ends
+ * in {@code 0}. Appending or prepending steps the end key by a fixed amount at a fixed
+ * width, so lists that only grow at the ends keep short keys; only inserts between two
+ * neighbours bisect, and repeated ones at one spot make keys longer. Rebalancing rewrites
+ * every key of a list, evenly spaced, into the next bucket so old and new keys never
+ * collide while the rewrite is in progress.</p>
+ */
+public final class RankKeys {
+
+    public static final int BUCKETS = 3;
+
+    private static final String DIGITS = "0123456789abcdefghijklmnopqrstuvwxyz";
+    private static final int BASE = DIGITS.length();
+    private static final char SEPARATOR = '|';
+    // Appends and prepends change the third digit from the end of a STEP_WIDTH-digit key,
+    // leaving two digits below it for later inserts: about 700,000 steps from the edge of
+    // the middle third to either end. Once that runs out they step two digits wider,
+    // up to what fits the board_rank column
+    private static final int STEP_WIDTH = 6;
+    private static final int STEP_OFFSET = 3;
+    private static final int MAX_STEP_WIDTH = 60;
+
+    private RankKeys() {
+    }
+
+    /**
+     * A key ordered after {@code before} and before {@code after}; either may be null for
+     * an open end. Both bounds must be in the same bucket.
+     */
+    public static String between(String before, String after) {
+        int bucket;
+        if (before != null && after != null) {
+            bucket = bucket(before);
+            if (bucket != bucket(after)) {
+                throw new IllegalArgumentException("Rank keys from different buckets: " + before + ", " + after);
+            }
+        } else if (before != null) {
+            bucket = bucket(before);
+        } else if (after != null) {
+            bucket = bucket(after);
+        } else {
+            bucket = 0;
+        }
+        String fraction;
+        if (before != null && after == null) {
+            fraction = stepAfter(fraction(before));
+        } else if (before == null && after != null) {
+            fraction = stepBefore(fraction(after));
+        } else {
+            fraction = midpoint(before != null ? fraction(before) : "", after != null ? fraction(after) : null);
+        }
+        return prefix(bucket) + fraction;
+    }
+
+    public static int bucket(String rank) {
+        return DIGITS.indexOf(rank.charAt(0));
+    }
+
+    /**
+     * Length of the fractional part, which is what grows under repeated inserts.
+     */
+    public static int precision(String rank) {
+        return rank.length() - 2;
+    }
+
+    /**
+     * {@code count} ascending keys across the middle third of {@code bucket}, as short as
+     * possible while leaving a full digit of room between neighbours. The outer thirds are
+     * kept free for appends and prepends.
+     */
+    public static List<String> spread(int bucket, int count) {
+        int width = 1;
+        long space = BASE;
+        while (space / 3 / (count + 1L) < BASE) {
+            width++;
+            space *= BASE;
+        }
+        long step = space / 3 / (count + 1L);
+        List<String> keys = new ArrayList<>(count);
+        char[] digits = new char[width];
+        for (int i = 1; i <= count; i++) {
+            long value = space / 3 + step * i;
+            for (int position = width - 1; position >= 0; position--) {
+                digits[position] = DIGITS.charAt((int) (value % BASE));
+                value /= BASE;
+            }
+            int length = width;
+            while (digits[length - 1] == '0') {
+                length--;
+            }
+            keys.add(prefix(bucket) + new String(digits, 0, length));
+        }
+        return keys;
+    }
+
+    /**
+     * Fraction strictly between {@code a} and {@code b}, where {@code a} may be empty (the
+     * lowest bound) and {@code b} null (the highest).
+     */
+    static String midpoint(String a, String b) {
+        if (b != null && a.compareTo(b) >= 0) {
+            throw new IllegalArgumentException("Rank keys out of order: " + a + " >= " + b);
+        }
+        if (b != null) {
+            // Shared prefix, with a padded by zero digits
+            int shared = 0;
+            while (shared < b.length() && (shared < a.length() ? a.charAt(shared) : '0') == b.charAt(shared)) {
+                shared++;
+            }
+            if (shared > 0) {
+                return b.substring(0, shared)
+                        + midpoint(shared < a.length() ? a.substring(shared) : "", b.substring(shared));
+            }
+        }
+        int digitA = a.isEmpty() ? 0 : DIGITS.indexOf(a.charAt(0));
+        int digitB = b != null ? DIGITS.indexOf(b.charAt(0)) : BASE;
+        if (digitB - digitA > 1) {
+            return String.valueOf(DIGITS.charAt((digitA + digitB + 1) / 2));
+        }
+        if (b != null && b.length() > 1) {
+            return b.substring(0, 1);
+        }
+        return DIGITS.charAt(digitA) + midpoint(a.isEmpty() ? "" : a.substring(1), null);
+    }
+
+    // Cutting a to a width never raises it, so stepping up stays above it. Near the top of
+    // the bucket, steps move two digits wider, into the room left below the last step
+    static String stepAfter(String a) {
+        for (int width = STEP_WIDTH; width <= MAX_STEP_WIDTH; width += 2) {
+            char[] digits = pad(a, width);
+            if (step(digits, 1)) {
+                return trim(digits);
+            }
+        }
+        return midpoint(a, null);
+    }
+
+    // Any digits of b past the width only make b larger than its cut value
+    static String stepBefore(String b) {
+        for (int width = STEP_WIDTH; width <= MAX_STEP_WIDTH; width += 2) {
+            char[] digits = pad(b, width);
+            if (step(digits, -1)) {
+                String fraction = trim(digits);
+                if (!fraction.isEmpty()) {
+                    return fraction;
+                }
+            }
+        }
+        return midpoint("", b);
+    }
+
+    private static char[] pad(String fraction, int width) {
+        char[] digits = new char[width];
+        for (int i = 0; i < width; i++) {
+            digits[i] = i < fraction.length() ? fraction.charAt(i) : '0';
+        }
+        return digits;
+    }
+
+    // Adds delta to the step digit with carry; false when that runs out of the bucket
+    private static boolean step(char[] digits, int delta) {
+        for (int position = digits.length - STEP_OFFSET; position >= 0; position--) {
+            int digit = DIGITS.indexOf(digits[position]) + delta;
+            if (digit >= 0 && digit < BASE) {
+                digits[position] = DIGITS.charAt(digit);
+                return true;
+            }
+            digits[position] = DIGITS.charAt(digit < 0 ? BASE - 1 : 0);
+        }
+        return false;
+    }
+
+    private static String trim(char[] digits) {
+        int length = digits.length;
+        while (length > 0 && digits[length - 1] == '0') {
+            length--;
+        }
+        return new String(digits, 0, length);
+    }
+
+    private static String fraction(String rank) {
+        if (rank.length() < 3 || rank.charAt(1) != SEPARATOR) {
+            throw new IllegalArgumentException("Malformed rank key: " + rank);
+        }
+        return rank.substring(2);
+    }
+
+    private static String prefix(int bucket) {
+        return String.valueOf(DIGITS.charAt(bucket)) + SEPARATOR;
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.projectmanagement.service.support;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent loads of the same key into one. The first caller runs the loader
+ * on its own thread; callers arriving while it runs wait for and share its result or
+ * exception. With a freshness window, a completed result keeps being served for that
+ * long; with a window of zero nothing outlives the load that produced it.
+ *
+ * <p>Shared results are handed to every caller, so they must not be mutated.</p>
+ */
+public class SingleFlight<K, V> {
+
+    private final long freshnessNanos;
+    private final ConcurrentHashMap<K, Flight<V>> flights = new ConcurrentHashMap<>();
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder shared = new LongAdder();
+
+    public SingleFlight(long freshnessMillis) {
+        this.freshnessNanos = freshnessMillis * 1_000_000;
+    }
+
+    public V load(K key, Supplier<V> loader) {
+        while (true) {
+            Flight<V> flight = flights.get(key);
+            if (flight != null) {
+                if (!flight.result.isDone() || flight.isFresh(freshnessNanos)) {
+                    shared.increment();
+                    return await(flight);
+                }
+                flights.remove(key, flight);
+                continue;
+            }
+
+            Flight<V> own = new Flight<>();
+            if (flights.putIfAbsent(key, own) != null) {
+                continue;
+            }
+            return lead(key, own, loader);
+        }
+    }
+
+    /**
+     * Forgets in-flight and cached results so that callers arriving afterwards trigger a
+     * new load. Callers already waiting still receive the result they joined.
+     */
+    public void invalidateAll() {
+        flights.clear();
+    }
+
+    public long getExecutions() {
+        return executions.sum();
+    }
+
+    public long getShared() {
+        return shared.sum();
+    }
+
+    private V lead(K key, Flight<V> flight, Supplier<V> loader) {
+        executions.increment();
+        try {
+            V value = loader.get();
+            flight.completedAtNanos = System.nanoTime();
+            flight.result.complete(value);
+            if (freshnessNanos == 0) {
+                flights.remove(key, flight);
+            }
+            return value;
+        } catch (RuntimeException | Error e) {
+            flights.remove(key, flight);
+            flight.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private static <V> V await(Flight<V> flight) {
+        try {
+            return flight.result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private static final class Flight<V> {
+        private final CompletableFuture<V> result = new CompletableFuture<>();
+        private volatile long completedAtNanos;
+
+        private boolean isFresh(long freshnessNanos) {
+            return !result.isCompletedExceptionally() && System.nanoTime() - completedAtNanos < freshnessNanos;
+        }
+    }
+}
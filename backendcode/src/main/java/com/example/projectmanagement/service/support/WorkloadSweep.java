@@ -0,0 +1,164 @@
+package com.example.projectmanagement.service.support;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * One assignee's projects as a sorted list of load changes: +weight on the day a project
+ * starts, -weight on the day after it ends. The events are sorted once when the sweep is
+ * built; every range query after that is a single forward pass that emits runs of days
+ * with the same load instead of one entry per day.
+ */
+public final class WorkloadSweep {
+
+    private static final WorkloadSweep EMPTY = new WorkloadSweep(new long[0], new int[0], new long[0]);
+
+    // Epoch days on which the load changes, ascending and distinct
+    private final long[] days;
+    private final int[] countDeltas;
+    private final long[] loadDeltas;
+
+    private WorkloadSweep(long[] days, int[] countDeltas, long[] loadDeltas) {
+        this.days = days;
+        this.countDeltas = countDeltas;
+        this.loadDeltas = loadDeltas;
+    }
+
+    public static WorkloadSweep empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Builds the sweep from parallel lists of inclusive [start, end] days and weights.
+     * Weights are fixed-point so adding and removing them never drifts.
+     */
+    public static WorkloadSweep of(List<LocalDate> starts, List<LocalDate> ends, long[] weights) {
+        int size = starts.size();
+        if (size == 0) {
+            return EMPTY;
+        }
+        // Encode each event as (day << 1 | isEnd) so one primitive sort orders them
+        long[] events = new long[size * 2];
+        for (int i = 0; i < size; i++) {
+            events[2 * i] = starts.get(i).toEpochDay() << 1;
+            events[2 * i + 1] = (ends.get(i).toEpochDay() + 1) << 1 | 1;
+        }
+        long[] order = new long[events.length];
+        for (int i = 0; i < events.length; i++) {
+            order[i] = events[i] << 32 | i;
+        }
+        Arrays.sort(order);
+
+        long[] days = new long[events.length];
+        int[] countDeltas = new int[events.length];
+        long[] loadDeltas = new long[events.length];
+        int distinct = -1;
+        for (long packed : order) {
+            int index = (int) packed;
+            long event = events[index];
+            long day = event >> 1;
+            boolean end = (event & 1) == 1;
+            if (distinct < 0 || days[distinct] != day) {
+                days[++distinct] = day;
+            }
+            long weight = weights[index >> 1];
+            countDeltas[distinct] += end ? -1 : 1;
+            loadDeltas[distinct] += end ? -weight : weight;
+        }
+        int length = distinct + 1;
+        return new WorkloadSweep(Arrays.copyOf(days, length), Arrays.copyOf(countDeltas, length),
+                Arrays.copyOf(loadDeltas, length));
+    }
+
+    public Result sweep(LocalDate from, LocalDate to, long capacity) {
+        long fromDay = from.toEpochDay();
+        long toDay = to.toEpochDay();
+        int count = 0;
+        long load = 0;
+        int i = 0;
+        while (i < days.length && days[i] <= fromDay) {
+            count += countDeltas[i];
+            load += loadDeltas[i];
+            i++;
+        }
+
+        Accumulator result = new Accumulator(capacity);
+        long segmentStart = fromDay;
+        while (i < days.length && days[i] <= toDay) {
+            result.add(segmentStart, days[i] - 1, count, load);
+            // Several events on one day are already folded into one delta
+            count += countDeltas[i];
+            load += loadDeltas[i];
+            segmentStart = days[i];
+            i++;
+        }
+        result.add(segmentStart, toDay, count, load);
+        return result.finish();
+    }
+
+    /**
+     * Consecutive days with the same number of open projects and weighted load.
+     */
+    public record Segment(LocalDate from, LocalDate to, int projects, long load) {
+    }
+
+    public record Result(List<Segment> segments, long peakLoad, int peakProjects, LocalDate peakDate,
+                         long overloadedDays) {
+    }
+
+    private static final class Accumulator {
+        private final long capacity;
+        private final List<Segment> segments = new ArrayList<>();
+        private long runStart;
+        private long runEnd = Long.MIN_VALUE;
+        private int runProjects;
+        private long runLoad;
+        private long peakLoad = -1;
+        private int peakProjects;
+        private long peakDay;
+        private long overloadedDays;
+
+        private Accumulator(long capacity) {
+            this.capacity = capacity;
+        }
+
+        private void add(long start, long end, int projects, long load) {
+            if (end < start) {
+                return;
+            }
+            if (load > peakLoad) {
+                peakLoad = load;
+                peakProjects = projects;
+                peakDay = start;
+            }
+            if (load > capacity) {
+                overloadedDays += end - start + 1;
+            }
+            // Deltas that cancel out on a day leave the load unchanged, so merge the runs
+            if (runEnd == start - 1 && runProjects == projects && runLoad == load) {
+                runEnd = end;
+                return;
+            }
+            flush();
+            runStart = start;
+            runEnd = end;
+            runProjects = projects;
+            runLoad = load;
+        }
+
+        private void flush() {
+            if (runEnd != Long.MIN_VALUE) {
+                segments.add(new Segment(LocalDate.ofEpochDay(runStart), LocalDate.ofEpochDay(runEnd),
+                        runProjects, runLoad));
+            }
+        }
+
+        private Result finish() {
+            flush();
+            return new Result(List.copyOf(segments), Math.max(peakLoad, 0), peakProjects,
+                    LocalDate.ofEpochDay(peakDay), overloadedDays);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.projectmanagement.analytics;
+
+import com.example.emssystem.EmSsystemApplication;
+import com.example.projectmanagement.model.entity.Project;
+import com.example.projectmanagement.model.entity.User;
+import com.example.projectmanagement.model.enums.PriorityLevel;
+import com.example.projectmanagement.model.enums.ProjectStatus;
+import com.example.projectmanagement.repository.OverdueCount;
+import com.example.projectmanagement.repository.ProjectBatchRepository;
+import com.example.projectmanagement.repository.ProjectRepository;
+import com.example.projectmanagement.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Answers one report question, overdue projects by assignee, month due and priority, three
+ * ways over the same rows: scanning the columnar snapshot, grouping in SQL, and loading
+ * entities through JPA and grouping in Java. The answers must match; the timings are
+ * logged, not asserted. Like the other benchmarks in the suite it warms up and reports a
+ * median rather than running under JMH, which this build does not include.
+ *
+ * <p>The rows go into a database of their own, dropped with the context after the class,
+ * so other tests never see them.</p>
+ */
+@SpringBootTest(classes = EmSsystemApplication.class,
+        properties = "spring.datasource.url=jdbc:h2:mem:analytics-benchmark")
+@DirtiesContext
+class ProjectAnalyticsBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectAnalyticsBenchmarkTest.class);
+
+    private static final int PROJECTS = 100_000;
+    private static final int BATCH_SIZE = 5_000;
+    private static final int WARMUP_RUNS = 3;
+    private static final int MEASURED_RUNS = 7;
+
+    @Autowired
+    private ProjectAnalytics projectAnalytics;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectBatchRepository projectBatchRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void snapshotScanMatchesSqlAndJpa() {
+        insertProjects();
+        projectAnalytics.rebuild();
+
+        LocalDate asOf = LocalDate.now();
+        LocalDate from = asOf.minusYears(3);
+        LocalDate to = asOf.plusYears(1);
+        LocalDate lastDay = asOf.minusDays(1);
+
+        Supplier<List<OverdueCount>> snapshot = () -> projectAnalytics.countOverdue(asOf, from, to, null);
+        Supplier<List<OverdueCount>> sql = () -> {
+            List<OverdueCount> counts = new ArrayList<>(
+                    projectRepository.countOverdue(from, lastDay, ProjectStatus.COMPLETED, null));
+            counts.sort(OverdueCount.ORDER);
+            return counts;
+        };
+        Supplier<List<OverdueCount>> jpa = () -> transactionTemplate.execute(status -> countWithEntities(from, lastDay));
+
+        List<OverdueCount> expected = jpa.get();
+        assertThat(expected).isNotEmpty();
+        assertThat(snapshot.get()).isEqualTo(expected);
+        assertThat(sql.get()).isEqualTo(expected);
+
+        log.info("Overdue report over {} projects, median ms: snapshot {}, sql {}, jpa {}", PROJECTS,
+                String.format("%.2f", medianMillis(snapshot)), String.format("%.2f", medianMillis(sql)),
+                String.format("%.2f", medianMillis(jpa)));
+    }
+
+    // What a report had to do before the snapshot: load every project and group in Java
+    private List<OverdueCount> countWithEntities(LocalDate from, LocalDate lastDay) {
+        Map<OverdueCount, Long> counts = new TreeMap<>(OverdueCount.ORDER);
+        for (Project project : projectRepository.findAll()) {
+            LocalDate endDate = project.getEndDate();
+            if (endDate.isBefore(from) || endDate.isAfter(lastDay) || project.getStatus() == ProjectStatus.COMPLETED) {
+                continue;
+            }
+            Long assigneeId = project.getAssignedTo() != null ? project.getAssignedTo().getId() : null;
+            counts.merge(new OverdueCount(assigneeId, endDate.getYear(), endDate.getMonthValue(),
+                    project.getPriority(), 0L), 1L, Long::sum);
+        }
+        List<OverdueCount> result = new ArrayList<>(counts.size());
+        counts.forEach((key, count) -> result.add(
+                new OverdueCount(key.assigneeId(), key.year(), key.month(), key.priority(), count)));
+        return result;
+    }
+
+    private void insertProjects() {
+        List<Long> userIds = userRepository.findAll().stream().map(User::getId).toList();
+        Random random = new Random(42);
+        LocalDate base = LocalDate.now().minusYears(3);
+        List<Project> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < PROJECTS; i++) {
+            Project project = new Project();
+            project.setName("Analytics project " + i);
+            project.setStartDate(base.plusDays(random.nextInt(4 * 365)));
+            project.setEndDate(project.getStartDate().plusDays(random.nextInt(240)));
+            // One in ten is unassigned
+            if (random.nextInt(10) > 0) {
+                User assignee = new User();
+                assignee.setId(userIds.get(random.nextInt(userIds.size())));
+                project.setAssignedTo(assignee);
+            }
+            project.setPriority(PriorityLevel.values()[random.nextInt(PriorityLevel.values().length)]);
+            project.setStatus(ProjectStatus.values()[random.nextInt(ProjectStatus.values().length)]);
+            project.setCreatedAt(LocalDateTime.now());
+            project.setCreatedBy("benchmark");
+            batch.add(project);
+            if (batch.size() == BATCH_SIZE) {
+                projectBatchRepository.insertAll(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            projectBatchRepository.insertAll(batch);
+        }
+    }
+
+    private static double medianMillis(Supplier<?> run) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            run.get();
+        }
+        long[] nanos = new long[MEASURED_RUNS];
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long start = System.nanoTime();
+            run.get();
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        return nanos[MEASURED_RUNS / 2] / 1_000_000.0;
+    }
+}
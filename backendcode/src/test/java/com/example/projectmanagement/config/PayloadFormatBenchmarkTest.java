@@ -0,0 +1,116 @@
+package com.example.projectmanagement.config;
+
+import com.example.projectmanagement.model.dto.ProjectDto;
+import com.example.projectmanagement.model.dto.response.ApiResponse;
+import com.example.projectmanagement.model.enums.PriorityLevel;
+import com.example.projectmanagement.model.enums.ProjectStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the wire formats a project list page can be served in: CPU per serialization
+ * and bytes before and after gzip. The mappers are built the way Boot builds them, so the
+ * numbers match what the converters produce. Runs without the app so it is quick and stable
+ * enough to keep in the suite.
+ */
+class PayloadFormatBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PayloadFormatBenchmarkTest.class);
+
+    private static final int PAGE_SIZE = 100;
+    private static final int WARMUP_ITERATIONS = 2_000;
+    private static final int MEASURED_ITERATIONS = 2_000;
+
+    @Test
+    void comparesFormatsOnAProjectPage() throws IOException {
+        ApiResponse<Page<ProjectDto>> payload = ApiResponse.success(samplePage());
+
+        Result defaultJson = measure("json (default page)", configure(Jackson2ObjectMapperBuilder.json(), false), payload);
+        Result leanJson = measure("json", configure(Jackson2ObjectMapperBuilder.json(), true), payload);
+        Result smile = measure("smile", configure(Jackson2ObjectMapperBuilder.smile(), true), payload);
+        Result cbor = measure("cbor", configure(Jackson2ObjectMapperBuilder.cbor(), true), payload);
+
+        for (Result result : List.of(defaultJson, leanJson, smile, cbor)) {
+            log.info("{}: {} bytes, {} gzipped, {} cpu us/op", result.format, result.bytes, result.gzippedBytes,
+                    String.format("%.1f", result.cpuNanosPerOp / 1_000.0));
+        }
+
+        assertThat(leanJson.bytes).isLessThan(defaultJson.bytes);
+        assertThat(smile.bytes).isLessThan(leanJson.bytes);
+        assertThat(cbor.bytes).isLessThan(leanJson.bytes);
+        assertThat(leanJson.gzippedBytes).isLessThan(leanJson.bytes / 3);
+    }
+
+    private static ObjectMapper configure(Jackson2ObjectMapperBuilder builder, boolean leanPages) {
+        builder.featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        if (leanPages) {
+            builder.serializers(new PageJsonSerializer());
+        }
+        return builder.build();
+    }
+
+    private static Result measure(String format, ObjectMapper mapper, Object payload) throws IOException {
+        byte[] bytes = mapper.writeValueAsBytes(payload);
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            bytes = mapper.writeValueAsBytes(payload);
+        }
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        long start = threads.getCurrentThreadCpuTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            bytes = mapper.writeValueAsBytes(payload);
+        }
+        double cpuNanosPerOp = (double) (threads.getCurrentThreadCpuTime() - start) / MEASURED_ITERATIONS;
+
+        ByteArrayOutputStream gzipped = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(gzipped)) {
+            gzip.write(bytes);
+        }
+        return new Result(format, bytes.length, gzipped.size(), cpuNanosPerOp);
+    }
+
+    private static Page<ProjectDto> samplePage() {
+        Random random = new Random(42);
+        List<ProjectDto> projects = new ArrayList<>();
+        LocalDate base = LocalDate.of(2024, 1, 1);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            LocalDate start = base.plusDays(random.nextInt(365));
+            projects.add(ProjectDto.builder()
+                    .id(10_000L + i)
+                    .name("Project " + i)
+                    .description("Quarterly delivery work stream " + i + " covering design, build and rollout")
+                    .startDate(start)
+                    .endDate(start.plusDays(14 + random.nextInt(180)))
+                    .assignedToId(1L + random.nextInt(50))
+                    .assignedToName("employee" + random.nextInt(50))
+                    .priority(PriorityLevel.values()[random.nextInt(PriorityLevel.values().length)])
+                    .status(ProjectStatus.values()[random.nextInt(ProjectStatus.values().length)])
+                    .version((long) random.nextInt(20))
+                    .build());
+        }
+        return new PageImpl<>(projects, PageRequest.of(3, PAGE_SIZE, Sort.by("name")), 5_000);
+    }
+
+    private record Result(String format, int bytes, int gzippedBytes, double cpuNanosPerOp) {
+    }
+}
@@ -0,0 +1,213 @@
+package com.example.projectmanagement.controller;
+
+import com.example.emssystem.EmSsystemApplication;
+import com.example.projectmanagement.model.dto.ProjectAttachmentDto;
+import com.example.projectmanagement.model.dto.ProjectDto;
+import com.example.projectmanagement.model.dto.request.ProjectRequest;
+import com.example.projectmanagement.model.entity.User;
+import com.example.projectmanagement.model.enums.PriorityLevel;
+import com.example.projectmanagement.repository.UserRepository;
+import com.example.projectmanagement.security.UserPrincipal;
+import com.example.projectmanagement.service.ProjectAttachmentService;
+import com.example.projectmanagement.service.ProjectService;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Downloads one attachment with the conditional and range headers clients send. MockMvc
+ * has no sendfile, so bodies come through the streamed fallback.
+ */
+@SpringBootTest(classes = EmSsystemApplication.class, properties = {
+        "spring.datasource.url=jdbc:h2:mem:attachment-download",
+        "rate-limit.enabled=false"})
+@AutoConfigureMockMvc
+@DirtiesContext
+class ProjectAttachmentControllerTest {
+
+    private static final int SIZE = 1_000;
+
+    @TempDir
+    static Path attachmentDirectory;
+
+    @DynamicPropertySource
+    static void attachmentProperties(DynamicPropertyRegistry registry) {
+        registry.add("attachments.directory", () -> attachmentDirectory.toString());
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private ProjectAttachmentService attachmentService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final byte[] content = new byte[SIZE];
+    private String url;
+    private String etag;
+    private String accessToken;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        new Random(3).nextBytes(content);
+        User admin = userRepository.findByUsername("admin").orElseThrow();
+        UserPrincipal principal = UserPrincipal.from(admin);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+        try {
+            ProjectDto project = projectService.createProject(ProjectRequest.builder()
+                    .name("Attachment downloads")
+                    .startDate(LocalDate.now())
+                    .endDate(LocalDate.now().plusMonths(1))
+                    .priority(PriorityLevel.MEDIUM)
+                    .build());
+            ProjectAttachmentDto attachment = attachmentService.upload(project.getId(), "data.bin",
+                    MediaType.APPLICATION_OCTET_STREAM_VALUE, new ByteArrayInputStream(content));
+            url = "/api/projects/" + project.getId() + "/attachments/" + attachment.getId();
+            etag = "\"" + attachment.getSha256() + "\"";
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+
+        String login = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"admin\",\"password\":\"admin123\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        accessToken = JsonPath.read(login, "$.data.token");
+    }
+
+    @Test
+    void sendsTheWholeFileWithItsValidators() throws Exception {
+        MockHttpServletResponse response = download(new HttpHeaders());
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.getContentAsByteArray()).isEqualTo(content);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(etag);
+        assertThat(response.getHeader(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+        assertThat(response.getHeader(HttpHeaders.CONTENT_LENGTH)).isEqualTo(String.valueOf(SIZE));
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isNull();
+    }
+
+    @Test
+    void singleRangeIsPartialContent() throws Exception {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RANGE, "bytes=100-199");
+
+        MockHttpServletResponse response = download(headers);
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.PARTIAL_CONTENT.value());
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 100-199/" + SIZE);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_LENGTH)).isEqualTo("100");
+        assertThat(response.getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(content, 100, 200));
+
+        // Open-ended and suffix ranges
+        headers.set(HttpHeaders.RANGE, "bytes=990-");
+        assertThat(download(headers).getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(content, 990, SIZE));
+        headers.set(HttpHeaders.RANGE, "bytes=-5");
+        response = download(headers);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 995-999/" + SIZE);
+        assertThat(response.getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(content, 995, SIZE));
+    }
+
+    @Test
+    void rangePastTheEndIsNotSatisfiable() throws Exception {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RANGE, "bytes=" + SIZE + "-");
+
+        MockHttpServletResponse response = download(headers);
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */" + SIZE);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void ifRangeForAnotherVersionGetsTheWholeFile() throws Exception {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RANGE, "bytes=0-9");
+        headers.set(HttpHeaders.IF_RANGE, "\"0000\"");
+
+        MockHttpServletResponse response = download(headers);
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isNull();
+        assertThat(response.getContentAsByteArray()).isEqualTo(content);
+
+        headers.set(HttpHeaders.IF_RANGE, etag);
+        response = download(headers);
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.PARTIAL_CONTENT.value());
+        assertThat(response.getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(content, 0, 10));
+    }
+
+    @Test
+    void severalRangesFallBackToTheWholeFile() throws Exception {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RANGE, "bytes=0-9,500-509");
+
+        MockHttpServletResponse response = download(headers);
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isNull();
+        assertThat(response.getContentAsByteArray()).isEqualTo(content);
+    }
+
+    @Test
+    void matchingETagIsNotModified() throws Exception {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(etag);
+
+        MockHttpServletResponse response = download(headers);
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(etag);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+
+        headers.setIfNoneMatch("\"0000\"");
+        assertThat(download(headers).getStatus()).isEqualTo(HttpStatus.OK.value());
+    }
+
+    // Follows the streamed body through the async dispatch when the controller starts one
+    private MockHttpServletResponse download(HttpHeaders headers) throws Exception {
+        MvcResult result = mockMvc.perform(get(url)
+                        .headers(headers)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken))
+                .andReturn();
+        if (result.getRequest().isAsyncStarted()) {
+            result = mockMvc.perform(asyncDispatch(result)).andReturn();
+        }
+        return result.getResponse();
+    }
+}
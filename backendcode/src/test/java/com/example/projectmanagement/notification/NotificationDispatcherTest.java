@@ -0,0 +1,160 @@
+package com.example.projectmanagement.notification;
+
+import com.example.projectmanagement.config.NotificationConfig;
+import com.example.projectmanagement.model.entity.User;
+import com.example.projectmanagement.model.enums.NotificationType;
+import com.example.projectmanagement.repository.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs the dispatcher against a recording sender, or the file sink, with a mocked user
+ * lookup, so digesting and retries are checked without the app or a mail server.
+ */
+class NotificationDispatcherTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final List<NotificationDigest> sent = new CopyOnWriteArrayList<>();
+    private NotificationDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (dispatcher != null) {
+            dispatcher.destroy();
+        }
+    }
+
+    @Test
+    void coalescesARecipientsNotificationsIntoOneDigest() throws Exception {
+        NotificationConfig config = config(60_000);
+        dispatcher = new NotificationDispatcher(sent::add, userRepository, config);
+        when(userRepository.findAllById(anyIterable())).thenReturn(List.of(user(7L, "ann")));
+
+        dispatcher.enqueue(Notification.of(7L, NotificationType.ASSIGNED, 1L, "Alpha", "Assigned to you"));
+        dispatcher.enqueue(Notification.of(7L, NotificationType.STATUS_CHANGED, 1L, "Alpha", "PENDING -> IN_PROGRESS"));
+        dispatcher.enqueue(Notification.of(7L, NotificationType.STATUS_CHANGED, 1L, "Alpha", "IN_PROGRESS -> COMPLETED"));
+        dispatcher.flush(false);
+        assertThat(sent).isEmpty();
+
+        dispatcher.flush(true);
+        waitFor(() -> sent.size() == 1);
+        NotificationDigest digest = sent.get(0);
+        assertThat(digest.email()).isEqualTo("ann@example.com");
+        assertThat(digest.notifications()).extracting(Notification::detail)
+                .containsExactly("Assigned to you", "IN_PROGRESS -> COMPLETED");
+    }
+
+    @Test
+    void sendsEarlyWhenADigestIsFull() throws Exception {
+        NotificationConfig config = config(60_000);
+        config.setMaxPerDigest(2);
+        dispatcher = new NotificationDispatcher(sent::add, userRepository, config);
+        when(userRepository.findAllById(anyIterable())).thenReturn(List.of(user(7L, "ann")));
+
+        dispatcher.enqueue(Notification.of(7L, NotificationType.ASSIGNED, 1L, "Alpha", "Assigned to you"));
+        dispatcher.enqueue(Notification.of(7L, NotificationType.ASSIGNED, 2L, "Beta", "Assigned to you"));
+        dispatcher.flush(false);
+
+        waitFor(() -> sent.size() == 1);
+        assertThat(sent.get(0).notifications()).hasSize(2);
+    }
+
+    @Test
+    void retriesAFailedSendWithBackoff() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+        NotificationSender flaky = digest -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new IOException("connection refused");
+            }
+            sent.add(digest);
+        };
+        dispatcher = new NotificationDispatcher(flaky, userRepository, config(0));
+        when(userRepository.findAllById(anyIterable())).thenReturn(List.of(user(7L, "ann")));
+
+        dispatcher.enqueue(Notification.of(7L, NotificationType.DUE_SOON, 1L, "Alpha", "Ends soon"));
+        dispatcher.flush(false);
+
+        waitFor(() -> sent.size() == 1);
+        assertThat(attempts).hasValue(3);
+        assertThat(dispatcher.getDeliveredCount()).isEqualTo(1);
+        assertThat(dispatcher.getFailedCount()).isZero();
+    }
+
+    @Test
+    void dropsNotificationsForDeletedUsersAndPastCapacity() {
+        NotificationConfig config = config(0);
+        config.setMaxPending(1);
+        dispatcher = new NotificationDispatcher(sent::add, userRepository, config);
+        when(userRepository.findAllById(anyIterable())).thenReturn(List.of());
+
+        dispatcher.enqueue(Notification.of(7L, NotificationType.ASSIGNED, 1L, "Alpha", "Assigned to you"));
+        dispatcher.enqueue(Notification.of(8L, NotificationType.ASSIGNED, 2L, "Beta", "Assigned to you"));
+        dispatcher.flush(false);
+
+        assertThat(dispatcher.getDroppedCount()).isEqualTo(2);
+        assertThat(sent).isEmpty();
+    }
+
+    @Test
+    void fileSinkWritesOneJsonLinePerDigest(@TempDir Path dir) throws Exception {
+        NotificationConfig config = config(0);
+        config.setFile(dir.resolve("notifications.jsonl").toString());
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        FileNotificationSender sender = new FileNotificationSender(config, objectMapper);
+        dispatcher = new NotificationDispatcher(sender, userRepository, config);
+        when(userRepository.findAllById(anyIterable())).thenReturn(List.of(user(7L, "ann"), user(8L, "bob")));
+
+        dispatcher.enqueue(Notification.of(7L, NotificationType.ASSIGNED, 1L, "Alpha", "Assigned to you"));
+        dispatcher.enqueue(Notification.of(8L, NotificationType.ASSIGNED, 2L, "Beta", "Assigned to you"));
+        dispatcher.flush(false);
+        waitFor(() -> dispatcher.getDeliveredCount() == 2);
+        sender.destroy();
+
+        List<String> lines = Files.readAllLines(dir.resolve("notifications.jsonl"));
+        assertThat(lines).hasSize(2);
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertThat(first.get("to").asText()).endsWith("@example.com");
+        assertThat(first.get("notifications")).hasSize(1);
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met within 5 s").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private static NotificationConfig config(long digestWindowMs) {
+        NotificationConfig config = new NotificationConfig();
+        config.setDigestWindowMs(digestWindowMs);
+        config.setInitialBackoffMs(1);
+        config.setMaxBackoffMs(10);
+        return config;
+    }
+
+    private static User user(Long id, String username) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername(username);
+        user.setEmail(username + "@example.com");
+        return user;
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.projectmanagement.observability;
+
+import com.example.emssystem.EmSsystemApplication;
+import com.example.projectmanagement.model.dto.AllocationStatsDto;
+import com.example.projectmanagement.model.dto.ProjectDto;
+import com.example.projectmanagement.model.dto.request.ProjectRequest;
+import com.example.projectmanagement.model.dto.request.ProjectStatusRequest;
+import com.example.projectmanagement.model.entity.User;
+import com.example.projectmanagement.model.enums.PriorityLevel;
+import com.example.projectmanagement.model.enums.ProjectStatus;
+import com.example.projectmanagement.repository.UserRepository;
+import com.example.projectmanagement.security.UserPrincipal;
+import com.example.projectmanagement.service.ProjectService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvFileSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Fails when an endpoint's mean allocation per request exceeds its budget in
+ * allocation-budgets.csv. Requests are warmed up first so JIT compilation and lazy
+ * initialisation do not count against the budget.
+ */
+@SpringBootTest(classes = EmSsystemApplication.class, properties = {
+        "spring.datasource.url=jdbc:h2:mem:allocation-budget",
+        "rate-limit.enabled=false"})
+@AutoConfigureMockMvc
+@DirtiesContext
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class AllocationBudgetTest {
+
+    private static final Logger log = LoggerFactory.getLogger(AllocationBudgetTest.class);
+
+    private static final int SEED_PROJECTS = 60;
+    private static final int WARMUP_REQUESTS = 200;
+    private static final int MEASURED_REQUESTS = 100;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private AllocationTracker allocationTracker;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private String bearerToken;
+
+    @BeforeAll
+    void setUp() throws Exception {
+        User admin = userRepository.findByUsername("admin").orElseThrow();
+        UserPrincipal principal = UserPrincipal.from(admin);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+        try {
+            // Through the service, so the change log, hierarchy and indexes see the projects too
+            for (int i = 0; i < SEED_PROJECTS; i++) {
+                ProjectDto project = projectService.createProject(ProjectRequest.builder()
+                        .name("Allocation budget project " + i)
+                        .description("Seeded so that list endpoints return full pages")
+                        .startDate(LocalDate.now())
+                        .endDate(LocalDate.now().plusMonths(3))
+                        .priority(PriorityLevel.values()[i % PriorityLevel.values().length])
+                        .assignedToId(admin.getId())
+                        .build());
+                ProjectStatus status = ProjectStatus.values()[i % ProjectStatus.values().length];
+                if (status != project.getStatus()) {
+                    projectService.updateProjectStatus(project.getId(), new ProjectStatusRequest(status), null);
+                }
+            }
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+
+        String body = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"admin\",\"password\":\"admin123\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode login = objectMapper.readTree(body);
+        bearerToken = "Bearer " + login.path("data").path("token").asText();
+    }
+
+    @ParameterizedTest(name = "{0} {1} under {2} KB")
+    @CsvFileSource(resources = "/allocation-budgets.csv", delimiter = ' ')
+    void staysWithinAllocationBudget(String method, String pathAndQuery, long budgetKb) throws Exception {
+        assumeTrue(AllocationMeter.isSupported(), "JVM does not expose thread allocation counters");
+
+        for (int i = 0; i < WARMUP_REQUESTS; i++) {
+            perform(method, pathAndQuery);
+        }
+        allocationTracker.reset();
+        for (int i = 0; i < MEASURED_REQUESTS; i++) {
+            perform(method, pathAndQuery);
+        }
+
+        List<String> endpoints = allocationTracker.snapshot().stream().map(AllocationStatsDto::getEndpoint).toList();
+        assertThat(endpoints).hasSize(1);
+        EndpointAllocationStats stats = allocationTracker.get(endpoints.get(0));
+        assertThat(stats.getCount()).isEqualTo(MEASURED_REQUESTS);
+
+        long meanKb = stats.getMeanBytes() / 1024;
+        log.info("allocation {} {} -> {} mean={} KB p95<={} KB max={} KB budget={} KB",
+                method, pathAndQuery, endpoints.get(0), meanKb, stats.percentileBytes(0.95) / 1024,
+                stats.getMaxBytes() / 1024, budgetKb);
+        assertThat(meanKb)
+                .as("mean allocation of %s %s in KB", method, pathAndQuery)
+                .isLessThanOrEqualTo(budgetKb);
+    }
+
+    private void perform(String method, String pathAndQuery) throws Exception {
+        mockMvc.perform(request(HttpMethod.valueOf(method),
+                        UriComponentsBuilder.fromUriString(pathAndQuery).build().toUri())
+                        .header("Authorization", bearerToken))
+                .andExpect(status().is2xxSuccessful());
+    }
+}
@@ -0,0 +1,176 @@
+package com.example.projectmanagement.overload;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives the limiter with a simulated server instead of the real app, so the result is
+ * deterministic and the test runs in well under a second. The server is processor
+ * sharing over a fixed number of workers, which is how a saturated Tomcat plus DB pool
+ * behaves: every extra request slows all the others down. Clients give up after a
+ * deadline, so only responses inside it count as goodput.
+ */
+class ConcurrencyLimiterLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ConcurrencyLimiterLoadTest.class);
+
+    private static final double WORKERS = 8;
+    private static final double MEAN_WORK_NANOS = 10_000_000;
+    private static final double CAPACITY_PER_SECOND = WORKERS * 1_000_000_000 / MEAN_WORK_NANOS;
+    private static final long STEP_NANOS = 500_000;
+    private static final long WARMUP_NANOS = 5_000_000_000L;
+    private static final long DURATION_NANOS = 30_000_000_000L;
+    private static final long DEADLINE_NANOS = 200_000_000;
+
+    @Test
+    void goodputIsPreservedPastSaturation() {
+        Result atCapacity = simulate(newLimiter(), CAPACITY_PER_SECOND);
+        for (double overload : new double[] {1.5, 2, 4}) {
+            Result limited = simulate(newLimiter(), CAPACITY_PER_SECOND * overload);
+            Result unlimited = simulate(null, CAPACITY_PER_SECOND * overload);
+            if (log.isInfoEnabled()) {
+                log.info(String.format("offered=%.1fx limited: goodput=%.0f/s shed=%.0f/s late=%.0f/s " +
+                                "(high shed %.0f%%, low shed %.0f%%) | unlimited: goodput=%.0f/s late=%.0f/s",
+                        overload, limited.goodput, limited.shed, limited.late, 100 * limited.highShedRatio,
+                        100 * limited.lowShedRatio, unlimited.goodput, unlimited.late));
+            }
+
+            assertThat(limited.goodput).isGreaterThanOrEqualTo(atCapacity.goodput);
+            assertThat(limited.late).isLessThan(limited.goodput * 0.01);
+            assertThat(limited.highShedRatio).isLessThan(limited.lowShedRatio);
+            assertThat(unlimited.goodput).isLessThan(limited.goodput * 0.1);
+        }
+    }
+
+    @Test
+    void admitsEverythingBelowSaturation() {
+        Result result = simulate(newLimiter(), CAPACITY_PER_SECOND * 0.5);
+
+        assertThat(result.shed).isZero();
+        assertThat(result.late).isZero();
+    }
+
+    @Test
+    void keepsAdmittingNormalTrafficWhileRemeasuring() {
+        // Re-measures every 2,000 samples, so a run at twice capacity crosses the boundary
+        // about a dozen times; the other run never re-measures after startup
+        Result remeasuring = simulate(newLimiter(2_000), CAPACITY_PER_SECOND * 2);
+        Result steady = simulate(newLimiter(Long.MAX_VALUE), CAPACITY_PER_SECOND * 2);
+        log.info(String.format("remeasuring every 2000 samples: goodput=%.0f/s lowest limit=%d normal shed %.1f%% " +
+                        "| never remeasuring: goodput=%.0f/s normal shed %.1f%%", remeasuring.goodput,
+                remeasuring.lowestLimit, 100 * remeasuring.normalShedRatio, steady.goodput,
+                100 * steady.normalShedRatio));
+
+        assertThat(remeasuring.samples).isGreaterThan(10 * 2_000);
+        // Never pinned to the minimum limit, which would leave NORMAL requests 3 slots
+        assertThat(remeasuring.lowestLimit).isGreaterThan(4);
+        assertThat(remeasuring.normalShedRatio).isLessThan(steady.normalShedRatio + 0.03);
+        assertThat(remeasuring.goodput).isGreaterThan(steady.goodput * 0.97);
+        assertThat(remeasuring.late).isLessThan(remeasuring.goodput * 0.01);
+    }
+
+    private static GradientConcurrencyLimiter newLimiter() {
+        return newLimiter(20_000);
+    }
+
+    private static GradientConcurrencyLimiter newLimiter(long remeasureEverySamples) {
+        return new GradientConcurrencyLimiter(20, 4, 1000, 0.5, 0.2, 50, 50, remeasureEverySamples, 1.0, 0.9, 0.7);
+    }
+
+    private static Result simulate(GradientConcurrencyLimiter limiter, double offeredPerSecond) {
+        Random random = new Random(42);
+        PriorityQueue<Job> running = new PriorityQueue<>(Comparator.comparingDouble(Job::finishAtService));
+        double service = 0;
+        long good = 0;
+        long late = 0;
+        long shed = 0;
+        long samples = 0;
+        int lowestLimit = Integer.MAX_VALUE;
+        long[] arrivals = new long[RequestPriority.values().length];
+        long[] rejected = new long[RequestPriority.values().length];
+        double arrivalsPerStep = offeredPerSecond * STEP_NANOS / 1e9;
+
+        for (long now = 0; now < DURATION_NANOS; now += STEP_NANOS) {
+            boolean measured = now >= WARMUP_NANOS;
+            if (measured && limiter != null) {
+                lowestLimit = Math.min(lowestLimit, limiter.getLimit());
+            }
+            for (int i = poisson(random, arrivalsPerStep); i > 0; i--) {
+                // 60% single reads (5 ms), 30% listings (20 ms), 10% writes (10 ms)
+                double kind = random.nextDouble();
+                RequestPriority priority = kind < 0.6 ? RequestPriority.HIGH
+                        : kind < 0.9 ? RequestPriority.LOW : RequestPriority.NORMAL;
+                double work = switch (priority) {
+                    case HIGH -> 5_000_000;
+                    case LOW -> 20_000_000;
+                    default -> 10_000_000;
+                };
+                if (measured) {
+                    arrivals[priority.ordinal()]++;
+                }
+                if (limiter != null && !limiter.tryAcquire(priority)) {
+                    if (measured) {
+                        shed++;
+                        rejected[priority.ordinal()]++;
+                    }
+                    continue;
+                }
+                running.add(new Job(service + work * (0.5 + random.nextDouble()), now));
+            }
+
+            if (!running.isEmpty()) {
+                service += STEP_NANOS * Math.min(1.0, WORKERS / running.size());
+            }
+            while (!running.isEmpty() && running.peek().finishAtService() <= service) {
+                Job job = running.poll();
+                long latency = now + STEP_NANOS - job.startNanos();
+                if (limiter != null) {
+                    limiter.release(latency, true);
+                    samples++;
+                }
+                if (job.startNanos() >= WARMUP_NANOS) {
+                    if (latency <= DEADLINE_NANOS) {
+                        good++;
+                    } else {
+                        late++;
+                    }
+                }
+            }
+        }
+
+        double seconds = (DURATION_NANOS - WARMUP_NANOS) / 1e9;
+        return new Result(good / seconds, shed / seconds, late / seconds,
+                ratio(rejected, arrivals, RequestPriority.HIGH), ratio(rejected, arrivals, RequestPriority.NORMAL),
+                ratio(rejected, arrivals, RequestPriority.LOW), samples, lowestLimit);
+    }
+
+    private static double ratio(long[] rejected, long[] arrivals, RequestPriority priority) {
+        long total = arrivals[priority.ordinal()];
+        return total == 0 ? 0 : (double) rejected[priority.ordinal()] / total;
+    }
+
+    private static int poisson(Random random, double mean) {
+        double threshold = Math.exp(-mean);
+        double product = random.nextDouble();
+        int count = 0;
+        while (product > threshold) {
+            count++;
+            product *= random.nextDouble();
+        }
+        return count;
+    }
+
+    private record Job(double finishAtService, long startNanos) {
+    }
+
+    private record Result(double goodput, double shed, double late, double highShedRatio, double normalShedRatio,
+                          double lowShedRatio, long samples, int lowestLimit) {
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.projectmanagement.security;
+
+import com.example.emssystem.EmSsystemApplication;
+import com.example.projectmanagement.model.dto.ProjectDto;
+import com.example.projectmanagement.model.dto.request.ProjectMemberRequest;
+import com.example.projectmanagement.model.dto.request.ProjectRequest;
+import com.example.projectmanagement.model.dto.response.BatchResponse;
+import com.example.projectmanagement.model.entity.User;
+import com.example.projectmanagement.model.enums.PriorityLevel;
+import com.example.projectmanagement.model.enums.ProjectMemberRole;
+import com.example.projectmanagement.model.enums.RoleType;
+import com.example.projectmanagement.repository.ProjectMemberRepository;
+import com.example.projectmanagement.repository.UserRepository;
+import com.example.projectmanagement.service.ProjectMemberService;
+import com.example.projectmanagement.service.ProjectService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Revokes access behind the visibility index's back, as a write on another node does, and
+ * checks that listings and batch reads stop serving the project before the next rebuild.
+ */
+@SpringBootTest(classes = EmSsystemApplication.class,
+        properties = "spring.datasource.url=jdbc:h2:mem:project-access-policy")
+@DirtiesContext
+class ProjectAccessPolicyTest {
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private ProjectMemberService projectMemberService;
+
+    @Autowired
+    private ProjectMemberRepository projectMemberRepository;
+
+    @Autowired
+    private ProjectVisibilityIndex visibilityIndex;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void membershipRemovedElsewhereHidesTheProjectAtOnce() {
+        User employee = createEmployee("policy.employee");
+        User admin = userRepository.findByUsername("admin").orElseThrow();
+        authenticate(admin);
+        ProjectDto shared = createProject("Shared", admin.getId());
+        ProjectDto own = createProject("Own", employee.getId());
+        projectMemberService.setMember(shared.getId(), employee.getId(),
+                new ProjectMemberRequest(ProjectMemberRole.VIEWER));
+        visibilityIndex.rebuild();
+
+        authenticate(employee);
+        assertThat(ids(projectService.getUserProjects(PageRequest.of(0, 10))))
+                .containsExactly(shared.getId(), own.getId());
+
+        // Another node removes the membership; this node's index still lists the project
+        transactionTemplate.executeWithoutResult(status -> projectMemberRepository.delete(
+                projectMemberRepository.findByProjectIdAndUserId(shared.getId(), employee.getId()).orElseThrow()));
+        assertThat(visibilityIndex.visibleProjects(employee.getId()).contains(shared.getId().intValue())).isTrue();
+
+        Page<ProjectDto> page = projectService.getUserProjects(PageRequest.of(0, 10));
+        assertThat(ids(page)).containsExactly(own.getId());
+        assertThat(page.getTotalElements()).isEqualTo(1);
+        assertThat(ids(projectService.getAllProjects(PageRequest.of(0, 10)))).containsExactly(own.getId());
+
+        BatchResponse<ProjectDto> batch = projectService.getProjectsByIds(List.of(shared.getId(), own.getId()));
+        assertThat(batch.getForbiddenIds()).containsExactly(shared.getId());
+        assertThat(batch.getItems()).extracting(ProjectDto::getId).containsExactly(own.getId());
+
+        // The listing also corrected the index
+        assertThat(visibilityIndex.visibleProjects(employee.getId()).contains(shared.getId().intValue())).isFalse();
+    }
+
+    private User createEmployee(String username) {
+        User user = new User();
+        user.setUsername(username);
+        user.setPassword("unused");
+        user.setEmail(username + "@example.com");
+        user.setFirstName("Policy");
+        user.setLastName("Employee");
+        user.setRole(RoleType.EMPLOYEE);
+        return userRepository.save(user);
+    }
+
+    private ProjectDto createProject(String name, Long assigneeId) {
+        return projectService.createProject(ProjectRequest.builder()
+                .name("Access policy " + name)
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now().plusMonths(1))
+                .priority(PriorityLevel.MEDIUM)
+                .assignedToId(assigneeId)
+                .build());
+    }
+
+    private static void authenticate(User user) {
+        UserPrincipal principal = UserPrincipal.from(user);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    private static List<Long> ids(Page<ProjectDto> page) {
+        return page.getContent().stream().map(ProjectDto::getId).toList();
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.projectmanagement.service;
+
+import com.example.emssystem.EmSsystemApplication;
+import com.example.projectmanagement.exception.VersionConflictException;
+import com.example.projectmanagement.model.dto.ProjectDto;
+import com.example.projectmanagement.model.dto.request.ProjectRequest;
+import com.example.projectmanagement.model.dto.request.ProjectStatusRequest;
+import com.example.projectmanagement.model.enums.PriorityLevel;
+import com.example.projectmanagement.model.enums.ProjectStatus;
+import com.example.projectmanagement.repository.UserRepository;
+import com.example.projectmanagement.security.UserPrincipal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Many writers hammering a handful of hot projects through the If-Match path. Every
+ * successful write must bump the version by exactly one, so the final version tells us
+ * whether any update was lost.
+ */
+@SpringBootTest(classes = EmSsystemApplication.class)
+class ProjectConcurrencyStressTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectConcurrencyStressTest.class);
+
+    private static final int HOT_PROJECTS = 4;
+    private static final int WRITERS = 16;
+    private static final int WRITES_PER_WRITER = 200;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private UserPrincipal manager;
+
+    @BeforeEach
+    void setUp() {
+        manager = UserPrincipal.from(userRepository.findByUsername("admin").orElseThrow());
+        authenticate();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void concurrentStatusUpdatesNeverLoseWrites() throws Exception {
+        List<ProjectDto> projects = new ArrayList<>();
+        for (int i = 0; i < HOT_PROJECTS; i++) {
+            projects.add(projectService.createProject(ProjectRequest.builder()
+                    .name("Hot project " + i)
+                    .startDate(LocalDate.now())
+                    .endDate(LocalDate.now().plusMonths(1))
+                    .priority(PriorityLevel.HIGH)
+                    .build()));
+        }
+
+        AtomicLongArray successes = new AtomicLongArray(HOT_PROJECTS);
+        LongAdder conflicts = new LongAdder();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(WRITERS);
+        ProjectStatus[] statuses = ProjectStatus.values();
+
+        List<Future<?>> writers = new ArrayList<>();
+        for (int w = 0; w < WRITERS; w++) {
+            writers.add(pool.submit(() -> {
+                authenticate();
+                start.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < WRITES_PER_WRITER; i++) {
+                    int slot = random.nextInt(HOT_PROJECTS);
+                    Long id = projects.get(slot).getId();
+                    Long seen = projectService.getProjectById(id).getVersion();
+                    ProjectStatusRequest request = new ProjectStatusRequest(statuses[random.nextInt(statuses.length)]);
+                    try {
+                        projectService.updateProjectStatus(id, request, seen);
+                        successes.incrementAndGet(slot);
+                    } catch (VersionConflictException ex) {
+                        assertThat(ex.getCurrentVersion()).isGreaterThan(seen);
+                        conflicts.increment();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        for (Future<?> writer : writers) {
+            writer.get();
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+        pool.shutdown();
+        assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        long totalSuccesses = 0;
+        for (int slot = 0; slot < HOT_PROJECTS; slot++) {
+            ProjectDto initial = projects.get(slot);
+            ProjectDto current = projectService.getProjectById(initial.getId());
+            assertThat(current.getVersion()).isEqualTo(initial.getVersion() + successes.get(slot));
+            totalSuccesses += successes.get(slot);
+        }
+
+        long attempts = (long) WRITERS * WRITES_PER_WRITER;
+        assertThat(totalSuccesses + conflicts.sum()).isEqualTo(attempts);
+        assertThat(totalSuccesses).isPositive();
+
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        log.info("writers={} hotProjects={} attempts={} committed={} conflictRate={}% throughput={} attempts/s ({} commits/s)",
+                WRITERS, HOT_PROJECTS, attempts, totalSuccesses,
+                String.format("%.1f", 100.0 * conflicts.sum() / attempts),
+                Math.round(attempts / seconds), Math.round(totalSuccesses / seconds));
+    }
+
+    private void authenticate() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(manager, null, manager.getAuthorities()));
+    }
+}
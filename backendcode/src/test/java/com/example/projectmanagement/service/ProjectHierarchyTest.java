@@ -0,0 +1,172 @@
+package com.example.projectmanagement.service;
+
+import com.example.emssystem.EmSsystemApplication;
+import com.example.projectmanagement.exception.ConflictException;
+import com.example.projectmanagement.exception.InvalidRequestException;
+import com.example.projectmanagement.model.dto.ProjectDto;
+import com.example.projectmanagement.model.dto.ProjectRollupDto;
+import com.example.projectmanagement.model.dto.request.ProjectMoveRequest;
+import com.example.projectmanagement.model.dto.request.ProjectRequest;
+import com.example.projectmanagement.model.dto.request.ProjectStatusRequest;
+import com.example.projectmanagement.model.enums.PriorityLevel;
+import com.example.projectmanagement.model.enums.ProjectStatus;
+import com.example.projectmanagement.repository.UserRepository;
+import com.example.projectmanagement.security.UserPrincipal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Drives project writes through the service and checks the rollups the hierarchy keeps
+ * for every ancestor against what the tree should add up to.
+ */
+@SpringBootTest(classes = EmSsystemApplication.class,
+        properties = "spring.datasource.url=jdbc:h2:mem:project-hierarchy")
+@DirtiesContext
+class ProjectHierarchyTest {
+
+    private static final LocalDate START = LocalDate.now().plusDays(10);
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private ProjectHierarchyService projectHierarchyService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        UserPrincipal manager = UserPrincipal.from(userRepository.findByUsername("admin").orElseThrow());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(manager, null, manager.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void creatingUnderAParentRollsUpToEveryAncestor() {
+        ProjectDto root = create("Root", null, 0, 30);
+        ProjectDto child = create("Child", root.getId(), 5, 40);
+        create("Grandchild", child.getId(), -3, 20);
+
+        ProjectRollupDto rootRollup = rollup(root);
+        assertThat(rootRollup.getDescendantCount()).isEqualTo(2);
+        assertThat(rootRollup.getStatusCounts()).containsEntry(ProjectStatus.NOT_STARTED, 2);
+        assertThat(rootRollup.getEarliestStart()).isEqualTo(START.minusDays(3));
+        assertThat(rootRollup.getLatestEnd()).isEqualTo(START.plusDays(40));
+
+        ProjectRollupDto childRollup = rollup(child);
+        assertThat(childRollup.getDescendantCount()).isEqualTo(1);
+        assertThat(childRollup.getEarliestStart()).isEqualTo(START.minusDays(3));
+        assertThat(childRollup.getLatestEnd()).isEqualTo(START.plusDays(20));
+    }
+
+    @Test
+    void statusChangesMoveCountsInEveryAncestor() {
+        ProjectDto root = create("Root", null, 0, 30);
+        ProjectDto child = create("Child", root.getId(), 0, 30);
+        ProjectDto grandchild = create("Grandchild", child.getId(), 0, 30);
+
+        projectService.updateProjectStatus(grandchild.getId(), new ProjectStatusRequest(ProjectStatus.COMPLETED), null);
+
+        for (ProjectDto ancestor : new ProjectDto[] {root, child}) {
+            ProjectRollupDto rollup = rollup(ancestor);
+            assertThat(rollup.getStatusCounts()).containsEntry(ProjectStatus.COMPLETED, 1);
+        }
+        assertThat(rollup(root).getStatusCounts()).containsEntry(ProjectStatus.NOT_STARTED, 1);
+        assertThat(rollup(root).getProgress()).isEqualTo(0.5);
+        assertThat(rollup(child).getProgress()).isEqualTo(1.0);
+    }
+
+    @Test
+    void shrinkingTheLatestEndRecomputesTheBound() {
+        ProjectDto root = create("Root", null, 0, 10);
+        create("Short child", root.getId(), 0, 20);
+        ProjectDto longChild = create("Long child", root.getId(), 0, 60);
+        assertThat(rollup(root).getLatestEnd()).isEqualTo(START.plusDays(60));
+
+        projectService.updateProject(longChild.getId(), request("Long child", root.getId(), 5, 15), null);
+
+        ProjectRollupDto rollup = rollup(root);
+        assertThat(rollup.getLatestEnd()).isEqualTo(START.plusDays(20));
+        assertThat(rollup.getEarliestStart()).isEqualTo(START);
+    }
+
+    @Test
+    void movingASubtreeUpdatesOldAndNewAncestors() {
+        ProjectDto left = create("Left", null, 0, 10);
+        ProjectDto right = create("Right", null, 0, 10);
+        ProjectDto moved = create("Moved", left.getId(), -5, 50);
+        create("Moved child", moved.getId(), 0, 70);
+        create("Stays", left.getId(), 0, 12);
+
+        projectService.moveProject(moved.getId(), new ProjectMoveRequest(right.getId()), null);
+
+        ProjectRollupDto leftRollup = rollup(left);
+        assertThat(leftRollup.getDescendantCount()).isEqualTo(1);
+        assertThat(leftRollup.getEarliestStart()).isEqualTo(START);
+        assertThat(leftRollup.getLatestEnd()).isEqualTo(START.plusDays(12));
+
+        ProjectRollupDto rightRollup = rollup(right);
+        assertThat(rightRollup.getDescendantCount()).isEqualTo(2);
+        assertThat(rightRollup.getEarliestStart()).isEqualTo(START.minusDays(5));
+        assertThat(rightRollup.getLatestEnd()).isEqualTo(START.plusDays(70));
+
+        assertThatThrownBy(() -> projectService.moveProject(right.getId(), new ProjectMoveRequest(moved.getId()), null))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    @Test
+    void deletingALeafRemovesItFromItsAncestors() {
+        ProjectDto root = create("Root", null, 0, 10);
+        ProjectDto child = create("Child", root.getId(), 0, 10);
+        ProjectDto leaf = create("Leaf", child.getId(), -2, 90);
+
+        assertThatThrownBy(() -> projectService.deleteProject(child.getId())).isInstanceOf(ConflictException.class);
+
+        projectService.deleteProject(leaf.getId());
+
+        ProjectRollupDto rootRollup = rollup(root);
+        assertThat(rootRollup.getDescendantCount()).isEqualTo(1);
+        assertThat(rootRollup.getEarliestStart()).isEqualTo(START);
+        assertThat(rootRollup.getLatestEnd()).isEqualTo(START.plusDays(10));
+
+        ProjectRollupDto childRollup = rollup(child);
+        assertThat(childRollup.getDescendantCount()).isZero();
+        assertThat(childRollup.getEarliestStart()).isNull();
+        assertThat(childRollup.getLatestEnd()).isNull();
+    }
+
+    private ProjectDto create(String name, Long parentId, int startOffset, int endOffset) {
+        return projectService.createProject(request(name, parentId, startOffset, endOffset));
+    }
+
+    private static ProjectRequest request(String name, Long parentId, int startOffset, int endOffset) {
+        return ProjectRequest.builder()
+                .name("Hierarchy " + name)
+                .startDate(START.plusDays(startOffset))
+                .endDate(START.plusDays(endOffset))
+                .parentId(parentId)
+                .priority(PriorityLevel.MEDIUM)
+                .build();
+    }
+
+    private ProjectRollupDto rollup(ProjectDto project) {
+        return projectHierarchyService.getRollup(project.getId());
+    }
+}
@@ -0,0 +1,275 @@
+package com.example.projectmanagement.service;
+
+import com.example.emssystem.EmSsystemApplication;
+import com.example.projectmanagement.config.SyncConfig;
+import com.example.projectmanagement.exception.InvalidRequestException;
+import com.example.projectmanagement.exception.SyncTokenExpiredException;
+import com.example.projectmanagement.model.dto.ProjectDto;
+import com.example.projectmanagement.model.dto.request.ProjectRequest;
+import com.example.projectmanagement.model.dto.response.ProjectSyncResponse;
+import com.example.projectmanagement.model.entity.User;
+import com.example.projectmanagement.model.enums.PriorityLevel;
+import com.example.projectmanagement.model.enums.RoleType;
+import com.example.projectmanagement.repository.UserRepository;
+import com.example.projectmanagement.security.UserPrincipal;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Syncs against a database of its own. Most tests settle changes at once so each sync
+ * sees everything written before it; the settle window test widens it again.
+ */
+@SpringBootTest(classes = EmSsystemApplication.class,
+        properties = "spring.datasource.url=jdbc:h2:mem:project-sync")
+@AutoConfigureMockMvc
+@DirtiesContext
+class SyncServiceTest {
+
+    @Autowired
+    private SyncService syncService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SyncConfig syncConfig;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private long defaultSettleMs;
+
+    @BeforeEach
+    void setUp() {
+        defaultSettleMs = syncConfig.getSettleMs();
+        syncConfig.setSettleMs(0);
+        authenticate(userRepository.findByUsername("admin").orElseThrow());
+    }
+
+    @AfterEach
+    void tearDown() {
+        syncConfig.setSettleMs(defaultSettleMs);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void syncsCreatesUpdatesAndDeletesIncrementally() throws InterruptedException {
+        String start = syncToEnd();
+        ProjectDto kept = createProject("Kept", null);
+        ProjectDto removed = createProject("Removed", null);
+        settle();
+
+        ProjectSyncResponse created = syncService.syncProjects(start, null);
+        assertThat(created.getUpserts()).extracting(ProjectDto::getId).containsExactly(kept.getId(), removed.getId());
+        assertThat(created.getDeleted()).isEmpty();
+        assertThat(created.isHasMore()).isFalse();
+
+        ProjectSyncResponse unchanged = syncService.syncProjects(created.getToken(), null);
+        assertThat(unchanged.getUpserts()).isEmpty();
+        assertThat(unchanged.getDeleted()).isEmpty();
+        assertThat(sequence(unchanged.getToken())).isEqualTo(sequence(created.getToken()));
+
+        projectService.updateProject(kept.getId(), ProjectRequest.builder().name("Sync Kept renamed").build(), null);
+        settle();
+        ProjectSyncResponse updated = syncService.syncProjects(created.getToken(), null);
+        assertThat(updated.getUpserts()).extracting(ProjectDto::getName).containsExactly("Sync Kept renamed");
+        assertThat(updated.getDeleted()).isEmpty();
+
+        projectService.deleteProject(removed.getId());
+        settle();
+        ProjectSyncResponse deleted = syncService.syncProjects(updated.getToken(), null);
+        assertThat(deleted.getUpserts()).isEmpty();
+        assertThat(deleted.getDeleted()).containsExactly(removed.getId());
+    }
+
+    @Test
+    void sendsATombstoneWhenAProjectLeavesTheCallersView() throws InterruptedException {
+        User employee = createEmployee("sync.employee");
+        User other = createEmployee("sync.other");
+        ProjectDto project = createProject("Reassigned", employee.getId());
+        settle();
+
+        authenticate(employee);
+        ProjectSyncResponse before = syncService.syncProjects(null, null);
+        assertThat(before.getUpserts()).extracting(ProjectDto::getId).containsExactly(project.getId());
+
+        authenticate(userRepository.findByUsername("admin").orElseThrow());
+        projectService.updateProject(project.getId(), ProjectRequest.builder().assignedToId(other.getId()).build(), null);
+        settle();
+
+        authenticate(employee);
+        ProjectSyncResponse after = syncService.syncProjects(before.getToken(), null);
+        assertThat(after.getUpserts()).isEmpty();
+        assertThat(after.getDeleted()).containsExactly(project.getId());
+    }
+
+    @Test
+    void pagesThroughChangesWithALimit() throws InterruptedException {
+        String start = syncToEnd();
+        ProjectDto first = createProject("Page 1", null);
+        ProjectDto second = createProject("Page 2", null);
+        ProjectDto third = createProject("Page 3", null);
+        settle();
+
+        ProjectSyncResponse page = syncService.syncProjects(start, 2);
+        assertThat(page.getUpserts()).extracting(ProjectDto::getId).containsExactly(first.getId(), second.getId());
+        assertThat(page.isHasMore()).isTrue();
+
+        ProjectSyncResponse last = syncService.syncProjects(page.getToken(), 2);
+        assertThat(last.getUpserts()).extracting(ProjectDto::getId).containsExactly(third.getId());
+        assertThat(last.isHasMore()).isFalse();
+
+        assertThatThrownBy(() -> syncService.syncProjects(start, 0)).isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> syncService.syncProjects(start, syncConfig.getMaxLimit() + 1))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    @Test
+    void holdsTheTokenBackUntilChangesSettle() throws InterruptedException {
+        String start = syncToEnd();
+        syncConfig.setSettleMs(60_000);
+        ProjectDto project = createProject("Unsettled", null);
+
+        // Returned, but the token stays put so the next sync reads it again
+        ProjectSyncResponse first = syncService.syncProjects(start, 1);
+        assertThat(first.getUpserts()).extracting(ProjectDto::getId).containsExactly(project.getId());
+        assertThat(first.isHasMore()).isFalse();
+        assertThat(sequence(first.getToken())).isEqualTo(sequence(start));
+
+        ProjectSyncResponse again = syncService.syncProjects(first.getToken(), null);
+        assertThat(again.getUpserts()).extracting(ProjectDto::getId).containsExactly(project.getId());
+        assertThat(sequence(again.getToken())).isEqualTo(sequence(start));
+
+        syncConfig.setSettleMs(0);
+        settle();
+        ProjectSyncResponse settled = syncService.syncProjects(again.getToken(), null);
+        assertThat(settled.getUpserts()).extracting(ProjectDto::getId).containsExactly(project.getId());
+        assertThat(sequence(settled.getToken())).isGreaterThan(sequence(start));
+        assertThat(syncService.syncProjects(settled.getToken(), null).getUpserts()).isEmpty();
+    }
+
+    @Test
+    void tokenCarriesTheSequenceAndIssueTime() throws InterruptedException {
+        String start = syncToEnd();
+        createProject("Token", null);
+        settle();
+        Instant before = Instant.now().minusSeconds(1);
+
+        String token = syncService.syncProjects(start, null).getToken();
+
+        String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.US_ASCII);
+        assertThat(decoded).matches("\\d+:\\d+");
+        assertThat(token).doesNotContain("=", "+", "/");
+        assertThat(sequence(token)).isGreaterThan(sequence(start));
+        long issuedAt = Long.parseLong(decoded.substring(decoded.indexOf(':') + 1));
+        assertThat(issuedAt).isBetween(before.getEpochSecond(), Instant.now().getEpochSecond());
+
+        assertThatThrownBy(() -> syncService.syncProjects("not a token", null))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> syncService.syncProjects(encode("12"), null))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> syncService.syncProjects(encode("x:12"), null))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    @Test
+    void expiredTokenIsGone() throws Exception {
+        Duration retention = Duration.ofDays(syncConfig.getRetentionDays());
+        String fresh = encode("0:" + Instant.now().minus(retention).plus(Duration.ofHours(2)).getEpochSecond());
+        String expired = encode("0:" + Instant.now().minus(retention).getEpochSecond());
+
+        assertThat(syncService.syncProjects(fresh, null).getToken()).isNotNull();
+        assertThatThrownBy(() -> syncService.syncProjects(expired, null))
+                .isInstanceOf(SyncTokenExpiredException.class);
+
+        String login = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"admin\",\"password\":\"admin123\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String accessToken = JsonPath.read(login, "$.data.token");
+        mockMvc.perform(get("/api/sync/projects")
+                        .param("since", expired)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken))
+                .andExpect(status().isGone())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    // Syncs past everything already in the log, so a test sees only its own changes
+    private String syncToEnd() throws InterruptedException {
+        settle();
+        ProjectSyncResponse response = syncService.syncProjects(null, syncConfig.getMaxLimit());
+        while (response.isHasMore()) {
+            response = syncService.syncProjects(response.getToken(), syncConfig.getMaxLimit());
+        }
+        return response.getToken();
+    }
+
+    // Moves the clock past the last change, so a settle window of zero passes it
+    private static void settle() throws InterruptedException {
+        Thread.sleep(5);
+    }
+
+    private static long sequence(String token) {
+        String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.US_ASCII);
+        return Long.parseLong(decoded.substring(0, decoded.indexOf(':')));
+    }
+
+    private static String encode(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private ProjectDto createProject(String name, Long assigneeId) {
+        return projectService.createProject(ProjectRequest.builder()
+                .name("Sync " + name)
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now().plusMonths(1))
+                .priority(PriorityLevel.MEDIUM)
+                .assignedToId(assigneeId)
+                .build());
+    }
+
+    private User createEmployee(String username) {
+        User user = new User();
+        user.setUsername(username);
+        user.setPassword("unused");
+        user.setEmail(username + "@example.com");
+        user.setFirstName("Sync");
+        user.setLastName("Employee");
+        user.setRole(RoleType.EMPLOYEE);
+        return userRepository.save(user);
+    }
+
+    private static void authenticate(User user) {
+        UserPrincipal principal = UserPrincipal.from(user);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.projectmanagement.service;
+
+import com.example.emssystem.EmSsystemApplication;
+import com.example.projectmanagement.model.dto.request.BulkUserRequest;
+import com.example.projectmanagement.model.dto.request.UserRequest;
+import com.example.projectmanagement.model.dto.response.BulkImportResponse;
+import com.example.projectmanagement.model.dto.response.ImportRowResult;
+import com.example.projectmanagement.model.entity.User;
+import com.example.projectmanagement.model.enums.ImportRowStatus;
+import com.example.projectmanagement.model.enums.RoleType;
+import com.example.projectmanagement.repository.UserBatchRepository;
+import com.example.projectmanagement.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+
+/**
+ * Imports through the service into a database of its own, with two rows per chunk so
+ * one import spans several chunks.
+ */
+@SpringBootTest(classes = EmSsystemApplication.class, properties = {
+        "spring.datasource.url=jdbc:h2:mem:user-import",
+        "user-import.batch-size=2"})
+@DirtiesContext
+class UserImportTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @SpyBean
+    private UserBatchRepository userBatchRepository;
+
+    @Test
+    void reportsInvalidRowsAndCreatesTheRest() {
+        BulkImportResponse response = importUsers(
+                row("valid.one", "valid.one@example.com"),
+                null,
+                UserRequest.builder().username("no").password("123").email("not-an-email").build(),
+                row("valid.two", "valid.two@example.com"));
+
+        assertStatuses(response, ImportRowStatus.CREATED, ImportRowStatus.INVALID, ImportRowStatus.INVALID,
+                ImportRowStatus.CREATED);
+        assertThat(response.getCreated()).isEqualTo(2);
+        assertThat(response.getFailed()).isEqualTo(2);
+        assertThat(response.getRows().get(1).getMessage()).isEqualTo("Row is empty");
+        assertThat(response.getRows().get(2).getMessage()).isEqualTo("Invalid email format; "
+                + "Password must be at least 6 characters; Username must be between 3 and 50 characters");
+
+        User created = userRepository.findByUsername("valid.two").orElseThrow();
+        assertThat(response.getRows().get(3).getId()).isEqualTo(created.getId());
+        assertThat(passwordEncoder.matches("secret123", created.getPassword())).isTrue();
+        assertThat(created.getRole()).isEqualTo(RoleType.EMPLOYEE);
+        assertThat(created.getCreatedAt()).isNotNull();
+        assertThat(created.getUpdatedAt()).isEqualTo(created.getCreatedAt());
+        assertThat(created.getUpdatedBy()).isEqualTo(created.getCreatedBy());
+        assertThat(created.getVersion()).isZero();
+    }
+
+    @Test
+    void rejectsDuplicatesWithinTheFileAndAgainstExistingUsers() {
+        BulkImportResponse response = importUsers(
+                row("dup.first", "dup.first@example.com"),
+                row("dup.first", "dup.other@example.com"),
+                row("dup.second", "dup.first@example.com"),
+                row("admin", "dup.admin@example.com"),
+                row("dup.third", "admin@example.com"),
+                row("dup.fourth", "dup.fourth@example.com"));
+
+        assertStatuses(response, ImportRowStatus.CREATED, ImportRowStatus.DUPLICATE, ImportRowStatus.DUPLICATE,
+                ImportRowStatus.DUPLICATE, ImportRowStatus.DUPLICATE, ImportRowStatus.CREATED);
+        assertThat(messages(response)).containsExactly(null, "Username repeated in import",
+                "Email repeated in import", "Username already exists", "Email already exists", null);
+        assertThat(userRepository.findByEmail("dup.admin@example.com")).isEmpty();
+        assertThat(userRepository.findByUsername("dup.fourth")).isPresent();
+    }
+
+    @Test
+    void retriesAFailedChunkRowByRow() {
+        // As if "admin" was created after the duplicate check ran
+        doReturn(new UserBatchRepository.TakenIdentities(Set.of(), Set.of()))
+                .when(userBatchRepository).findTakenIdentities(any(), any());
+
+        BulkImportResponse response = importUsers(
+                row("race.first", "race.first@example.com"),
+                row("race.second", "race.second@example.com"),
+                row("race.third", "race.third@example.com"),
+                row("admin", "race.admin@example.com"));
+
+        assertStatuses(response, ImportRowStatus.CREATED, ImportRowStatus.CREATED, ImportRowStatus.CREATED,
+                ImportRowStatus.FAILED);
+        // The second chunk was rolled back as a whole, then its good row went in alone
+        assertThat(userRepository.findByUsername("race.third")).isPresent();
+        assertThat(response.getRows().get(2).getId())
+                .isEqualTo(userRepository.findByUsername("race.third").orElseThrow().getId());
+        assertThat(userRepository.findByEmail("race.admin@example.com")).isEmpty();
+    }
+
+    private BulkImportResponse importUsers(UserRequest... rows) {
+        return userService.importUsers(new BulkUserRequest(Arrays.asList(rows)));
+    }
+
+    private static UserRequest row(String username, String email) {
+        return UserRequest.builder()
+                .username(username)
+                .password("secret123")
+                .email(email)
+                .firstName("Imported")
+                .lastName("User")
+                .build();
+    }
+
+    private static void assertStatuses(BulkImportResponse response, ImportRowStatus... expected) {
+        assertThat(response.getRows()).extracting(ImportRowResult::getStatus).containsExactly(expected);
+        for (int i = 0; i < expected.length; i++) {
+            assertThat(response.getRows().get(i).getIndex()).isEqualTo(i);
+        }
+    }
+
+    private static List<String> messages(BulkImportResponse response) {
+        return response.getRows().stream().map(ImportRowResult::getMessage).toList();
+    }
+}
@@ -0,0 +1,232 @@
+package com.example.projectmanagement.service.impl;
+
+import com.example.emssystem.EmSsystemApplication;
+import com.example.projectmanagement.model.dto.ProjectDto;
+import com.example.projectmanagement.model.dto.TimelineProjectDto;
+import com.example.projectmanagement.model.dto.request.ProjectRequest;
+import com.example.projectmanagement.model.dto.response.TimelineBucket;
+import com.example.projectmanagement.model.dto.response.TimelineResponse;
+import com.example.projectmanagement.model.entity.Project;
+import com.example.projectmanagement.model.entity.User;
+import com.example.projectmanagement.model.enums.PriorityLevel;
+import com.example.projectmanagement.model.enums.ProjectStatus;
+import com.example.projectmanagement.model.enums.RoleType;
+import com.example.projectmanagement.model.enums.TimelineGranularity;
+import com.example.projectmanagement.repository.ProjectBatchRepository;
+import com.example.projectmanagement.repository.ProjectRepository;
+import com.example.projectmanagement.repository.UserRepository;
+import com.example.projectmanagement.security.UserPrincipal;
+import com.example.projectmanagement.service.ProjectService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares timeline buckets with a brute-force count over every project in a database of
+ * its own. A few projects run far longer than the rest, so the windows only count them
+ * when the start_date lower bound is wide enough.
+ */
+@SpringBootTest(classes = EmSsystemApplication.class,
+        properties = "spring.datasource.url=jdbc:h2:mem:project-timeline")
+@DirtiesContext
+class ProjectTimelineQueryTest {
+
+    private static final LocalDate BASE = LocalDate.of(2024, 1, 1);
+
+    @Autowired
+    private ProjectTimelineQuery timelineQuery;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectBatchRepository projectBatchRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void bucketCountsMatchABruteForceCount() {
+        Random random = new Random(5);
+        User first = createEmployee("timeline.first");
+        User second = createEmployee("timeline.second");
+        List<Project> loaded = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            LocalDate start = BASE.plusDays(random.nextInt(900));
+            // Mostly short projects, and a few that span most of the data
+            int duration = random.nextInt(20) == 0 ? 300 + random.nextInt(400) : random.nextInt(60);
+            int owner = random.nextInt(3);
+            loaded.add(project("Timeline " + i, start, start.plusDays(duration),
+                    ProjectStatus.values()[random.nextInt(ProjectStatus.values().length)],
+                    owner == 0 ? null : owner == 1 ? first : second));
+        }
+        projectBatchRepository.insertAll(loaded);
+        // Bulk loads skip the service, so the bound only learns of them from the database
+        timelineQuery.refreshMaxDuration();
+
+        List<Project> all = allProjects();
+        for (int round = 0; round < 60; round++) {
+            LocalDate from = BASE.plusDays(random.nextInt(1000) - 50);
+            LocalDate to = from.plusDays(random.nextInt(400));
+            int limit = random.nextInt(4) == 0 ? 0 : 1 + random.nextInt(80);
+            for (TimelineGranularity granularity : TimelineGranularity.values()) {
+                assertMatches(all, null, from, to, granularity, limit);
+                assertMatches(all, first.getId(), from, to, granularity, limit);
+            }
+        }
+    }
+
+    @Test
+    void writesThroughTheServiceWidenTheBoundAtOnce() {
+        authenticate(userRepository.findByUsername("admin").orElseThrow());
+        LocalDate from = LocalDate.of(2040, 6, 1);
+        LocalDate to = from.plusDays(20);
+        // Longer than anything the other test loads, and never refreshed from the database
+        ProjectDto created = createProject("Created long", from.minusDays(900), from.plusDays(10));
+        ProjectDto extended = createProject("Extended later", from.minusDays(1500), from.minusDays(1490));
+
+        projectService.updateProject(extended.getId(), ProjectRequest.builder().endDate(from.plusDays(5)).build(), null);
+
+        for (TimelineGranularity granularity : TimelineGranularity.values()) {
+            TimelineResponse response = timelineQuery.query(null, from, to, granularity, 10);
+            assertThat(response.getProjects()).extracting(TimelineProjectDto::getId)
+                    .containsExactly(extended.getId(), created.getId());
+            assertThat(response.getBuckets().get(0).getActiveCount()).isEqualTo(2L);
+            assertMatches(allProjects(), null, from, to, granularity, 10);
+        }
+    }
+
+    private void assertMatches(List<Project> all, Long userId, LocalDate from, LocalDate to,
+                               TimelineGranularity granularity, int limit) {
+        TimelineResponse response = timelineQuery.query(userId, from, to, granularity, limit);
+        String query = String.format("%s %s..%s for %s", granularity, from, to, userId);
+
+        List<Project> visible = all.stream()
+                .filter(p -> userId == null || p.getAssignedTo() != null && userId.equals(p.getAssignedTo().getId()))
+                .toList();
+        List<TimelineBucket> buckets = response.getBuckets();
+        assertThat(buckets).as(query).isNotEmpty();
+        assertThat(buckets.get(0).getStart()).as(query).isEqualTo(from);
+        assertThat(buckets.get(buckets.size() - 1).getEnd()).as(query).isEqualTo(to);
+        for (int i = 0; i < buckets.size(); i++) {
+            TimelineBucket bucket = buckets.get(i);
+            if (i > 0) {
+                assertThat(bucket.getStart()).as(query).isEqualTo(buckets.get(i - 1).getEnd().plusDays(1));
+            }
+            Map<ProjectStatus, Long> active = new EnumMap<>(ProjectStatus.class);
+            long started = 0;
+            long ended = 0;
+            for (Project project : visible) {
+                if (!project.getStartDate().isAfter(bucket.getEnd()) && !project.getEndDate().isBefore(bucket.getStart())) {
+                    active.merge(project.getStatus(), 1L, Long::sum);
+                }
+                if (within(project.getStartDate(), bucket)) {
+                    started++;
+                }
+                if (within(project.getEndDate(), bucket)) {
+                    ended++;
+                }
+            }
+            String at = query + " bucket " + bucket.getStart();
+            assertThat(bucket.getActiveByStatus()).as(at).isEqualTo(active);
+            assertThat(bucket.getActiveCount()).as(at)
+                    .isEqualTo(active.values().stream().mapToLong(Long::longValue).sum());
+            assertThat(bucket.getStartedCount()).as(at).isEqualTo(started);
+            assertThat(bucket.getEndedCount()).as(at).isEqualTo(ended);
+        }
+
+        List<Project> overlapping = visible.stream()
+                .filter(p -> !p.getStartDate().isAfter(to) && !p.getEndDate().isBefore(from))
+                .sorted(Comparator.comparing(Project::getStartDate).thenComparing(Project::getId))
+                .toList();
+        List<Project> listed = overlapping.subList(0, Math.min(limit, overlapping.size()));
+        assertThat(response.getProjects()).as(query).extracting(TimelineProjectDto::getId)
+                .containsExactlyElementsOf(listed.stream().map(Project::getId).toList());
+        assertThat(response.isTruncated()).as(query).isEqualTo(overlapping.size() > limit);
+        for (TimelineProjectDto project : response.getProjects()) {
+            assertThat(project.getFirstBucket()).as(query).isEqualTo(bucketOf(buckets, project.getStartDate()));
+            assertThat(project.getLastBucket()).as(query).isEqualTo(bucketOf(buckets, project.getEndDate()));
+        }
+    }
+
+    private List<Project> allProjects() {
+        return projectRepository.findAll(PageRequest.of(0, 10_000)).getContent();
+    }
+
+    private static boolean within(LocalDate day, TimelineBucket bucket) {
+        return !day.isBefore(bucket.getStart()) && !day.isAfter(bucket.getEnd());
+    }
+
+    // Days outside the range land in the first or last bucket
+    private static int bucketOf(List<TimelineBucket> buckets, LocalDate day) {
+        for (int i = buckets.size() - 1; i > 0; i--) {
+            if (!day.isBefore(buckets.get(i).getStart())) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    private static Project project(String name, LocalDate start, LocalDate end, ProjectStatus status, User assignee) {
+        Project project = new Project();
+        project.setName(name);
+        project.setStartDate(start);
+        project.setEndDate(end);
+        project.setPriority(PriorityLevel.MEDIUM);
+        project.setStatus(status);
+        project.setAssignedTo(assignee);
+        project.setCreatedAt(LocalDateTime.now());
+        project.setCreatedBy("loader");
+        return project;
+    }
+
+    private ProjectDto createProject(String name, LocalDate start, LocalDate end) {
+        return projectService.createProject(ProjectRequest.builder()
+                .name("Timeline " + name)
+                .startDate(start)
+                .endDate(end)
+                .priority(PriorityLevel.MEDIUM)
+                .build());
+    }
+
+    private User createEmployee(String username) {
+        User user = new User();
+        user.setUsername(username);
+        user.setPassword("unused");
+        user.setEmail(username + "@example.com");
+        user.setFirstName("Timeline");
+        user.setLastName("Employee");
+        user.setRole(RoleType.EMPLOYEE);
+        return userRepository.save(user);
+    }
+
+    private static void authenticate(User user) {
+        UserPrincipal principal = UserPrincipal.from(user);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+}
@@ -0,0 +1,210 @@
+package com.example.projectmanagement.service.impl;
+
+import com.example.emssystem.EmSsystemApplication;
+import com.example.projectmanagement.model.dto.ProjectDto;
+import com.example.projectmanagement.model.dto.request.ProjectRequest;
+import com.example.projectmanagement.model.dto.request.ProjectStatusRequest;
+import com.example.projectmanagement.model.entity.AssigneeStatusDaily;
+import com.example.projectmanagement.model.entity.Project;
+import com.example.projectmanagement.model.entity.StatusDailySnapshot;
+import com.example.projectmanagement.model.entity.User;
+import com.example.projectmanagement.model.enums.PriorityLevel;
+import com.example.projectmanagement.model.enums.ProjectStatus;
+import com.example.projectmanagement.model.enums.RoleType;
+import com.example.projectmanagement.repository.AssigneeStatusDailyRepository;
+import com.example.projectmanagement.repository.CycleTimeCount;
+import com.example.projectmanagement.repository.CycleTimeDailyRepository;
+import com.example.projectmanagement.repository.ProjectBatchRepository;
+import com.example.projectmanagement.repository.StatusDailySnapshotRepository;
+import com.example.projectmanagement.repository.UserRepository;
+import com.example.projectmanagement.security.UserPrincipal;
+import com.example.projectmanagement.service.ProjectService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Changes projects through the service, bulk loads a few behind its back, and checks the
+ * rows each rollup pass leaves. The scheduled passes are pushed out of the way so only
+ * the test's own calls run.
+ */
+@SpringBootTest(classes = EmSsystemApplication.class, properties = {
+        "spring.datasource.url=jdbc:h2:mem:status-rollup",
+        "reporting.rollup-interval-ms=3600000"})
+@DirtiesContext
+class StatusRollupJobTest {
+
+    @Autowired
+    private StatusRollupJob statusRollupJob;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private ProjectBatchRepository projectBatchRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StatusDailySnapshotRepository snapshotRepository;
+
+    @Autowired
+    private AssigneeStatusDailyRepository assigneeDailyRepository;
+
+    @Autowired
+    private CycleTimeDailyRepository cycleTimeRepository;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void rollsUpStatusChangesReassignmentsAndBulkLoads() {
+        LocalDate today = LocalDate.now();
+        User alice = createEmployee("rollup.alice");
+        User bob = createEmployee("rollup.bob");
+        authenticate(userRepository.findByUsername("admin").orElseThrow());
+
+        ProjectDto completed = createProject("Completed", alice.getId());
+        ProjectDto reassigned = createProject("Reassigned", alice.getId());
+        setStatus(completed.getId(), ProjectStatus.IN_PROGRESS);
+        setStatus(completed.getId(), ProjectStatus.COMPLETED);
+        projectService.updateProject(reassigned.getId(),
+                ProjectRequest.builder().assignedToId(bob.getId()).build(), null);
+        // Written without a transition, as a bulk load does; backfilled at its creation time
+        bulkLoad("Loaded", ProjectStatus.IN_PROGRESS, bob, today.minusDays(3));
+
+        statusRollupJob.rollupIncrementally();
+
+        Map<ProjectStatus, StatusDailySnapshot> earlier = snapshot(today.minusDays(3));
+        assertRow(earlier.get(ProjectStatus.IN_PROGRESS), 1, 1, 0);
+        assertRow(earlier.get(ProjectStatus.NOT_STARTED), 0, 0, 0);
+        Map<ProjectStatus, StatusDailySnapshot> current = snapshot(today);
+        assertRow(current.get(ProjectStatus.NOT_STARTED), 1, 2, 1);
+        assertRow(current.get(ProjectStatus.IN_PROGRESS), 1, 1, 1);
+        assertRow(current.get(ProjectStatus.COMPLETED), 1, 1, 0);
+
+        Map<ProjectStatus, AssigneeStatusDaily> aliceToday = assigneeRows(alice.getId(), today);
+        assertThat(aliceToday.keySet()).containsExactlyInAnyOrder(ProjectStatus.NOT_STARTED,
+                ProjectStatus.IN_PROGRESS, ProjectStatus.COMPLETED);
+        assertRow(aliceToday.get(ProjectStatus.NOT_STARTED), 0, 2, 2);
+        assertRow(aliceToday.get(ProjectStatus.IN_PROGRESS), 0, 1, 1);
+        assertRow(aliceToday.get(ProjectStatus.COMPLETED), 1, 1, 0);
+        Map<ProjectStatus, AssigneeStatusDaily> bobToday = assigneeRows(bob.getId(), today);
+        assertThat(bobToday.keySet()).containsExactly(ProjectStatus.NOT_STARTED);
+        assertRow(bobToday.get(ProjectStatus.NOT_STARTED), 1, 1, 0);
+        assertRow(assigneeRows(bob.getId(), today.minusDays(3)).get(ProjectStatus.IN_PROGRESS), 1, 1, 0);
+
+        assertThat(cycleTimeRepository.sumBetweenForAssignee(alice.getId(), today, today))
+                .containsExactly(new CycleTimeCount(0, 1));
+        assertThat(cycleTimeRepository.sumBetweenForAssignee(bob.getId(), today.minusDays(3), today)).isEmpty();
+        assertThat(cycleTimeRepository.sumBetween(today.minusDays(3), today)).containsExactly(new CycleTimeCount(0, 1));
+
+        // Later passes only look at newer ids, and still pick up each load
+        bulkLoad("Second load", ProjectStatus.NOT_STARTED, null, today.minusDays(1));
+        statusRollupJob.rollupIncrementally();
+        assertRow(snapshot(today.minusDays(1)).get(ProjectStatus.NOT_STARTED), 1, 1, 0);
+        assertRow(snapshot(today).get(ProjectStatus.NOT_STARTED), 2, 2, 1);
+
+        bulkLoad("Third load", ProjectStatus.NOT_STARTED, null, today.minusDays(1));
+        statusRollupJob.rollupIncrementally();
+        assertRow(snapshot(today.minusDays(1)).get(ProjectStatus.NOT_STARTED), 2, 2, 0);
+        assertRow(snapshot(today).get(ProjectStatus.NOT_STARTED), 3, 2, 1);
+        assertRow(snapshot(today).get(ProjectStatus.IN_PROGRESS), 1, 1, 1);
+
+        // A pass with nothing new changes nothing
+        statusRollupJob.rollupIncrementally();
+        assertRow(snapshot(today).get(ProjectStatus.NOT_STARTED), 3, 2, 1);
+        assertRow(snapshot(today).get(ProjectStatus.COMPLETED), 1, 1, 0);
+    }
+
+    private Map<ProjectStatus, StatusDailySnapshot> snapshot(LocalDate day) {
+        Map<ProjectStatus, StatusDailySnapshot> rows = new EnumMap<>(ProjectStatus.class);
+        for (StatusDailySnapshot row : snapshotRepository.findByDay(day)) {
+            rows.put(row.getStatus(), row);
+        }
+        assertThat(rows.keySet()).as("snapshot for %s", day).containsExactly(ProjectStatus.values());
+        return rows;
+    }
+
+    private Map<ProjectStatus, AssigneeStatusDaily> assigneeRows(Long assigneeId, LocalDate day) {
+        Map<ProjectStatus, AssigneeStatusDaily> rows = new EnumMap<>(ProjectStatus.class);
+        for (AssigneeStatusDaily row : assigneeDailyRepository.findByAssigneeIdAndDayBetweenOrderByDayAsc(
+                assigneeId, day, day)) {
+            rows.put(row.getStatus(), row);
+        }
+        return rows;
+    }
+
+    private static void assertRow(StatusDailySnapshot row, long count, long entered, long exited) {
+        assertThat(List.of(row.getProjectCount(), row.getEntered(), row.getExited()))
+                .as("%s on %s", row.getStatus(), row.getDay())
+                .containsExactly(count, entered, exited);
+    }
+
+    private static void assertRow(AssigneeStatusDaily row, long count, long entered, long exited) {
+        assertThat(row).isNotNull();
+        assertThat(List.of(row.getProjectCount(), row.getEntered(), row.getExited()))
+                .as("%s for %d on %s", row.getStatus(), row.getAssigneeId(), row.getDay())
+                .containsExactly(count, entered, exited);
+    }
+
+    private void setStatus(Long projectId, ProjectStatus status) {
+        projectService.updateProjectStatus(projectId, new ProjectStatusRequest(status), null);
+    }
+
+    private void bulkLoad(String name, ProjectStatus status, User assignee, LocalDate createdOn) {
+        Project project = new Project();
+        project.setName("Rollup " + name);
+        project.setStartDate(createdOn);
+        project.setEndDate(createdOn.plusMonths(1));
+        project.setPriority(PriorityLevel.LOW);
+        project.setStatus(status);
+        project.setAssignedTo(assignee);
+        project.setCreatedAt(LocalDateTime.of(createdOn, LocalTime.NOON));
+        project.setCreatedBy("loader");
+        projectBatchRepository.insertAll(List.of(project));
+    }
+
+    private ProjectDto createProject(String name, Long assigneeId) {
+        return projectService.createProject(ProjectRequest.builder()
+                .name("Rollup " + name)
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now().plusMonths(1))
+                .priority(PriorityLevel.MEDIUM)
+                .assignedToId(assigneeId)
+                .build());
+    }
+
+    private User createEmployee(String username) {
+        User user = new User();
+        user.setUsername(username);
+        user.setPassword("unused");
+        user.setEmail(username + "@example.com");
+        user.setFirstName("Rollup");
+        user.setLastName("Employee");
+        user.setRole(RoleType.EMPLOYEE);
+        return userRepository.save(user);
+    }
+
+    private static void authenticate(User user) {
+        UserPrincipal principal = UserPrincipal.from(user);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+}
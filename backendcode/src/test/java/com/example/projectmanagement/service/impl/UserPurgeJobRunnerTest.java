@@ -0,0 +1,209 @@
+package com.example.projectmanagement.service.impl;
+
+import com.example.emssystem.EmSsystemApplication;
+import com.example.projectmanagement.model.dto.ProjectDto;
+import com.example.projectmanagement.model.dto.TaskDto;
+import com.example.projectmanagement.model.dto.UserPurgeJobDto;
+import com.example.projectmanagement.model.dto.request.ProjectMemberRequest;
+import com.example.projectmanagement.model.dto.request.ProjectRequest;
+import com.example.projectmanagement.model.dto.request.TaskRequest;
+import com.example.projectmanagement.model.entity.User;
+import com.example.projectmanagement.model.entity.UserPurgeJob;
+import com.example.projectmanagement.model.enums.PriorityLevel;
+import com.example.projectmanagement.model.enums.ProjectMemberRole;
+import com.example.projectmanagement.model.enums.PurgeJobStatus;
+import com.example.projectmanagement.model.enums.RoleType;
+import com.example.projectmanagement.repository.ProjectMemberRepository;
+import com.example.projectmanagement.repository.ProjectRepository;
+import com.example.projectmanagement.repository.TaskRepository;
+import com.example.projectmanagement.repository.UserPurgeJobRepository;
+import com.example.projectmanagement.repository.UserRepository;
+import com.example.projectmanagement.security.UserPrincipal;
+import com.example.projectmanagement.service.ProjectMemberService;
+import com.example.projectmanagement.service.ProjectService;
+import com.example.projectmanagement.service.TaskService;
+import com.example.projectmanagement.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Deletes users who own projects, tasks and memberships and waits for the background
+ * purge. Two projects per chunk, so every purge spans several transactions.
+ */
+@SpringBootTest(classes = EmSsystemApplication.class, properties = {
+        "spring.datasource.url=jdbc:h2:mem:user-purge",
+        "user-purge.chunk-size=2",
+        "user-purge.pause-between-chunks-ms=0",
+        "user-purge.poll-interval-ms=3600000"})
+@DirtiesContext
+class UserPurgeJobRunnerTest {
+
+    private static final long TIMEOUT_MS = 10_000;
+
+    @Autowired
+    private UserPurgeJobRunner userPurgeJobRunner;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private ProjectMemberService projectMemberService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectMemberRepository projectMemberRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserPurgeJobRepository userPurgeJobRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        authenticate(userRepository.findByUsername("admin").orElseThrow());
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void purgeUnassignsEverythingAndRemovesTheUser() throws InterruptedException {
+        User user = createEmployee("purge.owner");
+        Owned owned = giveWork(user, 5);
+
+        UserPurgeJobDto job = userService.deleteUser(user.getId());
+        assertThat(job.getTotalProjects()).isEqualTo(5L);
+
+        UserPurgeJobDto finished = awaitFinished(job.getId());
+        assertThat(finished.getStatus()).isEqualTo(PurgeJobStatus.COMPLETED);
+        assertThat(finished.getProcessedProjects()).isEqualTo(5L);
+        assertPurged(user, owned);
+    }
+
+    @Test
+    void jobInterruptedByARestartResumesAtStartup() throws InterruptedException {
+        User user = createEmployee("purge.interrupted");
+        Owned owned = giveWork(user, 3);
+        // As left behind by a node that stopped mid-job: the user is soft-deleted and the
+        // job marked running, so neither the delete request nor the poll picks it up
+        Long jobId = transactionTemplate.execute(status -> {
+            userRepository.softDelete(user.getId(), LocalDateTime.now(), "admin");
+            UserPurgeJob job = new UserPurgeJob();
+            job.setUserId(user.getId());
+            job.setTotalProjects(3);
+            job.setCreatedAt(LocalDateTime.now());
+            job = userPurgeJobRepository.save(job);
+            userPurgeJobRepository.transition(job.getId(), PurgeJobStatus.PENDING, PurgeJobStatus.RUNNING,
+                    LocalDateTime.now());
+            return job.getId();
+        });
+        userPurgeJobRunner.trigger();
+        Thread.sleep(200);
+        assertThat(userService.getPurgeJob(jobId).getStatus()).isEqualTo(PurgeJobStatus.RUNNING);
+
+        userPurgeJobRunner.resumeInterruptedJobs();
+
+        assertThat(awaitFinished(jobId).getStatus()).isEqualTo(PurgeJobStatus.COMPLETED);
+        assertPurged(user, owned);
+    }
+
+    private Owned giveWork(User user, int projectCount) {
+        List<Long> projectIds = new ArrayList<>();
+        for (int i = 0; i < projectCount; i++) {
+            projectIds.add(createProject(user.getUsername() + " " + i, user.getId()).getId());
+        }
+        ProjectDto shared = createProject(user.getUsername() + " shared", null);
+        projectMemberService.setMember(shared.getId(), user.getId(), new ProjectMemberRequest(ProjectMemberRole.CONTRIBUTOR));
+        TaskDto task = taskService.createTask(shared.getId(), TaskRequest.builder()
+                .title("Purge task")
+                .priority(PriorityLevel.LOW)
+                .assigneeId(user.getId())
+                .build());
+        return new Owned(projectIds, shared.getId(), task.getId());
+    }
+
+    private void assertPurged(User user, Owned owned) {
+        assertThat(userRepository.findById(user.getId())).isEmpty();
+        assertThat(projectRepository.countByAssignedToId(user.getId())).isZero();
+        // The projects stay, only unassigned
+        assertThat(projectRepository.findAllWithAssigneeByIdIn(owned.projectIds()))
+                .hasSize(owned.projectIds().size())
+                .allSatisfy(project -> assertThat(project.getAssignedTo()).isNull());
+        assertThat(projectMemberRepository.existsByProjectIdAndUserId(owned.sharedProjectId(), user.getId())).isFalse();
+        assertThat(taskRepository.findWithAssigneeByIdAndProjectId(owned.taskId(), owned.sharedProjectId())
+                .orElseThrow().getAssignee()).isNull();
+    }
+
+    private UserPurgeJobDto awaitFinished(Long jobId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        UserPurgeJobDto job = userService.getPurgeJob(jobId);
+        while (job.getStatus() != PurgeJobStatus.COMPLETED && job.getStatus() != PurgeJobStatus.FAILED
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            job = userService.getPurgeJob(jobId);
+        }
+        assertThat(job.getError()).isNull();
+        return job;
+    }
+
+    private ProjectDto createProject(String name, Long assigneeId) {
+        return projectService.createProject(ProjectRequest.builder()
+                .name("Purge " + name)
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now().plusMonths(1))
+                .priority(PriorityLevel.MEDIUM)
+                .assignedToId(assigneeId)
+                .build());
+    }
+
+    private User createEmployee(String username) {
+        User user = new User();
+        user.setUsername(username);
+        user.setPassword("unused");
+        user.setEmail(username + "@example.com");
+        user.setFirstName("Purge");
+        user.setLastName("Employee");
+        user.setRole(RoleType.EMPLOYEE);
+        return userRepository.save(user);
+    }
+
+    private static void authenticate(User user) {
+        UserPrincipal principal = UserPrincipal.from(user);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    private record Owned(List<Long> projectIds, Long sharedProjectId, Long taskId) {
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.projectmanagement.service.support;
+
+import com.example.projectmanagement.config.AttachmentConfig;
+import com.example.projectmanagement.exception.PayloadTooLargeException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs the store on a temp directory: deduplication by hash, the size limit, and the
+ * sweep never deleting a file an upload has just reused.
+ */
+class ContentStoreTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void storesIdenticalContentOnce() throws IOException {
+        ContentStore store = store();
+
+        ContentStore.StoredContent first = store.store(stream("design v1"), 1_000);
+        ContentStore.StoredContent second = store.store(stream("design v1"), 1_000);
+
+        assertThat(second).isEqualTo(first);
+        assertThat(first.size()).isEqualTo(9);
+        assertThat(Files.readString(store.resolve(first.sha256()))).isEqualTo("design v1");
+        try (Stream<Path> files = Files.walk(dir.resolve("objects"))) {
+            assertThat(files.filter(Files::isRegularFile)).hasSize(1);
+        }
+        assertThat(dir.resolve("incoming")).isEmptyDirectory();
+    }
+
+    @Test
+    void rejectsOversizedUploadsWithoutKeepingThem() throws IOException {
+        ContentStore store = store();
+
+        assertThatThrownBy(() -> store.store(new ByteArrayInputStream(new byte[200_000]), 100_000))
+                .isInstanceOf(PayloadTooLargeException.class);
+        assertThat(dir.resolve("incoming")).isEmptyDirectory();
+        assertThat(store.listIdle(Duration.ZERO)).isEmpty();
+    }
+
+    @Test
+    void sweepSkipsFilesReusedSinceTheyWereListed() throws IOException {
+        ContentStore store = store();
+        String sha256 = store.store(stream("spec"), 1_000).sha256();
+        Files.setLastModifiedTime(store.resolve(sha256), FileTime.from(Instant.now().minus(Duration.ofHours(2))));
+
+        List<List<String>> idle = store.listIdle(Duration.ofHours(1));
+        assertThat(idle).containsExactly(List.of(sha256));
+
+        // An upload of the same bytes lands between listing and deleting
+        store.store(stream("spec"), 1_000);
+        assertThat(store.deleteIfIdle(sha256, Duration.ofHours(1))).isFalse();
+        assertThat(store.resolve(sha256)).exists();
+    }
+
+    @Test
+    void sweepListsOnlyFilesTheStoreWrote() throws IOException {
+        ContentStore store = store();
+        String sha256 = store.store(stream("notes"), 1_000).sha256();
+        Path stray = Files.writeString(store.resolve(sha256).resolveSibling(".DS_Store"), "finder");
+        Instant old = Instant.now().minus(Duration.ofHours(2));
+        Files.setLastModifiedTime(store.resolve(sha256), FileTime.from(old));
+        Files.setLastModifiedTime(stray, FileTime.from(old));
+
+        assertThat(store.listIdle(Duration.ofHours(1))).containsExactly(List.of(sha256));
+        assertThat(stray).exists();
+    }
+
+    private ContentStore store() throws IOException {
+        AttachmentConfig config = new AttachmentConfig();
+        config.setDirectory(dir.toString());
+        return new ContentStore(config);
+    }
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
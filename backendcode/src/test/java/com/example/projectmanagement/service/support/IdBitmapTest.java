@@ -0,0 +1,137 @@
+package com.example.projectmanagement.service.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Checks the bitmap against a {@link TreeSet} holding the same values, including groups
+ * that cross the array/bitset threshold in both directions.
+ */
+class IdBitmapTest {
+
+    @Test
+    void addRemoveAndContainsMatchASortedSet() {
+        Random random = new Random(42);
+        TreeSet<Integer> expected = new TreeSet<>();
+        IdBitmap bitmap = IdBitmap.empty();
+
+        for (int i = 0; i < 20_000; i++) {
+            // A few dense groups and a sparse tail
+            int value = random.nextInt(4) < 3 ? random.nextInt(3 << 16) : random.nextInt(Integer.MAX_VALUE);
+            if (random.nextInt(3) == 0) {
+                bitmap = bitmap.without(value);
+                expected.remove(value);
+            } else {
+                bitmap = bitmap.with(value);
+                expected.add(value);
+            }
+        }
+
+        assertMatches(bitmap, expected);
+        for (int i = 0; i < 10_000; i++) {
+            int probe = random.nextInt(3 << 16);
+            assertThat(bitmap.contains(probe)).as("contains %d", probe).isEqualTo(expected.contains(probe));
+        }
+        assertThat(bitmap.contains(-1)).isFalse();
+    }
+
+    @Test
+    void updatesLeaveTheOriginalUnchanged() {
+        IdBitmap original = IdBitmap.of(new int[] {1, 2, 3});
+
+        IdBitmap added = original.with(4);
+        IdBitmap removed = original.without(2);
+
+        assertThat(original.toArray()).containsExactly(1, 2, 3);
+        assertThat(added.toArray()).containsExactly(1, 2, 3, 4);
+        assertThat(removed.toArray()).containsExactly(1, 3);
+        assertThat(original.with(2)).isSameAs(original);
+        assertThat(original.without(9)).isSameAs(original);
+    }
+
+    @Test
+    void groupSwitchesBetweenArrayAndBitsetAtTheThreshold() {
+        TreeSet<Integer> expected = new TreeSet<>();
+        IdBitmap bitmap = IdBitmap.empty();
+        int base = 5 << 16;
+
+        // Every other value, so the group fills up to the threshold and one past it
+        for (int i = 0; i <= IdBitmap.ARRAY_MAX; i++) {
+            bitmap = bitmap.with(base + 2 * i);
+            expected.add(base + 2 * i);
+        }
+        assertMatches(bitmap, expected);
+        assertThat(bitmap.cardinality()).isEqualTo(IdBitmap.ARRAY_MAX + 1);
+
+        // Back below the threshold, and then down to nothing
+        bitmap = bitmap.without(base);
+        expected.remove(base);
+        assertMatches(bitmap, expected);
+        for (int value : List.copyOf(expected)) {
+            bitmap = bitmap.without(value);
+            expected.remove(value);
+        }
+        assertThat(bitmap.isEmpty()).isTrue();
+        assertThat(bitmap.toArray()).isEmpty();
+    }
+
+    @Test
+    void ofBuildsBitsetGroupsAndDropsDuplicates() {
+        TreeSet<Integer> expected = new TreeSet<>();
+        int[] values = new int[3 * IdBitmap.ARRAY_MAX];
+        Random random = new Random(7);
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (1 << 16) + random.nextInt(2 * IdBitmap.ARRAY_MAX);
+            expected.add(values[i]);
+        }
+
+        IdBitmap bitmap = IdBitmap.of(values);
+
+        assertThat(expected.size()).isGreaterThan(IdBitmap.ARRAY_MAX);
+        assertMatches(bitmap, expected);
+        assertThatThrownBy(() -> IdBitmap.of(new int[] {3, -1})).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void sliceCrossesGroupBoundaries() {
+        TreeSet<Integer> expected = new TreeSet<>();
+        // A small array group, a bitset group, and another array group
+        for (int i = 0; i < 10; i++) {
+            expected.add(i * 3);
+        }
+        for (int i = 0; i < 2 * IdBitmap.ARRAY_MAX; i++) {
+            expected.add((1 << 16) + i * 7);
+        }
+        for (int i = 0; i < 100; i++) {
+            expected.add((4 << 16) + i);
+        }
+        IdBitmap bitmap = IdBitmap.of(expected.stream().mapToInt(Integer::intValue).toArray());
+        int[] all = expected.stream().mapToInt(Integer::intValue).toArray();
+
+        int[][] slices = {{0, 5}, {8, 5}, {9, 1}, {10, 64}, {70, 130}, {all.length - 105, 10},
+                {all.length - 3, 10}, {all.length, 5}, {3, 0}};
+        for (int[] slice : slices) {
+            int from = Math.min(slice[0], all.length);
+            int to = Math.min(from + slice[1], all.length);
+            assertThat(bitmap.slice(slice[0], slice[1]))
+                    .as("slice(%d, %d)", slice[0], slice[1])
+                    .containsExactly(Arrays.copyOfRange(all, from, to));
+        }
+    }
+
+    private static void assertMatches(IdBitmap bitmap, TreeSet<Integer> expected) {
+        assertThat(bitmap.cardinality()).isEqualTo(expected.size());
+        assertThat(bitmap.isEmpty()).isEqualTo(expected.isEmpty());
+        assertThat(bitmap.toArray()).containsExactly(expected.stream().mapToInt(Integer::intValue).toArray());
+        for (int value : expected) {
+            assertThat(bitmap.contains(value)).as("contains %d", value).isTrue();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.projectmanagement.service.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RankKeysTest {
+
+    @Test
+    void appendsKeepAFixedWidth() {
+        String last = RankKeys.between(null, null);
+        for (int i = 0; i < 100_000; i++) {
+            String next = RankKeys.between(last, null);
+            assertThat(next).isGreaterThan(last);
+            last = next;
+        }
+        assertThat(RankKeys.precision(last)).isLessThanOrEqualTo(6);
+    }
+
+    @Test
+    void prependsKeepAFixedWidth() {
+        String first = RankKeys.between(null, null);
+        for (int i = 0; i < 100_000; i++) {
+            String next = RankKeys.between(null, first);
+            assertThat(next).isLessThan(first);
+            first = next;
+        }
+        assertThat(RankKeys.precision(first)).isLessThanOrEqualTo(6);
+    }
+
+    @Test
+    void endsOfRebalancedKeysStayShort() {
+        List<String> spread = RankKeys.spread(1, 100_000);
+        String last = spread.get(spread.size() - 1);
+        String first = spread.get(0);
+        for (int i = 0; i < 100_000; i++) {
+            String next = RankKeys.between(last, null);
+            assertThat(next).isGreaterThan(last).startsWith("1|");
+            last = next;
+            String previous = RankKeys.between(null, first);
+            assertThat(previous).isLessThan(first).startsWith("1|");
+            first = previous;
+        }
+        assertThat(RankKeys.precision(last)).isLessThanOrEqualTo(6);
+        assertThat(RankKeys.precision(first)).isLessThanOrEqualTo(6);
+    }
+
+    @Test
+    void stepsWidenAtTheEndsOfTheBucket() {
+        String last = "0|zzzzzz";
+        String first = "0|000001";
+        for (int i = 0; i < 1_000; i++) {
+            String next = RankKeys.between(last, null);
+            assertThat(next).isGreaterThan(last).doesNotEndWith("0");
+            last = next;
+            String previous = RankKeys.between(null, first);
+            assertThat(previous).isLessThan(first).doesNotEndWith("0");
+            first = previous;
+        }
+        assertThat(RankKeys.precision(last)).isLessThanOrEqualTo(8);
+        assertThat(RankKeys.precision(first)).isLessThanOrEqualTo(8);
+    }
+
+    @Test
+    void insertsBetweenNeighboursStayOrdered() {
+        Random random = new Random(7);
+        List<String> keys = new ArrayList<>(List.of(RankKeys.between(null, null)));
+        for (int i = 0; i < 5_000; i++) {
+            int position = random.nextInt(keys.size() + 1);
+            String before = position > 0 ? keys.get(position - 1) : null;
+            String after = position < keys.size() ? keys.get(position) : null;
+            String key = RankKeys.between(before, after);
+            if (before != null) {
+                assertThat(key).isGreaterThan(before);
+            }
+            if (after != null) {
+                assertThat(key).isLessThan(after);
+            }
+            assertThat(key).doesNotEndWith("0");
+            keys.add(position, key);
+        }
+        assertThat(keys).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    void spreadKeysAreAscendingInTheirBucket() {
+        List<String> keys = RankKeys.spread(2, 500);
+        assertThat(keys).hasSize(500).isSorted().doesNotHaveDuplicates().allMatch(key -> key.startsWith("2|"));
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.projectmanagement.service.support;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private final ExecutorService pool = Executors.newFixedThreadPool(CALLERS);
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        pool.shutdownNow();
+        assertThat(pool.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void concurrentCallersShareOneLoad() throws Exception {
+        SingleFlight<String, List<String>> flight = new SingleFlight<>(0);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<List<String>> loader = () -> {
+            loads.incrementAndGet();
+            await(release);
+            return List.of("page");
+        };
+
+        List<Future<List<String>>> callers = startCallers(flight, loader);
+        awaitShared(flight, CALLERS - 1);
+        release.countDown();
+
+        List<String> first = callers.get(0).get(5, TimeUnit.SECONDS);
+        for (Future<List<String>> caller : callers) {
+            assertThat(caller.get(5, TimeUnit.SECONDS)).isSameAs(first);
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(flight.getExecutions()).isEqualTo(1);
+    }
+
+    @Test
+    void failedLoadReachesEveryWaiterAndIsNotCached() throws Exception {
+        SingleFlight<String, List<String>> flight = new SingleFlight<>(60_000);
+        CountDownLatch release = new CountDownLatch(1);
+        IllegalStateException failure = new IllegalStateException("database unavailable");
+
+        List<Future<List<String>>> callers = startCallers(flight, () -> {
+            await(release);
+            throw failure;
+        });
+        awaitShared(flight, CALLERS - 1);
+        release.countDown();
+
+        for (Future<List<String>> caller : callers) {
+            assertThatThrownBy(() -> caller.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseReference(failure);
+        }
+        assertThat(flight.getExecutions()).isEqualTo(1);
+
+        // Despite the freshness window, the next caller loads again
+        assertThat(flight.load("projects", () -> List.of("recovered"))).containsExactly("recovered");
+        assertThat(flight.getExecutions()).isEqualTo(2);
+    }
+
+    @Test
+    void keyIsReleasedOnceTheLoadCompletes() {
+        SingleFlight<String, Integer> flight = new SingleFlight<>(0);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(flight.load("projects", loads::incrementAndGet)).isEqualTo(1);
+        assertThat(flight.load("projects", loads::incrementAndGet)).isEqualTo(2);
+        assertThat(flight.getExecutions()).isEqualTo(2);
+        assertThat(flight.getShared()).isZero();
+    }
+
+    @Test
+    void freshResultIsServedUntilInvalidated() {
+        SingleFlight<String, Integer> flight = new SingleFlight<>(60_000);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(flight.load("projects", loads::incrementAndGet)).isEqualTo(1);
+        assertThat(flight.load("projects", loads::incrementAndGet)).isEqualTo(1);
+        assertThat(flight.load("users", loads::incrementAndGet)).isEqualTo(2);
+
+        flight.invalidateAll();
+        assertThat(flight.load("projects", loads::incrementAndGet)).isEqualTo(3);
+    }
+
+    private List<Future<List<String>>> startCallers(SingleFlight<String, List<String>> flight,
+                                                    Supplier<List<String>> loader) {
+        List<Future<List<String>>> callers = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            callers.add(pool.submit(() -> flight.load("projects", loader)));
+        }
+        return callers;
+    }
+
+    // Every caller but the leader has joined the flight once it counts as shared
+    private static void awaitShared(SingleFlight<?, ?> flight, long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (flight.getShared() < expected) {
+            assertThat(System.nanoTime()).as("callers joining the flight").isLessThan(deadline);
+            Thread.sleep(1);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.example.projectmanagement.service.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks the sweep against a day-by-day count over the same intervals, plus the cases
+ * the random intervals rarely hit: shared and adjacent days, windows that start or end
+ * on a change, and fractional weights that only add up exactly in fixed point.
+ */
+class WorkloadSweepTest {
+
+    private static final LocalDate BASE = LocalDate.of(2026, 3, 1);
+
+    @Test
+    void matchesADayByDayCountOverRandomIntervals() {
+        Random random = new Random(11);
+        double[] weightChoices = {0.1, 0.25, 0.5, 1, 1.5, 2};
+        for (int round = 0; round < 300; round++) {
+            int size = random.nextInt(12);
+            List<LocalDate> starts = new ArrayList<>();
+            List<LocalDate> ends = new ArrayList<>();
+            long[] weights = new long[size];
+            for (int i = 0; i < size; i++) {
+                LocalDate start = BASE.plusDays(random.nextInt(60));
+                starts.add(start);
+                ends.add(start.plusDays(random.nextInt(20)));
+                weights[i] = fixedPoint(weightChoices[random.nextInt(weightChoices.length)]);
+            }
+            WorkloadSweep sweep = WorkloadSweep.of(starts, ends, weights);
+            long capacity = fixedPoint(random.nextInt(4));
+
+            for (int query = 0; query < 20; query++) {
+                LocalDate from = BASE.plusDays(random.nextInt(90) - 10);
+                LocalDate to = from.plusDays(random.nextInt(40));
+                assertThat(sweep.sweep(from, to, capacity))
+                        .as("round %d, %s..%s", round, from, to)
+                        .isEqualTo(naiveSweep(starts, ends, weights, from, to, capacity));
+            }
+        }
+    }
+
+    @Test
+    void overlappingIntervalsSplitIntoSegments() {
+        // [1..10] and [5..7] overlap; [5..12] starts on the same day as the second
+        WorkloadSweep sweep = WorkloadSweep.of(List.of(day(1), day(5), day(5)), List.of(day(10), day(7), day(12)),
+                new long[] {1000, 500, 250});
+
+        WorkloadSweep.Result result = sweep.sweep(day(0), day(14), 1500);
+
+        assertThat(result.segments()).containsExactly(
+                new WorkloadSweep.Segment(day(0), day(0), 0, 0),
+                new WorkloadSweep.Segment(day(1), day(4), 1, 1000),
+                new WorkloadSweep.Segment(day(5), day(7), 3, 1750),
+                new WorkloadSweep.Segment(day(8), day(10), 2, 1250),
+                new WorkloadSweep.Segment(day(11), day(12), 1, 250),
+                new WorkloadSweep.Segment(day(13), day(14), 0, 0));
+        assertThat(result.peakLoad()).isEqualTo(1750L);
+        assertThat(result.peakProjects()).isEqualTo(3);
+        assertThat(result.peakDate()).isEqualTo(day(5));
+        assertThat(result.overloadedDays()).isEqualTo(3L);
+    }
+
+    @Test
+    void adjacentIntervalsWithTheSameWeightMergeIntoOneSegment() {
+        WorkloadSweep sweep = WorkloadSweep.of(List.of(day(1), day(4), day(8)), List.of(day(3), day(7), day(9)),
+                new long[] {1000, 1000, 2000});
+
+        assertThat(sweep.sweep(day(1), day(9), 1000).segments()).containsExactly(
+                new WorkloadSweep.Segment(day(1), day(7), 1, 1000),
+                new WorkloadSweep.Segment(day(8), day(9), 1, 2000));
+        // A window across the hand-over from one project to the next
+        assertThat(sweep.sweep(day(3), day(4), 1000).segments())
+                .containsExactly(new WorkloadSweep.Segment(day(3), day(4), 1, 1000));
+    }
+
+    @Test
+    void windowEdgesOnChangeDaysAreInclusive() {
+        WorkloadSweep sweep = WorkloadSweep.of(List.of(day(5)), List.of(day(9)), new long[] {1000});
+
+        assertThat(sweep.sweep(day(5), day(9), 0).segments())
+                .containsExactly(new WorkloadSweep.Segment(day(5), day(9), 1, 1000));
+        assertThat(sweep.sweep(day(9), day(9), 0).segments())
+                .containsExactly(new WorkloadSweep.Segment(day(9), day(9), 1, 1000));
+        assertThat(sweep.sweep(day(10), day(12), 0).segments())
+                .containsExactly(new WorkloadSweep.Segment(day(10), day(12), 0, 0));
+        assertThat(sweep.sweep(day(2), day(4), 0).segments())
+                .containsExactly(new WorkloadSweep.Segment(day(2), day(4), 0, 0));
+        assertThat(sweep.sweep(day(4), day(5), 0).overloadedDays()).isEqualTo(1L);
+
+        WorkloadSweep.Result idle = WorkloadSweep.empty().sweep(day(1), day(3), 0);
+        assertThat(idle.segments()).containsExactly(new WorkloadSweep.Segment(day(1), day(3), 0, 0));
+        assertThat(idle.peakLoad()).isZero();
+        assertThat(idle.peakDate()).isEqualTo(day(1));
+        assertThat(idle.overloadedDays()).isZero();
+    }
+
+    @Test
+    void fractionalWeightsAddUpWithoutDrift() {
+        // Ten projects at 0.1 sum to 0.9999999999999999 in doubles; in fixed point they land
+        // exactly on a capacity of 1.0
+        List<LocalDate> starts = new ArrayList<>();
+        List<LocalDate> ends = new ArrayList<>();
+        long[] weights = new long[10];
+        for (int i = 0; i < 10; i++) {
+            starts.add(day(i));
+            ends.add(day(10 + i));
+            weights[i] = fixedPoint(0.1);
+        }
+        WorkloadSweep sweep = WorkloadSweep.of(starts, ends, weights);
+
+        WorkloadSweep.Result result = sweep.sweep(day(0), day(25), fixedPoint(1.0));
+
+        assertThat(result.peakLoad()).isEqualTo(fixedPoint(1.0));
+        assertThat(result.peakDate()).isEqualTo(day(9));
+        assertThat(result.overloadedDays()).isZero();
+        assertThat(result.segments().get(result.segments().size() - 1))
+                .isEqualTo(new WorkloadSweep.Segment(day(20), day(25), 0, 0));
+        assertThat(sweep.sweep(day(0), day(25), fixedPoint(0.999)).overloadedDays()).isEqualTo(2L);
+
+        // Thirds round to 0.333 each, so three of them stay under 1.0 rather than landing on it
+        WorkloadSweep thirds = WorkloadSweep.of(List.of(day(0), day(0), day(0)), List.of(day(0), day(0), day(0)),
+                new long[] {fixedPoint(1 / 3.0), fixedPoint(1 / 3.0), fixedPoint(1 / 3.0)});
+        assertThat(thirds.sweep(day(0), day(0), fixedPoint(1.0)).peakLoad()).isEqualTo(999L);
+    }
+
+    // Reference: walk every day and count what is open on it
+    private static WorkloadSweep.Result naiveSweep(List<LocalDate> starts, List<LocalDate> ends, long[] weights,
+                                                   LocalDate from, LocalDate to, long capacity) {
+        List<WorkloadSweep.Segment> segments = new ArrayList<>();
+        long peakLoad = -1;
+        int peakProjects = 0;
+        LocalDate peakDate = from;
+        long overloadedDays = 0;
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            int projects = 0;
+            long load = 0;
+            for (int i = 0; i < starts.size(); i++) {
+                if (!day.isBefore(starts.get(i)) && !day.isAfter(ends.get(i))) {
+                    projects++;
+                    load += weights[i];
+                }
+            }
+            if (load > peakLoad) {
+                peakLoad = load;
+                peakProjects = projects;
+                peakDate = day;
+            }
+            if (load > capacity) {
+                overloadedDays++;
+            }
+            WorkloadSweep.Segment last = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+            if (last != null && last.projects() == projects && last.load() == load) {
+                segments.set(segments.size() - 1, new WorkloadSweep.Segment(last.from(), day, projects, load));
+            } else {
+                segments.add(new WorkloadSweep.Segment(day, day, projects, load));
+            }
+        }
+        return new WorkloadSweep.Result(segments, peakLoad, peakProjects, peakDate, overloadedDays);
+    }
+
+    // As WorkloadCache stores priority weights
+    private static long fixedPoint(double value) {
+        return Math.round(value * 1000);
+    }
+
+    private static LocalDate day(int offset) {
+        return BASE.plusDays(offset);
+    }
+}